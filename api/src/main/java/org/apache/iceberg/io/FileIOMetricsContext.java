@@ -27,6 +27,9 @@ import org.apache.iceberg.metrics.MetricsContext;
 public interface FileIOMetricsContext extends MetricsContext {
   String READ_BYTES = "read.bytes";
   String READ_OPERATIONS = "read.operations";
+  String READ_STREAM_REOPENS = "read.stream-reopens";
+  String READ_WASTED_BYTES = "read.wasted-bytes";
+  String READ_PREFETCH_HITS = "read.prefetch-hits";
   String WRITE_BYTES = "write.bytes";
   String WRITE_OPERATIONS = "write.operations";
 }
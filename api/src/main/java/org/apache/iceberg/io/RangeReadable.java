@@ -20,6 +20,9 @@ package org.apache.iceberg.io;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * {@code RangeReadable} is an interface that allows for implementations of {@link InputFile}
@@ -77,4 +80,19 @@ public interface RangeReadable extends Closeable {
   default int readTail(byte[] buffer) throws IOException {
     return readTail(buffer, 0, buffer.length);
   }
+
+  /**
+   * Read several ranges of the input source.
+   *
+   * <p>Ranges that are close together are merged into a single read. The default implementation
+   * performs the reads sequentially on the calling thread using {@link #readFully(long, byte[],
+   * int, int)}; implementations that can read ranges concurrently should override this method to
+   * issue the reads in parallel.
+   *
+   * @param ranges the ranges to read
+   * @return futures that complete with the contents of each range, in the same order as the ranges
+   */
+  default List<CompletableFuture<ByteBuffer>> readVectored(List<ByteRange> ranges) {
+    return VectoredReads.read(ranges, this::readFully, Runnable::run);
+  }
 }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+
+/**
+ * Utility methods for vectored reads of {@link ByteRange ranges} from a file.
+ *
+ * <p>Ranges are sorted by offset and ranges that are close together are merged into a single read,
+ * so that a file is not read with many small requests. Merged reads are submitted to an executor
+ * and each range's future is completed with a slice of the merged read.
+ */
+public class VectoredReads {
+  /** Ranges separated by at most this many bytes are read with one request. */
+  public static final int DEFAULT_MAX_MERGE_GAP = 1024 * 1024;
+
+  /** Merged reads are not extended beyond this many bytes. */
+  public static final int DEFAULT_MAX_MERGED_SIZE = 8 * 1024 * 1024;
+
+  private VectoredReads() {}
+
+  /** Reads a range of a file into a buffer, like {@link RangeReadable#readFully}. */
+  @FunctionalInterface
+  public interface PositionalReader {
+    void readFully(long position, byte[] buffer, int offset, int length) throws IOException;
+  }
+
+  /**
+   * Reads ranges using the default merge settings.
+   *
+   * @param ranges ranges to read
+   * @param reader a positional reader that is safe to call concurrently if the executor is
+   *     concurrent
+   * @param executor an executor for merged reads
+   * @return futures with the data of each range, in the same order as the ranges
+   */
+  public static List<CompletableFuture<ByteBuffer>> read(
+      List<ByteRange> ranges, PositionalReader reader, Executor executor) {
+    return read(ranges, reader, executor, DEFAULT_MAX_MERGE_GAP, DEFAULT_MAX_MERGED_SIZE);
+  }
+
+  /**
+   * Reads ranges, merging ranges that are close together.
+   *
+   * @param ranges ranges to read
+   * @param reader a positional reader that is safe to call concurrently if the executor is
+   *     concurrent
+   * @param executor an executor for merged reads
+   * @param maxMergeGap the largest gap between two ranges that are merged
+   * @param maxMergedSize the largest size of a merged read
+   * @return futures with the data of each range, in the same order as the ranges
+   */
+  public static List<CompletableFuture<ByteBuffer>> read(
+      List<ByteRange> ranges,
+      PositionalReader reader,
+      Executor executor,
+      int maxMergeGap,
+      int maxMergedSize) {
+    Preconditions.checkArgument(ranges != null, "Invalid ranges: null");
+    Preconditions.checkArgument(!ranges.contains(null), "Invalid range: null");
+
+    List<CompletableFuture<ByteBuffer>> futures = Lists.newArrayListWithCapacity(ranges.size());
+    for (int i = 0; i < ranges.size(); i += 1) {
+      futures.add(new CompletableFuture<>());
+    }
+
+    for (MergedRange merged : merge(ranges, maxMergeGap, maxMergedSize)) {
+      try {
+        executor.execute(() -> readMerged(merged, reader, ranges, futures));
+      } catch (RejectedExecutionException e) {
+        merged.indexes.forEach(index -> futures.get(index).completeExceptionally(e));
+      }
+    }
+
+    return futures;
+  }
+
+  /**
+   * Groups ranges into merged reads.
+   *
+   * @return merged ranges, sorted by offset
+   */
+  static List<MergedRange> merge(List<ByteRange> ranges, int maxMergeGap, int maxMergedSize) {
+    Preconditions.checkArgument(maxMergeGap >= 0, "Invalid max merge gap: %s", maxMergeGap);
+    Preconditions.checkArgument(maxMergedSize >= 0, "Invalid max merged size: %s", maxMergedSize);
+
+    List<Integer> order = Lists.newArrayListWithCapacity(ranges.size());
+    for (int i = 0; i < ranges.size(); i += 1) {
+      order.add(i);
+    }
+
+    order.sort(Comparator.comparingLong(index -> ranges.get(index).offset()));
+
+    List<MergedRange> merged = Lists.newArrayList();
+    MergedRange current = null;
+    for (int index : order) {
+      ByteRange range = ranges.get(index);
+      if (current != null && current.canMerge(range, maxMergeGap, maxMergedSize)) {
+        current.add(index, range);
+      } else {
+        current = new MergedRange(index, range);
+        merged.add(current);
+      }
+    }
+
+    return merged;
+  }
+
+  private static void readMerged(
+      MergedRange merged,
+      PositionalReader reader,
+      List<ByteRange> ranges,
+      List<CompletableFuture<ByteBuffer>> futures) {
+    try {
+      byte[] data = new byte[Math.toIntExact(merged.end - merged.offset)];
+      reader.readFully(merged.offset, data, 0, data.length);
+      for (int index : merged.indexes) {
+        ByteRange range = ranges.get(index);
+        int start = Math.toIntExact(range.offset() - merged.offset);
+        futures.get(index).complete(ByteBuffer.wrap(data, start, range.length()).slice());
+      }
+    } catch (IOException | RuntimeException e) {
+      merged.indexes.forEach(index -> futures.get(index).completeExceptionally(e));
+    }
+  }
+
+  static class MergedRange {
+    private final long offset;
+    private long end;
+    private final List<Integer> indexes = Lists.newArrayList();
+
+    private MergedRange(int index, ByteRange range) {
+      this.offset = range.offset();
+      this.end = range.end();
+      indexes.add(index);
+    }
+
+    private boolean canMerge(ByteRange range, int maxMergeGap, int maxMergedSize) {
+      return range.offset() - end <= maxMergeGap
+          && Math.max(end, range.end()) - offset <= maxMergedSize;
+    }
+
+    private void add(int index, ByteRange range) {
+      this.end = Math.max(end, range.end());
+      indexes.add(index);
+    }
+
+    long offset() {
+      return offset;
+    }
+
+    long end() {
+      return end;
+    }
+
+    List<Integer> indexes() {
+      return indexes;
+    }
+  }
+}
@@ -58,4 +58,59 @@ public interface Histogram {
      */
     long percentile(double percentile);
   }
+
+  /** Statistics of a histogram without observations. */
+  Statistics EMPTY_STATISTICS =
+      new Statistics() {
+        @Override
+        public int size() {
+          return 0;
+        }
+
+        @Override
+        public double mean() {
+          return 0.0;
+        }
+
+        @Override
+        public double stdDev() {
+          return 0.0;
+        }
+
+        @Override
+        public long max() {
+          return 0L;
+        }
+
+        @Override
+        public long min() {
+          return 0L;
+        }
+
+        @Override
+        public long percentile(double percentile) {
+          return 0L;
+        }
+      };
+
+  Histogram NOOP =
+      new Histogram() {
+        @Override
+        public void update(long value) {}
+
+        @Override
+        public int count() {
+          return 0;
+        }
+
+        @Override
+        public Statistics statistics() {
+          return EMPTY_STATISTICS;
+        }
+
+        @Override
+        public String toString() {
+          return "NOOP histogram";
+        }
+      };
 }
@@ -187,6 +187,11 @@ public interface MetricsContext extends Serializable {
       public org.apache.iceberg.metrics.Counter counter(String name, Unit unit) {
         return org.apache.iceberg.metrics.DefaultCounter.NOOP;
       }
+
+      @Override
+      public Histogram histogram(String name) {
+        return Histogram.NOOP;
+      }
     };
   }
 }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+public class TestVectoredReads {
+  private static final byte[] DATA = new byte[1024];
+
+  static {
+    for (int i = 0; i < DATA.length; i += 1) {
+      DATA[i] = (byte) i;
+    }
+  }
+
+  private final List<ByteRange> reads = Lists.newArrayList();
+
+  private void readFully(long position, byte[] buffer, int offset, int length) {
+    reads.add(ByteRange.of(position, length));
+    System.arraycopy(DATA, (int) position, buffer, offset, length);
+  }
+
+  @Test
+  public void testMergeCloseRanges() {
+    List<ByteRange> ranges =
+        ImmutableList.of(ByteRange.of(100, 10), ByteRange.of(0, 10), ByteRange.of(15, 5));
+
+    List<VectoredReads.MergedRange> merged = VectoredReads.merge(ranges, 10, 1024);
+
+    assertThat(merged).hasSize(2);
+    assertThat(merged.get(0).offset()).isEqualTo(0);
+    assertThat(merged.get(0).end()).isEqualTo(20);
+    assertThat(merged.get(0).indexes()).containsExactly(1, 2);
+    assertThat(merged.get(1).offset()).isEqualTo(100);
+    assertThat(merged.get(1).end()).isEqualTo(110);
+    assertThat(merged.get(1).indexes()).containsExactly(0);
+  }
+
+  @Test
+  public void testMergeLimitsSize() {
+    List<ByteRange> ranges =
+        ImmutableList.of(ByteRange.of(0, 10), ByteRange.of(10, 10), ByteRange.of(20, 10));
+
+    List<VectoredReads.MergedRange> merged = VectoredReads.merge(ranges, 10, 20);
+
+    assertThat(merged).hasSize(2);
+    assertThat(merged.get(0).indexes()).containsExactly(0, 1);
+    assertThat(merged.get(1).indexes()).containsExactly(2);
+  }
+
+  @Test
+  public void testReadReturnsRangesInOrder() throws Exception {
+    List<ByteRange> ranges =
+        ImmutableList.of(
+            ByteRange.of(500, 20), ByteRange.of(10, 5), ByteRange.of(0, 8), ByteRange.of(505, 10));
+
+    List<CompletableFuture<ByteBuffer>> futures =
+        VectoredReads.read(ranges, this::readFully, Runnable::run, 16, 1024);
+
+    assertThat(reads).containsExactly(ByteRange.of(0, 15), ByteRange.of(500, 20));
+    assertThat(futures).hasSize(ranges.size());
+    for (int i = 0; i < ranges.size(); i += 1) {
+      ByteRange range = ranges.get(i);
+      ByteBuffer buffer = futures.get(i).get();
+      assertThat(buffer.remaining()).isEqualTo(range.length());
+      for (int j = 0; j < range.length(); j += 1) {
+        assertThat(buffer.get(j)).isEqualTo(DATA[(int) range.offset() + j]);
+      }
+    }
+  }
+
+  @Test
+  public void testReadFailure() {
+    IOException failure = new IOException("Read failed");
+    List<CompletableFuture<ByteBuffer>> futures =
+        VectoredReads.read(
+            ImmutableList.of(ByteRange.of(0, 10), ByteRange.of(5, 10)),
+            (position, buffer, offset, length) -> {
+              throw failure;
+            },
+            Runnable::run);
+
+    for (CompletableFuture<ByteBuffer> future : futures) {
+      assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+    }
+  }
+
+  @Test
+  public void testRejectedRead() {
+    List<CompletableFuture<ByteBuffer>> futures =
+        VectoredReads.read(
+            ImmutableList.of(ByteRange.of(0, 10)),
+            this::readFully,
+            task -> {
+              throw new RejectedExecutionException("Closed");
+            });
+
+    assertThat(futures.get(0)).isCompletedExceptionally();
+    assertThat(reads).isEmpty();
+  }
+
+  @Test
+  public void testInvalidRange() {
+    assertThatThrownBy(() -> ByteRange.of(-1, 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid range offset: -1");
+    assertThatThrownBy(() -> ByteRange.of(0, -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid range length: -1");
+  }
+}
@@ -47,6 +47,17 @@ public class TestFixedReservoirHistogram {
     assertThat(statistics.percentile(0.99)).isEqualTo(0L);
   }
 
+  @Test
+  public void noopHistogram() {
+    Histogram.NOOP.update(123L);
+    assertThat(Histogram.NOOP.count()).isEqualTo(0);
+    Histogram.Statistics statistics = Histogram.NOOP.statistics();
+    assertThat(statistics.size()).isEqualTo(0);
+    assertThat(statistics.mean()).isEqualTo(0.0);
+    assertThat(statistics.max()).isEqualTo(0L);
+    assertThat(statistics.percentile(0.99)).isEqualTo(0L);
+  }
+
   @Test
   public void singleObservation() {
     FixedReservoirHistogram histogram = new FixedReservoirHistogram(100);
@@ -161,6 +161,51 @@ public class S3FileIOProperties implements Serializable {
    */
   public static final String STAGING_DIRECTORY = "s3.staging-dir";
 
+  /**
+   * Where parts are staged before they are uploaded to S3. "disk" (default) stages parts as files
+   * in the staging directory. "memory" stages parts in a pool of reusable part-sized buffers shared
+   * by all output streams. When all buffers are in use, the next part is staged in a file instead
+   * of waiting for a buffer.
+   */
+  public static final String STAGING_TYPE = "s3.staging-type";
+
+  public static final String STAGING_TYPE_DISK = "disk";
+  public static final String STAGING_TYPE_MEMORY = "memory";
+  public static final String STAGING_TYPE_DEFAULT = STAGING_TYPE_DISK;
+
+  /**
+   * Maximum number of buffers in the pool used when {@link #STAGING_TYPE} is "memory", default to
+   * twice the number of multipart upload threads. Each buffer uses {@link #MULTIPART_SIZE} bytes.
+   */
+  public static final String STAGING_BUFFER_POOL_SIZE = "s3.staging-buffer.pool-size";
+
+  /**
+   * Whether buffers used when {@link #STAGING_TYPE} is "memory" are allocated as direct buffers
+   * outside of the Java heap (default: false).
+   */
+  public static final String STAGING_BUFFER_DIRECT = "s3.staging-buffer.direct";
+
+  public static final boolean STAGING_BUFFER_DIRECT_DEFAULT = false;
+
+  /**
+   * Enables adaptive read-ahead in S3 input streams (default: false). Sequential reads keep {@link
+   * #READ_AHEAD_NUM_BLOCKS} upcoming blocks in flight on a shared pool, and random reads switch to
+   * small ranged requests instead of reopening a stream that reads to the end of the object.
+   */
+  public static final String READ_AHEAD_ENABLED = "s3.read-ahead.enabled";
+
+  public static final boolean READ_AHEAD_ENABLED_DEFAULT = false;
+
+  /** The size in bytes of each block that is read ahead (default: 2MB). */
+  public static final String READ_AHEAD_BLOCK_SIZE = "s3.read-ahead.block-size-bytes";
+
+  public static final int READ_AHEAD_BLOCK_SIZE_DEFAULT = 2 * 1024 * 1024;
+
+  /** The number of blocks, including the current block, that are read ahead (default: 4). */
+  public static final String READ_AHEAD_NUM_BLOCKS = "s3.read-ahead.num-blocks";
+
+  public static final int READ_AHEAD_NUM_BLOCKS_DEFAULT = 4;
+
   /**
    * Used to configure canned access control list (ACL) for S3 client to use during write. If not
    * set, ACL will not be set for requests.
@@ -406,6 +451,12 @@ public class S3FileIOProperties implements Serializable {
   private int deleteBatchSize;
   private double multipartThresholdFactor;
   private String stagingDirectory;
+  private String stagingType;
+  private int stagingBufferPoolSize;
+  private boolean isStagingBufferDirect;
+  private boolean isReadAheadEnabled;
+  private int readAheadBlockSize;
+  private int readAheadNumBlocks;
   private ObjectCannedACL acl;
   private boolean isChecksumEnabled;
   private final Set<Tag> writeTags;
@@ -439,6 +490,12 @@ public class S3FileIOProperties implements Serializable {
     this.multipartThresholdFactor = MULTIPART_THRESHOLD_FACTOR_DEFAULT;
     this.deleteBatchSize = DELETE_BATCH_SIZE_DEFAULT;
     this.stagingDirectory = System.getProperty("java.io.tmpdir");
+    this.stagingType = STAGING_TYPE_DEFAULT;
+    this.stagingBufferPoolSize = 2 * multipartUploadThreads;
+    this.isStagingBufferDirect = STAGING_BUFFER_DIRECT_DEFAULT;
+    this.isReadAheadEnabled = READ_AHEAD_ENABLED_DEFAULT;
+    this.readAheadBlockSize = READ_AHEAD_BLOCK_SIZE_DEFAULT;
+    this.readAheadNumBlocks = READ_AHEAD_NUM_BLOCKS_DEFAULT;
     this.isChecksumEnabled = CHECKSUM_ENABLED_DEFAULT;
     this.writeTags = Sets.newHashSet();
     this.isWriteTableTagEnabled = WRITE_TABLE_TAG_ENABLED_DEFAULT;
@@ -510,6 +567,34 @@ public class S3FileIOProperties implements Serializable {
     this.stagingDirectory =
         PropertyUtil.propertyAsString(
             properties, STAGING_DIRECTORY, System.getProperty("java.io.tmpdir"));
+    this.stagingType =
+        PropertyUtil.propertyAsString(properties, STAGING_TYPE, STAGING_TYPE_DEFAULT);
+    Preconditions.checkArgument(
+        STAGING_TYPE_DISK.equals(stagingType) || STAGING_TYPE_MEMORY.equals(stagingType),
+        "Invalid staging type: %s (must be %s or %s)",
+        stagingType,
+        STAGING_TYPE_DISK,
+        STAGING_TYPE_MEMORY);
+    this.stagingBufferPoolSize =
+        PropertyUtil.propertyAsInt(
+            properties, STAGING_BUFFER_POOL_SIZE, 2 * multipartUploadThreads);
+    Preconditions.checkArgument(
+        stagingBufferPoolSize > 0, "Invalid staging buffer pool size: %s", stagingBufferPoolSize);
+    this.isStagingBufferDirect =
+        PropertyUtil.propertyAsBoolean(
+            properties, STAGING_BUFFER_DIRECT, STAGING_BUFFER_DIRECT_DEFAULT);
+    this.isReadAheadEnabled =
+        PropertyUtil.propertyAsBoolean(properties, READ_AHEAD_ENABLED, READ_AHEAD_ENABLED_DEFAULT);
+    this.readAheadBlockSize =
+        PropertyUtil.propertyAsInt(
+            properties, READ_AHEAD_BLOCK_SIZE, READ_AHEAD_BLOCK_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        readAheadBlockSize > 0, "Invalid read-ahead block size: %s", readAheadBlockSize);
+    this.readAheadNumBlocks =
+        PropertyUtil.propertyAsInt(
+            properties, READ_AHEAD_NUM_BLOCKS, READ_AHEAD_NUM_BLOCKS_DEFAULT);
+    Preconditions.checkArgument(
+        readAheadNumBlocks > 0, "Invalid read-ahead number of blocks: %s", readAheadNumBlocks);
     String aclType = properties.get(ACL);
     this.acl = ObjectCannedACL.fromValue(aclType);
     Preconditions.checkArgument(
@@ -623,6 +708,58 @@ public class S3FileIOProperties implements Serializable {
     this.stagingDirectory = directory;
   }
 
+  public String stagingType() {
+    return stagingType;
+  }
+
+  public void setStagingType(String type) {
+    this.stagingType = type;
+  }
+
+  public boolean isStagingInMemory() {
+    return STAGING_TYPE_MEMORY.equals(stagingType);
+  }
+
+  public int stagingBufferPoolSize() {
+    return stagingBufferPoolSize;
+  }
+
+  public void setStagingBufferPoolSize(int poolSize) {
+    this.stagingBufferPoolSize = poolSize;
+  }
+
+  public boolean isStagingBufferDirect() {
+    return isStagingBufferDirect;
+  }
+
+  public void setStagingBufferDirect(boolean direct) {
+    this.isStagingBufferDirect = direct;
+  }
+
+  public boolean isReadAheadEnabled() {
+    return isReadAheadEnabled;
+  }
+
+  public void setReadAheadEnabled(boolean readAheadEnabled) {
+    this.isReadAheadEnabled = readAheadEnabled;
+  }
+
+  public int readAheadBlockSize() {
+    return readAheadBlockSize;
+  }
+
+  public void setReadAheadBlockSize(int blockSize) {
+    this.readAheadBlockSize = blockSize;
+  }
+
+  public int readAheadNumBlocks() {
+    return readAheadNumBlocks;
+  }
+
+  public void setReadAheadNumBlocks(int numBlocks) {
+    this.readAheadNumBlocks = numBlocks;
+  }
+
   public ObjectCannedACL acl() {
     return this.acl;
   }
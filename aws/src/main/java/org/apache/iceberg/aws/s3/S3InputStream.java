@@ -20,18 +20,28 @@ package org.apache.iceberg.aws.s3;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.io.ByteRange;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -39,9 +49,16 @@ import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 class S3InputStream extends SeekableInputStream implements RangeReadable {
   private static final Logger LOG = LoggerFactory.getLogger(S3InputStream.class);
+  private static final int RANGE_NOT_SATISFIABLE = 416;
+  private static final byte[] EMPTY = new byte[0];
+  // random reads request at least this many bytes so that small reads do not each send a request
+  private static final int MIN_RANDOM_READ_SIZE = 64 * 1024;
+  // number of consecutive reads that do not match the current access pattern before switching
+  private static final int ACCESS_PATTERN_SWITCH_THRESHOLD = 2;
 
   private final StackTraceElement[] createStack;
   private final S3Client s3;
@@ -55,9 +72,22 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
   private final Counter readBytes;
   private final Counter readOperations;
+  private final Counter streamReopens;
+  private final Counter wastedBytes;
+  private final Counter prefetchHits;
 
   private int skipSize = 1024 * 1024;
 
+  // read-ahead state; the first block contains the current position
+  private final boolean readAheadEnabled;
+  private final int readAheadBlockSize;
+  private final int readAheadNumBlocks;
+  private final Deque<Block> blocks = new ArrayDeque<>();
+  private boolean randomAccess = false;
+  private int mismatchedReads = 0;
+  private long lastReadEnd = 0;
+  private boolean fetchedBlock = false;
+
   S3InputStream(S3Client s3, S3URI location) {
     this(s3, location, new S3FileIOProperties(), MetricsContext.nullMetrics());
   }
@@ -70,6 +100,13 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     this.readBytes = metrics.counter(FileIOMetricsContext.READ_BYTES, Unit.BYTES);
     this.readOperations = metrics.counter(FileIOMetricsContext.READ_OPERATIONS);
+    this.streamReopens = metrics.counter(FileIOMetricsContext.READ_STREAM_REOPENS);
+    this.wastedBytes = metrics.counter(FileIOMetricsContext.READ_WASTED_BYTES, Unit.BYTES);
+    this.prefetchHits = metrics.counter(FileIOMetricsContext.READ_PREFETCH_HITS);
+
+    this.readAheadEnabled = s3FileIOProperties.isReadAheadEnabled();
+    this.readAheadBlockSize = s3FileIOProperties.readAheadBlockSize();
+    this.readAheadNumBlocks = s3FileIOProperties.readAheadNumBlocks();
 
     this.createStack = Thread.currentThread().getStackTrace();
   }
@@ -91,6 +128,10 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   @Override
   public int read() throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (readAheadEnabled) {
+      return readAhead();
+    }
+
     positionStream();
 
     pos += 1;
@@ -104,6 +145,10 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   @Override
   public int read(byte[] b, int off, int len) throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (readAheadEnabled) {
+      return readAhead(b, off, len);
+    }
+
     positionStream();
 
     int bytesRead = stream.read(b, off, len);
@@ -121,7 +166,9 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     String range = String.format("bytes=%s-%s", position, position + length - 1);
 
-    IOUtil.readFully(readRange(range), buffer, offset, length);
+    try (InputStream rangeStream = readRange(range)) {
+      IOUtil.readFully(rangeStream, buffer, offset, length);
+    }
   }
 
   @Override
@@ -130,7 +177,16 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     String range = String.format("bytes=-%s", length);
 
-    return IOUtil.readRemaining(readRange(range), buffer, offset, length);
+    try (InputStream rangeStream = readRange(range)) {
+      return IOUtil.readRemaining(rangeStream, buffer, offset, length);
+    }
+  }
+
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<ByteRange> ranges) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    // ranges are read with independent requests, so they can be read concurrently
+    return VectoredReads.read(ranges, this::readFully, ThreadPools.getVectoredReadPool());
   }
 
   private InputStream readRange(String range) {
@@ -147,6 +203,162 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     super.close();
     closed = true;
     closeStream();
+    while (!blocks.isEmpty()) {
+      discard(blocks.removeFirst());
+    }
+  }
+
+  private int readAhead() throws IOException {
+    Block block = blockFor(next, 1);
+    readOperations.increment();
+    if (block == null) {
+      return -1;
+    }
+
+    int value = block.read(next);
+    next += 1;
+    lastReadEnd = next;
+    readBytes.increment();
+
+    return value;
+  }
+
+  private int readAhead(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkPositionIndexes(off, off + len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+
+    Block block = blockFor(next, len);
+    readOperations.increment();
+    if (block == null) {
+      return -1;
+    }
+
+    int bytesRead = block.read(next, b, off, len);
+    next += bytesRead;
+    lastReadEnd = next;
+    readBytes.increment(bytesRead);
+
+    return bytesRead;
+  }
+
+  /**
+   * Returns the block that contains a position, fetching it if needed, or null if the position is
+   * at or after the end of the object.
+   */
+  private Block blockFor(long position, int length) throws IOException {
+    Block block = blocks.peekFirst();
+    if (block == null || !block.contains(position)) {
+      block = nextBlock(position, length);
+    }
+
+    try {
+      block.await();
+    } catch (IOException | RuntimeException e) {
+      // the block will be fetched again by the next read
+      blocks.remove(block);
+      throw e;
+    }
+
+    return position < block.start + block.bytes.length ? block : null;
+  }
+
+  private Block nextBlock(long position, int length) throws IOException {
+    // the access pattern is only updated when a read moves outside of the current block
+    boolean inWindow = blocks.stream().anyMatch(block -> block.contains(position));
+    updateAccessPattern(inWindow || position == lastReadEnd);
+
+    // discard blocks before the position, or all blocks if the position is outside of the window
+    while (!blocks.isEmpty() && !blocks.peekFirst().contains(position)) {
+      discard(blocks.removeFirst());
+    }
+
+    if (blocks.isEmpty()) {
+      if (fetchedBlock) {
+        streamReopens.increment();
+      }
+
+      // random reads use exact ranges that are large enough to serve nearby small reads
+      int size =
+          randomAccess
+              ? Math.min(Math.max(length, MIN_RANDOM_READ_SIZE), readAheadBlockSize)
+              : readAheadBlockSize;
+      LOG.debug("Read {} bytes from {} at offset {}", size, location, position);
+      blocks.addFirst(new Block(position, size, false, fetch(position, size)));
+      fetchedBlock = true;
+    } else if (blocks.peekFirst().prefetched) {
+      prefetchHits.increment();
+    }
+
+    if (!randomAccess) {
+      prefetch();
+    }
+
+    return blocks.peekFirst();
+  }
+
+  private void updateAccessPattern(boolean sequential) {
+    if (sequential == randomAccess) {
+      this.mismatchedReads += 1;
+      if (mismatchedReads >= ACCESS_PATTERN_SWITCH_THRESHOLD) {
+        LOG.debug("Switching to {} reads for {}", sequential ? "sequential" : "random", location);
+        this.randomAccess = !sequential;
+        this.mismatchedReads = 0;
+      }
+    } else {
+      this.mismatchedReads = 0;
+    }
+  }
+
+  private void prefetch() {
+    while (blocks.size() < readAheadNumBlocks && !blocks.peekLast().isLast()) {
+      Block block = new Block(blocks.peekLast().end(), readAheadBlockSize, true);
+      block.future =
+          CompletableFuture.supplyAsync(
+              () -> {
+                if (block.discarded) {
+                  // the block was discarded before the fetch started
+                  return EMPTY;
+                }
+
+                try {
+                  return fetch(block.start, block.length);
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              },
+              ThreadPools.getVectoredReadPool());
+      blocks.addLast(block);
+    }
+  }
+
+  private void discard(Block block) {
+    if (block.bytes != null) {
+      wastedBytes.increment(block.bytes.length - block.readEnd);
+    } else {
+      block.discarded = true;
+      // count the bytes of a prefetch that was never read when it finishes
+      block.future.thenAccept(bytes -> wastedBytes.increment(bytes.length));
+    }
+  }
+
+  private byte[] fetch(long start, int length) throws IOException {
+    String range = String.format("bytes=%s-%s", start, start + length - 1);
+    try (InputStream rangeStream = readRange(range)) {
+      byte[] bytes = new byte[length];
+      int bytesRead = IOUtil.readRemaining(rangeStream, bytes, 0, length);
+      return bytesRead < length ? Arrays.copyOf(bytes, bytesRead) : bytes;
+    } catch (NoSuchKeyException e) {
+      throw new NotFoundException(e, "Location does not exist: %s", location);
+    } catch (S3Exception e) {
+      if (e.statusCode() == RANGE_NOT_SATISFIABLE) {
+        // the range starts at or after the end of the object
+        return EMPTY;
+      }
+
+      throw e;
+    }
   }
 
   private void positionStream() throws IOException {
@@ -163,6 +375,7 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
         LOG.debug("Read-through seek for {} to offset {}", location, next);
         try {
           ByteStreams.skipFully(stream, skip);
+          wastedBytes.increment(skip);
           pos = next;
           return;
         } catch (IOException ignored) {
@@ -173,6 +386,10 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     // close the stream and open at desired position
     LOG.debug("Seek with new stream for {} to offset {}", location, next);
+    if (stream != null) {
+      streamReopens.increment();
+    }
+
     pos = next;
     openStream();
   }
@@ -237,4 +454,72 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
       LOG.warn("Unclosed input stream created by:\n\t{}", trace);
     }
   }
+
+  /** A range of the object that is read by the read-ahead mode. */
+  private static class Block {
+    private final long start;
+    private final int length;
+    private final boolean prefetched;
+    private CompletableFuture<byte[]> future;
+    private byte[] bytes = null;
+    private int readEnd = 0;
+    private volatile boolean discarded = false;
+
+    private Block(long start, int length, boolean prefetched) {
+      this.start = start;
+      this.length = length;
+      this.prefetched = prefetched;
+    }
+
+    private Block(long start, int length, boolean prefetched, byte[] bytes) {
+      this(start, length, prefetched);
+      this.future = CompletableFuture.completedFuture(bytes);
+      this.bytes = bytes;
+    }
+
+    private long end() {
+      return start + length;
+    }
+
+    private boolean contains(long position) {
+      return position >= start && position < end();
+    }
+
+    /** Returns whether the block is known to end at the end of the object. */
+    private boolean isLast() {
+      byte[] fetched =
+          future.isDone() && !future.isCompletedExceptionally() ? future.join() : bytes;
+      return fetched != null && fetched.length < length;
+    }
+
+    private void await() throws IOException {
+      if (bytes == null) {
+        try {
+          this.bytes = future.join();
+        } catch (CompletionException e) {
+          if (e.getCause() instanceof UncheckedIOException) {
+            throw ((UncheckedIOException) e.getCause()).getCause();
+          } else if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          }
+
+          throw e;
+        }
+      }
+    }
+
+    private int read(long position) {
+      int offset = (int) (position - start);
+      this.readEnd = Math.max(readEnd, offset + 1);
+      return bytes[offset] & 0xFF;
+    }
+
+    private int read(long position, byte[] buffer, int off, int len) {
+      int offset = (int) (position - start);
+      int bytesRead = Math.min(len, bytes.length - offset);
+      System.arraycopy(bytes, offset, buffer, off, bytesRead);
+      this.readEnd = Math.max(readEnd, offset + bytesRead);
+      return bytesRead;
+    }
+  }
 }
@@ -27,6 +27,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.SequenceInputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
@@ -41,7 +42,9 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import org.apache.iceberg.io.ByteBufferInputStream;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.PositionOutputStream;
 import org.apache.iceberg.metrics.Counter;
@@ -49,7 +52,6 @@ import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
-import org.apache.iceberg.relocated.com.google.common.base.Predicates;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.io.CountingOutputStream;
@@ -87,11 +89,12 @@ class S3OutputStream extends PositionOutputStream {
   private final Set<Tag> writeTags;
 
   private CountingOutputStream stream;
-  private final List<FileAndDigest> stagingFiles = Lists.newArrayList();
+  private final List<StagingPart> stagingParts = Lists.newArrayList();
   private final File stagingDirectory;
-  private File currentStagingFile;
+  private final StagingBufferPool bufferPool;
+  private StagingPart currentPart;
   private String multipartUploadId;
-  private final Map<File, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
+  private final Map<StagingPart, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
   private final int multiPartSize;
   private final int multiPartThresholdSize;
   private final boolean isChecksumEnabled;
@@ -135,6 +138,13 @@ class S3OutputStream extends PositionOutputStream {
     this.multiPartThresholdSize =
         (int) (multiPartSize * s3FileIOProperties.multipartThresholdFactor());
     this.stagingDirectory = new File(s3FileIOProperties.stagingDirectory());
+    this.bufferPool =
+        s3FileIOProperties.isStagingInMemory()
+            ? StagingBufferPool.shared(
+                multiPartSize,
+                s3FileIOProperties.stagingBufferPoolSize(),
+                s3FileIOProperties.isStagingBufferDirect())
+            : null;
     this.isChecksumEnabled = s3FileIOProperties.isChecksumEnabled();
     try {
       this.completeMessageDigest =
@@ -164,7 +174,6 @@ class S3OutputStream extends PositionOutputStream {
   public void write(int b) throws IOException {
     if (stream.getCount() >= multiPartSize) {
       newStream();
-      uploadParts();
     }
 
     stream.write(b);
@@ -195,7 +204,6 @@ class S3OutputStream extends PositionOutputStream {
       relativeOffset += writeSize;
 
       newStream();
-      uploadParts();
     }
 
     stream.write(b, relativeOffset, remaining);
@@ -213,11 +221,11 @@ class S3OutputStream extends PositionOutputStream {
   private void newStream() throws IOException {
     if (stream != null) {
       stream.close();
+      // start uploading the full part before waiting for a buffer for the next part
+      currentPart = null;
+      uploadParts();
     }
 
-    createStagingDirectoryIfNotExists();
-    currentStagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
-    currentStagingFile.deleteOnExit();
     try {
       currentPartMessageDigest =
           isChecksumEnabled ? MessageDigest.getInstance(digestAlgorithm) : null;
@@ -226,29 +234,43 @@ class S3OutputStream extends PositionOutputStream {
           "Failed to create message digest needed for s3 checksum checks.", e);
     }
 
-    stagingFiles.add(new FileAndDigest(currentStagingFile, currentPartMessageDigest));
-    OutputStream outputStream = Files.newOutputStream(currentStagingFile.toPath());
+    currentPart = newStagingPart(currentPartMessageDigest);
+    stagingParts.add(currentPart);
+    OutputStream outputStream = currentPart.newOutputStream();
 
     if (isChecksumEnabled) {
       DigestOutputStream digestOutputStream;
 
       // if switched over to multipart threshold already, no need to update complete message digest
       if (multipartUploadId != null) {
-        digestOutputStream =
-            new DigestOutputStream(
-                new BufferedOutputStream(outputStream), currentPartMessageDigest);
+        digestOutputStream = new DigestOutputStream(outputStream, currentPartMessageDigest);
       } else {
         digestOutputStream =
             new DigestOutputStream(
-                new DigestOutputStream(
-                    new BufferedOutputStream(outputStream), currentPartMessageDigest),
+                new DigestOutputStream(outputStream, currentPartMessageDigest),
                 completeMessageDigest);
       }
 
       stream = new CountingOutputStream(digestOutputStream);
     } else {
-      stream = new CountingOutputStream(new BufferedOutputStream(outputStream));
+      stream = new CountingOutputStream(outputStream);
+    }
+  }
+
+  private StagingPart newStagingPart(MessageDigest digest) throws IOException {
+    if (bufferPool != null) {
+      ByteBuffer buffer = bufferPool.tryAcquire();
+      if (buffer != null) {
+        return new BufferPart(bufferPool, buffer, digest);
+      }
+
+      LOG.debug("All staging buffers are in use, staging part on disk: {}", location);
     }
+
+    createStagingDirectoryIfNotExists();
+    File file = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
+    file.deleteOnExit();
+    return new FilePart(file, digest);
   }
 
   @Override
@@ -264,7 +286,7 @@ class S3OutputStream extends PositionOutputStream {
       stream.close();
       completeUploads();
     } finally {
-      cleanUpStagingFiles();
+      cleanUpStagingParts();
     }
   }
 
@@ -284,31 +306,29 @@ class S3OutputStream extends PositionOutputStream {
     multipartUploadId = s3.createMultipartUpload(requestBuilder.build()).uploadId();
   }
 
-  @SuppressWarnings("checkstyle:LocalVariableName")
   private void uploadParts() {
     // exit if multipart has not been initiated
     if (multipartUploadId == null) {
       return;
     }
 
-    stagingFiles.stream()
-        // do not upload the file currently being written
-        .filter(f -> closed || !f.file().equals(currentStagingFile))
-        // do not upload any files that have already been processed
-        .filter(Predicates.not(f -> multiPartMap.containsKey(f.file())))
+    stagingParts.stream()
+        // do not upload the part currently being written
+        .filter(part -> closed || part != currentPart)
+        // do not upload any parts that have already been processed
+        .filter(part -> !multiPartMap.containsKey(part))
         .forEach(
-            fileAndDigest -> {
-              File f = fileAndDigest.file();
+            part -> {
               UploadPartRequest.Builder requestBuilder =
                   UploadPartRequest.builder()
                       .bucket(location.bucket())
                       .key(location.key())
                       .uploadId(multipartUploadId)
-                      .partNumber(stagingFiles.indexOf(fileAndDigest) + 1)
-                      .contentLength(f.length());
+                      .partNumber(stagingParts.indexOf(part) + 1)
+                      .contentLength(part.length());
 
-              if (fileAndDigest.hasDigest()) {
-                requestBuilder.contentMD5(BinaryUtils.toBase64(fileAndDigest.digest()));
+              if (part.hasDigest()) {
+                requestBuilder.contentMD5(BinaryUtils.toBase64(part.digest()));
               }
 
               S3RequestUtil.configureEncryption(s3FileIOProperties, requestBuilder);
@@ -318,22 +338,21 @@ class S3OutputStream extends PositionOutputStream {
               CompletableFuture<CompletedPart> future =
                   CompletableFuture.supplyAsync(
                           () -> {
-                            UploadPartResponse response =
-                                s3.uploadPart(uploadRequest, RequestBody.fromFile(f));
-                            return CompletedPart.builder()
-                                .eTag(response.eTag())
-                                .partNumber(uploadRequest.partNumber())
-                                .build();
+                            try {
+                              UploadPartResponse response =
+                                  s3.uploadPart(uploadRequest, part.requestBody());
+                              return CompletedPart.builder()
+                                  .eTag(response.eTag())
+                                  .partNumber(uploadRequest.partNumber())
+                                  .build();
+                            } finally {
+                              // release the part even if the returned future was cancelled
+                              part.cleanUp();
+                            }
                           },
                           executorService)
                       .whenComplete(
                           (result, thrown) -> {
-                            try {
-                              Files.deleteIfExists(f.toPath());
-                            } catch (IOException e) {
-                              LOG.warn("Failed to delete staging file: {}", f, e);
-                            }
-
                             if (thrown != null) {
                               // Exception observed here will be thrown as part of
                               // CompletionException
@@ -342,7 +361,7 @@ class S3OutputStream extends PositionOutputStream {
                             }
                           });
 
-              multiPartMap.put(f, future);
+              multiPartMap.put(part, future);
             });
   }
 
@@ -392,28 +411,27 @@ class S3OutputStream extends PositionOutputStream {
                 .uploadId(multipartUploadId)
                 .build());
       } finally {
-        cleanUpStagingFiles();
+        cleanUpStagingParts();
       }
     }
   }
 
-  private void cleanUpStagingFiles() {
-    Tasks.foreach(stagingFiles.stream().map(FileAndDigest::file))
+  private void cleanUpStagingParts() {
+    // parts that were submitted for upload are cleaned up when the upload finishes
+    Tasks.foreach(stagingParts.stream().filter(part -> !multiPartMap.containsKey(part)))
         .suppressFailureWhenFinished()
-        .onFailure((file, thrown) -> LOG.warn("Failed to delete staging file: {}", file, thrown))
-        .run(File::delete);
+        .onFailure((part, thrown) -> LOG.warn("Failed to clean up staging part: {}", part, thrown))
+        .run(StagingPart::cleanUp);
   }
 
   private void completeUploads() {
     if (multipartUploadId == null) {
-      long contentLength =
-          stagingFiles.stream().map(FileAndDigest::file).mapToLong(File::length).sum();
+      long contentLength = stagingParts.stream().mapToLong(StagingPart::length).sum();
       ContentStreamProvider contentProvider =
           () ->
               new BufferedInputStream(
-                  stagingFiles.stream()
-                      .map(FileAndDigest::file)
-                      .map(S3OutputStream::uncheckedInputStream)
+                  stagingParts.stream()
+                      .map(StagingPart::newInputStream)
                       .reduce(SequenceInputStream::new)
                       .orElseGet(() -> new ByteArrayInputStream(new byte[0])));
 
@@ -445,14 +463,6 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private static InputStream uncheckedInputStream(File file) {
-    try {
-      return Files.newInputStream(file.toPath());
-    } catch (IOException e) {
-      throw new UncheckedIOException(e);
-    }
-  }
-
   private void createStagingDirectoryIfNotExists() throws IOException, SecurityException {
     if (!stagingDirectory.exists()) {
       LOG.info(
@@ -486,25 +496,139 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private static class FileAndDigest {
-    private final File file;
+  /** A part of the upload that is staged until it is uploaded. */
+  private abstract static class StagingPart {
     private final MessageDigest digest;
 
-    FileAndDigest(File file, MessageDigest digest) {
-      this.file = file;
+    StagingPart(MessageDigest digest) {
       this.digest = digest;
     }
 
-    File file() {
-      return file;
-    }
+    abstract OutputStream newOutputStream() throws IOException;
+
+    abstract InputStream newInputStream();
+
+    abstract RequestBody requestBody();
+
+    abstract long length();
+
+    /** Deletes or releases the staged data. Must be safe to call more than once. */
+    abstract void cleanUp();
 
     byte[] digest() {
       return digest.digest();
     }
 
-    public boolean hasDigest() {
+    boolean hasDigest() {
       return digest != null;
     }
   }
+
+  /** A part staged in a local file. */
+  private static class FilePart extends StagingPart {
+    private final File file;
+
+    FilePart(File file, MessageDigest digest) {
+      super(digest);
+      this.file = file;
+    }
+
+    @Override
+    OutputStream newOutputStream() throws IOException {
+      return new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+    }
+
+    @Override
+    InputStream newInputStream() {
+      try {
+        return Files.newInputStream(file.toPath());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromFile(file);
+    }
+
+    @Override
+    long length() {
+      return file.length();
+    }
+
+    @Override
+    void cleanUp() {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        LOG.warn("Failed to delete staging file: {}", file, e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return file.toString();
+    }
+  }
+
+  /** A part staged in a buffer from a {@link StagingBufferPool}. */
+  private static class BufferPart extends StagingPart {
+    private final StagingBufferPool pool;
+    private final ByteBuffer buffer;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    BufferPart(StagingBufferPool pool, ByteBuffer buffer, MessageDigest digest) {
+      super(digest);
+      this.pool = pool;
+      this.buffer = buffer;
+    }
+
+    @Override
+    OutputStream newOutputStream() {
+      return new OutputStream() {
+        @Override
+        public void write(int b) {
+          buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int off, int len) {
+          buffer.put(bytes, off, len);
+        }
+      };
+    }
+
+    @Override
+    InputStream newInputStream() {
+      // the buffer's position is the end of the staged data
+      ByteBuffer data = buffer.duplicate();
+      data.flip();
+      return ByteBufferInputStream.wrap(data);
+    }
+
+    @Override
+    RequestBody requestBody() {
+      // avoid copying the buffer; the provider is called again if the request is retried
+      return RequestBody.fromContentProvider(
+          this::newInputStream, length(), Mimetype.MIMETYPE_OCTET_STREAM);
+    }
+
+    @Override
+    long length() {
+      return buffer.position();
+    }
+
+    @Override
+    void cleanUp() {
+      if (released.compareAndSet(false, true)) {
+        pool.release(buffer);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "buffer[" + buffer.position() + "]";
+    }
+  }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+
+/**
+ * A bounded pool of reusable buffers for staging multipart upload parts in memory.
+ *
+ * <p>Buffers are allocated lazily, up to the maximum number of buffers, and are reused after they
+ * are released. When all buffers are in use, {@link #tryAcquire()} returns null immediately so that
+ * callers can stage data elsewhere instead of waiting for another stream to release a buffer.
+ */
+class StagingBufferPool {
+  private static final Map<String, StagingBufferPool> POOLS = Maps.newConcurrentMap();
+
+  private final int bufferSize;
+  private final int maxBuffers;
+  private final boolean direct;
+  private final Semaphore permits;
+  private final Queue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+
+  StagingBufferPool(int bufferSize, int maxBuffers, boolean direct) {
+    Preconditions.checkArgument(bufferSize > 0, "Invalid buffer size: %s", bufferSize);
+    Preconditions.checkArgument(maxBuffers > 0, "Invalid max buffers: %s", maxBuffers);
+    this.bufferSize = bufferSize;
+    this.maxBuffers = maxBuffers;
+    this.direct = direct;
+    this.permits = new Semaphore(maxBuffers);
+  }
+
+  /**
+   * Returns the pool shared by all output streams that use the same buffer size, max number of
+   * buffers, and buffer type.
+   */
+  static StagingBufferPool shared(int bufferSize, int maxBuffers, boolean direct) {
+    return POOLS.computeIfAbsent(
+        bufferSize + "-" + maxBuffers + (direct ? "-direct" : "-heap"),
+        key -> new StagingBufferPool(bufferSize, maxBuffers, direct));
+  }
+
+  int bufferSize() {
+    return bufferSize;
+  }
+
+  int maxBuffers() {
+    return maxBuffers;
+  }
+
+  /** Returns the number of buffers that can be acquired. */
+  int available() {
+    return permits.availablePermits();
+  }
+
+  /**
+   * Acquires an empty buffer without waiting.
+   *
+   * @return an empty buffer, or null if all buffers are in use
+   */
+  ByteBuffer tryAcquire() {
+    if (!permits.tryAcquire()) {
+      return null;
+    }
+
+    ByteBuffer buffer = freeBuffers.poll();
+    if (buffer != null) {
+      buffer.clear();
+      return buffer;
+    }
+
+    try {
+      return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    } catch (RuntimeException | OutOfMemoryError e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /** Returns a buffer from {@link #tryAcquire()} to the pool. */
+  void release(ByteBuffer buffer) {
+    freeBuffers.offer(buffer);
+    permits.release();
+  }
+}
@@ -366,6 +366,29 @@ public class TestS3FileIOProperties {
         .hasMessage("Deletion batch size must be between 1 and 1000");
   }
 
+  @Test
+  public void testS3FileIoInvalidStagingType() {
+    Map<String, String> map = Maps.newHashMap();
+    map.put(S3FileIOProperties.STAGING_TYPE, "tape");
+
+    assertThatThrownBy(() -> new S3FileIOProperties(map))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid staging type: tape (must be disk or memory)");
+  }
+
+  @Test
+  public void testS3FileIoMemoryStaging() {
+    Map<String, String> map = Maps.newHashMap();
+    map.put(S3FileIOProperties.STAGING_TYPE, S3FileIOProperties.STAGING_TYPE_MEMORY);
+    map.put(S3FileIOProperties.STAGING_BUFFER_POOL_SIZE, "4");
+    map.put(S3FileIOProperties.STAGING_BUFFER_DIRECT, "true");
+
+    S3FileIOProperties properties = new S3FileIOProperties(map);
+    assertThat(properties.isStagingInMemory()).isTrue();
+    assertThat(properties.stagingBufferPoolSize()).isEqualTo(4);
+    assertThat(properties.isStagingBufferDirect()).isTrue();
+  }
+
   private Map<String, String> getTestProperties() {
     Map<String, String> map = Maps.newHashMap();
     map.put(S3FileIOProperties.SSE_TYPE, "sse_type");
@@ -24,10 +24,17 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.adobe.testing.s3mock.junit5.S3MockExtension;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Random;
+import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -176,6 +183,72 @@ public class TestS3InputStream {
     }
   }
 
+  @Test
+  public void testSequentialReadAhead() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/read-ahead.dat");
+    byte[] data = randomData(1024 * 1024 * 3 + 100);
+    writeS3Data(uri, data);
+
+    Map<String, Counter> counters = Maps.newConcurrentMap();
+    try (SeekableInputStream in =
+        new S3InputStream(s3, uri, readAheadProperties(), countingMetrics(counters))) {
+      readAndCheck(in, 0, 1024, data, false);
+      readAndCheck(in, in.getPos(), data.length - 1024, data, true);
+
+      assertThat(in.read()).isEqualTo(-1);
+      assertThat(in.read(new byte[10], 0, 10)).isEqualTo(-1);
+    }
+
+    // the first block is fetched when it is read and all later blocks are prefetched
+    assertThat(counters.get(FileIOMetricsContext.READ_PREFETCH_HITS).value()).isEqualTo(12);
+    assertThat(counters.get(FileIOMetricsContext.READ_STREAM_REOPENS).value()).isEqualTo(0);
+  }
+
+  @Test
+  public void testRandomReadAhead() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/random-read-ahead.dat");
+    byte[] data = randomData(1024 * 1024 * 4);
+    writeS3Data(uri, data);
+
+    Map<String, Counter> counters = Maps.newConcurrentMap();
+    try (SeekableInputStream in =
+        new S3InputStream(s3, uri, readAheadProperties(), countingMetrics(counters))) {
+      readAndCheck(in, 3 * 1024 * 1024, 1024, data, true);
+      readAndCheck(in, 1024 * 1024, 1024, data, false);
+      readAndCheck(in, 2 * 1024 * 1024, 100 * 1024, data, true);
+      readAndCheck(in, 100, 1024, data, true);
+
+      // sequential reads after random reads switch back to read-ahead
+      readAndCheck(in, in.getPos(), 1024 * 1024, data, true);
+      readAndCheck(in, in.getPos(), 1024 * 1024, data, false);
+    }
+
+    assertThat(counters.get(FileIOMetricsContext.READ_STREAM_REOPENS).value()).isGreaterThan(3);
+    assertThat(counters.get(FileIOMetricsContext.READ_PREFETCH_HITS).value()).isGreaterThan(0);
+    assertThat(counters.get(FileIOMetricsContext.READ_WASTED_BYTES).value()).isGreaterThan(0);
+  }
+
+  private S3FileIOProperties readAheadProperties() {
+    return new S3FileIOProperties(
+        ImmutableMap.of(
+            S3FileIOProperties.READ_AHEAD_ENABLED,
+            "true",
+            S3FileIOProperties.READ_AHEAD_BLOCK_SIZE,
+            String.valueOf(256 * 1024),
+            S3FileIOProperties.READ_AHEAD_NUM_BLOCKS,
+            "3"));
+  }
+
+  private MetricsContext countingMetrics(Map<String, Counter> counters) {
+    MetricsContext metrics = new DefaultMetricsContext();
+    return new MetricsContext() {
+      @Override
+      public org.apache.iceberg.metrics.Counter counter(String name, Unit unit) {
+        return counters.computeIfAbsent(name, key -> metrics.counter(key, unit));
+      }
+    };
+  }
+
   private byte[] randomData(int size) {
     byte[] data = new byte[size];
     random.nextBytes(data);
@@ -35,6 +35,7 @@ import com.adobe.testing.s3mock.junit5.S3MockExtension;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.MessageDigest;
@@ -182,6 +183,46 @@ public class TestS3OutputStream {
     writeTest();
   }
 
+  @Test
+  public void testWriteWithMemoryStaging() {
+    properties.setStagingType(S3FileIOProperties.STAGING_TYPE_MEMORY);
+    writeTest();
+
+    StagingBufferPool pool =
+        StagingBufferPool.shared(FIVE_MBS, properties.stagingBufferPoolSize(), false);
+    assertThat(pool.available()).isEqualTo(pool.maxBuffers());
+  }
+
+  @Test
+  public void testWriteWithDirectMemoryStagingAndChecksum() {
+    properties.setStagingType(S3FileIOProperties.STAGING_TYPE_MEMORY);
+    properties.setStagingBufferDirect(true);
+    properties.setChecksumEnabled(true);
+    writeTest();
+
+    StagingBufferPool pool =
+        StagingBufferPool.shared(FIVE_MBS, properties.stagingBufferPoolSize(), true);
+    assertThat(pool.available()).isEqualTo(pool.maxBuffers());
+  }
+
+  @Test
+  public void testWriteWithMemoryStagingFallsBackToDisk() {
+    properties.setStagingType(S3FileIOProperties.STAGING_TYPE_MEMORY);
+    properties.setStagingBufferPoolSize(1);
+
+    // all buffers are in use, so parts are staged on disk without waiting
+    StagingBufferPool pool = StagingBufferPool.shared(FIVE_MBS, 1, false);
+    ByteBuffer buffer = pool.tryAcquire();
+    assertThat(buffer).isNotNull();
+    try {
+      writeTest();
+    } finally {
+      pool.release(buffer);
+    }
+
+    assertThat(pool.available()).isEqualTo(1);
+  }
+
   @Test
   public void testDoubleClose() throws IOException {
     IllegalStateException mockException =
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+public class TestStagingBufferPool {
+
+  @Test
+  public void testAcquireAndRelease() {
+    StagingBufferPool pool = new StagingBufferPool(16, 2, false);
+
+    ByteBuffer first = pool.tryAcquire();
+    ByteBuffer second = pool.tryAcquire();
+    assertThat(first.capacity()).isEqualTo(16);
+    assertThat(second).isNotSameAs(first);
+    assertThat(pool.available()).isEqualTo(0);
+
+    // the pool is exhausted
+    assertThat(pool.tryAcquire()).isNull();
+
+    first.put((byte) 1);
+    pool.release(first);
+    ByteBuffer reused = pool.tryAcquire();
+    assertThat(reused).isSameAs(first);
+    assertThat(reused.position()).isEqualTo(0);
+    assertThat(reused.remaining()).isEqualTo(16);
+
+    pool.release(second);
+    pool.release(reused);
+    assertThat(pool.available()).isEqualTo(2);
+  }
+
+  @Test
+  public void testDirectBuffers() {
+    StagingBufferPool pool = new StagingBufferPool(16, 1, true);
+    ByteBuffer buffer = pool.tryAcquire();
+    assertThat(buffer.isDirect()).isTrue();
+    assertThat(pool.tryAcquire()).isNull();
+
+    pool.release(buffer);
+    assertThat(pool.tryAcquire()).isSameAs(buffer);
+  }
+
+  @Test
+  public void testSharedPools() {
+    StagingBufferPool pool = StagingBufferPool.shared(32, 3, false);
+    assertThat(StagingBufferPool.shared(32, 3, false)).isSameAs(pool);
+    assertThat(StagingBufferPool.shared(32, 3, true)).isNotSameAs(pool);
+
+    StagingBufferPool larger = StagingBufferPool.shared(32, 5, false);
+    assertThat(larger).isNotSameAs(pool);
+    assertThat(larger.maxBuffers()).isEqualTo(5);
+  }
+
+  @Test
+  public void testInvalidPool() {
+    assertThatThrownBy(() -> new StagingBufferPool(16, 0, false))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max buffers: 0");
+  }
+}
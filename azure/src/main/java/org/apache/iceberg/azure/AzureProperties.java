@@ -37,11 +37,41 @@ public class AzureProperties implements Serializable {
   public static final String ADLS_SHARED_KEY_ACCOUNT_NAME = "adls.auth.shared-key.account.name";
   public static final String ADLS_SHARED_KEY_ACCOUNT_KEY = "adls.auth.shared-key.account.key";
 
+  /**
+   * Whether input streams read files in fixed-size blocks and keep recently read blocks in memory.
+   * This serves footer reads and small seeks from memory instead of opening a new stream.
+   */
+  public static final String ADLS_READ_CACHE_ENABLED = "adls.read-cache.enabled";
+
+  public static final boolean ADLS_READ_CACHE_ENABLED_DEFAULT = false;
+
+  /** Size of the blocks read by input streams when the read cache is enabled. */
+  public static final String ADLS_READ_CACHE_BLOCK_SIZE = "adls.read-cache.block-size-bytes";
+
+  public static final int ADLS_READ_CACHE_BLOCK_SIZE_DEFAULT = 1024 * 1024;
+
+  /** Maximum number of blocks cached by each input stream when the read cache is enabled. */
+  public static final String ADLS_READ_CACHE_NUM_BLOCKS = "adls.read-cache.num-blocks";
+
+  public static final int ADLS_READ_CACHE_NUM_BLOCKS_DEFAULT = 4;
+
+  /**
+   * Whether input streams fetch the block after the one being read in the background when reads
+   * are sequential. Only used when the read cache is enabled.
+   */
+  public static final String ADLS_READ_CACHE_PREFETCH_ENABLED = "adls.read-cache.prefetch-enabled";
+
+  public static final boolean ADLS_READ_CACHE_PREFETCH_ENABLED_DEFAULT = false;
+
   private Map<String, String> adlsSasTokens = Collections.emptyMap();
   private Map<String, String> adlsConnectionStrings = Collections.emptyMap();
   private Map.Entry<String, String> namedKeyCreds;
   private Integer adlsReadBlockSize;
   private Long adlsWriteBlockSize;
+  private boolean adlsReadCacheEnabled = ADLS_READ_CACHE_ENABLED_DEFAULT;
+  private int adlsReadCacheBlockSize = ADLS_READ_CACHE_BLOCK_SIZE_DEFAULT;
+  private int adlsReadCacheNumBlocks = ADLS_READ_CACHE_NUM_BLOCKS_DEFAULT;
+  private boolean adlsReadCachePrefetchEnabled = ADLS_READ_CACHE_PREFETCH_ENABLED_DEFAULT;
 
   public AzureProperties() {}
 
@@ -67,6 +97,25 @@ public class AzureProperties implements Serializable {
     if (properties.containsKey(ADLS_WRITE_BLOCK_SIZE)) {
       this.adlsWriteBlockSize = Long.parseLong(properties.get(ADLS_WRITE_BLOCK_SIZE));
     }
+
+    this.adlsReadCacheEnabled =
+        PropertyUtil.propertyAsBoolean(
+            properties, ADLS_READ_CACHE_ENABLED, ADLS_READ_CACHE_ENABLED_DEFAULT);
+    this.adlsReadCacheBlockSize =
+        PropertyUtil.propertyAsInt(
+            properties, ADLS_READ_CACHE_BLOCK_SIZE, ADLS_READ_CACHE_BLOCK_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        adlsReadCacheBlockSize > 0, "Invalid read cache block size: %s", adlsReadCacheBlockSize);
+    this.adlsReadCacheNumBlocks =
+        PropertyUtil.propertyAsInt(
+            properties, ADLS_READ_CACHE_NUM_BLOCKS, ADLS_READ_CACHE_NUM_BLOCKS_DEFAULT);
+    Preconditions.checkArgument(
+        adlsReadCacheNumBlocks > 0,
+        "Invalid read cache number of blocks: %s",
+        adlsReadCacheNumBlocks);
+    this.adlsReadCachePrefetchEnabled =
+        PropertyUtil.propertyAsBoolean(
+            properties, ADLS_READ_CACHE_PREFETCH_ENABLED, ADLS_READ_CACHE_PREFETCH_ENABLED_DEFAULT);
   }
 
   public Optional<Integer> adlsReadBlockSize() {
@@ -77,6 +126,22 @@ public class AzureProperties implements Serializable {
     return Optional.ofNullable(adlsWriteBlockSize);
   }
 
+  public boolean adlsReadCacheEnabled() {
+    return adlsReadCacheEnabled;
+  }
+
+  public int adlsReadCacheBlockSize() {
+    return adlsReadCacheBlockSize;
+  }
+
+  public int adlsReadCacheNumBlocks() {
+    return adlsReadCacheNumBlocks;
+  }
+
+  public boolean adlsReadCachePrefetchEnabled() {
+    return adlsReadCachePrefetchEnabled;
+  }
+
   public void applyClientConfiguration(String account, DataLakeFileSystemClientBuilder builder) {
     String sasToken = adlsSasTokens.get(account);
     if (sasToken != null && !sasToken.isEmpty()) {
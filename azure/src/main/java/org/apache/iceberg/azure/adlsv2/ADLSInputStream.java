@@ -24,21 +24,42 @@ import com.azure.storage.file.datalake.models.FileRange;
 import com.azure.storage.file.datalake.options.DataLakeFileInputStreamOptions;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.iceberg.azure.AzureProperties;
+import org.apache.iceberg.io.ByteRange;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * An input stream for ADLS files.
+ *
+ * <p>By default, the stream reads through one open stream and reopens it for backward seeks and
+ * large forward seeks. When {@link AzureProperties#ADLS_READ_CACHE_ENABLED} is set, the stream
+ * instead reads the file in aligned blocks and keeps the most recently used blocks in memory, so
+ * that footer reads and small random reads are served without a new request. With {@link
+ * AzureProperties#ADLS_READ_CACHE_PREFETCH_ENABLED}, sequential reads also fetch the following
+ * block in the background.
+ */
 class ADLSInputStream extends SeekableInputStream implements RangeReadable {
   private static final Logger LOG = LoggerFactory.getLogger(ADLSInputStream.class);
 
@@ -57,6 +78,15 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
 
   private final Counter readBytes;
   private final Counter readOperations;
+  private final Counter prefetchHits;
+
+  // read cache state; blocks start at multiples of the block size and are kept in LRU order
+  private final boolean cacheEnabled;
+  private final int cacheBlockSize;
+  private final int cacheNumBlocks;
+  private final boolean prefetchEnabled;
+  private final Map<Long, Block> cachedBlocks = new LinkedHashMap<>(16, 0.75f, true);
+  private long lastReadEnd = 0;
 
   ADLSInputStream(
       DataLakeFileClient fileClient,
@@ -69,10 +99,19 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
 
     this.readBytes = metrics.counter(FileIOMetricsContext.READ_BYTES, Unit.BYTES);
     this.readOperations = metrics.counter(FileIOMetricsContext.READ_OPERATIONS);
+    this.prefetchHits = metrics.counter(FileIOMetricsContext.READ_PREFETCH_HITS);
+
+    this.cacheEnabled = azureProperties.adlsReadCacheEnabled();
+    this.cacheBlockSize = azureProperties.adlsReadCacheBlockSize();
+    this.cacheNumBlocks = azureProperties.adlsReadCacheNumBlocks();
+    // prefetching with a single block would evict the block that is being read
+    this.prefetchEnabled = azureProperties.adlsReadCachePrefetchEnabled() && cacheNumBlocks > 1;
 
     this.createStack = Thread.currentThread().getStackTrace();
 
-    openStream();
+    if (!cacheEnabled) {
+      openStream();
+    }
   }
 
   private void openStream() {
@@ -106,6 +145,10 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
   @Override
   public int read() throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (cacheEnabled) {
+      return cachedRead();
+    }
+
     positionStream();
 
     pos += 1;
@@ -119,6 +162,10 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
   @Override
   public int read(byte[] b, int off, int len) throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (cacheEnabled) {
+      return cachedRead(b, off, len);
+    }
+
     positionStream();
 
     int bytesRead = stream.read(b, off, len);
@@ -160,31 +207,159 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
   public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
     Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
 
-    FileRange range = new FileRange(position, position + length);
+    FileRange range = new FileRange(position, (long) length);
 
-    IOUtil.readFully(openRange(range), buffer, offset, length);
+    try (InputStream rangeStream = openRange(range)) {
+      IOUtil.readFully(rangeStream, buffer, offset, length);
+    }
   }
 
   @Override
   public int readTail(byte[] buffer, int offset, int length) throws IOException {
     Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
 
-    if (this.fileSize == null) {
-      this.fileSize = fileClient.getProperties().getFileSize();
+    long readStart = fileSize() - length;
+
+    try (InputStream rangeStream = openRange(new FileRange(readStart))) {
+      return IOUtil.readRemaining(rangeStream, buffer, offset, length);
     }
-    long readStart = fileSize - length;
+  }
 
-    return IOUtil.readRemaining(openRange(new FileRange(readStart)), buffer, offset, length);
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<ByteRange> ranges) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    // ranges are read with independent requests, so they can be read concurrently
+    return VectoredReads.read(ranges, this::readFully, ThreadPools.getVectoredReadPool());
   }
 
   private InputStream openRange(FileRange range) {
     return fileClient.openInputStream(getInputOptions(range)).getInputStream();
   }
 
+  private long fileSize() {
+    if (fileSize == null) {
+      this.fileSize = fileClient.getProperties().getFileSize();
+    }
+
+    return fileSize;
+  }
+
+  private int cachedRead() throws IOException {
+    readOperations.increment();
+    if (next >= fileSize()) {
+      return -1;
+    }
+
+    byte[] block = cachedBlock();
+    int value = block[(int) (next % cacheBlockSize)] & 0xFF;
+    next += 1;
+    lastReadEnd = next;
+    readBytes.increment();
+
+    return value;
+  }
+
+  private int cachedRead(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkPositionIndexes(off, off + len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+
+    readOperations.increment();
+    if (next >= fileSize()) {
+      return -1;
+    }
+
+    byte[] block = cachedBlock();
+    int offset = (int) (next % cacheBlockSize);
+    int bytesRead = Math.min(len, block.length - offset);
+    System.arraycopy(block, offset, b, off, bytesRead);
+    next += bytesRead;
+    lastReadEnd = next;
+    readBytes.increment(bytesRead);
+
+    return bytesRead;
+  }
+
+  /** Returns the block that contains the current position, fetching it if it is not cached. */
+  private byte[] cachedBlock() throws IOException {
+    long index = next / cacheBlockSize;
+    Block block = cachedBlocks.get(index);
+    if (block == null) {
+      block = new Block(CompletableFuture.completedFuture(fetchBlock(index)), false);
+      cache(index, block);
+    } else if (block.prefetched) {
+      prefetchHits.increment();
+      block.prefetched = false;
+    }
+
+    byte[] bytes;
+    try {
+      bytes = block.await();
+    } catch (IOException | RuntimeException e) {
+      // the block will be fetched again by the next read
+      cachedBlocks.remove(index);
+      throw e;
+    }
+
+    if (prefetchEnabled && next == lastReadEnd) {
+      prefetch(index + 1);
+    }
+
+    return bytes;
+  }
+
+  private void prefetch(long index) {
+    if (index * cacheBlockSize < fileSize() && !cachedBlocks.containsKey(index)) {
+      LOG.debug("Prefetching block {} of {}", index, fileClient.getFilePath());
+      long start = index * cacheBlockSize;
+      int length = blockLength(start);
+      cache(
+          index,
+          new Block(
+              CompletableFuture.supplyAsync(
+                  () -> {
+                    try {
+                      return fetch(start, length);
+                    } catch (IOException e) {
+                      throw new UncheckedIOException(e);
+                    }
+                  },
+                  ThreadPools.getVectoredReadPool()),
+              true));
+    }
+  }
+
+  private void cache(long index, Block block) {
+    cachedBlocks.put(index, block);
+    if (cachedBlocks.size() > cacheNumBlocks) {
+      // evict the least recently used block
+      Iterator<Long> lru = cachedBlocks.keySet().iterator();
+      lru.next();
+      lru.remove();
+    }
+  }
+
+  private byte[] fetchBlock(long index) throws IOException {
+    long start = index * cacheBlockSize;
+    return fetch(start, blockLength(start));
+  }
+
+  private int blockLength(long start) {
+    return (int) Math.min(cacheBlockSize, fileSize() - start);
+  }
+
+  private byte[] fetch(long start, int length) throws IOException {
+    byte[] bytes = new byte[length];
+    readFully(start, bytes, 0, length);
+    return bytes;
+  }
+
   @Override
   public void close() throws IOException {
     super.close();
     this.closed = true;
+    cachedBlocks.clear();
     if (stream != null) {
       stream.close();
     }
@@ -200,4 +375,29 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
       LOG.warn("Unclosed input stream created by:\n\t{}", trace);
     }
   }
+
+  /** A block of the file that is cached by the read cache. */
+  private static class Block {
+    private final CompletableFuture<byte[]> future;
+    private boolean prefetched;
+
+    private Block(CompletableFuture<byte[]> future, boolean prefetched) {
+      this.future = future;
+      this.prefetched = prefetched;
+    }
+
+    private byte[] await() throws IOException {
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof UncheckedIOException) {
+          throw ((UncheckedIOException) e.getCause()).getCause();
+        } else if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+
+        throw e;
+      }
+    }
+  }
 }
@@ -20,6 +20,9 @@ package org.apache.iceberg.azure;
 
 import static org.apache.iceberg.azure.AzureProperties.ADLS_CONNECTION_STRING_PREFIX;
 import static org.apache.iceberg.azure.AzureProperties.ADLS_READ_BLOCK_SIZE;
+import static org.apache.iceberg.azure.AzureProperties.ADLS_READ_CACHE_BLOCK_SIZE;
+import static org.apache.iceberg.azure.AzureProperties.ADLS_READ_CACHE_ENABLED;
+import static org.apache.iceberg.azure.AzureProperties.ADLS_READ_CACHE_NUM_BLOCKS;
 import static org.apache.iceberg.azure.AzureProperties.ADLS_SAS_TOKEN_PREFIX;
 import static org.apache.iceberg.azure.AzureProperties.ADLS_SHARED_KEY_ACCOUNT_KEY;
 import static org.apache.iceberg.azure.AzureProperties.ADLS_SHARED_KEY_ACCOUNT_NAME;
@@ -155,4 +158,23 @@ public class AzurePropertiesTest {
     verify(clientBuilder).credential(any(StorageSharedKeyCredential.class));
     verify(clientBuilder, never()).credential(any(TokenCredential.class));
   }
+
+  @Test
+  public void testReadCache() {
+    AzureProperties defaults = new AzureProperties(ImmutableMap.of());
+    assertThat(defaults.adlsReadCacheEnabled()).isFalse();
+    assertThat(defaults.adlsReadCachePrefetchEnabled()).isFalse();
+
+    AzureProperties props =
+        new AzureProperties(
+            ImmutableMap.of(ADLS_READ_CACHE_ENABLED, "true", ADLS_READ_CACHE_BLOCK_SIZE, "65536"));
+    assertThat(props.adlsReadCacheEnabled()).isTrue();
+    assertThat(props.adlsReadCacheBlockSize()).isEqualTo(65536);
+    assertThat(props.adlsReadCacheNumBlocks())
+        .isEqualTo(AzureProperties.ADLS_READ_CACHE_NUM_BLOCKS_DEFAULT);
+
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new AzureProperties(ImmutableMap.of(ADLS_READ_CACHE_NUM_BLOCKS, "0")))
+        .withMessage("Invalid read cache number of blocks: 0");
+  }
 }
@@ -20,16 +20,27 @@ package org.apache.iceberg.azure.adlsv2;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.azure.storage.file.datalake.DataLakeFileClient;
+import com.azure.storage.file.datalake.options.DataLakeFileInputStreamOptions;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Random;
 import org.apache.iceberg.azure.AzureProperties;
+import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.junit.jupiter.api.Test;
 
 public class ADLSInputStreamTest extends BaseAzuriteTest {
@@ -96,6 +107,87 @@ public class ADLSInputStreamTest extends BaseAzuriteTest {
     }
   }
 
+  @Test
+  public void testReadCache() throws Exception {
+    byte[] data = randomData(1024 * 1024);
+    setupData(data);
+
+    DataLakeFileClient fileClient = spy(fileClient());
+    Map<String, Counter> counters = Maps.newConcurrentMap();
+    try (SeekableInputStream in =
+        new ADLSInputStream(
+            fileClient,
+            (long) data.length,
+            readCacheProperties(false),
+            countingMetrics(counters))) {
+      // footer reads are served by the last block
+      readAndCheck(in, data.length - 8, 8, data, true);
+      readAndCheck(in, data.length - 1024, 1016, data, true);
+
+      // column chunk reads are served by one block
+      readAndCheck(in, 100 * 1024, 1024, data, true);
+      readAndCheck(in, in.getPos(), 1024, data, false);
+      readAndCheck(in, 100 * 1024 + 100, 100, data, true);
+
+      // the footer block is still cached
+      readAndCheck(in, data.length - 8, 8, data, false);
+
+      in.seek(data.length);
+      assertThat(in.read()).isEqualTo(-1);
+      assertThat(in.read(new byte[10], 0, 10)).isEqualTo(-1);
+    }
+
+    verify(fileClient, times(2)).openInputStream(any(DataLakeFileInputStreamOptions.class));
+    assertThat(counters.get(FileIOMetricsContext.READ_BYTES).value())
+        .isEqualTo(8 + 1016 + 1024 + 1024 + 100 + 8);
+    assertThat(counters.get(FileIOMetricsContext.READ_PREFETCH_HITS).value()).isEqualTo(0);
+  }
+
+  @Test
+  public void testReadCachePrefetch() throws Exception {
+    byte[] data = randomData(1024 * 1024);
+    setupData(data);
+
+    DataLakeFileClient fileClient = spy(fileClient());
+    Map<String, Counter> counters = Maps.newConcurrentMap();
+    try (SeekableInputStream in =
+        new ADLSInputStream(
+            fileClient, null, readCacheProperties(true), countingMetrics(counters))) {
+      readAndCheck(in, 0, 1024, data, false);
+      readAndCheck(in, in.getPos(), data.length - 1024, data, true);
+
+      assertThat(in.read()).isEqualTo(-1);
+    }
+
+    // the first block is fetched when it is read and all later blocks are prefetched
+    verify(fileClient, times(16)).openInputStream(any(DataLakeFileInputStreamOptions.class));
+    assertThat(counters.get(FileIOMetricsContext.READ_PREFETCH_HITS).value()).isEqualTo(15);
+    assertThat(counters.get(FileIOMetricsContext.READ_BYTES).value()).isEqualTo(data.length);
+  }
+
+  private AzureProperties readCacheProperties(boolean prefetch) {
+    return new AzureProperties(
+        ImmutableMap.of(
+            AzureProperties.ADLS_READ_CACHE_ENABLED,
+            "true",
+            AzureProperties.ADLS_READ_CACHE_BLOCK_SIZE,
+            String.valueOf(64 * 1024),
+            AzureProperties.ADLS_READ_CACHE_NUM_BLOCKS,
+            "4",
+            AzureProperties.ADLS_READ_CACHE_PREFETCH_ENABLED,
+            String.valueOf(prefetch)));
+  }
+
+  private MetricsContext countingMetrics(Map<String, Counter> counters) {
+    MetricsContext metrics = new DefaultMetricsContext();
+    return new MetricsContext() {
+      @Override
+      public org.apache.iceberg.metrics.Counter counter(String name, Unit unit) {
+        return counters.computeIfAbsent(name, key -> metrics.counter(key, unit));
+      }
+    };
+  }
+
   private void readAndCheck(
       SeekableInputStream in, long rangeStart, int size, byte[] original, boolean buffered)
       throws IOException {
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares reading table metadata files encoded as JSON, gzipped JSON, and
+ * binary.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=TableMetadataParserBenchmark
+ *       -PjmhOutputPath=benchmark/table-metadata-parser-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 1000, timeUnit = TimeUnit.HOURS)
+public class TableMetadataParserBenchmark {
+
+  private static final int NUM_SNAPSHOTS = 10000;
+  private static final int NUM_COLS = 100;
+
+  private String jsonFile;
+  private String gzipFile;
+  private String binaryFile;
+
+  @Setup
+  public void before() {
+    String baseDir =
+        Paths.get(new File(System.getProperty("java.io.tmpdir")).getAbsolutePath()).toString();
+    String prefix = String.format("%s/%s", baseDir, UUID.randomUUID());
+    this.jsonFile = prefix + TableMetadataParser.getFileExtension(TableMetadataParser.Codec.NONE);
+    this.gzipFile = prefix + TableMetadataParser.getFileExtension(TableMetadataParser.Codec.GZIP);
+    this.binaryFile =
+        prefix + TableMetadataParser.getFileExtension(TableMetadataParser.Codec.BINARY);
+
+    TableMetadata metadata = metadataWithSnapshots();
+    TableMetadataParser.write(metadata, Files.localOutput(jsonFile));
+    TableMetadataParser.write(metadata, Files.localOutput(gzipFile));
+    TableMetadataParser.write(metadata, Files.localOutput(binaryFile));
+  }
+
+  @TearDown
+  public void after() {
+    new File(jsonFile).delete();
+    new File(gzipFile).delete();
+    new File(binaryFile).delete();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readJson(Blackhole blackhole) {
+    read(jsonFile, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readGzip(Blackhole blackhole) {
+    read(gzipFile, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readBinary(Blackhole blackhole) {
+    read(binaryFile, blackhole);
+  }
+
+  private static void read(String path, Blackhole blackhole) {
+    TableMetadata metadata =
+        TableMetadataParser.read((FileIO) null, Files.localInput(new File(path)));
+    blackhole.consume(metadata.snapshots().size());
+  }
+
+  private static TableMetadata metadataWithSnapshots() {
+    Types.NestedField[] columns = new Types.NestedField[NUM_COLS];
+    for (int i = 0; i < NUM_COLS; i++) {
+      columns[i] = required(i + 1, "col_" + i, Types.LongType.get());
+    }
+
+    Schema schema = new Schema(columns);
+    PartitionSpec spec = PartitionSpec.builderFor(schema).bucket("col_0", 16).build();
+    TableMetadata base =
+        TableMetadata.newTableMetadata(
+            schema,
+            spec,
+            "file:/tmp/benchmark/table",
+            ImmutableMap.of(TableProperties.FORMAT_VERSION, "2"));
+
+    TableMetadata.Builder builder = TableMetadata.buildFrom(base);
+    long firstTimestampMillis = System.currentTimeMillis() - NUM_SNAPSHOTS;
+    Long parentId = null;
+    for (int i = 1; i <= NUM_SNAPSHOTS; i++) {
+      long snapshotId = i;
+      Map<String, String> summary =
+          ImmutableMap.<String, String>builder()
+              .put(SnapshotSummary.ADDED_FILES_PROP, "10")
+              .put(SnapshotSummary.ADDED_RECORDS_PROP, "100000")
+              .put(SnapshotSummary.TOTAL_DATA_FILES_PROP, String.valueOf(i * 10))
+              .put(SnapshotSummary.TOTAL_RECORDS_PROP, String.valueOf(i * 100000L))
+              .build();
+      String manifestList =
+          String.format("file:/tmp/benchmark/table/metadata/snap-%d-%s.avro", i, UUID.randomUUID());
+      Snapshot snapshot =
+          new BaseSnapshot(
+              i,
+              snapshotId,
+              parentId,
+              firstTimestampMillis + i,
+              DataOperations.APPEND,
+              summary,
+              schema.schemaId(),
+              manifestList);
+      builder.setBranchSnapshot(snapshot, SnapshotRef.MAIN_BRANCH);
+      parentId = snapshotId;
+    }
+
+    return builder.build();
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.PropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Combines concurrent appends to the same table in this JVM into a single commit.
+ *
+ * <p>The first append that is committed opens a batch and becomes its leader. Appends with the same
+ * key that are committed by other threads while the batch is open join it and wait. If no batch
+ * with the same key is being committed, the leader closes its batch right away. Otherwise, it waits
+ * until the other batch is committed or the coalescing window ends. The leader then commits the
+ * data files of all appends in its batch with one snapshot.
+ *
+ * <p>If the batch commit fails, each append is committed on its own, except when the state of the
+ * batch commit is unknown. In that case, all appends fail with {@link
+ * CommitStateUnknownException}. Appends are only combined if they use the same {@link
+ * TableOperations}, and appends in a transaction are never combined.
+ *
+ * @see TableProperties#COMMIT_COALESCE_APPENDS_ENABLED
+ */
+class AppendCoalescer {
+  private static final Logger LOG = LoggerFactory.getLogger(AppendCoalescer.class);
+
+  // guarded by OPEN_BATCHES
+  private static final Map<List<Object>, Batch> OPEN_BATCHES = Maps.newHashMap();
+  private static final Map<List<Object>, Batch> COMMITTING_BATCHES = Maps.newHashMap();
+
+  private AppendCoalescer() {}
+
+  /** Returns the coalescing window for appends to a table, or 0 if appends are not coalesced. */
+  static long windowMs(TableOperations ops) {
+    if (ops instanceof BaseTransaction.TransactionTableOperations) {
+      // appends in a transaction are committed with the transaction
+      return 0L;
+    }
+
+    Map<String, String> properties = ops.current().properties();
+    boolean enabled =
+        PropertyUtil.propertyAsBoolean(
+            properties,
+            TableProperties.COMMIT_COALESCE_APPENDS_ENABLED,
+            TableProperties.COMMIT_COALESCE_APPENDS_ENABLED_DEFAULT);
+    if (!enabled) {
+      return 0L;
+    }
+
+    long windowMs =
+        PropertyUtil.propertyAsLong(
+            properties,
+            TableProperties.COMMIT_COALESCE_APPENDS_WINDOW_MS,
+            TableProperties.COMMIT_COALESCE_APPENDS_WINDOW_MS_DEFAULT);
+    Preconditions.checkArgument(
+        windowMs >= 0,
+        "Invalid %s: %s (must be non-negative)",
+        TableProperties.COMMIT_COALESCE_APPENDS_WINDOW_MS,
+        windowMs);
+    return windowMs;
+  }
+
+  /**
+   * Returns a key for appends that can be committed together.
+   *
+   * <p>Appends are only combined if they are the same kind of operation on the same table and
+   * branch, are committed with the same table operations, and set the same snapshot properties.
+   */
+  static List<Object> key(
+      Class<?> operationClass,
+      TableOperations ops,
+      String branch,
+      Map<String, String> snapshotProperties) {
+    TableMetadata metadata = ops.current();
+    return ImmutableList.of(
+        operationClass,
+        ops,
+        metadata.location(),
+        metadata.spec().specId(),
+        branch,
+        snapshotProperties);
+  }
+
+  /**
+   * Adds data files to a batch and waits until the batch is committed.
+   *
+   * @param key a key for appends that can be committed together
+   * @param files data files to append
+   * @param windowMs maximum time to wait for other appends while another batch is committed
+   * @param batchCommit commits the data files of all appends in a batch and returns the committed
+   *     snapshot
+   * @return the snapshot that committed the files, or null if they must be committed by the caller
+   * @throws CommitStateUnknownException if the state of the batch commit is unknown
+   */
+  static Snapshot commit(
+      List<Object> key,
+      List<DataFile> files,
+      long windowMs,
+      Function<List<DataFile>, Snapshot> batchCommit) {
+    Batch batch;
+    Batch committing = null;
+    boolean isLeader;
+    synchronized (OPEN_BATCHES) {
+      batch = OPEN_BATCHES.get(key);
+      isLeader = batch == null;
+      if (isLeader) {
+        batch = new Batch();
+        OPEN_BATCHES.put(key, batch);
+        committing = COMMITTING_BATCHES.get(key);
+      }
+
+      batch.add(files);
+    }
+
+    if (isLeader) {
+      commitBatch(key, batch, committing, windowMs, batchCommit);
+    }
+
+    try {
+      return batch.committed.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * Returns a snapshot committed by a batch.
+   *
+   * <p>The batch refreshes the table operations after its commit, so the snapshot is only missing
+   * if the refresh did not load the latest metadata.
+   *
+   * @throws CommitStateUnknownException if the snapshot cannot be loaded
+   */
+  static Snapshot committedSnapshot(TableOperations ops, long snapshotId) {
+    Snapshot snapshot = ops.current().snapshot(snapshotId);
+    if (snapshot == null) {
+      snapshot = ops.refresh().snapshot(snapshotId);
+    }
+
+    if (snapshot == null) {
+      throw new CommitStateUnknownException(
+          new IllegalStateException("Cannot load committed snapshot: " + snapshotId));
+    }
+
+    return snapshot;
+  }
+
+  /** Returns the number of appends in the open batch for a key. */
+  @VisibleForTesting
+  static int openAppends(List<Object> key) {
+    synchronized (OPEN_BATCHES) {
+      Batch batch = OPEN_BATCHES.get(key);
+      return batch != null ? batch.count : 0;
+    }
+  }
+
+  private static void commitBatch(
+      List<Object> key,
+      Batch batch,
+      Batch committing,
+      long windowMs,
+      Function<List<DataFile>, Snapshot> batchCommit) {
+    if (committing != null) {
+      // collect appends while the table is busy with the other batch
+      try {
+        committing.committed.get(windowMs, TimeUnit.MILLISECONDS);
+      } catch (ExecutionException | TimeoutException e) {
+        // commit this batch even if the other batch failed or is still being committed
+      } catch (InterruptedException e) {
+        // commit the files that were already added to the batch
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    synchronized (OPEN_BATCHES) {
+      OPEN_BATCHES.remove(key);
+      COMMITTING_BATCHES.put(key, batch);
+    }
+
+    try {
+      Snapshot snapshot = batchCommit.apply(batch.files);
+      LOG.info("Committed {} appends with {} data files together", batch.count, batch.files.size());
+      batch.committed.complete(snapshot);
+    } catch (CommitStateUnknownException e) {
+      batch.committed.completeExceptionally(e);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to commit {} appends together, committing separately", batch.count, e);
+      batch.committed.complete(null);
+    } catch (Error e) {
+      // the batch may have been committed, so appends cannot be committed separately
+      batch.committed.completeExceptionally(new CommitStateUnknownException(e));
+      throw e;
+    } finally {
+      synchronized (OPEN_BATCHES) {
+        COMMITTING_BATCHES.remove(key, batch);
+      }
+    }
+  }
+
+  private static class Batch {
+    private final List<DataFile> files = Lists.newArrayList();
+    // completed with the committed snapshot, or null if the appends must be committed separately
+    private final CompletableFuture<Snapshot> committed = new CompletableFuture<>();
+    private int count = 0;
+
+    private void add(List<DataFile> newFiles) {
+      files.addAll(newFiles);
+      count += 1;
+    }
+  }
+}
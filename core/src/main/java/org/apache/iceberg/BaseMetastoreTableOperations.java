@@ -173,11 +173,15 @@ public abstract class BaseMetastoreTableOperations extends BaseMetastoreOperatio
 
   protected void refreshFromMetadataLocation(
       String newLocation, Predicate<Exception> shouldRetry, int numRetries) {
-    refreshFromMetadataLocation(
-        newLocation,
-        shouldRetry,
-        numRetries,
-        metadataLocation -> TableMetadataParser.read(io(), metadataLocation));
+    refreshFromMetadataLocation(newLocation, shouldRetry, numRetries, this::readMetadata);
+  }
+
+  private TableMetadata readMetadata(String metadataLocation) {
+    if (TableMetadataCache.enabled()) {
+      return TableMetadataCache.shared().get(io(), metadataLocation);
+    }
+
+    return TableMetadataParser.read(io(), metadataLocation);
   }
 
   protected void refreshFromMetadataLocation(
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airlift.compress.zstd.ZstdCompressor;
+import io.airlift.compress.zstd.ZstdDecompressor;
+import io.airlift.compress.zstd.ZstdInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+
+/**
+ * A compact binary encoding for JSON trees, used by metadata files with the {@link
+ * TableMetadataParser.Codec#BINARY} codec.
+ *
+ * <p>Each value is written with Avro's binary encoding as a type tag followed by the value. Arrays
+ * and objects are prefixed with their size. A string is written once and later occurrences, such as
+ * repeated field names, are written as a reference to the first one. The encoded tree is compressed
+ * with zstd and prefixed with a magic number.
+ *
+ * <p>Decoding produces the same tree that was encoded, including the types of number nodes, so the
+ * JSON metadata parsers can be used with either encoding.
+ */
+class BinaryJsonCodec {
+  private static final byte[] MAGIC = new byte[] {'I', 'M', 'B', '1'};
+
+  private static final int NULL = 0;
+  private static final int FALSE = 1;
+  private static final int TRUE = 2;
+  private static final int INT = 3;
+  private static final int LONG = 4;
+  private static final int DOUBLE = 5;
+  private static final int BIG_INTEGER = 6;
+  private static final int DECIMAL = 7;
+  private static final int STRING = 8;
+  private static final int STRING_REF = 9;
+  private static final int ARRAY = 10;
+  private static final int OBJECT = 11;
+
+  private BinaryJsonCodec() {}
+
+  static boolean isBinary(byte[] bytes) {
+    return bytes.length >= MAGIC.length
+        && Arrays.equals(Arrays.copyOf(bytes, MAGIC.length), MAGIC);
+  }
+
+  static byte[] encode(JsonNode node) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+    try {
+      new Writer(encoder).write(node);
+      encoder.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to encode JSON", e);
+    }
+
+    byte[] uncompressed = out.toByteArray();
+    ZstdCompressor compressor = new ZstdCompressor();
+    byte[] encoded =
+        new byte[MAGIC.length + compressor.maxCompressedLength(uncompressed.length)];
+    System.arraycopy(MAGIC, 0, encoded, 0, MAGIC.length);
+    int compressedLength =
+        compressor.compress(
+            uncompressed,
+            0,
+            uncompressed.length,
+            encoded,
+            MAGIC.length,
+            encoded.length - MAGIC.length);
+
+    return Arrays.copyOf(encoded, MAGIC.length + compressedLength);
+  }
+
+  static JsonNode decode(byte[] bytes) {
+    Preconditions.checkArgument(isBinary(bytes), "Invalid binary JSON: missing magic number");
+
+    byte[] uncompressed = decompress(bytes, MAGIC.length, bytes.length - MAGIC.length);
+    BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(uncompressed, null);
+    try {
+      return new Reader(decoder).read();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to decode binary JSON", e);
+    }
+  }
+
+  private static byte[] decompress(byte[] bytes, int offset, int length) {
+    long uncompressedSize = ZstdDecompressor.getDecompressedSize(bytes, offset, length);
+    if (uncompressedSize < 0) {
+      // the frame does not store its content size, so decompress it as a stream
+      try (ZstdInputStream in =
+          new ZstdInputStream(new ByteArrayInputStream(bytes, offset, length))) {
+        return ByteStreams.toByteArray(in);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to decompress binary JSON", e);
+      }
+    }
+
+    byte[] uncompressed = new byte[Math.toIntExact(uncompressedSize)];
+    int uncompressedLength =
+        new ZstdDecompressor()
+            .decompress(bytes, offset, length, uncompressed, 0, uncompressed.length);
+    Preconditions.checkState(
+        uncompressedLength == uncompressed.length, "Invalid decompressed length");
+    return uncompressed;
+  }
+
+  private static class Writer {
+    private final BinaryEncoder encoder;
+    private final Map<String, Integer> stringRefs = Maps.newHashMap();
+
+    private Writer(BinaryEncoder encoder) {
+      this.encoder = encoder;
+    }
+
+    private void write(JsonNode node) throws IOException {
+      switch (node.getNodeType()) {
+        case NULL:
+          encoder.writeInt(NULL);
+          break;
+        case BOOLEAN:
+          encoder.writeInt(node.booleanValue() ? TRUE : FALSE);
+          break;
+        case NUMBER:
+          writeNumber(node);
+          break;
+        case STRING:
+          writeString(node.textValue());
+          break;
+        case ARRAY:
+          encoder.writeInt(ARRAY);
+          encoder.writeInt(node.size());
+          for (JsonNode element : node) {
+            write(element);
+          }
+          break;
+        case OBJECT:
+          encoder.writeInt(OBJECT);
+          encoder.writeInt(node.size());
+          Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+          while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            writeString(field.getKey());
+            write(field.getValue());
+          }
+          break;
+        default:
+          throw new IllegalArgumentException("Cannot encode JSON node: " + node.getNodeType());
+      }
+    }
+
+    private void writeNumber(JsonNode node) throws IOException {
+      switch (node.numberType()) {
+        case INT:
+          encoder.writeInt(INT);
+          encoder.writeInt(node.intValue());
+          break;
+        case LONG:
+          encoder.writeInt(LONG);
+          encoder.writeLong(node.longValue());
+          break;
+        case BIG_INTEGER:
+          encoder.writeInt(BIG_INTEGER);
+          encoder.writeString(node.bigIntegerValue().toString());
+          break;
+        case BIG_DECIMAL:
+          encoder.writeInt(DECIMAL);
+          encoder.writeString(node.decimalValue().toString());
+          break;
+        default:
+          encoder.writeInt(DOUBLE);
+          encoder.writeDouble(node.doubleValue());
+      }
+    }
+
+    private void writeString(String value) throws IOException {
+      Integer ref = stringRefs.get(value);
+      if (ref != null) {
+        encoder.writeInt(STRING_REF);
+        encoder.writeInt(ref);
+      } else {
+        stringRefs.put(value, stringRefs.size());
+        encoder.writeInt(STRING);
+        encoder.writeString(value);
+      }
+    }
+  }
+
+  private static class Reader {
+    private final BinaryDecoder decoder;
+    private final List<String> strings = Lists.newArrayList();
+
+    private Reader(BinaryDecoder decoder) {
+      this.decoder = decoder;
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private JsonNode read() throws IOException {
+      JsonNodeFactory factory = JsonNodeFactory.instance;
+      int tag = decoder.readInt();
+      switch (tag) {
+        case NULL:
+          return factory.nullNode();
+        case FALSE:
+          return factory.booleanNode(false);
+        case TRUE:
+          return factory.booleanNode(true);
+        case INT:
+          return factory.numberNode(decoder.readInt());
+        case LONG:
+          return factory.numberNode(decoder.readLong());
+        case DOUBLE:
+          return factory.numberNode(decoder.readDouble());
+        case BIG_INTEGER:
+          return BigIntegerNode.valueOf(new BigInteger(decoder.readString()));
+        case DECIMAL:
+          return DecimalNode.valueOf(new BigDecimal(decoder.readString()));
+        case STRING:
+        case STRING_REF:
+          return factory.textNode(readString(tag));
+        case ARRAY:
+          int numElements = decoder.readInt();
+          ArrayNode array = factory.arrayNode(numElements);
+          for (int i = 0; i < numElements; i += 1) {
+            array.add(read());
+          }
+          return array;
+        case OBJECT:
+          int numFields = decoder.readInt();
+          ObjectNode object = factory.objectNode();
+          for (int i = 0; i < numFields; i += 1) {
+            String name = readString(decoder.readInt());
+            object.set(name, read());
+          }
+          return object;
+        default:
+          throw new IllegalArgumentException("Invalid binary JSON tag: " + tag);
+      }
+    }
+
+    private String readString(int tag) throws IOException {
+      if (tag == STRING_REF) {
+        return strings.get(decoder.readInt());
+      }
+
+      Preconditions.checkArgument(tag == STRING, "Invalid binary JSON string tag: %s", tag);
+      String value = decoder.readString();
+      strings.add(value);
+      return value;
+    }
+  }
+}
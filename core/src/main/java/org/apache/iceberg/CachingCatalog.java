@@ -19,6 +19,7 @@
 package org.apache.iceberg;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
@@ -27,13 +28,17 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +47,10 @@ import org.slf4j.LoggerFactory;
  *
  * <p>See {@link CatalogProperties#CACHE_EXPIRATION_INTERVAL_MS} for more details regarding special
  * values for {@code expirationIntervalMillis}.
+ *
+ * <p>Cached tables can also be reloaded in the background, see {@link
+ * CatalogProperties#CACHE_REFRESH_INTERVAL_MS} and {@link
+ * CatalogProperties#CACHE_REFRESH_PROBE_ENABLED}.
  */
 public class CachingCatalog implements Catalog {
   private static final Logger LOG = LoggerFactory.getLogger(CachingCatalog.class);
@@ -60,6 +69,34 @@ public class CachingCatalog implements Catalog {
     return new CachingCatalog(catalog, caseSensitive, expirationIntervalMillis);
   }
 
+  /**
+   * Wraps a catalog with a cache that reloads tables in the background.
+   *
+   * @param catalog a catalog
+   * @param caseSensitive whether table identifiers are case sensitive
+   * @param expirationIntervalMillis see {@link CatalogProperties#CACHE_EXPIRATION_INTERVAL_MS}
+   * @param refreshIntervalMillis see {@link CatalogProperties#CACHE_REFRESH_INTERVAL_MS}
+   * @param refreshProbeEnabled see {@link CatalogProperties#CACHE_REFRESH_PROBE_ENABLED}
+   * @param refreshExecutor an executor for background reloads, or null for a shared daemon pool
+   * @return a caching catalog
+   */
+  public static Catalog wrap(
+      Catalog catalog,
+      boolean caseSensitive,
+      long expirationIntervalMillis,
+      long refreshIntervalMillis,
+      boolean refreshProbeEnabled,
+      Executor refreshExecutor) {
+    return new CachingCatalog(
+        catalog,
+        caseSensitive,
+        expirationIntervalMillis,
+        refreshIntervalMillis,
+        refreshProbeEnabled,
+        refreshExecutor,
+        Ticker.systemTicker());
+  }
+
   private final Catalog catalog;
   private final boolean caseSensitive;
 
@@ -69,6 +106,10 @@ public class CachingCatalog implements Catalog {
   @SuppressWarnings("checkstyle:VisibilityModifier")
   protected final Cache<TableIdentifier, Table> tableCache;
 
+  private final long refreshIntervalMillis;
+  private final boolean refreshProbeEnabled;
+  private final Executor refreshExecutor;
+
   private CachingCatalog(Catalog catalog, boolean caseSensitive, long expirationIntervalMillis) {
     this(catalog, caseSensitive, expirationIntervalMillis, Ticker.systemTicker());
   }
@@ -76,6 +117,24 @@ public class CachingCatalog implements Catalog {
   @SuppressWarnings("checkstyle:VisibilityModifier")
   protected CachingCatalog(
       Catalog catalog, boolean caseSensitive, long expirationIntervalMillis, Ticker ticker) {
+    this(
+        catalog,
+        caseSensitive,
+        expirationIntervalMillis,
+        CatalogProperties.CACHE_REFRESH_INTERVAL_MS_OFF,
+        CatalogProperties.CACHE_REFRESH_PROBE_ENABLED_DEFAULT,
+        null,
+        ticker);
+  }
+
+  protected CachingCatalog(
+      Catalog catalog,
+      boolean caseSensitive,
+      long expirationIntervalMillis,
+      long refreshIntervalMillis,
+      boolean refreshProbeEnabled,
+      Executor refreshExecutor,
+      Ticker ticker) {
     Preconditions.checkArgument(
         expirationIntervalMillis != 0,
         "When %s is set to 0, the catalog cache should be disabled. This indicates a bug.",
@@ -83,6 +142,9 @@ public class CachingCatalog implements Catalog {
     this.catalog = catalog;
     this.caseSensitive = caseSensitive;
     this.expirationIntervalMillis = expirationIntervalMillis;
+    this.refreshIntervalMillis = refreshIntervalMillis;
+    this.refreshProbeEnabled = refreshProbeEnabled;
+    this.refreshExecutor = refreshExecutor;
     this.tableCache = createTableCache(ticker);
   }
 
@@ -103,9 +165,77 @@ public class CachingCatalog implements Catalog {
     }
   }
 
+  /**
+   * CacheLoader class that reloads tables in the background after {@link #refreshIntervalMillis}.
+   */
+  class TableReloader implements CacheLoader<TableIdentifier, Table> {
+    @Override
+    public Table load(TableIdentifier tableIdentifier) {
+      return catalog.loadTable(tableIdentifier);
+    }
+
+    @Override
+    public Table reload(TableIdentifier tableIdentifier, Table table) {
+      Table loaded;
+      try {
+        loaded = catalog.loadTable(tableIdentifier);
+      } catch (NoSuchTableException e) {
+        LOG.debug("Table {} no longer exists, removing it from the cache", tableIdentifier);
+        return null;
+      }
+
+      // never refresh the cached instance, callers may still hold it
+      if (refreshProbeEnabled) {
+        String cachedLocation = metadataLocation(table);
+        if (cachedLocation != null && cachedLocation.equals(metadataLocation(loaded))) {
+          return table;
+        }
+      }
+
+      if (!MetadataTableUtils.hasMetadataTableName(tableIdentifier)) {
+        // cached metadata tables share the operations of the replaced table
+        tableCache.invalidateAll(metadataTableIdentifiers(tableIdentifier));
+      }
+
+      return loaded;
+    }
+  }
+
+  private static String metadataLocation(Table table) {
+    if (table instanceof HasTableOperations) {
+      TableMetadata metadata = ((HasTableOperations) table).operations().current();
+      return metadata != null ? metadata.metadataFileLocation() : null;
+    }
+
+    return null;
+  }
+
+  /** Holder for the pool used for background reloads when no executor is passed. */
+  private static class RefreshPool {
+    private static final ExecutorService POOL =
+        ThreadPools.newWorkerPool("iceberg-caching-catalog-refresh");
+  }
+
   private Cache<TableIdentifier, Table> createTableCache(Ticker ticker) {
     Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().softValues();
 
+    if (refreshIntervalMillis > 0) {
+      cacheBuilder =
+          cacheBuilder.refreshAfterWrite(Duration.ofMillis(refreshIntervalMillis)).ticker(ticker);
+      cacheBuilder =
+          cacheBuilder.executor(refreshExecutor != null ? refreshExecutor : RefreshPool.POOL);
+
+      if (expirationIntervalMillis > 0) {
+        // removal callbacks run on the refresh executor so that reloads do not block loads
+        return cacheBuilder
+            .removalListener(new MetadataTableInvalidatingRemovalListener())
+            .expireAfterAccess(Duration.ofMillis(expirationIntervalMillis))
+            .build(new TableReloader());
+      }
+
+      return cacheBuilder.build(new TableReloader());
+    }
+
     if (expirationIntervalMillis > 0) {
       return cacheBuilder
           .removalListener(new MetadataTableInvalidatingRemovalListener())
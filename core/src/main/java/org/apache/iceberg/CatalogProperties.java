@@ -30,6 +30,7 @@ public class CatalogProperties {
   public static final String TABLE_DEFAULT_PREFIX = "table-default.";
   public static final String TABLE_OVERRIDE_PREFIX = "table-override.";
   public static final String METRICS_REPORTER_IMPL = "metrics-reporter-impl";
+  public static final String METRICS_CONTEXT_IMPL = "metrics-context-impl";
 
   /**
    * Controls whether the catalog will cache table entries upon load.
@@ -63,6 +64,29 @@ public class CatalogProperties {
   public static final long CACHE_EXPIRATION_INTERVAL_MS_DEFAULT = TimeUnit.SECONDS.toMillis(30);
   public static final long CACHE_EXPIRATION_INTERVAL_MS_OFF = -1;
 
+  /**
+   * Controls the duration after which cached tables are reloaded in the background.
+   *
+   * <p>When an entry is accessed after this many milliseconds since it was loaded or last reloaded,
+   * the caching catalog returns the cached table and reloads it asynchronously, instead of blocking
+   * a later load after the entry expired. Zero or negative values turn off background reloads.
+   */
+  public static final String CACHE_REFRESH_INTERVAL_MS = "cache.refresh-interval-ms";
+
+  public static final long CACHE_REFRESH_INTERVAL_MS_OFF = -1;
+
+  /**
+   * Controls whether background reloads keep the cached table when its metadata is unchanged.
+   *
+   * <p>A reload always loads a new table instance from the catalog and never refreshes the cached
+   * instance, which callers may still hold. When enabled, the cached instance is kept if its
+   * metadata location matches the loaded table's. When disabled, the loaded table always replaces
+   * the cached one.
+   */
+  public static final String CACHE_REFRESH_PROBE_ENABLED = "cache.refresh-probe.enabled";
+
+  public static final boolean CACHE_REFRESH_PROBE_ENABLED_DEFAULT = true;
+
   /**
    * Controls whether to use caching during manifest reads or not.
    *
@@ -117,9 +141,57 @@ public class CatalogProperties {
 
   public static final long IO_MANIFEST_CACHE_MAX_CONTENT_LENGTH_DEFAULT = 8 * 1024 * 1024;
 
+  /**
+   * Local directory used as a second tier of the manifest cache.
+   *
+   * <p>When set, manifest content that is evicted from the heap is written to memory-mapped files
+   * under this directory and read from there instead of from the FileIO. Each manifest cache uses
+   * its own sub-directory. The disk tier is disabled when this is not set.
+   */
+  public static final String IO_MANIFEST_CACHE_DISK_DIRECTORY = "io.manifest.cache.disk.directory";
+
+  /**
+   * Controls the maximum total amount of bytes to store in the disk tier of the manifest cache.
+   *
+   * <p>Must be a positive value. Only used when {@link #IO_MANIFEST_CACHE_DISK_DIRECTORY} is set.
+   */
+  public static final String IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES =
+      "io.manifest.cache.disk.max-total-bytes";
+
+  public static final long IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES_DEFAULT = 1024 * 1024 * 1024;
+
+  /**
+   * Controls whether the manifest cache stores content off-heap in pooled direct buffers.
+   *
+   * <p>Off-heap content does not add to GC pressure. Buffers of evicted content are returned to a
+   * pool once all streams reading it are closed, and the pool keeps at most {@link
+   * #IO_MANIFEST_CACHE_MAX_TOTAL_BYTES} of buffers for reuse.
+   */
+  public static final String IO_MANIFEST_CACHE_OFF_HEAP_ENABLED =
+      "io.manifest.cache.off-heap-enabled";
+
+  public static final boolean IO_MANIFEST_CACHE_OFF_HEAP_ENABLED_DEFAULT = false;
+
   public static final String URI = "uri";
   public static final String CLIENT_POOL_SIZE = "clients";
   public static final int CLIENT_POOL_SIZE_DEFAULT = 2;
+
+  /**
+   * Number of clients that a client pool keeps open when they are idle. Only used when {@link
+   * #CLIENT_POOL_IDLE_TIMEOUT_MS} is set.
+   */
+  public static final String CLIENT_POOL_MIN_SIZE = "client.pool.min-size";
+
+  public static final int CLIENT_POOL_MIN_SIZE_DEFAULT = 0;
+
+  /**
+   * Time after which idle clients in a client pool are closed. Non-positive values keep idle
+   * clients open until the pool is closed.
+   */
+  public static final String CLIENT_POOL_IDLE_TIMEOUT_MS = "client.pool.idle-timeout-ms";
+
+  public static final long CLIENT_POOL_IDLE_TIMEOUT_MS_DEFAULT = -1L;
+
   public static final String CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       "client.pool.cache.eviction-interval-ms";
   public static final long CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS_DEFAULT =
@@ -37,6 +37,7 @@ import org.apache.iceberg.hadoop.Configurable;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.metrics.LoggingMetricsReporter;
+import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsReporter;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -475,6 +476,54 @@ public class CatalogUtil {
     return reporter;
   }
 
+  /**
+   * Load a custom {@link MetricsContext} implementation for catalog client metrics, such as the
+   * metrics of a catalog's client pool.
+   *
+   * <p>The implementation must have a no-arg constructor.
+   *
+   * @param properties catalog properties which contains class name of a custom {@link
+   *     MetricsContext} implementation
+   * @return An initialized {@link MetricsContext}, or {@link MetricsContext#nullMetrics()} if no
+   *     implementation is configured
+   * @throws IllegalArgumentException if class path not found or right constructor not found or the
+   *     loaded class cannot be cast to the given interface type
+   */
+  public static MetricsContext loadMetricsContext(Map<String, String> properties) {
+    String impl = properties.get(CatalogProperties.METRICS_CONTEXT_IMPL);
+    if (impl == null) {
+      return MetricsContext.nullMetrics();
+    }
+
+    LOG.info("Loading custom MetricsContext implementation: {}", impl);
+    DynConstructors.Ctor<MetricsContext> ctor;
+    try {
+      ctor =
+          DynConstructors.builder(MetricsContext.class)
+              .loader(CatalogUtil.class.getClassLoader())
+              .impl(impl)
+              .buildChecked();
+    } catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException(
+          String.format("Cannot initialize MetricsContext, missing no-arg constructor: %s", impl),
+          e);
+    }
+
+    MetricsContext context;
+    try {
+      context = ctor.newInstance();
+    } catch (ClassCastException e) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Cannot initialize MetricsContext, %s does not implement MetricsContext.", impl),
+          e);
+    }
+
+    context.initialize(properties);
+
+    return context;
+  }
+
   public static String fullTableName(String catalogName, TableIdentifier identifier) {
     StringBuilder sb = new StringBuilder();
 
@@ -19,26 +19,59 @@
 package org.apache.iceberg;
 
 import java.io.Closeable;
-import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.Histogram;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A pool of clients that are shared by threads.
+ *
+ * <p>Threads that wait for a client are served in arrival order and are woken up as soon as a
+ * client is released. Clients are created on demand, up to the pool size, and the most recently
+ * released client is reused first. When an idle timeout is set, clients that were not used for
+ * longer than the timeout are closed when clients are borrowed or released, but the pool keeps at
+ * least its minimum size.
+ *
+ * <p>The time spent waiting for a client, the number of clients in use, and the number of created
+ * and evicted clients are reported to a {@link MetricsContext}.
+ */
 public abstract class ClientPoolImpl<C, E extends Exception>
     implements Closeable, ClientPool<C, E> {
   private static final Logger LOG = LoggerFactory.getLogger(ClientPoolImpl.class);
 
+  public static final String WAIT_DURATION = "client-pool.wait-duration";
+  public static final String IN_USE_CLIENTS = "client-pool.in-use-clients";
+  public static final String CREATED_CLIENTS = "client-pool.created-clients";
+  public static final String EVICTED_CLIENTS = "client-pool.evicted-clients";
+
   private final int poolSize;
+  private final int minSize;
+  private final long idleTimeoutNanos;
+  // one permit per client that may be in use, fair so that waiting threads are served in order
+  private final Semaphore permits;
+  // idle clients, most recently released first
   private final Deque<C> clients;
+  private final Map<C, Long> idleSinceNanos = new ConcurrentHashMap<>();
+  private final AtomicInteger currentSize = new AtomicInteger(0);
+  private final AtomicInteger inUse = new AtomicInteger(0);
   private final Class<? extends E> reconnectExc;
-  private final Object signal = new Object();
   private final boolean retryByDefault;
   private final int maxRetries;
+  private final Metrics metrics;
 
-  private volatile int currentSize;
-  private boolean closed;
+  private volatile boolean closed;
 
   private int connectionRetryWaitPeriodMs = 1000;
 
@@ -51,13 +84,53 @@ public abstract class ClientPoolImpl<C, E extends Exception>
       Class<? extends E> reconnectExc,
       boolean retryByDefault,
       int maxConnectionRetries) {
+    this(
+        poolSize,
+        0,
+        -1L,
+        reconnectExc,
+        retryByDefault,
+        maxConnectionRetries,
+        MetricsContext.nullMetrics());
+  }
+
+  /**
+   * Creates a client pool that closes idle clients.
+   *
+   * @param poolSize maximum number of clients
+   * @param minSize number of clients that are kept open when idle
+   * @param idleTimeoutMs time after which an idle client is closed, or a non-positive value to keep
+   *     idle clients open
+   * @param reconnectExc the exception class that indicates a connection failure
+   * @param retryByDefault whether actions are retried after a connection failure by default
+   * @param maxConnectionRetries maximum number of reconnection attempts for an action
+   * @param metricsContext a metrics context for pool metrics
+   */
+  public ClientPoolImpl(
+      int poolSize,
+      int minSize,
+      long idleTimeoutMs,
+      Class<? extends E> reconnectExc,
+      boolean retryByDefault,
+      int maxConnectionRetries,
+      MetricsContext metricsContext) {
+    Preconditions.checkArgument(poolSize > 0, "Invalid pool size: %s (must be positive)", poolSize);
+    Preconditions.checkArgument(
+        minSize >= 0 && minSize <= poolSize,
+        "Invalid min pool size: %s (must be between 0 and pool size %s)",
+        minSize,
+        poolSize);
+    Preconditions.checkArgument(null != metricsContext, "Invalid metrics context: null");
     this.poolSize = poolSize;
+    this.minSize = minSize;
+    this.idleTimeoutNanos = idleTimeoutMs > 0 ? TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs) : 0L;
+    this.permits = new Semaphore(poolSize, true /* fair */);
+    this.clients = new ConcurrentLinkedDeque<>();
     this.reconnectExc = reconnectExc;
-    this.clients = new ArrayDeque<>(poolSize);
-    this.currentSize = 0;
     this.closed = false;
     this.retryByDefault = retryByDefault;
     this.maxRetries = maxConnectionRetries;
+    this.metrics = new Metrics(metricsContext);
   }
 
   @Override
@@ -107,61 +180,99 @@ public abstract class ClientPoolImpl<C, E extends Exception>
   @Override
   public void close() {
     this.closed = true;
+    boolean acquired = false;
     try {
-      while (currentSize > 0) {
-        if (!clients.isEmpty()) {
-          synchronized (this) {
-            if (!clients.isEmpty()) {
-              C client = clients.removeFirst();
-              close(client);
-              currentSize -= 1;
-            }
-          }
-        }
-        if (clients.isEmpty() && currentSize > 0) {
-          // wake every second in case this missed the signal
-          synchronized (signal) {
-            signal.wait(1000);
-          }
-        }
-      }
-
+      // wait until all clients in use are released
+      permits.acquire(poolSize);
+      acquired = true;
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       LOG.warn("Interrupted while shutting down pool. Some clients may not be closed.", e);
     }
+
+    try {
+      for (C client = clients.pollFirst(); client != null; client = clients.pollFirst()) {
+        closeClient(client);
+      }
+    } finally {
+      if (acquired) {
+        // wake up waiting threads so that they fail instead of waiting forever
+        permits.release(poolSize);
+      }
+    }
   }
 
   private C get() throws InterruptedException {
     Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
-    while (true) {
-      if (!clients.isEmpty() || currentSize < poolSize) {
-        synchronized (this) {
-          if (!clients.isEmpty()) {
-            return clients.removeFirst();
-          } else if (currentSize < poolSize) {
-            C client = newClient();
-            currentSize += 1;
-            return client;
-          }
-        }
-      }
-      synchronized (signal) {
-        // wake every second in case this missed the signal
-        signal.wait(1000);
+    long startNanos = System.nanoTime();
+    permits.acquire();
+    metrics.waitDuration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+    try {
+      Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
+      evictIdleClients();
+
+      C client = clients.pollFirst();
+      if (client != null) {
+        idleSinceNanos.remove(client);
+      } else {
+        client = newClient();
+        currentSize.incrementAndGet();
+        metrics.createdClients.increment();
       }
+
+      metrics.inUseClients.update(inUse.incrementAndGet());
+      return client;
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
     }
   }
 
   private void release(C client) {
-    synchronized (this) {
-      clients.addFirst(client);
+    inUse.decrementAndGet();
+    idleSinceNanos.put(client, System.nanoTime());
+    clients.addFirst(client);
+    evictIdleClients();
+    permits.release();
+  }
+
+  /** Closes clients that were idle for longer than the idle timeout, down to the min size. */
+  private void evictIdleClients() {
+    if (idleTimeoutNanos <= 0) {
+      return;
     }
-    synchronized (signal) {
-      signal.notify();
+
+    long nowNanos = System.nanoTime();
+    while (true) {
+      C oldest = clients.peekLast();
+      Long idleSince = oldest != null ? idleSinceNanos.get(oldest) : null;
+      if (idleSince == null || nowNanos - idleSince < idleTimeoutNanos) {
+        return;
+      }
+
+      int size = currentSize.get();
+      if (size <= minSize || !currentSize.compareAndSet(size, size - 1)) {
+        return;
+      }
+
+      // the client may have been borrowed by another thread since it was checked
+      if (clients.removeLastOccurrence(oldest)) {
+        idleSinceNanos.remove(oldest);
+        close(oldest);
+        metrics.evictedClients.increment();
+      } else {
+        currentSize.incrementAndGet();
+      }
     }
   }
 
+  private void closeClient(C client) {
+    idleSinceNanos.remove(client);
+    close(client);
+    currentSize.decrementAndGet();
+  }
+
   @VisibleForTesting
   Deque<C> clients() {
     return clients;
@@ -171,7 +282,30 @@ public abstract class ClientPoolImpl<C, E extends Exception>
     return poolSize;
   }
 
+  public int minSize() {
+    return minSize;
+  }
+
+  /** Returns the number of open clients, including clients that are in use. */
+  public int currentSize() {
+    return currentSize.get();
+  }
+
   public boolean isClosed() {
     return closed;
   }
+
+  private static class Metrics {
+    private final Timer waitDuration;
+    private final Histogram inUseClients;
+    private final Counter createdClients;
+    private final Counter evictedClients;
+
+    private Metrics(MetricsContext context) {
+      this.waitDuration = context.timer(WAIT_DURATION, TimeUnit.NANOSECONDS);
+      this.inUseClients = context.histogram(IN_USE_CLIENTS);
+      this.createdClients = context.counter(CREATED_CLIENTS);
+      this.evictedClients = context.counter(EVICTED_CLIENTS);
+    }
+  }
 }
@@ -23,6 +23,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -331,6 +332,7 @@ class DeleteFileIndex {
     private boolean caseSensitive = true;
     private ExecutorService executorService = null;
     private ScanMetrics scanMetrics = ScanMetrics.noop();
+    private DeleteFileIndexCache indexCache = null;
 
     Builder(FileIO io, Set<ManifestFile> deleteManifests) {
       this.io = io;
@@ -390,6 +392,21 @@ class DeleteFileIndex {
       return this;
     }
 
+    /**
+     * Reuse indexes from a {@link DeleteFileIndexCache}.
+     *
+     * <p>Cached indexes contain all live delete files of the manifests and ignore data and
+     * partition filters, so this should only be used when the index is used to find the delete
+     * files for data files. The cache is not used for indexes with a min sequence number or a
+     * partition set.
+     */
+    Builder cacheWith(DeleteFileIndexCache newIndexCache) {
+      Preconditions.checkArgument(
+          deleteFiles == null, "Index constructed from files does not support caching");
+      this.indexCache = newIndexCache;
+      return this;
+    }
+
     private Iterable<DeleteFile> filterDeleteFiles() {
       return Iterables.filter(deleteFiles, file -> file.dataSequenceNumber() > minSequenceNumber);
     }
@@ -418,7 +435,40 @@ class DeleteFileIndex {
       return files;
     }
 
+    private boolean useCache() {
+      return indexCache != null
+          && specsById != null
+          && minSequenceNumber == 0L
+          && partitionSet == null;
+    }
+
+    private DeleteFileIndex buildCached() {
+      DeleteFileIndex index =
+          indexCache.get(
+              io,
+              deleteManifests,
+              specsById,
+              manifests ->
+                  new Builder(io, manifests)
+                      .specsById(specsById)
+                      .caseSensitive(caseSensitive)
+                      .planWith(executorService)
+                      .scanMetrics(scanMetrics)
+                      .loadDeleteFiles(),
+              files -> new Builder(files).specsById(specsById).build());
+
+      for (DeleteFile file : index.referencedDeleteFiles()) {
+        ScanMetricsUtil.indexedDeleteFile(scanMetrics, file);
+      }
+
+      return index;
+    }
+
     DeleteFileIndex build() {
+      if (useCache()) {
+        return buildCached();
+      }
+
       Iterable<DeleteFile> files = deleteFiles != null ? filterDeleteFiles() : loadDeleteFiles();
 
       EqualityDeletes globalDeletes = new EqualityDeletes();
@@ -648,6 +698,7 @@ class DeleteFileIndex {
     // indexed state
     private long[] seqs = null;
     private EqualityDeleteFile[] files = null;
+    private EqualityFieldRanges ranges = null;
 
     // a buffer that is used to hold files before indexing
     private volatile List<EqualityDeleteFile> buffer = Lists.newArrayList();
@@ -666,6 +717,13 @@ class DeleteFileIndex {
         return EMPTY_DELETES;
       }
 
+      if (ranges != null) {
+        BitSet candidates = ranges.candidates(dataFile);
+        if (candidates != null) {
+          return filter(start, candidates, dataFile);
+        }
+      }
+
       List<DeleteFile> matchingFiles = Lists.newArrayList();
 
       for (int index = start; index < files.length; index++) {
@@ -678,6 +736,21 @@ class DeleteFileIndex {
       return matchingFiles.toArray(EMPTY_DELETES);
     }
 
+    private DeleteFile[] filter(int start, BitSet candidates, DataFile dataFile) {
+      List<DeleteFile> matchingFiles = Lists.newArrayList();
+
+      for (int index = candidates.nextSetBit(start);
+          index >= 0;
+          index = candidates.nextSetBit(index + 1)) {
+        EqualityDeleteFile file = files[index];
+        if (canContainEqDeletesForFile(dataFile, file)) {
+          matchingFiles.add(file.wrapped());
+        }
+      }
+
+      return matchingFiles.toArray(EMPTY_DELETES);
+    }
+
     public Iterable<DeleteFile> referencedDeleteFiles() {
       indexIfNeeded();
       return Iterables.transform(Arrays.asList(files), EqualityDeleteFile::wrapped);
@@ -694,6 +767,7 @@ class DeleteFileIndex {
           if (buffer != null) {
             this.files = indexFiles(buffer);
             this.seqs = indexSeqs(files);
+            this.ranges = EqualityFieldRanges.build(files);
             this.buffer = null;
           }
         }
@@ -717,6 +791,188 @@ class DeleteFileIndex {
     }
   }
 
+  // an interval tree over the bounds of one equality field of a group of equality delete files
+  // that is used to find the files whose ranges may overlap with a data file without checking
+  // every file in the group
+  private static class EqualityFieldRanges {
+    // below this number of files, checking every file is cheap enough
+    private static final int MIN_FILES_TO_INDEX = 16;
+
+    private final Types.NestedField field;
+    private final Comparator<Object> comparator;
+
+    // the indexed ranges sorted by lower bound, which form an implicit balanced tree where the
+    // node for entries lo to hi is at (lo + hi) / 2 and keeps the max upper bound of its subtree
+    private final Object[] lowers;
+    private final Object[] uppers;
+    private final Object[] maxUppers;
+    private final int[] positions;
+
+    // positions of files that may match any data file because their ranges are not indexed
+    private final BitSet unindexed;
+
+    private EqualityFieldRanges(
+        Types.NestedField field, EqualityDeleteFile[] files, List<Integer> indexed) {
+      this.field = field;
+      this.comparator = Comparators.forType(field.type().asPrimitiveType());
+
+      int fieldId = field.fieldId();
+      List<Integer> sorted = Lists.newArrayList(indexed);
+      sorted.sort(
+          (left, right) ->
+              comparator.compare(
+                  files[left].lowerBound(fieldId), files[right].lowerBound(fieldId)));
+
+      int size = sorted.size();
+      this.lowers = new Object[size];
+      this.uppers = new Object[size];
+      this.maxUppers = new Object[size];
+      this.positions = new int[size];
+      for (int index = 0; index < size; index++) {
+        int position = sorted.get(index);
+        lowers[index] = files[position].lowerBound(fieldId);
+        uppers[index] = files[position].upperBound(fieldId);
+        positions[index] = position;
+      }
+
+      computeMaxUppers(0, size - 1);
+
+      this.unindexed = new BitSet(files.length);
+      unindexed.set(0, files.length);
+      for (int position : positions) {
+        unindexed.clear(position);
+      }
+    }
+
+    /**
+     * Builds an index over the equality field with usable bounds in the most delete files.
+     *
+     * @param files equality delete files sorted by apply sequence number
+     * @return an index or null if there are too few files with usable bounds to benefit from it
+     */
+    static EqualityFieldRanges build(EqualityDeleteFile[] files) {
+      if (files.length < MIN_FILES_TO_INDEX) {
+        return null;
+      }
+
+      Map<Integer, Types.NestedField> fieldsById = Maps.newHashMap();
+      Map<Integer, List<Integer>> indexedById = Maps.newHashMap();
+      for (int position = 0; position < files.length; position++) {
+        EqualityDeleteFile file = files[position];
+        for (Types.NestedField field : file.equalityFields()) {
+          Types.NestedField indexedField = fieldsById.putIfAbsent(field.fieldId(), field);
+          // the same field may have a different type in specs of different schemas
+          boolean sameType = indexedField == null || indexedField.type().equals(field.type());
+          if (sameType && canIndex(file, field)) {
+            indexedById.computeIfAbsent(field.fieldId(), id -> Lists.newArrayList()).add(position);
+          }
+        }
+      }
+
+      Types.NestedField bestField = null;
+      List<Integer> bestIndexed = null;
+      for (Map.Entry<Integer, List<Integer>> entry : indexedById.entrySet()) {
+        List<Integer> indexed = entry.getValue();
+        if (bestIndexed == null || indexed.size() > bestIndexed.size()) {
+          bestField = fieldsById.get(entry.getKey());
+          bestIndexed = indexed;
+        }
+      }
+
+      if (bestIndexed == null || bestIndexed.size() < MIN_FILES_TO_INDEX) {
+        return null;
+      }
+
+      return new EqualityFieldRanges(bestField, files, bestIndexed);
+    }
+
+    // a delete file can be skipped using only its range if it has both bounds and no null values
+    // because deletes for null must be applied to data files with null values regardless of ranges
+    private static boolean canIndex(EqualityDeleteFile file, Types.NestedField field) {
+      return field.type().isPrimitiveType()
+          && !containsNull(file.nullValueCounts(), field)
+          && file.lowerBound(field.fieldId()) != null
+          && file.upperBound(field.fieldId()) != null;
+    }
+
+    /**
+     * Returns the positions of delete files that may contain deletes for a data file.
+     *
+     * <p>The returned positions are a superset of the files that may contain deletes for the data
+     * file according to canContainEqDeletesForFile, which must still be used to check them.
+     *
+     * @param dataFile a data file
+     * @return candidate positions or null if the data file has no bounds for the indexed field
+     */
+    BitSet candidates(DataFile dataFile) {
+      Map<Integer, ByteBuffer> dataLowers = dataFile.lowerBounds();
+      Map<Integer, ByteBuffer> dataUppers = dataFile.upperBounds();
+      if (dataLowers == null || dataUppers == null) {
+        return null;
+      }
+
+      ByteBuffer dataLowerBuf = dataLowers.get(field.fieldId());
+      ByteBuffer dataUpperBuf = dataUppers.get(field.fieldId());
+      if (dataLowerBuf == null || dataUpperBuf == null) {
+        return null;
+      }
+
+      Type.PrimitiveType type = field.type().asPrimitiveType();
+      Object dataLower = Conversions.fromByteBuffer(type, dataLowerBuf);
+      Object dataUpper = Conversions.fromByteBuffer(type, dataUpperBuf);
+
+      BitSet candidates = (BitSet) unindexed.clone();
+      addOverlapping(0, lowers.length - 1, dataLower, dataUpper, candidates);
+      return candidates;
+    }
+
+    private Object computeMaxUppers(int lo, int hi) {
+      if (lo > hi) {
+        return null;
+      }
+
+      int mid = (lo + hi) >>> 1;
+      Object max = uppers[mid];
+
+      Object leftMax = computeMaxUppers(lo, mid - 1);
+      if (leftMax != null && comparator.compare(leftMax, max) > 0) {
+        max = leftMax;
+      }
+
+      Object rightMax = computeMaxUppers(mid + 1, hi);
+      if (rightMax != null && comparator.compare(rightMax, max) > 0) {
+        max = rightMax;
+      }
+
+      maxUppers[mid] = max;
+      return max;
+    }
+
+    private void addOverlapping(
+        int lo, int hi, Object dataLower, Object dataUpper, BitSet candidates) {
+      if (lo > hi) {
+        return;
+      }
+
+      int mid = (lo + hi) >>> 1;
+      if (comparator.compare(maxUppers[mid], dataLower) < 0) {
+        // no range in this subtree reaches the lower bound of the data file
+        return;
+      }
+
+      addOverlapping(lo, mid - 1, dataLower, dataUpper, candidates);
+
+      if (comparator.compare(lowers[mid], dataUpper) <= 0) {
+        if (comparator.compare(uppers[mid], dataLower) >= 0) {
+          candidates.set(positions[mid]);
+        }
+
+        // ranges to the right start after this one, so only search them if this one can overlap
+        addOverlapping(mid + 1, hi, dataLower, dataUpper, candidates);
+      }
+    }
+  }
+
   // an equality delete file wrapper that caches the converted boundaries for faster boundary checks
   // this class is not meant to be exposed beyond the delete file index
   private static class EqualityDeleteFile {
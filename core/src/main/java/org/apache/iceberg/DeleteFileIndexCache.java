@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of {@link DeleteFileIndex} instances keyed by the set of delete manifests they index.
+ *
+ * <p>Cached indexes are built from all live delete files in the manifests, without scan filters.
+ * This is safe because delete files are still matched to each data file by partition, path, and
+ * column bounds, but it means delete files are not pruned by the filters of a scan.
+ *
+ * <p>When there is no cached index for a set of manifests, but there is one for a subset of them,
+ * for instance because a new snapshot only added delete manifests, the new index is built from the
+ * delete files of the cached index and only the new manifests are read.
+ *
+ * <p>The size of the cache is bounded by an estimate of the memory used by the indexed files,
+ * which is shared by the indexes of all FileIO instances. Indexes are keyed by the identity of the
+ * {@link FileIO} that read the manifests, so they are only reused by tables that read manifests
+ * with the same FileIO. FileIO instances are only weakly referenced, and their indexes are removed
+ * once the FileIO has been garbage collected.
+ */
+class DeleteFileIndexCache {
+  private static final Logger LOG = LoggerFactory.getLogger(DeleteFileIndexCache.class);
+
+  // rough memory use of an index and its key, of a file object with its wrappers, and map entries
+  private static final long INDEX_OVERHEAD_BYTES = 1024L;
+  private static final long FILE_OVERHEAD_BYTES = 512L;
+  private static final long MAP_ENTRY_OVERHEAD_BYTES = 48L;
+
+  private static volatile DeleteFileIndexCache sharedCache = null;
+
+  private final long maxTotalBytes;
+  private final Cache<FileIO, Object> ioKeys;
+  // indexes are loaded by the caller outside of the cache's locks; other callers wait on the future
+  private final AsyncCache<Key, CachedIndex> cache;
+
+  DeleteFileIndexCache(long maxTotalBytes) {
+    this.maxTotalBytes = maxTotalBytes;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxTotalBytes)
+            .weigher(
+                (Weigher<Key, CachedIndex>)
+                    (key, value) -> (int) Math.min(value.weight, Integer.MAX_VALUE))
+            .removalListener(
+                (key, value, cause) ->
+                    LOG.debug("Evicted delete file index for {} ({})", key, cause))
+            .executor(Runnable::run)
+            .recordStats()
+            .buildAsync();
+    this.ioKeys =
+        Caffeine.newBuilder()
+            .weakKeys()
+            .removalListener(
+                (RemovalListener<FileIO, Object>) (io, ioKey, cause) -> invalidate(ioKey))
+            .executor(Runnable::run)
+            .build();
+  }
+
+  /** Returns whether scans should use the shared cache. */
+  static boolean enabled() {
+    return SystemConfigs.DELETE_FILE_INDEX_CACHE_ENABLED.value();
+  }
+
+  /** Returns the JVM-wide cache instance. */
+  static DeleteFileIndexCache shared() {
+    if (sharedCache == null) {
+      synchronized (DeleteFileIndexCache.class) {
+        if (sharedCache == null) {
+          sharedCache =
+              new DeleteFileIndexCache(
+                  SystemConfigs.DELETE_FILE_INDEX_CACHE_MAX_TOTAL_BYTES.value());
+        }
+      }
+    }
+
+    return sharedCache;
+  }
+
+  long maxTotalBytes() {
+    return maxTotalBytes;
+  }
+
+  CacheStats stats() {
+    return cache.synchronous().stats();
+  }
+
+  long estimatedSize() {
+    return cache.synchronous().estimatedSize();
+  }
+
+  void invalidateAll() {
+    cache.synchronous().invalidateAll();
+  }
+
+  @VisibleForTesting
+  void cleanUp() {
+    ioKeys.cleanUp();
+    cache.synchronous().cleanUp();
+  }
+
+  private void invalidate(Object ioKey) {
+    cache.synchronous().asMap().keySet().removeIf(key -> key.ioKey == ioKey);
+  }
+
+  /**
+   * Returns the cached index for a set of delete manifests, building it if needed.
+   *
+   * @param io the FileIO used to read the manifests
+   * @param manifests the delete manifests to index
+   * @param specsById the partition specs of the table
+   * @param loadFunc a function that reads all live delete files from a set of manifests
+   * @param indexFunc a function that builds an index from delete files
+   * @return a delete file index for all live delete files in the manifests
+   */
+  DeleteFileIndex get(
+      FileIO io,
+      Set<ManifestFile> manifests,
+      Map<Integer, PartitionSpec> specsById,
+      Function<Set<ManifestFile>, Collection<DeleteFile>> loadFunc,
+      Function<Iterable<DeleteFile>, DeleteFileIndex> indexFunc) {
+    Object ioKey = ioKeys.get(io, ignored -> new Object());
+    Key key = Key.of(ioKey, manifests, specsById);
+    CompletableFuture<CachedIndex> loading = new CompletableFuture<>();
+    CompletableFuture<CachedIndex> future = cache.get(key, (k, executor) -> loading);
+    if (future == loading) {
+      // read the manifests in this thread without holding a lock on the cache
+      try {
+        loading.complete(load(key, manifests, loadFunc, indexFunc));
+      } catch (RuntimeException | Error e) {
+        // failed loads are removed from the cache
+        loading.completeExceptionally(e);
+      }
+    }
+
+    try {
+      return future.join().index;
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+
+      throw e;
+    }
+  }
+
+  private CachedIndex load(
+      Key key,
+      Set<ManifestFile> manifests,
+      Function<Set<ManifestFile>, Collection<DeleteFile>> loadFunc,
+      Function<Iterable<DeleteFile>, DeleteFileIndex> indexFunc) {
+    Map.Entry<Key, CachedIndex> base = findBase(key);
+
+    List<DeleteFile> files;
+    if (base != null) {
+      Set<ManifestFile> newManifests = Sets.newHashSet();
+      for (ManifestFile manifest : manifests) {
+        if (!base.getKey().manifestLocations.contains(manifest.path())) {
+          newManifests.add(manifest);
+        }
+      }
+
+      LOG.debug(
+          "Building delete file index from a cached index of {} manifests and {} new manifests",
+          base.getKey().manifestLocations.size(),
+          newManifests.size());
+
+      files = Lists.newArrayList(base.getValue().files);
+      files.addAll(loadFunc.apply(newManifests));
+    } else {
+      files = Lists.newArrayList(loadFunc.apply(manifests));
+    }
+
+    return new CachedIndex(indexFunc.apply(files), files, key);
+  }
+
+  /** Finds the cached index with the most manifests that are all included in the given key. */
+  private Map.Entry<Key, CachedIndex> findBase(Key key) {
+    Map.Entry<Key, CachedIndex> base = null;
+    // only includes indexes that are completely loaded
+    for (Map.Entry<Key, CachedIndex> entry : cache.synchronous().asMap().entrySet()) {
+      Key candidate = entry.getKey();
+      if (candidate.ioKey == key.ioKey
+          && candidate.schemaIdsBySpec.equals(key.schemaIdsBySpec)
+          && key.manifestLocations.containsAll(candidate.manifestLocations)
+          && (base == null
+              || candidate.manifestLocations.size() > base.getKey().manifestLocations.size())) {
+        base = entry;
+      }
+    }
+
+    return base;
+  }
+
+  private static long estimatedSize(DeleteFile file) {
+    long size = FILE_OVERHEAD_BYTES + 2L * file.path().length();
+    size += estimatedSize(file.lowerBounds());
+    size += estimatedSize(file.upperBounds());
+    size += countsSize(file.valueCounts());
+    size += countsSize(file.nullValueCounts());
+    size += countsSize(file.nanValueCounts());
+    size += countsSize(file.columnSizes());
+    return size;
+  }
+
+  private static long estimatedSize(Map<Integer, ByteBuffer> bounds) {
+    if (bounds == null) {
+      return 0L;
+    }
+
+    long size = 0L;
+    for (ByteBuffer bound : bounds.values()) {
+      size += MAP_ENTRY_OVERHEAD_BYTES + bound.remaining();
+    }
+
+    return size;
+  }
+
+  private static long countsSize(Map<Integer, Long> counts) {
+    return counts == null ? 0L : counts.size() * MAP_ENTRY_OVERHEAD_BYTES;
+  }
+
+  private static class CachedIndex {
+    private final DeleteFileIndex index;
+    private final List<DeleteFile> files;
+    private final long weight;
+
+    private CachedIndex(DeleteFileIndex index, List<DeleteFile> files, Key key) {
+      this.index = index;
+      this.files = ImmutableList.copyOf(files);
+
+      long totalSize = INDEX_OVERHEAD_BYTES;
+      for (String location : key.manifestLocations) {
+        totalSize += 2L * location.length();
+      }
+
+      for (DeleteFile file : files) {
+        totalSize += estimatedSize(file);
+      }
+
+      this.weight = totalSize;
+    }
+  }
+
+  private static class Key {
+    // identifies the FileIO without keeping it alive
+    private final Object ioKey;
+    private final Set<String> manifestLocations;
+    // indexes depend on the schema that specs are bound to, for example to convert column bounds
+    private final Map<Integer, Integer> schemaIdsBySpec;
+
+    private Key(
+        Object ioKey, Set<String> manifestLocations, Map<Integer, Integer> schemaIdsBySpec) {
+      this.ioKey = ioKey;
+      this.manifestLocations = manifestLocations;
+      this.schemaIdsBySpec = schemaIdsBySpec;
+    }
+
+    private static Key of(
+        Object ioKey, Set<ManifestFile> manifests, Map<Integer, PartitionSpec> specsById) {
+      ImmutableSet.Builder<String> locations = ImmutableSet.builder();
+      for (ManifestFile manifest : manifests) {
+        locations.add(manifest.path());
+      }
+
+      Map<Integer, Integer> schemaIds = Maps.newHashMap();
+      specsById.forEach((specId, spec) -> schemaIds.put(specId, spec.schema().schemaId()));
+
+      return new Key(ioKey, locations.build(), ImmutableMap.copyOf(schemaIds));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      Key that = (Key) other;
+      return ioKey == that.ioKey
+          && manifestLocations.equals(that.manifestLocations)
+          && schemaIdsBySpec.equals(that.schemaIdsBySpec);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(ioKey), manifestLocations, schemaIdsBySpec);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("manifests", manifestLocations.size())
+          .add("schemaIdsBySpec", schemaIdsBySpec)
+          .toString();
+    }
+  }
+}
@@ -31,6 +31,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.CharSequenceSet;
+import org.apache.iceberg.util.PropertyUtil;
 
 /**
  * {@link AppendFiles Append} implementation that adds a new manifest file for the write.
@@ -47,14 +48,26 @@ class FastAppend extends SnapshotProducer<AppendFiles> implements AppendFiles {
   private final CharSequenceSet newFilePaths = CharSequenceSet.empty();
   private final List<ManifestFile> appendManifests = Lists.newArrayList();
   private final List<ManifestFile> rewrittenAppendManifests = Lists.newArrayList();
+  private final StreamingDataManifests streamingManifests;
   private List<ManifestFile> newManifests = null;
   private boolean hasNewFiles = false;
+  private long coalesceWindowMs;
+  private Snapshot coalescedSnapshot = null;
 
   FastAppend(String tableName, TableOperations ops) {
     super(ops);
     this.tableName = tableName;
     this.ops = ops;
     this.spec = ops.current().spec();
+
+    boolean streamingEnabled =
+        PropertyUtil.propertyAsBoolean(
+            ops.current().properties(),
+            TableProperties.MANIFEST_STREAMING_APPENDS_ENABLED,
+            TableProperties.MANIFEST_STREAMING_APPENDS_ENABLED_DEFAULT);
+    this.streamingManifests =
+        streamingEnabled ? new StreamingDataManifests(() -> newRollingManifestWriter(spec)) : null;
+    this.coalesceWindowMs = AppendCoalescer.windowMs(ops);
   }
 
   @Override
@@ -87,9 +100,13 @@ class FastAppend extends SnapshotProducer<AppendFiles> implements AppendFiles {
   public FastAppend appendFile(DataFile file) {
     Preconditions.checkNotNull(file, "Invalid data file: null");
     if (newFilePaths.add(file.path())) {
-      this.hasNewFiles = true;
-      newFiles.add(file);
       summaryBuilder.addedFile(spec, file);
+      if (streamingManifests != null) {
+        streamingManifests.add(file);
+      } else {
+        this.hasNewFiles = true;
+        newFiles.add(file);
+      }
     }
 
     return this;
@@ -148,6 +165,10 @@ class FastAppend extends SnapshotProducer<AppendFiles> implements AppendFiles {
       if (newWrittenManifests != null) {
         manifests.addAll(newWrittenManifests);
       }
+
+      if (streamingManifests != null) {
+        manifests.addAll(streamingManifests.manifests());
+      }
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to write manifest");
     }
@@ -165,13 +186,55 @@ class FastAppend extends SnapshotProducer<AppendFiles> implements AppendFiles {
     return manifests;
   }
 
+  @Override
+  public void commit() {
+    if (canCoalesce()) {
+      List<Object> key =
+          AppendCoalescer.key(FastAppend.class, ops, targetBranch(), summaryBuilder.properties());
+      this.coalescedSnapshot =
+          AppendCoalescer.commit(key, newFiles, coalesceWindowMs, this::commitBatch);
+      if (coalescedSnapshot != null) {
+        return;
+      }
+    }
+
+    super.commit();
+  }
+
+  // only appends of data files that have not been written to manifests are combined
+  private boolean canCoalesce() {
+    return coalesceWindowMs > 0
+        && !isStageOnly()
+        && streamingManifests == null
+        && newManifests == null
+        && appendManifests.isEmpty()
+        && rewrittenAppendManifests.isEmpty()
+        && !newFiles.isEmpty();
+  }
+
+  private Snapshot commitBatch(List<DataFile> files) {
+    FastAppend batch = new FastAppend(tableName, ops);
+    batch.coalesceWindowMs = 0L;
+    batch.reportWith(reporter());
+    batch.scanManifestsWith(workerPool());
+    batch.toBranch(targetBranch());
+    summaryBuilder.properties().forEach(batch::set);
+    files.forEach(batch::appendFile);
+    batch.commit();
+    return AppendCoalescer.committedSnapshot(ops, batch.snapshotId());
+  }
+
   @Override
   public Object updateEvent() {
-    long snapshotId = snapshotId();
-    Snapshot snapshot = ops.current().snapshot(snapshotId);
-    long sequenceNumber = snapshot.sequenceNumber();
+    // appends committed in a batch are reported with the batch snapshot
+    Snapshot snapshot =
+        coalescedSnapshot != null ? coalescedSnapshot : ops.current().snapshot(snapshotId());
     return new CreateSnapshotEvent(
-        tableName, operation(), snapshotId, sequenceNumber, snapshot.summary());
+        tableName,
+        operation(),
+        snapshot.snapshotId(),
+        snapshot.sequenceNumber(),
+        snapshot.summary());
   }
 
   @Override
@@ -189,6 +252,10 @@ class FastAppend extends SnapshotProducer<AppendFiles> implements AppendFiles {
       }
     }
 
+    if (streamingManifests != null) {
+      streamingManifests.cleanUncommitted(committed, this::deleteFile);
+    }
+
     // clean up only rewrittenAppendManifests as they are always owned by the table
     // don't clean up appendManifests as they are added to the manifest list and are not compacted
     for (ManifestFile manifest : rewrittenAppendManifests) {
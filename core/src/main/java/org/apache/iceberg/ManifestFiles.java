@@ -63,8 +63,14 @@ public class ManifestFiles {
         .softValues()
         .maximumSize(maxSize)
         .removalListener(
-            (io, contentCache, cause) ->
-                LOG.debug("Evicted {} from FileIO-level cache ({})", io, cause))
+            (io, contentCache, cause) -> {
+              LOG.debug("Evicted {} from FileIO-level cache ({})", io, cause);
+              if (contentCache instanceof ContentCache) {
+                // remove the entries of the shared disk tier that are no longer reachable; entries
+                // of caches that were collected are aged out of the bounded disk tier instead
+                ((ContentCache) contentCache).invalidateAll();
+              }
+            })
         .recordStats();
   }
 
@@ -77,11 +83,22 @@ public class ManifestFiles {
         io,
         fileIO ->
             new ContentCache(
-                cacheDurationMs(fileIO), cacheTotalBytes(fileIO), cacheMaxContentLength(fileIO)));
+                cacheDurationMs(fileIO),
+                cacheTotalBytes(fileIO),
+                cacheMaxContentLength(fileIO),
+                cacheDiskDirectory(fileIO),
+                cacheDiskTotalBytes(fileIO),
+                cacheOffHeapEnabled(fileIO)));
   }
 
   /** Drop manifest file cache object for a FileIO if exists. */
   public static synchronized void dropCache(FileIO fileIO) {
+    ContentCache contentCache = CONTENT_CACHES.getIfPresent(fileIO);
+    if (contentCache != null) {
+      // release the content and remove any files of the disk tier
+      contentCache.invalidateAll();
+    }
+
     CONTENT_CACHES.invalidate(fileIO);
     CONTENT_CACHES.cleanUp();
   }
@@ -420,4 +437,22 @@ public class ManifestFiles {
         CatalogProperties.IO_MANIFEST_CACHE_MAX_CONTENT_LENGTH,
         CatalogProperties.IO_MANIFEST_CACHE_MAX_CONTENT_LENGTH_DEFAULT);
   }
+
+  static String cacheDiskDirectory(FileIO io) {
+    return io.properties().get(CatalogProperties.IO_MANIFEST_CACHE_DISK_DIRECTORY);
+  }
+
+  static long cacheDiskTotalBytes(FileIO io) {
+    return PropertyUtil.propertyAsLong(
+        io.properties(),
+        CatalogProperties.IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES,
+        CatalogProperties.IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES_DEFAULT);
+  }
+
+  static boolean cacheOffHeapEnabled(FileIO io) {
+    return PropertyUtil.propertyAsBoolean(
+        io.properties(),
+        CatalogProperties.IO_MANIFEST_CACHE_OFF_HEAP_ENABLED,
+        CatalogProperties.IO_MANIFEST_CACHE_OFF_HEAP_ENABLED_DEFAULT);
+  }
 }
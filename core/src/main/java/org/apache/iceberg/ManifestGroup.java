@@ -181,6 +181,10 @@ class ManifestGroup {
                   return ResidualEvaluator.of(spec, filter, caseSensitive);
                 });
 
+    if (DeleteFileIndexCache.enabled()) {
+      deleteIndexBuilder.cacheWith(DeleteFileIndexCache.shared());
+    }
+
     DeleteFileIndex deleteFiles = deleteIndexBuilder.scanMetrics(scanMetrics).build();
 
     boolean dropStats = ManifestReader.dropStats(columns);
@@ -18,8 +18,11 @@
  */
 package org.apache.iceberg;
 
+import java.util.List;
+import org.apache.iceberg.events.CreateSnapshotEvent;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.PropertyUtil;
 
 /**
  * Append implementation that produces a minimal number of manifest files.
@@ -28,8 +31,21 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
  * CommitFailedException}.
  */
 class MergeAppend extends MergingSnapshotProducer<AppendFiles> implements AppendFiles {
+  private long coalesceWindowMs;
+  private Snapshot coalescedSnapshot = null;
+
   MergeAppend(String tableName, TableOperations ops) {
     super(tableName, ops);
+    this.coalesceWindowMs = AppendCoalescer.windowMs(ops);
+
+    boolean streamingEnabled =
+        PropertyUtil.propertyAsBoolean(
+            ops.current().properties(),
+            TableProperties.MANIFEST_STREAMING_APPENDS_ENABLED,
+            TableProperties.MANIFEST_STREAMING_APPENDS_ENABLED_DEFAULT);
+    if (streamingEnabled) {
+      streamNewDataFiles();
+    }
   }
 
   @Override
@@ -68,4 +84,46 @@ class MergeAppend extends MergingSnapshotProducer<AppendFiles> implements Append
     add(manifest);
     return this;
   }
+
+  @Override
+  public void commit() {
+    if (coalesceWindowMs > 0 && !isStageOnly() && addsOnlyUnwrittenDataFiles()) {
+      List<Object> key =
+          AppendCoalescer.key(MergeAppend.class, ops(), targetBranch(), snapshotProperties());
+      this.coalescedSnapshot =
+          AppendCoalescer.commit(key, addedDataFiles(), coalesceWindowMs, this::commitBatch);
+      if (coalescedSnapshot != null) {
+        return;
+      }
+    }
+
+    super.commit();
+  }
+
+  private Snapshot commitBatch(List<DataFile> files) {
+    MergeAppend batch = new MergeAppend(tableName(), ops());
+    batch.coalesceWindowMs = 0L;
+    batch.reportWith(reporter());
+    batch.scanManifestsWith(workerPool());
+    batch.toBranch(targetBranch());
+    snapshotProperties().forEach(batch::set);
+    files.forEach(batch::appendFile);
+    batch.commit();
+    return AppendCoalescer.committedSnapshot(ops(), batch.snapshotId());
+  }
+
+  @Override
+  public Object updateEvent() {
+    if (coalescedSnapshot != null) {
+      // appends committed in a batch are reported with the batch snapshot
+      return new CreateSnapshotEvent(
+          tableName(),
+          operation(),
+          coalescedSnapshot.snapshotId(),
+          coalescedSnapshot.sequenceNumber(),
+          coalescedSnapshot.summary());
+    }
+
+    return super.updateEvent();
+  }
 }
@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import org.apache.iceberg.deletes.DeletionVectors;
 import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.events.CreateSnapshotEvent;
 import org.apache.iceberg.exceptions.RuntimeIOException;
@@ -95,10 +96,16 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
   private List<ManifestFile> cachedNewDataManifests = null;
   private boolean hasNewDataFiles = false;
 
+  // new data files that are written to manifests as they are added, null unless enabled
+  private StreamingDataManifests streamingDataManifests = null;
+
   // cache new manifests for delete files
   private final List<ManifestFile> cachedNewDeleteManifests = Lists.newLinkedList();
   private boolean hasNewDeleteFiles = false;
 
+  // manifests and files of concurrent snapshots, reused by validations across commit attempts
+  private final ValidationHistoryCache validationHistoryCache;
+
   private boolean caseSensitive = true;
 
   MergingSnapshotProducer(String tableName, TableOperations ops) {
@@ -121,6 +128,7 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     this.deleteMergeManager =
         new DeleteFileMergeManager(targetSizeBytes, minCountToMerge, mergeEnabled);
     this.deleteFilterManager = new DeleteFileFilterManager();
+    this.validationHistoryCache = new ValidationHistoryCache(ops.io(), this::workerPool);
   }
 
   @Override
@@ -152,9 +160,25 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
   }
 
   protected List<DataFile> addedDataFiles() {
+    Preconditions.checkState(
+        streamingDataManifests == null,
+        "Cannot return added data files: files are streamed to manifests");
     return ImmutableList.copyOf(newDataFiles);
   }
 
+  /**
+   * Writes data files to manifests as they are added, instead of when the operation is applied.
+   *
+   * <p>Added data files are not kept in memory, so operations that validate or inspect their added
+   * data files or assign them a data sequence number must not enable this.
+   */
+  protected void streamNewDataFiles() {
+    Preconditions.checkState(
+        newDataFiles.isEmpty(), "Cannot stream data files after data files were added");
+    this.streamingDataManifests =
+        new StreamingDataManifests(() -> newRollingManifestWriter(dataSpec()));
+  }
+
   protected void failAnyDelete() {
     filterManager.failAnyDelete();
     deleteFilterManager.failAnyDelete();
@@ -212,21 +236,45 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
   }
 
   protected boolean addsDataFiles() {
-    return !newDataFiles.isEmpty();
+    return !newDataFilePaths.isEmpty();
   }
 
   protected boolean addsDeleteFiles() {
     return !newDeleteFilesBySpec.isEmpty();
   }
 
+  /**
+   * Returns whether this operation only adds data files that have not been written to manifests,
+   * so that the files can be committed by another operation.
+   */
+  boolean addsOnlyUnwrittenDataFiles() {
+    return !newDataFiles.isEmpty()
+        && streamingDataManifests == null
+        && cachedNewDataManifests == null
+        && newDataFilesDataSequenceNumber == null
+        && appendManifests.isEmpty()
+        && rewrittenAppendManifests.isEmpty()
+        && !addsDeleteFiles()
+        && !deletesDataFiles()
+        && !deletesDeleteFiles();
+  }
+
+  Map<String, String> snapshotProperties() {
+    return summaryBuilder.properties();
+  }
+
   /** Add a data file to the new snapshot. */
   protected void add(DataFile file) {
     Preconditions.checkNotNull(file, "Invalid data file: null");
     if (newDataFilePaths.add(file.path())) {
       setDataSpec(file);
       addedFilesSummary.addedFile(dataSpec(), file);
-      hasNewDataFiles = true;
-      newDataFiles.add(file);
+      if (streamingDataManifests != null) {
+        streamingDataManifests.add(file);
+      } else {
+        hasNewDataFiles = true;
+        newDataFiles.add(file);
+      }
     }
   }
 
@@ -243,6 +291,14 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
   }
 
   private void add(DeleteFileHolder fileHolder) {
+    int formatVersion = ops.current().formatVersion();
+    Preconditions.checkArgument(
+        !DeletionVectors.isDV(fileHolder.deleteFile())
+            || formatVersion >= DeletionVectors.MIN_FORMAT_VERSION,
+        "Cannot add deletion vectors to a v%s table: %s",
+        formatVersion,
+        fileHolder.deleteFile().path());
+
     int specId = fileHolder.deleteFile().specId();
     PartitionSpec fileSpec = ops.current().spec(specId);
     List<DeleteFileHolder> deleteFiles =
@@ -382,28 +438,16 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
             VALIDATE_ADDED_FILES_OPERATIONS,
             ManifestContent.DATA,
             parent);
-    List<ManifestFile> manifests = history.first();
     Set<Long> newSnapshots = history.second();
 
-    ManifestGroup manifestGroup =
-        new ManifestGroup(ops.io(), manifests, ImmutableList.of())
-            .caseSensitive(caseSensitive)
-            .filterManifestEntries(entry -> newSnapshots.contains(entry.snapshotId()))
-            .specsById(base.specsById())
-            .ignoreDeleted()
-            .ignoreExisting();
-
-    if (dataFilter != null) {
-      manifestGroup = manifestGroup.filterData(dataFilter);
-    }
-
-    if (partitionSet != null) {
-      manifestGroup =
-          manifestGroup.filterManifestEntries(
-              entry -> partitionSet.contains(entry.file().specId(), entry.file().partition()));
-    }
-
-    return manifestGroup.entries();
+    return CloseableIterable.withNoopClose(
+        validationHistoryCache.matchingDataEntries(
+            ValidationHistoryCache.FilterKey.of(
+                "added-data-files", dataFilter, partitionSet, caseSensitive),
+            history.first(),
+            manifests ->
+                changedDataFiles(base, manifests, dataFilter, partitionSet).ignoreDeleted(),
+            entry -> newSnapshots.contains(entry.snapshotId())));
   }
 
   /**
@@ -561,10 +605,39 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
             VALIDATE_ADDED_DELETE_FILES_OPERATIONS,
             ManifestContent.DELETES,
             parent);
-    List<ManifestFile> deleteManifests = history.first();
+    List<DeleteFile> deleteFiles =
+        validationHistoryCache.matchingDeleteFiles(
+            ValidationHistoryCache.FilterKey.of(
+                "added-delete-files", dataFilter, partitionSet, caseSensitive),
+            history.first(),
+            manifests -> buildDeleteFileIndex(base, manifests, dataFilter, partitionSet));
 
     long startingSequenceNumber = startingSequenceNumber(base, startingSnapshotId);
-    return buildDeleteFileIndex(deleteManifests, startingSequenceNumber, dataFilter, partitionSet);
+    return DeleteFileIndex.builderFor(deleteFiles)
+        .afterSequenceNumber(startingSequenceNumber)
+        .specsById(base.specsById())
+        .build();
+  }
+
+  private DeleteFileIndex buildDeleteFileIndex(
+      TableMetadata base,
+      List<ManifestFile> deleteManifests,
+      Expression dataFilter,
+      PartitionSet partitionSet) {
+    DeleteFileIndex.Builder builder =
+        DeleteFileIndex.builderFor(ops.io(), deleteManifests)
+            .caseSensitive(caseSensitive)
+            .specsById(base.specsById());
+
+    if (dataFilter != null) {
+      builder.filterData(dataFilter);
+    }
+
+    if (partitionSet != null) {
+      builder.filterPartitions(partitionSet);
+    }
+
+    return builder.build();
   }
 
   /**
@@ -653,14 +726,29 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
             VALIDATE_DATA_FILES_EXIST_OPERATIONS,
             ManifestContent.DATA,
             parent);
-    List<ManifestFile> manifests = history.first();
     Set<Long> newSnapshots = history.second();
 
+    return CloseableIterable.withNoopClose(
+        validationHistoryCache.matchingDataEntries(
+            ValidationHistoryCache.FilterKey.of(
+                "deleted-data-files", dataFilter, partitionSet, caseSensitive),
+            history.first(),
+            manifests ->
+                changedDataFiles(base, manifests, dataFilter, partitionSet)
+                    .filterManifestEntries(
+                        entry -> entry.status() == ManifestEntry.Status.DELETED),
+            entry -> newSnapshots.contains(entry.snapshotId())));
+  }
+
+  /** Returns a manifest group for added and deleted entries that match a filter. */
+  private ManifestGroup changedDataFiles(
+      TableMetadata base,
+      List<ManifestFile> manifests,
+      Expression dataFilter,
+      PartitionSet partitionSet) {
     ManifestGroup manifestGroup =
         new ManifestGroup(ops.io(), manifests, ImmutableList.of())
             .caseSensitive(caseSensitive)
-            .filterManifestEntries(entry -> newSnapshots.contains(entry.snapshotId()))
-            .filterManifestEntries(entry -> entry.status().equals(ManifestEntry.Status.DELETED))
             .specsById(base.specsById())
             .ignoreExisting();
 
@@ -674,10 +762,13 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
               entry -> partitionSet.contains(entry.file().specId(), entry.file().partition()));
     }
 
-    return manifestGroup.entries();
+    return manifestGroup;
   }
 
   protected void setNewDataFilesDataSequenceNumber(long sequenceNumber) {
+    Preconditions.checkState(
+        streamingDataManifests == null,
+        "Cannot set data sequence number: data files are streamed to manifests");
     this.newDataFilesDataSequenceNumber = sequenceNumber;
   }
 
@@ -690,28 +781,6 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     }
   }
 
-  private DeleteFileIndex buildDeleteFileIndex(
-      List<ManifestFile> deleteManifests,
-      long startingSequenceNumber,
-      Expression dataFilter,
-      PartitionSet partitionSet) {
-    DeleteFileIndex.Builder builder =
-        DeleteFileIndex.builderFor(ops.io(), deleteManifests)
-            .afterSequenceNumber(startingSequenceNumber)
-            .caseSensitive(caseSensitive)
-            .specsById(ops.current().specsById());
-
-    if (dataFilter != null) {
-      builder.filterData(dataFilter);
-    }
-
-    if (partitionSet != null) {
-      builder.filterPartitions(partitionSet);
-    }
-
-    return builder.build();
-  }
-
   @SuppressWarnings("CollectionUndefinedEquality")
   protected void validateDataFilesExist(
       TableMetadata base,
@@ -733,25 +802,26 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     Pair<List<ManifestFile>, Set<Long>> history =
         validationHistory(
             base, startingSnapshotId, matchingOperations, ManifestContent.DATA, parent);
-    List<ManifestFile> manifests = history.first();
     Set<Long> newSnapshots = history.second();
 
-    ManifestGroup matchingDeletesGroup =
-        new ManifestGroup(ops.io(), manifests, ImmutableList.of())
-            .filterManifestEntries(
-                entry ->
-                    entry.status() != ManifestEntry.Status.ADDED
-                        && newSnapshots.contains(entry.snapshotId())
-                        && requiredDataFiles.contains(entry.file().path()))
-            .specsById(base.specsById())
-            .ignoreExisting();
-
-    if (conflictDetectionFilter != null) {
-      matchingDeletesGroup.filterData(conflictDetectionFilter);
-    }
-
-    try (CloseableIterator<ManifestEntry<DataFile>> deletes =
-        matchingDeletesGroup.entries().iterator()) {
+    CloseableIterable<ManifestEntry<DataFile>> matchingDeletes =
+        CloseableIterable.withNoopClose(
+            validationHistoryCache.matchingDataEntries(
+                ValidationHistoryCache.FilterKey.of(
+                    "required-data-files",
+                    conflictDetectionFilter,
+                    requiredDataFiles,
+                    caseSensitive),
+                history.first(),
+                manifests ->
+                    changedDataFiles(base, manifests, conflictDetectionFilter, null)
+                        .filterManifestEntries(
+                            entry ->
+                                entry.status() == ManifestEntry.Status.DELETED
+                                    && requiredDataFiles.contains(entry.file().path())),
+                entry -> newSnapshots.contains(entry.snapshotId())));
+
+    try (CloseableIterator<ManifestEntry<DataFile>> deletes = matchingDeletes.iterator()) {
       if (deletes.hasNext()) {
         throw new ValidationException(
             "Cannot commit, missing data files: %s",
@@ -782,17 +852,9 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
       if (matchingOperations.contains(currentSnapshot.operation())) {
         newSnapshots.add(currentSnapshot.snapshotId());
         if (content == ManifestContent.DATA) {
-          for (ManifestFile manifest : currentSnapshot.dataManifests(ops.io())) {
-            if (manifest.snapshotId() == currentSnapshot.snapshotId()) {
-              manifests.add(manifest);
-            }
-          }
+          manifests.addAll(validationHistoryCache.newDataManifests(currentSnapshot));
         } else {
-          for (ManifestFile manifest : currentSnapshot.deleteManifests(ops.io())) {
-            if (manifest.snapshotId() == currentSnapshot.snapshotId()) {
-              manifests.add(manifest);
-            }
-          }
+          manifests.addAll(validationHistoryCache.newDeleteManifests(currentSnapshot));
         }
       }
     }
@@ -863,6 +925,10 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     return manifests;
   }
 
+  protected String tableName() {
+    return tableName;
+  }
+
   @Override
   public Object updateEvent() {
     long snapshotId = snapshotId();
@@ -899,6 +965,10 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
       }
     }
 
+    if (streamingDataManifests != null) {
+      streamingDataManifests.cleanUncommitted(committed, this::deleteFile);
+    }
+
     boolean hasDeleteDeletes = false;
     for (ManifestFile cachedNewDeleteManifest : cachedNewDeleteManifests) {
       if (!committed.contains(cachedNewDeleteManifest)) {
@@ -941,7 +1011,10 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
 
   private Iterable<ManifestFile> prepareNewDataManifests() {
     Iterable<ManifestFile> newManifests;
-    if (!newDataFiles.isEmpty()) {
+    if (streamingDataManifests != null && !streamingDataManifests.isEmpty()) {
+      List<ManifestFile> dataFileManifests = streamingDataManifests.manifests();
+      newManifests = Iterables.concat(dataFileManifests, appendManifests, rewrittenAppendManifests);
+    } else if (!newDataFiles.isEmpty()) {
       List<ManifestFile> dataFileManifests = newDataFilesAsManifests();
       newManifests = Iterables.concat(dataFileManifests, appendManifests, rewrittenAppendManifests);
     } else {
@@ -155,6 +155,14 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
     return self();
   }
 
+  MetricsReporter reporter() {
+    return reporter;
+  }
+
+  boolean isStageOnly() {
+    return stageOnly;
+  }
+
   /**
    * A setter for the target branch on which snapshot producer operation should be performed
    *
@@ -360,6 +368,10 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
     return base;
   }
 
+  protected TableOperations ops() {
+    return ops;
+  }
+
   protected TableMetadata refresh() {
     this.base = ops.refresh();
     return base;
@@ -148,6 +148,11 @@ public class SnapshotSummary {
       properties.put(property, value);
     }
 
+    /** Returns the snapshot properties that were set on this builder. */
+    Map<String, String> properties() {
+      return ImmutableMap.copyOf(properties);
+    }
+
     private void updatePartitions(PartitionSpec spec, ContentFile<?> file, boolean isAddition) {
       if (trustPartitionMetrics) {
         UpdateMetrics partMetrics =
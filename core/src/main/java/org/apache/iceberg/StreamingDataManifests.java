@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+
+/**
+ * Writes data files to manifests as they are added to an operation, instead of keeping them in
+ * memory until the operation is applied.
+ *
+ * <p>Manifests are written once and reused by all commit attempts. Files that are added after the
+ * manifests were produced are written to new manifests.
+ */
+class StreamingDataManifests {
+  private final Supplier<RollingManifestWriter<DataFile>> writerSupplier;
+  private final List<ManifestFile> manifests = Lists.newArrayList();
+  private RollingManifestWriter<DataFile> writer = null;
+  private long addedFilesCount = 0L;
+
+  StreamingDataManifests(Supplier<RollingManifestWriter<DataFile>> writerSupplier) {
+    this.writerSupplier = writerSupplier;
+  }
+
+  void add(DataFile file) {
+    if (writer == null) {
+      this.writer = writerSupplier.get();
+    }
+
+    writer.add(file);
+    addedFilesCount += 1;
+  }
+
+  boolean isEmpty() {
+    return addedFilesCount == 0;
+  }
+
+  /** Returns manifests for all added files, closing the manifest that is currently written. */
+  List<ManifestFile> manifests() {
+    closeWriter();
+    return ImmutableList.copyOf(manifests);
+  }
+
+  /**
+   * Deletes written manifests that were not committed.
+   *
+   * @param committed manifests that were committed, empty if the commit failed
+   * @param deleteFunc a function to delete manifest files
+   */
+  void cleanUncommitted(Set<ManifestFile> committed, Consumer<String> deleteFunc) {
+    closeWriter();
+
+    Iterator<ManifestFile> iterator = manifests.iterator();
+    while (iterator.hasNext()) {
+      ManifestFile manifest = iterator.next();
+      if (!committed.contains(manifest)) {
+        deleteFunc.accept(manifest.path());
+        iterator.remove();
+      }
+    }
+  }
+
+  private void closeWriter() {
+    if (writer != null) {
+      try {
+        writer.close();
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to close manifest writer");
+      }
+
+      manifests.addAll(writer.toManifestFiles());
+      this.writer = null;
+    }
+  }
+}
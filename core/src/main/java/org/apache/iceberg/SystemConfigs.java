@@ -53,6 +53,17 @@ public class SystemConfigs {
           Math.max(2, 4 * Runtime.getRuntime().availableProcessors()),
           Integer::parseUnsignedInt);
 
+  /**
+   * Sets the size of the vectored read pool. This limits the number of ranges that are read
+   * concurrently by vectored reads across all input streams.
+   */
+  public static final ConfigEntry<Integer> VECTORED_READ_THREAD_POOL_SIZE =
+      new ConfigEntry<>(
+          "iceberg.worker.vectored-read-num-threads",
+          "ICEBERG_WORKER_VECTORED_READ_NUM_THREADS",
+          Math.max(2, 4 * Runtime.getRuntime().availableProcessors()),
+          Integer::parseUnsignedInt);
+
   /** Whether to use the shared worker pool when planning table scans. */
   public static final ConfigEntry<Boolean> SCAN_THREAD_POOL_ENABLED =
       new ConfigEntry<>(
@@ -72,6 +83,63 @@ public class SystemConfigs {
           8,
           Integer::parseUnsignedInt);
 
+  /**
+   * Whether table scans reuse delete file indexes across scans that read the same delete
+   * manifests. Cached indexes are shared by all tables that use the same FileIO.
+   */
+  public static final ConfigEntry<Boolean> DELETE_FILE_INDEX_CACHE_ENABLED =
+      new ConfigEntry<>(
+          "iceberg.delete-file-index.cache-enabled",
+          "ICEBERG_DELETE_FILE_INDEX_CACHE_ENABLED",
+          false,
+          Boolean::parseBoolean);
+
+  /** Maximum estimated memory, in bytes, used by all cached delete file indexes in the JVM. */
+  public static final ConfigEntry<Long> DELETE_FILE_INDEX_CACHE_MAX_TOTAL_BYTES =
+      new ConfigEntry<>(
+          "iceberg.delete-file-index.cache-max-total-bytes",
+          "ICEBERG_DELETE_FILE_INDEX_CACHE_MAX_TOTAL_BYTES",
+          128L * 1024 * 1024,
+          Long::parseUnsignedLong);
+
+  /**
+   * Whether table operations share parsed table metadata with other tables in the JVM that load the
+   * same metadata file.
+   */
+  public static final ConfigEntry<Boolean> TABLE_METADATA_CACHE_ENABLED =
+      new ConfigEntry<>(
+          "iceberg.table-metadata.cache-enabled",
+          "ICEBERG_TABLE_METADATA_CACHE_ENABLED",
+          false,
+          Boolean::parseBoolean);
+
+  /** Maximum total size, in bytes, of the metadata files in the shared table metadata cache. */
+  public static final ConfigEntry<Long> TABLE_METADATA_CACHE_MAX_TOTAL_BYTES =
+      new ConfigEntry<>(
+          "iceberg.table-metadata.cache-max-total-bytes",
+          "ICEBERG_TABLE_METADATA_CACHE_MAX_TOTAL_BYTES",
+          64L * 1024 * 1024,
+          Long::parseUnsignedLong);
+
+  /**
+   * Estimated size, in bytes, of the equality deletes for a data file above which readers spill
+   * deletes to local files instead of loading them into memory. Spilling is disabled by default.
+   */
+  public static final ConfigEntry<Long> EQUALITY_DELETES_SPILL_THRESHOLD_BYTES =
+      new ConfigEntry<>(
+          "iceberg.equality-deletes.spill-threshold-bytes",
+          "ICEBERG_EQUALITY_DELETES_SPILL_THRESHOLD_BYTES",
+          Long.MAX_VALUE,
+          Long::parseUnsignedLong);
+
+  /** Local directory for equality delete spill files. Defaults to java.io.tmpdir. */
+  public static final ConfigEntry<String> EQUALITY_DELETES_SPILL_DIRECTORY =
+      new ConfigEntry<>(
+          "iceberg.equality-deletes.spill-directory",
+          "ICEBERG_EQUALITY_DELETES_SPILL_DIRECTORY",
+          System.getProperty("java.io.tmpdir"),
+          Function.identity());
+
   /** @deprecated will be removed in 2.0.0; use name mapping instead */
   @Deprecated
   public static final ConfigEntry<Boolean> NETFLIX_UNSAFE_PARQUET_ID_FALLBACK_ENABLED =
@@ -848,6 +848,15 @@ public class TableMetadata implements Serializable {
     return inputRefs;
   }
 
+  /**
+   * Returns a builder for new metadata based on the given metadata.
+   *
+   * <p>All snapshots of the base metadata are added to the new metadata, so snapshots that were not
+   * parsed when the base metadata was read are parsed when the builder is created.
+   *
+   * @param base table metadata to build from
+   * @return a builder for new table metadata
+   */
   public static Builder buildFrom(TableMetadata base) {
     return new Builder(base);
   }
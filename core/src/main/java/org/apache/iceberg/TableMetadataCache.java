@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of parsed {@link TableMetadata} keyed by {@link FileIO} and metadata file location.
+ *
+ * <p>Metadata files are never modified after they are written, so table operations in the same JVM
+ * that load the same metadata location with the same FileIO can share one parsed instance instead
+ * of reading and parsing the file again. Entries are keyed by the identity of the FileIO, so tables
+ * of catalogs with different storage credentials or configuration never share metadata. File
+ * systems that reuse metadata file names, like Hadoop tables after a table is dropped and created
+ * again, must also pass a version of the file, such as its modification time.
+ *
+ * <p>The size of the cache is bounded by the total size of the cached metadata files. FileIO
+ * instances are only weakly referenced, and the metadata read with a FileIO is removed once that
+ * FileIO has been garbage collected.
+ *
+ * <p>The shared cache is disabled by default and is enabled with {@link
+ * SystemConfigs#TABLE_METADATA_CACHE_ENABLED}.
+ */
+public class TableMetadataCache {
+  private static final Logger LOG = LoggerFactory.getLogger(TableMetadataCache.class);
+  private static final long NO_VERSION = -1L;
+
+  private static volatile TableMetadataCache sharedCache = null;
+
+  private final long maxTotalBytes;
+  private final Cache<FileIO, Object> ioKeys;
+  private final Cache<Key, CachedMetadata> cache;
+
+  public TableMetadataCache(long maxTotalBytes) {
+    Preconditions.checkArgument(maxTotalBytes > 0, "Invalid max total bytes: %s", maxTotalBytes);
+    this.maxTotalBytes = maxTotalBytes;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxTotalBytes)
+            .weigher(
+                (Weigher<Key, CachedMetadata>)
+                    (key, value) -> (int) Math.min(value.sizeInBytes, Integer.MAX_VALUE))
+            .removalListener(
+                (key, value, cause) -> LOG.debug("Evicted table metadata for {} ({})", key, cause))
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+    this.ioKeys =
+        Caffeine.newBuilder()
+            .weakKeys()
+            .removalListener(
+                (RemovalListener<FileIO, Object>) (io, ioKey, cause) -> invalidate(ioKey))
+            .executor(Runnable::run)
+            .build();
+  }
+
+  /** Returns whether table operations should use the shared cache. */
+  public static boolean enabled() {
+    return SystemConfigs.TABLE_METADATA_CACHE_ENABLED.value();
+  }
+
+  /** Returns the JVM-wide cache instance. */
+  public static TableMetadataCache shared() {
+    if (sharedCache == null) {
+      synchronized (TableMetadataCache.class) {
+        if (sharedCache == null) {
+          sharedCache =
+              new TableMetadataCache(SystemConfigs.TABLE_METADATA_CACHE_MAX_TOTAL_BYTES.value());
+        }
+      }
+    }
+
+    return sharedCache;
+  }
+
+  public long maxTotalBytes() {
+    return maxTotalBytes;
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @VisibleForTesting
+  void cleanUp() {
+    ioKeys.cleanUp();
+    cache.cleanUp();
+  }
+
+  private void invalidate(Object ioKey) {
+    cache.asMap().keySet().removeIf(key -> key.ioKey == ioKey);
+  }
+
+  /**
+   * Returns the cached metadata for a metadata file location, reading it if needed.
+   *
+   * @param io the FileIO used to read the metadata file
+   * @param metadataLocation the location of a metadata file
+   * @return the parsed table metadata
+   */
+  public TableMetadata get(FileIO io, String metadataLocation) {
+    return get(io, metadataLocation, NO_VERSION);
+  }
+
+  /**
+   * Returns the cached metadata for a version of a metadata file, reading it if needed.
+   *
+   * @param io the FileIO used to read the metadata file
+   * @param metadataLocation the location of a metadata file
+   * @param fileVersion a version of the file that changes if the file is replaced
+   * @return the parsed table metadata
+   */
+  public TableMetadata get(FileIO io, String metadataLocation, long fileVersion) {
+    return get(
+        io,
+        metadataLocation,
+        fileVersion,
+        location -> {
+          AtomicLong sizeInBytes = new AtomicLong();
+          TableMetadata metadata =
+              TableMetadataParser.read(io.newInputFile(location), sizeInBytes::set);
+          return new CachedMetadata(metadata, sizeInBytes.get());
+        });
+  }
+
+  @VisibleForTesting
+  TableMetadata get(
+      FileIO io,
+      String metadataLocation,
+      long fileVersion,
+      Function<String, CachedMetadata> loader) {
+    Preconditions.checkArgument(io != null, "Invalid FileIO: null");
+    Preconditions.checkArgument(metadataLocation != null, "Invalid metadata location: null");
+    Object ioKey = ioKeys.get(io, ignored -> new Object());
+    return cache
+        .get(
+            new Key(ioKey, metadataLocation, fileVersion),
+            key -> loader.apply(key.metadataLocation))
+        .metadata;
+  }
+
+  @VisibleForTesting
+  static class CachedMetadata {
+    private final TableMetadata metadata;
+    private final long sizeInBytes;
+
+    CachedMetadata(TableMetadata metadata, long sizeInBytes) {
+      this.metadata = metadata;
+      this.sizeInBytes = sizeInBytes;
+    }
+  }
+
+  /**
+   * Identifies a metadata file read with a FileIO. The key holds an identity token for the FileIO
+   * instead of the FileIO itself, so that cached metadata does not keep the FileIO alive.
+   */
+  private static class Key {
+    private final Object ioKey;
+    private final String metadataLocation;
+    private final long fileVersion;
+
+    private Key(Object ioKey, String metadataLocation, long fileVersion) {
+      this.ioKey = ioKey;
+      this.metadataLocation = metadataLocation;
+      this.fileVersion = fileVersion;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      Key that = (Key) other;
+      return ioKey == that.ioKey
+          && fileVersion == that.fileVersion
+          && metadataLocation.equals(that.metadataLocation);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(ioKey), metadataLocation, fileVersion);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("metadataLocation", metadataLocation)
+          .add("fileVersion", fileVersion)
+          .toString();
+    }
+  }
+}
@@ -19,17 +19,25 @@
 package org.apache.iceberg;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import org.apache.iceberg.TableMetadata.MetadataLogEntry;
@@ -42,13 +50,24 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 import org.apache.iceberg.util.JsonUtil;
+import org.apache.iceberg.util.SerializableSupplier;
 
 public class TableMetadataParser {
 
   public enum Codec {
     NONE(""),
-    GZIP(".gz");
+    GZIP(".gz"),
+    /**
+     * A compact binary encoding of the metadata JSON tree.
+     *
+     * <p>Binary metadata files can only be read by readers that support this encoding, so they are
+     * only written when a table sets this codec and are named {@code *.metadata.bin} instead of
+     * {@code *.metadata.json}.
+     */
+    BINARY(".metadata.bin");
 
     private final String extension;
 
@@ -66,6 +85,10 @@ public class TableMetadataParser {
     }
 
     public static Codec fromFileName(String fileName) {
+      if (fileName.endsWith(Codec.BINARY.extension)) {
+        return Codec.BINARY;
+      }
+
       Preconditions.checkArgument(
           fileName.contains(".metadata.json"), "%s is not a valid metadata file", fileName);
       // we have to be backward-compatible with .metadata.json.gz files
@@ -121,7 +144,13 @@ public class TableMetadataParser {
 
   public static void internalWrite(
       TableMetadata metadata, OutputFile outputFile, boolean overwrite) {
-    boolean isGzip = Codec.fromFileName(outputFile.location()) == Codec.GZIP;
+    Codec codec = Codec.fromFileName(outputFile.location());
+    if (codec == Codec.BINARY) {
+      writeBinary(metadata, outputFile, overwrite);
+      return;
+    }
+
+    boolean isGzip = codec == Codec.GZIP;
     OutputStream stream = overwrite ? outputFile.createOrOverwrite() : outputFile.create();
     try (OutputStream ou = isGzip ? new GZIPOutputStream(stream) : stream;
         OutputStreamWriter writer = new OutputStreamWriter(ou, StandardCharsets.UTF_8)) {
@@ -134,15 +163,36 @@ public class TableMetadataParser {
     }
   }
 
+  private static void writeBinary(
+      TableMetadata metadata, OutputFile outputFile, boolean overwrite) {
+    try (TokenBuffer buffer = new TokenBuffer(JsonUtil.mapper(), false)) {
+      toJson(metadata, buffer);
+      byte[] bytes = BinaryJsonCodec.encode(JsonUtil.mapper().readTree(buffer.asParser()));
+      try (OutputStream out = overwrite ? outputFile.createOrOverwrite() : outputFile.create()) {
+        out.write(bytes);
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to write metadata to file: %s", outputFile);
+    }
+  }
+
   public static String getFileExtension(String codecName) {
     return getFileExtension(Codec.fromName(codecName));
   }
 
   public static String getFileExtension(Codec codec) {
+    if (codec == Codec.BINARY) {
+      return codec.extension;
+    }
+
     return codec.extension + ".metadata.json";
   }
 
   public static String getOldFileExtension(Codec codec) {
+    if (codec == Codec.BINARY) {
+      return codec.extension;
+    }
+
     // we have to be backward-compatible with .metadata.json.gz files
     return ".metadata.json" + codec.extension;
   }
@@ -274,15 +324,65 @@ public class TableMetadataParser {
   }
 
   public static TableMetadata read(FileIO io, InputFile file) {
+    return read(file, size -> {});
+  }
+
+  /**
+   * Read TableMetadata from a file and report the size of the file's decompressed contents.
+   *
+   * @param file a metadata file
+   * @param sizeConsumer accepts the number of bytes that were read after decompression
+   * @return a TableMetadata object
+   */
+  static TableMetadata read(InputFile file, LongConsumer sizeConsumer) {
     Codec codec = Codec.fromFileName(file.location());
     try (InputStream is =
         codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream()) {
-      return fromJson(file, JsonUtil.mapper().readValue(is, JsonNode.class));
+      byte[] bytes = ByteStreams.toByteArray(is);
+      sizeConsumer.accept(bytes.length);
+      if (codec == Codec.BINARY) {
+        return fromJson(file.location(), BinaryJsonCodec.decode(bytes));
+      }
+
+      return fromJson(file.location(), bytes);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to read file: %s", file);
     }
   }
 
+  /**
+   * Read TableMetadata from the bytes of a metadata file with a streaming parser.
+   *
+   * <p>Only the current snapshot and snapshots referenced by branches or tags are parsed. The other
+   * snapshots are located without building a tree and are parsed on first access to the full
+   * snapshot list, so reading metadata of a table with a long history is cheap when only the
+   * current state is used. Only the bytes of the snapshots array are kept until the snapshots are
+   * parsed. Building new metadata from the result with {@link TableMetadata#buildFrom} parses all
+   * snapshots, because they are written to the new metadata file.
+   *
+   * @param metadataLocation metadata location for the returned {@link TableMetadata}
+   * @param json the UTF-8 encoded JSON of table metadata
+   * @return a TableMetadata object
+   */
+  static TableMetadata fromJson(String metadataLocation, byte[] json) throws IOException {
+    ObjectNode node = JsonUtil.mapper().createObjectNode();
+    SnapshotLocations snapshots = null;
+    try (JsonParser parser = JsonUtil.factory().createParser(json)) {
+      Preconditions.checkArgument(
+          parser.nextToken() == JsonToken.START_OBJECT, "Cannot parse metadata from a non-object");
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        if (parser.nextToken() == JsonToken.START_ARRAY && SNAPSHOTS.equals(field)) {
+          snapshots = SnapshotLocations.scan(parser, json);
+        } else {
+          node.set(field, JsonUtil.mapper().readTree(parser));
+        }
+      }
+    }
+
+    return fromJson(metadataLocation, node, snapshots);
+  }
+
   /**
    * Read TableMetadata from a JSON string.
    *
@@ -314,8 +414,13 @@ public class TableMetadataParser {
     return fromJson((String) null, node);
   }
 
-  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
   public static TableMetadata fromJson(String metadataLocation, JsonNode node) {
+    return fromJson(metadataLocation, node, null);
+  }
+
+  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
+  private static TableMetadata fromJson(
+      String metadataLocation, JsonNode node, SnapshotLocations snapshotLocations) {
     Preconditions.checkArgument(
         node.isObject(), "Cannot parse metadata from a non-object: %s", node);
 
@@ -467,7 +572,15 @@ public class TableMetadataParser {
     }
 
     List<Snapshot> snapshots;
-    if (node.has(SNAPSHOTS)) {
+    SerializableSupplier<List<Snapshot>> snapshotsSupplier = null;
+    if (snapshotLocations != null) {
+      Set<Long> referencedSnapshotIds = Sets.newHashSet(currentSnapshotId);
+      refs.values().forEach(ref -> referencedSnapshotIds.add(ref.snapshotId()));
+      snapshots = snapshotLocations.parse(referencedSnapshotIds);
+      if (snapshots.size() < snapshotLocations.size()) {
+        snapshotsSupplier = snapshotLocations.lazySnapshots();
+      }
+    } else if (node.has(SNAPSHOTS)) {
       JsonNode snapshotArray = JsonUtil.get(SNAPSHOTS, node);
       Preconditions.checkArgument(
           snapshotArray.isArray(), "Cannot parse snapshots from non-array: %s", snapshotArray);
@@ -537,7 +650,7 @@ public class TableMetadataParser {
         properties,
         currentSnapshotId,
         snapshots,
-        null,
+        snapshotsSupplier,
         entries.build(),
         metadataEntries.build(),
         refs,
@@ -590,4 +703,109 @@ public class TableMetadataParser {
 
     return statsFileBuilder.build();
   }
+
+  /** Byte ranges of snapshots in a metadata file, used to parse snapshots on demand. */
+  private static class SnapshotLocations {
+    private final byte[] json;
+    private final int arrayStart;
+    private final int arrayEnd;
+    private final List<SnapshotRange> ranges;
+
+    private SnapshotLocations(
+        byte[] json, int arrayStart, int arrayEnd, List<SnapshotRange> ranges) {
+      this.json = json;
+      this.arrayStart = arrayStart;
+      this.arrayEnd = arrayEnd;
+      this.ranges = ranges;
+    }
+
+    /** Locates the snapshots of an array, reading only their IDs. */
+    static SnapshotLocations scan(JsonParser parser, byte[] json) throws IOException {
+      int arrayStart = offset(parser);
+      List<SnapshotRange> ranges = Lists.newArrayList();
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        Preconditions.checkArgument(
+            parser.getCurrentToken() == JsonToken.START_OBJECT,
+            "Cannot parse snapshot from non-object: %s",
+            parser.getCurrentToken());
+        int start = offset(parser);
+        Long snapshotId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.getCurrentName();
+          parser.nextToken();
+          if (SNAPSHOT_ID.equals(field)) {
+            snapshotId = parser.getLongValue();
+          } else {
+            parser.skipChildren();
+          }
+        }
+
+        Preconditions.checkArgument(
+            snapshotId != null, "Cannot parse missing long: %s", SNAPSHOT_ID);
+        ranges.add(new SnapshotRange(snapshotId, start, offset(parser) + 1));
+      }
+
+      return new SnapshotLocations(json, arrayStart, offset(parser) + 1, ranges);
+    }
+
+    int size() {
+      return ranges.size();
+    }
+
+    /** Parses the snapshots with the given IDs, in the order of the metadata file. */
+    List<Snapshot> parse(Set<Long> snapshotIds) {
+      List<Snapshot> snapshots = Lists.newArrayList();
+      for (SnapshotRange range : ranges) {
+        if (snapshotIds.contains(range.snapshotId)) {
+          snapshots.add(SnapshotParser.fromJson(readTree(json, range.start, range.end)));
+        }
+      }
+
+      return snapshots;
+    }
+
+    /**
+     * Returns a supplier that parses all snapshots.
+     *
+     * <p>The supplier keeps a copy of only the bytes of the snapshots array, so that the bytes of
+     * the rest of the metadata file are not kept for the lifetime of the table metadata.
+     */
+    SerializableSupplier<List<Snapshot>> lazySnapshots() {
+      byte[] snapshotsJson = Arrays.copyOfRange(json, arrayStart, arrayEnd);
+      return () -> {
+        ImmutableList.Builder<Snapshot> snapshots = ImmutableList.builder();
+        for (JsonNode snapshot : readTree(snapshotsJson, 0, snapshotsJson.length)) {
+          snapshots.add(SnapshotParser.fromJson(snapshot));
+        }
+
+        return snapshots.build();
+      };
+    }
+
+    private static JsonNode readTree(byte[] bytes, int start, int end) {
+      try {
+        return JsonUtil.mapper().readTree(new ByteArrayInputStream(bytes, start, end - start));
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to parse snapshots");
+      }
+    }
+
+    private static int offset(JsonParser parser) {
+      long offset = parser.getTokenLocation().getByteOffset();
+      Preconditions.checkState(offset >= 0, "Cannot locate snapshots: unknown byte offset");
+      return Math.toIntExact(offset);
+    }
+  }
+
+  private static class SnapshotRange {
+    private final long snapshotId;
+    private final int start;
+    private final int end;
+
+    private SnapshotRange(long snapshotId, int start, int end) {
+      this.snapshotId = snapshotId;
+      this.start = start;
+      this.end = end;
+    }
+  }
 }
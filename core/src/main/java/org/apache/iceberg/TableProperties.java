@@ -109,6 +109,22 @@ public class TableProperties {
   public static final long COMMIT_STATUS_CHECKS_TOTAL_WAIT_MS_DEFAULT =
       30 * 60 * 1000; // 30 minutes
 
+  /**
+   * Whether concurrent appends to a table in the same JVM that are committed within a short window
+   * are combined into a single snapshot.
+   */
+  public static final String COMMIT_COALESCE_APPENDS_ENABLED = "commit.coalesce-appends.enabled";
+
+  public static final boolean COMMIT_COALESCE_APPENDS_ENABLED_DEFAULT = false;
+
+  /**
+   * Maximum time that an append waits for other appends to join its batch while another batch of
+   * appends to the table is being committed.
+   */
+  public static final String COMMIT_COALESCE_APPENDS_WINDOW_MS =
+      "commit.coalesce-appends.window-ms";
+  public static final long COMMIT_COALESCE_APPENDS_WINDOW_MS_DEFAULT = 50;
+
   public static final String MANIFEST_TARGET_SIZE_BYTES = "commit.manifest.target-size-bytes";
   public static final long MANIFEST_TARGET_SIZE_BYTES_DEFAULT = 8 * 1024 * 1024; // 8 MB
 
@@ -118,6 +134,15 @@ public class TableProperties {
   public static final String MANIFEST_MERGE_ENABLED = "commit.manifest-merge.enabled";
   public static final boolean MANIFEST_MERGE_ENABLED_DEFAULT = true;
 
+  /**
+   * Whether appends write added data files to manifests as the files are added, instead of keeping
+   * them in memory until the commit.
+   */
+  public static final String MANIFEST_STREAMING_APPENDS_ENABLED =
+      "commit.manifest.streaming-appends.enabled";
+
+  public static final boolean MANIFEST_STREAMING_APPENDS_ENABLED_DEFAULT = false;
+
   public static final String DEFAULT_FILE_FORMAT = "write.format.default";
   public static final String DELETE_DEFAULT_FILE_FORMAT = "write.delete.format.default";
   public static final String DEFAULT_FILE_FORMAT_DEFAULT = "parquet";
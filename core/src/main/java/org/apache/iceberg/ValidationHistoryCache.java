@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.Tasks;
+
+/**
+ * Caches the manifests and matching files of snapshots that an operation validates against.
+ *
+ * <p>The manifests written by a snapshot are cached by manifest list and shared by all operations
+ * that use the same {@link FileIO}, so concurrent writers to a table read each new manifest list
+ * once.
+ *
+ * <p>Manifests are read with the {@link ManifestGroup} or {@link DeleteFileIndex} of a validation,
+ * so they are pruned and their entries are filtered as usual. Only the matching files of each
+ * manifest are cached, for the filters of the validation. Operations keep this cache across commit
+ * attempts, so a retry only reads the manifests that were committed since the last attempt.
+ * Manifests that are not cached are read in parallel.
+ */
+class ValidationHistoryCache {
+  private static final int MAX_CACHED_MANIFEST_LISTS = 1_000;
+
+  private static final Cache<FileIO, Cache<String, NewManifests>> NEW_MANIFESTS =
+      Caffeine.newBuilder().weakKeys().build();
+
+  private final FileIO io;
+  private final Supplier<ExecutorService> workerPoolSupplier;
+  private final Cache<String, NewManifests> newManifestsByManifestList;
+  private final Map<FilterKey, Map<String, List<ManifestEntry<DataFile>>>> dataEntries =
+      Maps.newConcurrentMap();
+  private final Map<FilterKey, Map<String, List<DeleteFile>>> deleteFiles =
+      Maps.newConcurrentMap();
+
+  ValidationHistoryCache(FileIO io, Supplier<ExecutorService> workerPoolSupplier) {
+    this.io = io;
+    this.workerPoolSupplier = workerPoolSupplier;
+    this.newManifestsByManifestList =
+        NEW_MANIFESTS.get(
+            io,
+            ignored -> Caffeine.newBuilder().maximumSize(MAX_CACHED_MANIFEST_LISTS).build());
+  }
+
+  /** Returns the data manifests that were written by a snapshot. */
+  List<ManifestFile> newDataManifests(Snapshot snapshot) {
+    return newManifests(snapshot).dataManifests;
+  }
+
+  /** Returns the delete manifests that were written by a snapshot. */
+  List<ManifestFile> newDeleteManifests(Snapshot snapshot) {
+    return newManifests(snapshot).deleteManifests;
+  }
+
+  /**
+   * Returns the data manifest entries that match a validation.
+   *
+   * <p>Entries of a manifest are read with the manifest group returned by the group function for
+   * that manifest and are cached without stats. Because a validation fails if any entry matches,
+   * manifests are no longer read once an entry that passes the entry filter has been found.
+   *
+   * @param key identifies the filters applied by the group function
+   * @param manifests data manifests to read
+   * @param groupFunc returns a manifest group that reads and filters a list of manifests
+   * @param entryFilter a filter for cached entries, which is not part of the key
+   * @return matching entries of the manifests that were read
+   */
+  List<ManifestEntry<DataFile>> matchingDataEntries(
+      FilterKey key,
+      List<ManifestFile> manifests,
+      Function<List<ManifestFile>, ManifestGroup> groupFunc,
+      Predicate<ManifestEntry<DataFile>> entryFilter) {
+    Map<String, List<ManifestEntry<DataFile>>> cache =
+        dataEntries.computeIfAbsent(key, ignored -> Maps.newConcurrentMap());
+    return load(
+        cache,
+        manifests,
+        manifest -> readEntries(manifest, groupFunc.apply(ImmutableList.of(manifest))),
+        entryFilter,
+        true /* stop on match */);
+  }
+
+  /**
+   * Returns the live delete files that match a validation.
+   *
+   * <p>Delete files of a manifest are read with the index returned by the index function for that
+   * manifest and are cached with stats, which are needed to match them to data files.
+   *
+   * @param key identifies the filters applied by the index function
+   * @param manifests delete manifests to read
+   * @param indexFunc returns a delete file index that reads and filters a list of manifests
+   * @return matching delete files of the manifests
+   */
+  List<DeleteFile> matchingDeleteFiles(
+      FilterKey key,
+      List<ManifestFile> manifests,
+      Function<List<ManifestFile>, DeleteFileIndex> indexFunc) {
+    Map<String, List<DeleteFile>> cache =
+        deleteFiles.computeIfAbsent(key, ignored -> Maps.newConcurrentMap());
+    return load(
+        cache,
+        manifests,
+        manifest ->
+            ImmutableList.copyOf(
+                indexFunc.apply(ImmutableList.of(manifest)).referencedDeleteFiles()),
+        file -> true,
+        false /* read all manifests */);
+  }
+
+  private <T> List<T> load(
+      Map<String, List<T>> cache,
+      List<ManifestFile> manifests,
+      Function<ManifestFile, List<T>> readFunc,
+      Predicate<T> filter,
+      boolean stopOnMatch) {
+    AtomicBoolean matched = new AtomicBoolean(false);
+    List<ManifestFile> missing = Lists.newArrayList();
+    for (ManifestFile manifest : manifests) {
+      List<T> cached = cache.get(manifest.path());
+      if (cached == null) {
+        missing.add(manifest);
+      } else if (cached.stream().anyMatch(filter)) {
+        matched.set(true);
+      }
+    }
+
+    Tasks.foreach(missing)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .executeWith(workerPoolSupplier.get())
+        .run(
+            manifest -> {
+              if (!stopOnMatch || !matched.get()) {
+                List<T> results = readFunc.apply(manifest);
+                cache.put(manifest.path(), results);
+                if (results.stream().anyMatch(filter)) {
+                  matched.set(true);
+                }
+              }
+            });
+
+    List<T> results = Lists.newArrayList();
+    for (ManifestFile manifest : manifests) {
+      List<T> cached = cache.get(manifest.path());
+      if (cached != null) {
+        cached.stream().filter(filter).forEach(results::add);
+      }
+    }
+
+    return results;
+  }
+
+  private NewManifests newManifests(Snapshot snapshot) {
+    String manifestList = snapshot.manifestListLocation();
+    if (manifestList == null) {
+      // manifests of snapshots without a manifest list are embedded in table metadata
+      return new NewManifests(snapshot, io);
+    }
+
+    // manifest lists are read outside of the cache so that other callers are not blocked
+    NewManifests newManifests = newManifestsByManifestList.getIfPresent(manifestList);
+    if (newManifests == null) {
+      newManifests = new NewManifests(snapshot, io);
+      newManifestsByManifestList.put(manifestList, newManifests);
+    }
+
+    return newManifests;
+  }
+
+  private static List<ManifestEntry<DataFile>> readEntries(
+      ManifestFile manifest, ManifestGroup group) {
+    List<ManifestEntry<DataFile>> entries = Lists.newArrayList();
+    try (CloseableIterable<ManifestEntry<DataFile>> reader = group.entries()) {
+      for (ManifestEntry<DataFile> entry : reader) {
+        entries.add(entry.copyWithoutStats());
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close manifest: %s", manifest.path());
+    }
+
+    return entries;
+  }
+
+  private static class NewManifests {
+    private final List<ManifestFile> dataManifests;
+    private final List<ManifestFile> deleteManifests;
+
+    private NewManifests(Snapshot snapshot, FileIO io) {
+      this.dataManifests = writtenBy(snapshot.dataManifests(io), snapshot.snapshotId());
+      this.deleteManifests = writtenBy(snapshot.deleteManifests(io), snapshot.snapshotId());
+    }
+
+    private static List<ManifestFile> writtenBy(List<ManifestFile> manifests, long snapshotId) {
+      ImmutableList.Builder<ManifestFile> builder = ImmutableList.builder();
+      for (ManifestFile manifest : manifests) {
+        if (manifest.snapshotId() == snapshotId) {
+          builder.add(manifest);
+        }
+      }
+
+      return builder.build();
+    }
+  }
+
+  /**
+   * Identifies a validation and the filters it reads manifests with.
+   *
+   * <p>Filters are compared by identity, so cached files are reused when an operation validates
+   * with the same filters again, as it does on each commit attempt.
+   */
+  static class FilterKey {
+    private final String validation;
+    private final Object[] filters;
+
+    private FilterKey(String validation, Object[] filters) {
+      this.validation = validation;
+      this.filters = filters;
+    }
+
+    static FilterKey of(String validation, Object... filters) {
+      return new FilterKey(validation, filters);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (!(other instanceof FilterKey)) {
+        return false;
+      }
+
+      FilterKey that = (FilterKey) other;
+      if (!validation.equals(that.validation) || filters.length != that.filters.length) {
+        return false;
+      }
+
+      for (int i = 0; i < filters.length; i += 1) {
+        if (filters[i] != that.filters[i]) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = validation.hashCode();
+      for (Object filter : filters) {
+        hash = 31 * hash + System.identityHashCode(filter);
+      }
+
+      return hash;
+    }
+
+    @Override
+    public String toString() {
+      return validation + Arrays.toString(filters);
+    }
+  }
+}
@@ -18,36 +18,165 @@
  */
 package org.apache.iceberg.deletes;
 
-import org.roaringbitmap.longlong.Roaring64Bitmap;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 
 class BitmapPositionDeleteIndex implements PositionDeleteIndex {
-  private final Roaring64Bitmap roaring64Bitmap;
+  // the deletion-vector-v1 blob is the length, the magic bytes, the bitmap, and a CRC-32 checksum
+  private static final int LENGTH_SIZE_BYTES = 4;
+  private static final byte[] MAGIC_BYTES = {(byte) 0xD1, (byte) 0xD3, 0x39, 0x64};
+  private static final int CRC_SIZE_BYTES = 4;
+
+  private final RoaringPositionBitmap bitmap;
 
   BitmapPositionDeleteIndex() {
-    roaring64Bitmap = new Roaring64Bitmap();
+    this.bitmap = new RoaringPositionBitmap();
+  }
+
+  private BitmapPositionDeleteIndex(RoaringPositionBitmap bitmap) {
+    this.bitmap = bitmap;
+  }
+
+  /**
+   * Deserializes an index from a deletion vector blob.
+   *
+   * <p>The blob holds the combined length of the magic bytes and the bitmap as a big-endian int,
+   * the magic bytes, the bitmap in the portable 64-bit Roaring format, and a big-endian CRC-32 of
+   * the magic bytes and the bitmap.
+   *
+   * @param bytes a buffer that holds a deletion vector blob
+   * @return an index of the positions in the deletion vector
+   */
+  static BitmapPositionDeleteIndex deserialize(ByteBuffer bytes) {
+    ByteBuffer blob = bytes.duplicate().order(ByteOrder.BIG_ENDIAN);
+    Preconditions.checkArgument(
+        blob.remaining() >= LENGTH_SIZE_BYTES + MAGIC_BYTES.length + CRC_SIZE_BYTES,
+        "Invalid deletion vector: too short (%s bytes)",
+        blob.remaining());
+
+    int start = blob.position();
+    int length = blob.getInt();
+    Preconditions.checkArgument(
+        length >= MAGIC_BYTES.length && length == blob.remaining() - CRC_SIZE_BYTES,
+        "Invalid deletion vector length: %s, remaining bytes: %s",
+        length,
+        blob.remaining());
+
+    byte[] magic = new byte[MAGIC_BYTES.length];
+    blob.get(magic);
+    Preconditions.checkArgument(
+        Arrays.equals(MAGIC_BYTES, magic), "Invalid deletion vector magic bytes");
+
+    ByteBuffer bitmapBytes = blob.slice();
+    bitmapBytes.limit(length - MAGIC_BYTES.length);
+    RoaringPositionBitmap bitmap = RoaringPositionBitmap.deserialize(bitmapBytes);
+    Preconditions.checkArgument(
+        !bitmapBytes.hasRemaining(), "Invalid deletion vector: unexpected trailing bytes");
+
+    int checksumPos = start + LENGTH_SIZE_BYTES + length;
+    int expectedChecksum = blob.getInt(checksumPos);
+    int checksum = checksum(blob, start + LENGTH_SIZE_BYTES, length);
+    Preconditions.checkArgument(
+        checksum == expectedChecksum,
+        "Invalid deletion vector checksum: %s, expected: %s",
+        Integer.toUnsignedString(checksum),
+        Integer.toUnsignedString(expectedChecksum));
+
+    return new BitmapPositionDeleteIndex(bitmap);
+  }
+
+  /** Serializes the positions in this index as a deletion vector blob. */
+  ByteBuffer serialize() {
+    // run containers make ranges of deleted positions compact
+    bitmap.runLengthEncode();
+
+    long bitmapSize = bitmap.serializedSizeInBytes();
+    long length = MAGIC_BYTES.length + bitmapSize;
+    Preconditions.checkState(
+        length <= Integer.MAX_VALUE - LENGTH_SIZE_BYTES - CRC_SIZE_BYTES,
+        "Cannot serialize deletion vector: too large (%s bytes)",
+        length);
+
+    ByteBuffer blob =
+        ByteBuffer.allocate(LENGTH_SIZE_BYTES + (int) length + CRC_SIZE_BYTES)
+            .order(ByteOrder.BIG_ENDIAN);
+    blob.putInt((int) length);
+    blob.put(MAGIC_BYTES);
+    bitmap.serialize(blob);
+    blob.putInt(checksum(blob, LENGTH_SIZE_BYTES, (int) length));
+    blob.flip();
+
+    return blob;
+  }
+
+  // CRC-32 of the magic bytes and the bitmap
+  private static int checksum(ByteBuffer blob, int offset, int length) {
+    ByteBuffer bytes = blob.duplicate();
+    bytes.limit(offset + length).position(offset);
+    CRC32 crc = new CRC32();
+    crc.update(bytes);
+    return (int) crc.getValue();
+  }
+
+  long cardinality() {
+    return bitmap.cardinality();
   }
 
   void merge(BitmapPositionDeleteIndex that) {
-    roaring64Bitmap.or(that.roaring64Bitmap);
+    bitmap.setAll(that.bitmap);
   }
 
   @Override
   public void delete(long position) {
-    roaring64Bitmap.add(position);
+    bitmap.set(position);
   }
 
   @Override
   public void delete(long posStart, long posEnd) {
-    roaring64Bitmap.addRange(posStart, posEnd);
+    bitmap.setRange(posStart, posEnd);
   }
 
   @Override
   public boolean isDeleted(long position) {
-    return roaring64Bitmap.contains(position);
+    return bitmap.contains(position);
+  }
+
+  @Override
+  public int select(long startPos, int numRows, int[] selection) {
+    Preconditions.checkArgument(
+        selection.length >= numRows, "Invalid selection length: %s", selection.length);
+
+    // a single scan of the deleted positions in the range, instead of a lookup per row
+    RoaringPositionBitmap.PositionIterator deleted = bitmap.positions(startPos);
+
+    long endPos = startPos + numRows;
+    int numLiveRows = 0;
+    int offset = 0;
+    while (deleted.hasNext() && deleted.peekNext() < endPos) {
+      int deletedOffset = (int) (deleted.next() - startPos);
+      numLiveRows = fill(selection, numLiveRows, offset, deletedOffset);
+      offset = deletedOffset + 1;
+    }
+
+    return fill(selection, numLiveRows, offset, numRows);
+  }
+
+  // adds offsets from start (inclusive) to end (exclusive) to the selection
+  private static int fill(int[] selection, int numSelected, int start, int end) {
+    int index = numSelected;
+    for (int offset = start; offset < end; offset += 1) {
+      selection[index] = offset;
+      index += 1;
+    }
+
+    return index;
   }
 
   @Override
   public boolean isEmpty() {
-    return roaring64Bitmap.isEmpty();
+    return bitmap.isEmpty();
   }
 }
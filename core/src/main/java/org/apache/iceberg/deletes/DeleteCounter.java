@@ -28,6 +28,11 @@ public class DeleteCounter {
     count++;
   }
 
+  /** Increment the counter by the given number of deletes. */
+  public void increment(long numDeletes) {
+    count += numDeletes;
+  }
+
   /** Return the current value of the counter. */
   public long get() {
     return count;
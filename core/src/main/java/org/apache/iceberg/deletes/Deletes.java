@@ -121,7 +121,7 @@ public class Deletes {
   public static StructLikeSet toEqualitySet(
       CloseableIterable<StructLike> eqDeletes, Types.StructType eqType) {
     try (CloseableIterable<StructLike> deletes = eqDeletes) {
-      StructLikeSet deleteSet = StructLikeSet.create(eqType);
+      StructLikeSet deleteSet = StructLikeSet.createCompact(eqType);
       Iterables.addAll(deleteSet, deletes);
       return deleteSet;
     } catch (IOException e) {
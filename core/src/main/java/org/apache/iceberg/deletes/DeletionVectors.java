@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.puffin.Blob;
+import org.apache.iceberg.puffin.BlobMetadata;
+import org.apache.iceberg.puffin.Puffin;
+import org.apache.iceberg.puffin.PuffinReader;
+import org.apache.iceberg.puffin.StandardBlobTypes;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.CharSequenceMap;
+import org.apache.iceberg.util.Pair;
+
+/**
+ * Reads deletion vectors, {@link StandardBlobTypes#DV_V1} blobs in Puffin position delete files
+ * that hold the deleted positions of one data file as a serialized bitmap.
+ *
+ * <p>Reading a deletion vector only reads the file footer and the blob of the data file, instead
+ * of decoding a row for each deleted position.
+ *
+ * <p>Deletion vectors may only be added to tables with format version {@link #MIN_FORMAT_VERSION}
+ * or later, because older readers can't read Puffin delete files.
+ */
+public class DeletionVectors {
+  /** The minimum table format version that supports deletion vectors. */
+  public static final int MIN_FORMAT_VERSION = 3;
+
+  /** Blob property that holds the location of the data file that a deletion vector applies to. */
+  public static final String REFERENCED_DATA_FILE_PROPERTY = "referenced-data-file";
+
+  /** Blob property that holds the number of deleted positions in a deletion vector. */
+  public static final String CARDINALITY_PROPERTY = "cardinality";
+
+  private DeletionVectors() {}
+
+  /** Returns whether a delete file stores deletion vectors. */
+  public static boolean isDV(DeleteFile deleteFile) {
+    return deleteFile.format() == FileFormat.PUFFIN;
+  }
+
+  /**
+   * Reads the deletion vector of a data file from a Puffin delete file.
+   *
+   * @param deleteFile the delete file metadata
+   * @param inputFile the input file of the delete file
+   * @param dataFile the location of the data file
+   * @return a position delete index for the data file, empty if the file has no deletion vector for
+   *     it
+   */
+  public static PositionDeleteIndex read(
+      DeleteFile deleteFile, InputFile inputFile, CharSequence dataFile) {
+    Preconditions.checkArgument(isDV(deleteFile), "Not a deletion vector file: %s", deleteFile);
+
+    try (PuffinReader reader = open(deleteFile, inputFile)) {
+      List<BlobMetadata> blobs = Lists.newArrayList();
+      for (BlobMetadata blob : reader.fileMetadata().blobs()) {
+        if (isDVFor(blob, dataFile)) {
+          blobs.add(blob);
+        }
+      }
+
+      return PositionDeleteIndexUtil.merge(toIndexes(reader.readAll(blobs)));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read deletion vectors: " + inputFile.location(), e);
+    }
+  }
+
+  /**
+   * Reads all deletion vectors from a Puffin delete file.
+   *
+   * @param deleteFile the delete file metadata
+   * @param inputFile the input file of the delete file
+   * @return a map from data file locations to position delete indexes
+   */
+  public static CharSequenceMap<PositionDeleteIndex> readAll(
+      DeleteFile deleteFile, InputFile inputFile) {
+    Preconditions.checkArgument(isDV(deleteFile), "Not a deletion vector file: %s", deleteFile);
+
+    CharSequenceMap<PositionDeleteIndex> indexes = CharSequenceMap.create();
+    try (PuffinReader reader = open(deleteFile, inputFile)) {
+      List<BlobMetadata> blobs = Lists.newArrayList();
+      for (BlobMetadata blob : reader.fileMetadata().blobs()) {
+        if (StandardBlobTypes.DV_V1.equals(blob.type())) {
+          blobs.add(blob);
+        }
+      }
+
+      for (Pair<BlobMetadata, ByteBuffer> blob : reader.readAll(blobs)) {
+        String dataFile = blob.first().properties().get(REFERENCED_DATA_FILE_PROPERTY);
+        PositionDeleteIndex index = toIndex(blob.first(), blob.second());
+        PositionDeleteIndex existing = indexes.get(dataFile);
+        if (existing != null) {
+          index = PositionDeleteIndexUtil.merge(ImmutableList.of(existing, index));
+        }
+
+        indexes.put(dataFile, index);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read deletion vectors: " + inputFile.location(), e);
+    }
+
+    return indexes;
+  }
+
+  /**
+   * Creates a deletion vector blob for a data file.
+   *
+   * <p>The snapshot ID and sequence number are not known when deletes are written, so they are set
+   * to -1.
+   */
+  static Blob toBlob(CharSequence dataFile, BitmapPositionDeleteIndex index) {
+    return new Blob(
+        StandardBlobTypes.DV_V1,
+        ImmutableList.of(),
+        -1L /* snapshot ID is inherited */,
+        -1L /* sequence number is inherited */,
+        index.serialize(),
+        null /* bitmaps are not compressed further */,
+        ImmutableMap.of(
+            REFERENCED_DATA_FILE_PROPERTY,
+            dataFile.toString(),
+            CARDINALITY_PROPERTY,
+            String.valueOf(index.cardinality())));
+  }
+
+  private static PuffinReader open(DeleteFile deleteFile, InputFile inputFile) {
+    return Puffin.read(inputFile).withFileSize(deleteFile.fileSizeInBytes()).build();
+  }
+
+  private static boolean isDVFor(BlobMetadata blob, CharSequence dataFile) {
+    return StandardBlobTypes.DV_V1.equals(blob.type())
+        && dataFile.toString().equals(blob.properties().get(REFERENCED_DATA_FILE_PROPERTY));
+  }
+
+  private static List<PositionDeleteIndex> toIndexes(
+      Iterable<Pair<BlobMetadata, ByteBuffer>> blobs) {
+    List<PositionDeleteIndex> indexes = Lists.newArrayList();
+    for (Pair<BlobMetadata, ByteBuffer> blob : blobs) {
+      indexes.add(toIndex(blob.first(), blob.second()));
+    }
+
+    return indexes;
+  }
+
+  private static PositionDeleteIndex toIndex(BlobMetadata metadata, ByteBuffer bytes) {
+    BitmapPositionDeleteIndex index = BitmapPositionDeleteIndex.deserialize(bytes);
+
+    String cardinality = metadata.properties().get(CARDINALITY_PROPERTY);
+    Preconditions.checkState(
+        cardinality == null || Long.parseLong(cardinality) == index.cardinality(),
+        "Invalid deletion vector for %s: expected %s positions but found %s",
+        metadata.properties().get(REFERENCED_DATA_FILE_PROPERTY),
+        cardinality,
+        index.cardinality());
+
+    return index;
+  }
+}
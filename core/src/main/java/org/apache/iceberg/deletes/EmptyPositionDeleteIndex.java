@@ -43,6 +43,15 @@ class EmptyPositionDeleteIndex implements PositionDeleteIndex {
     return false;
   }
 
+  @Override
+  public int select(long startPos, int numRows, int[] selection) {
+    for (int offset = 0; offset < numRows; offset += 1) {
+      selection[offset] = offset;
+    }
+
+    return numRows;
+  }
+
   @Override
   public boolean isEmpty() {
     return true;
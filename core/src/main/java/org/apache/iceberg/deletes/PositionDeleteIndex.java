@@ -42,6 +42,29 @@ public interface PositionDeleteIndex {
    */
   boolean isDeleted(long position);
 
+  /**
+   * Finds rows that are not deleted in a range of positions, for instance the rows of a batch.
+   *
+   * <p>The selection is filled with offsets of live rows relative to the start position, in
+   * ascending order. Only the first elements, up to the returned count, are set.
+   *
+   * @param startPos the position of the first row in the range
+   * @param numRows the number of rows in the range
+   * @param selection an array of at least numRows elements to fill with offsets of live rows
+   * @return the number of live rows in the range
+   */
+  default int select(long startPos, int numRows, int[] selection) {
+    int numLiveRows = 0;
+    for (int offset = 0; offset < numRows; offset += 1) {
+      if (!isDeleted(startPos + offset)) {
+        selection[numLiveRows] = offset;
+        numLiveRows += 1;
+      }
+    }
+
+    return numLiveRows;
+  }
+
   /** Returns true if this collection contains no element. */
   boolean isEmpty();
 
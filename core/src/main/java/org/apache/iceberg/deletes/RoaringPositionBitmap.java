@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * A bitmap of row positions, which are non-negative 64-bit integers.
+ *
+ * <p>Positions are split into a key, the high 32 bits, and a value, the low 32 bits. Values are
+ * stored in a 32-bit {@link RoaringBitmap} per key, so positions of a data file with fewer than
+ * 2^32 rows use a single bitmap.
+ *
+ * <p>The serialized form is the portable format of 64-bit Roaring bitmaps that is used by deletion
+ * vectors: the number of bitmaps as a little-endian long, then for each bitmap in ascending key
+ * order, the key as a little-endian int followed by the bitmap in the portable 32-bit format.
+ */
+class RoaringPositionBitmap {
+  static final long MAX_POSITION = toPosition(Integer.MAX_VALUE - 1, -1);
+  private static final RoaringBitmap[] EMPTY = new RoaringBitmap[0];
+
+  private RoaringBitmap[] bitmaps;
+
+  RoaringPositionBitmap() {
+    this.bitmaps = EMPTY;
+  }
+
+  private RoaringPositionBitmap(RoaringBitmap[] bitmaps) {
+    this.bitmaps = bitmaps;
+  }
+
+  void set(long pos) {
+    validatePosition(pos);
+    int key = key(pos);
+    allocateBitmapsIfNeeded(key + 1);
+    bitmaps[key].add(value(pos));
+  }
+
+  /**
+   * Sets a range of positions.
+   *
+   * @param posStart inclusive start of the range
+   * @param posEnd exclusive end of the range
+   */
+  void setRange(long posStart, long posEnd) {
+    if (posStart >= posEnd) {
+      return;
+    }
+
+    validatePosition(posStart);
+    validatePosition(posEnd - 1);
+    int startKey = key(posStart);
+    int endKey = key(posEnd - 1);
+    allocateBitmapsIfNeeded(endKey + 1);
+
+    for (int key = startKey; key <= endKey; key += 1) {
+      long start = key == startKey ? Integer.toUnsignedLong(value(posStart)) : 0L;
+      long end = key == endKey ? Integer.toUnsignedLong(value(posEnd - 1)) + 1 : 1L << 32;
+      bitmaps[key].add(start, end);
+    }
+  }
+
+  boolean contains(long pos) {
+    if (pos < 0 || pos > MAX_POSITION) {
+      return false;
+    }
+
+    int key = key(pos);
+    return key < bitmaps.length && bitmaps[key].contains(value(pos));
+  }
+
+  boolean isEmpty() {
+    return cardinality() == 0;
+  }
+
+  long cardinality() {
+    long cardinality = 0L;
+    for (RoaringBitmap bitmap : bitmaps) {
+      cardinality += bitmap.getLongCardinality();
+    }
+
+    return cardinality;
+  }
+
+  void setAll(RoaringPositionBitmap that) {
+    allocateBitmapsIfNeeded(that.bitmaps.length);
+    for (int key = 0; key < that.bitmaps.length; key += 1) {
+      bitmaps[key].or(that.bitmaps[key]);
+    }
+  }
+
+  /** Converts ranges of positions to run containers, which are more compact when serialized. */
+  boolean runLengthEncode() {
+    boolean changed = false;
+    for (RoaringBitmap bitmap : bitmaps) {
+      changed |= bitmap.runOptimize();
+    }
+
+    return changed;
+  }
+
+  /** Returns an iterator over the positions that are greater than or equal to a position. */
+  PositionIterator positions(long startPos) {
+    return new PositionIterator(Math.max(startPos, 0L));
+  }
+
+  long serializedSizeInBytes() {
+    long size = Long.BYTES;
+    for (RoaringBitmap bitmap : bitmaps) {
+      if (!bitmap.isEmpty()) {
+        size += Integer.BYTES + bitmap.serializedSizeInBytes();
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * Serializes this bitmap in the portable format, starting at the position of the buffer.
+   *
+   * @param buffer a buffer with at least {@link #serializedSizeInBytes()} remaining bytes
+   */
+  void serialize(ByteBuffer buffer) {
+    ByteBuffer output = littleEndian(buffer);
+    output.putLong(Arrays.stream(bitmaps).filter(bitmap -> !bitmap.isEmpty()).count());
+    for (int key = 0; key < bitmaps.length; key += 1) {
+      RoaringBitmap bitmap = bitmaps[key];
+      if (!bitmap.isEmpty()) {
+        output.putInt(key);
+        bitmap.serialize(littleEndian(output));
+        output.position(output.position() + bitmap.serializedSizeInBytes());
+      }
+    }
+
+    buffer.position(buffer.position() + output.position());
+  }
+
+  /**
+   * Deserializes a bitmap in the portable format, starting at the position of the buffer.
+   *
+   * @param buffer a buffer that holds a serialized bitmap
+   * @return the deserialized bitmap
+   */
+  static RoaringPositionBitmap deserialize(ByteBuffer buffer) {
+    ByteBuffer input = littleEndian(buffer);
+    long numBitmaps = input.getLong();
+    Preconditions.checkArgument(
+        numBitmaps >= 0 && numBitmaps <= Integer.MAX_VALUE,
+        "Invalid number of bitmaps: %s",
+        numBitmaps);
+
+    RoaringBitmap[] bitmaps = EMPTY;
+    int lastKey = -1;
+    for (long index = 0; index < numBitmaps; index += 1) {
+      int key = input.getInt();
+      Preconditions.checkArgument(
+          key > lastKey && key < Integer.MAX_VALUE, "Invalid bitmap key: %s", key);
+
+      RoaringBitmap bitmap = new RoaringBitmap();
+      try {
+        bitmap.deserialize(littleEndian(input));
+      } catch (IOException e) {
+        throw new IllegalArgumentException("Invalid bitmap for key: " + key, e);
+      }
+
+      input.position(input.position() + bitmap.serializedSizeInBytes());
+
+      int length = bitmaps.length;
+      bitmaps = Arrays.copyOf(bitmaps, key + 1);
+      for (int fill = length; fill < key; fill += 1) {
+        bitmaps[fill] = new RoaringBitmap();
+      }
+
+      bitmaps[key] = bitmap;
+      lastKey = key;
+    }
+
+    buffer.position(buffer.position() + input.position());
+    return new RoaringPositionBitmap(bitmaps);
+  }
+
+  private void allocateBitmapsIfNeeded(int requiredLength) {
+    if (bitmaps.length < requiredLength) {
+      int length = bitmaps.length;
+      this.bitmaps = Arrays.copyOf(bitmaps, requiredLength);
+      for (int key = length; key < requiredLength; key += 1) {
+        bitmaps[key] = new RoaringBitmap();
+      }
+    }
+  }
+
+  // a little-endian view that starts at the position of the buffer
+  private static ByteBuffer littleEndian(ByteBuffer buffer) {
+    return buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static void validatePosition(long pos) {
+    Preconditions.checkArgument(
+        pos >= 0 && pos <= MAX_POSITION, "Invalid position: %s (max %s)", pos, MAX_POSITION);
+  }
+
+  private static int key(long pos) {
+    return (int) (pos >> 32);
+  }
+
+  private static int value(long pos) {
+    return (int) pos;
+  }
+
+  private static long toPosition(int key, int value) {
+    return (((long) key) << 32) | Integer.toUnsignedLong(value);
+  }
+
+  /** Iterates over positions in ascending order. */
+  class PositionIterator {
+    private int key;
+    private PeekableIntIterator values = null;
+
+    private PositionIterator(long startPos) {
+      this.key = key(startPos);
+      if (key < bitmaps.length) {
+        this.values = bitmaps[key].getIntIterator();
+        values.advanceIfNeeded(value(startPos));
+      }
+
+      skipExhaustedBitmaps();
+    }
+
+    boolean hasNext() {
+      return key < bitmaps.length;
+    }
+
+    long peekNext() {
+      return toPosition(key, values.peekNext());
+    }
+
+    long next() {
+      long pos = peekNext();
+      values.next();
+      skipExhaustedBitmaps();
+      return pos;
+    }
+
+    private void skipExhaustedBitmaps() {
+      while (key < bitmaps.length && !values.hasNext()) {
+        this.key += 1;
+        if (key < bitmaps.length) {
+          this.values = bitmaps[key].getIntIterator();
+        }
+      }
+    }
+  }
+}
@@ -39,6 +39,7 @@ import org.apache.iceberg.CatalogUtil;
 import org.apache.iceberg.LockManager;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableMetadataParser;
 import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.SupportsNamespaces;
@@ -83,8 +84,12 @@ public class HadoopCatalog extends BaseMetastoreCatalog
 
   private static final String TABLE_METADATA_FILE_EXTENSION = ".metadata.json";
   private static final Joiner SLASH = Joiner.on("/");
+  private static final String BINARY_TABLE_METADATA_FILE_EXTENSION =
+      TableMetadataParser.getFileExtension(TableMetadataParser.Codec.BINARY);
   private static final PathFilter TABLE_FILTER =
-      path -> path.getName().endsWith(TABLE_METADATA_FILE_EXTENSION);
+      path ->
+          path.getName().endsWith(TABLE_METADATA_FILE_EXTENSION)
+              || path.getName().endsWith(BINARY_TABLE_METADATA_FILE_EXTENSION);
   private static final String HADOOP_SUPPRESS_PERMISSION_ERROR = "suppress-permission-error";
 
   private String catalogName;
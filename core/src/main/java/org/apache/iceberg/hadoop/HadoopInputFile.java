@@ -180,7 +180,7 @@ public class HadoopInputFile implements InputFile, NativelyEncryptedFile {
   @Override
   public SeekableInputStream newStream() {
     try {
-      return HadoopStreams.wrap(fs.open(path));
+      return HadoopStreams.wrap(fs.open(path), this::getLength);
     } catch (FileNotFoundException e) {
       throw new NotFoundException(e, "Failed to open input stream for file: %s", path);
     } catch (IOException e) {
@@ -21,15 +21,23 @@ package org.apache.iceberg.hadoop;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FSInputStream;
+import org.apache.iceberg.io.ByteRange;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
 import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +62,18 @@ public class HadoopStreams {
     return new HadoopSeekableInputStream(stream);
   }
 
+  /**
+   * Wraps a {@link FSDataInputStream} in a {@link SeekableInputStream} implementation for readers
+   * that also implements {@link RangeReadable} using positional reads.
+   *
+   * @param stream a Hadoop FSDataInputStream
+   * @param fileLength a supplier for the length of the file
+   * @return a SeekableInputStream that is RangeReadable
+   */
+  static SeekableInputStream wrap(FSDataInputStream stream, LongSupplier fileLength) {
+    return new HadoopRangeReadableInputStream(stream, fileLength);
+  }
+
   /**
    * Wraps a {@link FSDataOutputStream} in a {@link PositionOutputStream} implementation for
    * writers.
@@ -135,6 +155,41 @@ public class HadoopStreams {
     }
   }
 
+  /**
+   * SeekableInputStream implementation for FSDataInputStream that implements RangeReadable with
+   * positional reads, which do not change the position of the stream.
+   */
+  private static class HadoopRangeReadableInputStream extends HadoopSeekableInputStream
+      implements RangeReadable {
+    private final FSDataInputStream stream;
+    private final LongSupplier fileLength;
+
+    HadoopRangeReadableInputStream(FSDataInputStream stream, LongSupplier fileLength) {
+      super(stream);
+      this.stream = stream;
+      this.fileLength = fileLength;
+    }
+
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int length)
+        throws IOException {
+      stream.readFully(position, buffer, offset, length);
+    }
+
+    @Override
+    public int readTail(byte[] buffer, int offset, int length) throws IOException {
+      long len = fileLength.getAsLong();
+      int tailLength = (int) Math.min(len, length);
+      stream.readFully(len - tailLength, buffer, offset, tailLength);
+      return tailLength;
+    }
+
+    @Override
+    public List<CompletableFuture<ByteBuffer>> readVectored(List<ByteRange> ranges) {
+      return VectoredReads.read(ranges, this::readFully, ThreadPools.getVectoredReadPool());
+    }
+  }
+
   /** PositionOutputStream implementation for FSDataOutputStream. */
   private static class HadoopPositionOutputStream extends PositionOutputStream
       implements DelegatingOutputStream {
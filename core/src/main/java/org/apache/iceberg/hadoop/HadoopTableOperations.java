@@ -34,6 +34,7 @@ import org.apache.hadoop.fs.Path;
 import org.apache.iceberg.LocationProviders;
 import org.apache.iceberg.LockManager;
 import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableMetadataCache;
 import org.apache.iceberg.TableMetadataParser;
 import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.TableProperties;
@@ -92,15 +93,26 @@ public class HadoopTableOperations implements TableOperations {
     return Pair.of(version, currentMetadata);
   }
 
-  private synchronized void updateVersionAndMetadata(int newVersion, String metadataFile) {
+  private synchronized void updateVersionAndMetadata(int newVersion, Path metadataFile)
+      throws IOException {
     // update if the current version is out of date
     if (version == null || version != newVersion) {
       this.version = newVersion;
-      this.currentMetadata =
-          checkUUID(currentMetadata, TableMetadataParser.read(io(), metadataFile));
+      this.currentMetadata = checkUUID(currentMetadata, readMetadata(metadataFile));
     }
   }
 
+  private TableMetadata readMetadata(Path metadataFile) throws IOException {
+    if (TableMetadataCache.enabled()) {
+      // metadata file names are reused when a table is dropped and created again
+      FileStatus status = getFileSystem(metadataFile, conf).getFileStatus(metadataFile);
+      return TableMetadataCache.shared()
+          .get(io(), metadataFile.toString(), status.getModificationTime());
+    }
+
+    return TableMetadataParser.read(io(), metadataFile.toString());
+  }
+
   @Override
   public TableMetadata refresh() {
     int ver = version != null ? version : findVersion();
@@ -120,7 +132,7 @@ public class HadoopTableOperations implements TableOperations {
         nextMetadataFile = getMetadataFile(ver + 1);
       }
 
-      updateVersionAndMetadata(ver, metadataFile.toString());
+      updateVersionAndMetadata(ver, metadataFile);
 
       this.shouldRefresh = false;
       return currentMetadata;
@@ -28,6 +28,8 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.ValidationException;
@@ -47,15 +49,29 @@ import org.slf4j.LoggerFactory;
  * does not exist in the cache yet, a regular InputFile will be instantiated, read-ahead, and loaded
  * into the cache before returning ByteBufferInputStream. The regular InputFile is also used as a
  * fallback if cache loading fail.
+ *
+ * <p>ContentCache can optionally be configured with a local disk directory. File-content that is
+ * evicted from the heap because of size or expiration is then written to memory-mapped files in
+ * that directory, up to a separate size limit, and served from there instead of reading the file
+ * again.
+ *
+ * <p>File-content can also be kept off-heap in pooled direct buffers instead of heap byte arrays.
+ * Off-heap content is reference counted by the streams that read it, and its buffers are returned
+ * to the pool once the content is evicted and all of its streams are closed.
  */
 public class ContentCache {
   private static final Logger LOG = LoggerFactory.getLogger(ContentCache.class);
   private static final int BUFFER_CHUNK_SIZE = 4 * 1024 * 1024; // 4MB
+  private static final int DIRECT_BUFFER_CHUNK_SIZE = 64 * 1024; // 64KB
 
   private final long expireAfterAccessMs;
   private final long maxTotalBytes;
   private final long maxContentLength;
   private final Cache<String, FileContent> cache;
+  private final DiskContentCache diskCache;
+  // the disk tier is shared with other caches, so entries of this cache use a unique key prefix
+  private final String diskKeyPrefix = UUID.randomUUID() + "/";
+  private final DirectBufferPool bufferPool;
 
   /**
    * Constructor for ContentCache class.
@@ -69,28 +85,106 @@ public class ContentCache {
    *     be greater than 0.
    */
   public ContentCache(long expireAfterAccessMs, long maxTotalBytes, long maxContentLength) {
+    this(expireAfterAccessMs, maxTotalBytes, maxContentLength, null, 0L, false);
+  }
+
+  /**
+   * Constructor for ContentCache class with a local disk tier.
+   *
+   * @param expireAfterAccessMs controls the duration for which entries in the ContentCache are hold
+   *     since last access. Must be greater or equal than 0. Setting 0 means cache entries expire
+   *     only if it gets evicted due to memory pressure.
+   * @param maxTotalBytes controls the maximum total amount of bytes to cache in ContentCache. Must
+   *     be greater than 0.
+   * @param maxContentLength controls the maximum length of file to be considered for caching. Must
+   *     be greater than 0.
+   * @param diskDirectory a local directory for file-content evicted from the heap, or null to
+   *     disable the disk tier.
+   * @param maxDiskTotalBytes controls the maximum total amount of bytes to store in diskDirectory.
+   *     Must be greater than 0 if diskDirectory is set.
+   */
+  public ContentCache(
+      long expireAfterAccessMs,
+      long maxTotalBytes,
+      long maxContentLength,
+      String diskDirectory,
+      long maxDiskTotalBytes) {
+    this(
+        expireAfterAccessMs,
+        maxTotalBytes,
+        maxContentLength,
+        diskDirectory,
+        maxDiskTotalBytes,
+        false);
+  }
+
+  /**
+   * Constructor for ContentCache class with a local disk tier and a choice of buffer allocation.
+   *
+   * @param expireAfterAccessMs controls the duration for which entries in the ContentCache are hold
+   *     since last access. Must be greater or equal than 0. Setting 0 means cache entries expire
+   *     only if it gets evicted due to memory pressure.
+   * @param maxTotalBytes controls the maximum total amount of bytes to cache in ContentCache. Must
+   *     be greater than 0.
+   * @param maxContentLength controls the maximum length of file to be considered for caching. Must
+   *     be greater than 0.
+   * @param diskDirectory a local directory for file-content evicted from the heap, or null to
+   *     disable the disk tier.
+   * @param maxDiskTotalBytes controls the maximum total amount of bytes to store in diskDirectory.
+   *     Must be greater than 0 if diskDirectory is set.
+   * @param offHeap whether to store file-content in pooled direct buffers instead of heap arrays.
+   *     Direct buffers, including released buffers that are pooled for reuse, are limited to
+   *     maxTotalBytes. Content that does not fit is stored on the heap.
+   */
+  public ContentCache(
+      long expireAfterAccessMs,
+      long maxTotalBytes,
+      long maxContentLength,
+      String diskDirectory,
+      long maxDiskTotalBytes,
+      boolean offHeap) {
     ValidationException.check(expireAfterAccessMs >= 0, "expireAfterAccessMs is less than 0");
     ValidationException.check(maxTotalBytes > 0, "maxTotalBytes is equal or less than 0");
     ValidationException.check(maxContentLength > 0, "maxContentLength is equal or less than 0");
     this.expireAfterAccessMs = expireAfterAccessMs;
     this.maxTotalBytes = maxTotalBytes;
     this.maxContentLength = maxContentLength;
+    this.diskCache =
+        diskDirectory != null ? DiskContentCache.shared(diskDirectory, maxDiskTotalBytes) : null;
+    this.bufferPool =
+        offHeap
+            ? new DirectBufferPool(
+                DIRECT_BUFFER_CHUNK_SIZE,
+                (int) Math.min(Integer.MAX_VALUE, maxTotalBytes / DIRECT_BUFFER_CHUNK_SIZE))
+            : null;
 
     Caffeine<Object, Object> builder = Caffeine.newBuilder();
     if (expireAfterAccessMs > 0) {
       builder = builder.expireAfterAccess(Duration.ofMillis(expireAfterAccessMs));
     }
 
+    if (!offHeap) {
+      // off-heap content must be released explicitly, so it cannot be collected by the GC
+      builder = builder.softValues();
+    }
+
     this.cache =
         builder
             .maximumWeight(maxTotalBytes)
             .weigher(
                 (Weigher<String, FileContent>)
-                    (key, value) -> (int) Math.min(value.length, Integer.MAX_VALUE))
-            .softValues()
+                    (key, value) -> (int) Math.min(value.weight, Integer.MAX_VALUE))
             .removalListener(
-                (location, fileContent, cause) ->
-                    LOG.debug("Evicted {} from ContentCache ({})", location, cause))
+                (location, fileContent, cause) -> {
+                  LOG.debug("Evicted {} from ContentCache ({})", location, cause);
+                  if (fileContent != null) {
+                    if (diskCache != null && cause.wasEvicted()) {
+                      diskCache.put(diskKey(location), fileContent.length, fileContent.buffers);
+                    }
+
+                    fileContent.release();
+                  }
+                })
             .recordStats()
             .build();
   }
@@ -107,10 +201,30 @@ public class ContentCache {
     return maxTotalBytes;
   }
 
+  public boolean isOffHeap() {
+    return bufferPool != null;
+  }
+
   public CacheStats stats() {
     return cache.stats();
   }
 
+  public long maxDiskTotalBytes() {
+    return diskCache != null ? diskCache.maxTotalBytes() : 0L;
+  }
+
+  /**
+   * Returns the stats of the disk tier.
+   *
+   * <p>The disk tier is only consulted after a miss in the heap, so its request count is the number
+   * of heap misses while the disk tier is enabled.
+   *
+   * @return stats of the disk tier, or empty stats if there is no disk tier
+   */
+  public CacheStats diskStats() {
+    return diskCache != null ? diskCache.stats() : CacheStats.empty();
+  }
+
   /** @deprecated will be removed in 1.7; use {@link #tryCache(InputFile)} instead */
   @Deprecated
   public CacheEntry get(String key, Function<String, FileContent> mappingFunction) {
@@ -149,27 +263,47 @@ public class ContentCache {
 
   public void invalidate(String key) {
     cache.invalidate(key);
+    if (diskCache != null) {
+      diskCache.invalidate(diskKey(key));
+    }
   }
 
   public void invalidateAll() {
     cache.invalidateAll();
+    if (diskCache != null) {
+      diskCache.invalidateAll(diskKeyPrefix);
+    }
   }
 
   public void cleanUp() {
     cache.cleanUp();
+    if (diskCache != null) {
+      diskCache.cleanUp();
+    }
   }
 
   public long estimatedCacheSize() {
     return cache.estimatedSize();
   }
 
+  public long estimatedDiskCacheSize() {
+    return diskCache != null ? diskCache.estimatedSize(diskKeyPrefix) : 0L;
+  }
+
+  private String diskKey(String location) {
+    return diskKeyPrefix + location;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
         .add("expireAfterAccessMs", expireAfterAccessMs)
         .add("maxContentLength", maxContentLength)
         .add("maxTotalBytes", maxTotalBytes)
+        .add("offHeap", isOffHeap())
         .add("cacheStats", cache.stats())
+        .add("maxDiskTotalBytes", maxDiskTotalBytes())
+        .add("diskCacheStats", diskStats())
         .toString();
   }
 
@@ -179,11 +313,117 @@ public class ContentCache {
 
   private static class FileContent extends CacheEntry {
     private final long length;
+    private final long weight;
     private final List<ByteBuffer> buffers;
+    private final DirectBufferPool pool;
+    // one reference is held by the cache, one by each open stream of pooled content
+    private final AtomicInteger refCount = new AtomicInteger(1);
 
     private FileContent(long length, List<ByteBuffer> buffers) {
+      this(length, length, buffers, null);
+    }
+
+    private FileContent(long length, long weight, List<ByteBuffer> buffers, DirectBufferPool pool) {
       this.length = length;
+      this.weight = weight;
       this.buffers = buffers;
+      this.pool = pool;
+    }
+
+    /**
+     * Opens a stream over this content.
+     *
+     * @return a stream, or null if pooled content was already released
+     */
+    private SeekableInputStream newStream() {
+      if (pool == null) {
+        return ByteBufferInputStream.wrap(buffers);
+      }
+
+      int refs;
+      do {
+        refs = refCount.get();
+        if (refs <= 0) {
+          return null;
+        }
+      } while (!refCount.compareAndSet(refs, refs + 1));
+
+      return new PooledContentInputStream(this);
+    }
+
+    private void release() {
+      if (pool != null && refCount.decrementAndGet() == 0) {
+        for (ByteBuffer buffer : buffers) {
+          pool.release(buffer);
+        }
+      }
+    }
+  }
+
+  /**
+   * A stream over pooled {@link FileContent} that reads directly from the direct buffers and
+   * releases its reference to the content when closed.
+   *
+   * <p>This intentionally is not a {@link ByteBufferInputStream} so that callers cannot hold on to
+   * slices of buffers that are returned to the pool after close.
+   */
+  private static class PooledContentInputStream extends SeekableInputStream {
+    private final FileContent content;
+    private final ByteBufferInputStream delegate;
+    private boolean closed = false;
+
+    private PooledContentInputStream(FileContent content) {
+      this.content = content;
+      this.delegate = ByteBufferInputStream.wrap(content.buffers);
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return delegate.getPos();
+    }
+
+    @Override
+    public void seek(long newPos) throws IOException {
+      checkOpen();
+      delegate.seek(newPos);
+    }
+
+    @Override
+    public int read() throws IOException {
+      checkOpen();
+      return delegate.read();
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+      checkOpen();
+      return delegate.read(bytes, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      checkOpen();
+      return delegate.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+      checkOpen();
+      return delegate.available();
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        this.closed = true;
+        content.release();
+      }
+    }
+
+    private void checkOpen() throws IOException {
+      if (closed) {
+        throw new IOException("Stream is closed");
+      }
     }
   }
 
@@ -210,9 +450,16 @@ public class ContentCache {
       FileContent buf = contentCache.cache.getIfPresent(input.location());
       if (buf != null) {
         return buf.length;
-      } else {
-        return input.getLength();
       }
+
+      if (contentCache.diskCache != null) {
+        long length = contentCache.diskCache.length(contentCache.diskKey(input.location()));
+        if (length >= 0) {
+          return length;
+        }
+      }
+
+      return input.getLength();
     }
 
     /**
@@ -245,19 +492,87 @@ public class ContentCache {
     @Override
     public boolean exists() {
       FileContent buf = contentCache.cache.getIfPresent(input.location());
-      return buf != null || input.exists();
+      return buf != null
+          || (contentCache.diskCache != null
+              && contentCache.diskCache.length(contentCache.diskKey(location())) >= 0)
+          || input.exists();
     }
 
     private SeekableInputStream cachedStream() throws IOException {
+      DiskContentCache diskCache = contentCache.diskCache;
+      if (diskCache != null && !contentCache.cache.asMap().containsKey(input.location())) {
+        // content is only in one of the tiers, so check the disk before downloading on a heap miss
+        List<ByteBuffer> buffers = diskCache.getIfPresent(contentCache.diskKey(input.location()));
+        if (buffers != null) {
+          return ByteBufferInputStream.wrap(buffers);
+        }
+      }
+
       try {
-        FileContent content = contentCache.cache.get(input.location(), k -> download(input));
-        return ByteBufferInputStream.wrap(content.buffers);
+        FileContent content =
+            contentCache.cache.get(
+                input.location(),
+                k ->
+                    contentCache.bufferPool != null
+                        ? downloadDirect(input, contentCache.bufferPool)
+                        : download(input));
+        SeekableInputStream stream = content.newStream();
+        if (stream == null) {
+          // the content was evicted and released concurrently
+          throw new IOException(
+              String.format("Content of %s was evicted while opening", input.location()));
+        }
+
+        return stream;
       } catch (UncheckedIOException ex) {
         throw ex.getCause();
       }
     }
   }
 
+  private static FileContent downloadDirect(InputFile input, DirectBufferPool pool) {
+    List<ByteBuffer> buffers = Lists.newArrayList();
+    try (SeekableInputStream stream = input.newStream()) {
+      long fileLength = input.getLength();
+      long totalBytesToRead = fileLength;
+      byte[] buf = new byte[pool.chunkSize()];
+
+      while (totalBytesToRead > 0) {
+        // read the stream in chunks and copy each chunk into a pooled direct buffer
+        int bytesToRead = (int) Math.min(pool.chunkSize(), totalBytesToRead);
+        int bytesRead = IOUtil.readRemaining(stream, buf, 0, bytesToRead);
+        totalBytesToRead -= bytesRead;
+
+        if (bytesRead < bytesToRead) {
+          // Read less than it should be, possibly hitting EOF. Abandon caching by throwing
+          // IOException and let the caller fallback to non-caching input file.
+          throw new IOException(
+              String.format(
+                  "Failed to read %d bytes: %d bytes in stream",
+                  fileLength, fileLength - totalBytesToRead));
+        } else {
+          ByteBuffer chunk = pool.acquire();
+          buffers.add(chunk);
+          chunk.put(buf, 0, bytesRead);
+          chunk.flip();
+        }
+      }
+
+      if (buffers.isEmpty()) {
+        buffers.add(ByteBuffer.allocate(0));
+        return new FileContent(fileLength, buffers);
+      }
+
+      return new FileContent(fileLength, (long) buffers.size() * pool.chunkSize(), buffers, pool);
+    } catch (IOException ex) {
+      buffers.stream().filter(ByteBuffer::isDirect).forEach(pool::release);
+      throw new UncheckedIOException(ex);
+    } catch (RuntimeException ex) {
+      buffers.stream().filter(ByteBuffer::isDirect).forEach(pool::release);
+      throw ex;
+    }
+  }
+
   private static FileContent download(InputFile input) {
     try (SeekableInputStream stream = input.newStream()) {
       long fileLength = input.getLength();
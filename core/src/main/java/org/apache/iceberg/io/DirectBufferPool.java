@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of fixed-size direct {@link ByteBuffer} chunks.
+ *
+ * <p>The pool allocates at most a maximum number of direct chunks, counting both chunks that are in
+ * use and released chunks that are kept for reuse, so direct memory use stays within the owner's
+ * budget. When the limit is reached or direct memory is exhausted, chunks are allocated on the
+ * heap instead. Heap chunks are not pooled.
+ */
+class DirectBufferPool {
+  private static final Logger LOG = LoggerFactory.getLogger(DirectBufferPool.class);
+
+  private final int chunkSize;
+  private final int maxDirectChunks;
+  private final ConcurrentLinkedQueue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pooledChunks = new AtomicInteger(0);
+  private final AtomicInteger directChunks = new AtomicInteger(0);
+
+  DirectBufferPool(int chunkSize, int maxDirectChunks) {
+    Preconditions.checkArgument(chunkSize > 0, "Invalid chunk size: %s", chunkSize);
+    Preconditions.checkArgument(
+        maxDirectChunks >= 0, "Invalid max direct chunks: %s", maxDirectChunks);
+    this.chunkSize = chunkSize;
+    this.maxDirectChunks = maxDirectChunks;
+  }
+
+  int chunkSize() {
+    return chunkSize;
+  }
+
+  int pooledChunks() {
+    return pooledChunks.get();
+  }
+
+  int directChunks() {
+    return directChunks.get();
+  }
+
+  /**
+   * Returns a cleared chunk, reusing a pooled chunk if one is available.
+   *
+   * <p>The chunk is a heap buffer if the pool cannot allocate another direct chunk.
+   */
+  ByteBuffer acquire() {
+    ByteBuffer chunk = pool.poll();
+    if (chunk != null) {
+      pooledChunks.decrementAndGet();
+      chunk.clear();
+      return chunk;
+    }
+
+    if (directChunks.incrementAndGet() <= maxDirectChunks) {
+      try {
+        return ByteBuffer.allocateDirect(chunkSize);
+      } catch (OutOfMemoryError e) {
+        LOG.warn("Failed to allocate a direct buffer, using heap memory instead", e);
+      }
+    }
+
+    directChunks.decrementAndGet();
+    return ByteBuffer.allocate(chunkSize);
+  }
+
+  /** Returns a chunk to the pool. The chunk must not be used by the caller afterwards. */
+  void release(ByteBuffer chunk) {
+    Preconditions.checkArgument(
+        chunk.capacity() == chunkSize,
+        "Cannot release a chunk that was not allocated by this pool");
+    if (chunk.isDirect()) {
+      // direct chunks count against the limit until they are garbage collected, so keep them
+      pooledChunks.incrementAndGet();
+      pool.offer(chunk);
+    }
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Second-level storage for {@link ContentCache} that keeps file content in memory-mapped files
+ * under a local directory.
+ *
+ * <p>Content is written here when it is evicted from the heap-based {@link ContentCache} and is
+ * served from the mapped files on later reads. Content caches that use the same root directory and
+ * size share one instance, so disk use is bounded for the JVM rather than for each cache. Each
+ * content cache stores its entries under its own key prefix.
+ *
+ * <p>Each instance uses its own sub-directory of the root directory. Files are deleted when their
+ * entry is evicted, and the sub-directory is deleted when the JVM exits.
+ */
+class DiskContentCache {
+  private static final Logger LOG = LoggerFactory.getLogger(DiskContentCache.class);
+  private static final Map<String, DiskContentCache> SHARED = Maps.newConcurrentMap();
+
+  private final Path directory;
+  private final long maxTotalBytes;
+  private final Cache<String, MappedContent> cache;
+
+  /** Returns the instance that is shared by caches with the same root directory and size. */
+  static DiskContentCache shared(String rootDirectory, long maxTotalBytes) {
+    ValidationException.check(rootDirectory != null, "rootDirectory is null");
+    String key = Paths.get(rootDirectory).toAbsolutePath().normalize() + "|" + maxTotalBytes;
+    return SHARED.computeIfAbsent(
+        key, ignored -> new DiskContentCache(rootDirectory, maxTotalBytes));
+  }
+
+  DiskContentCache(String rootDirectory, long maxTotalBytes) {
+    ValidationException.check(rootDirectory != null, "rootDirectory is null");
+    ValidationException.check(maxTotalBytes > 0, "maxDiskTotalBytes is equal or less than 0");
+    this.maxTotalBytes = maxTotalBytes;
+
+    try {
+      Path root = Paths.get(rootDirectory);
+      Files.createDirectories(root);
+      this.directory = Files.createTempDirectory(root, "iceberg-content-cache-");
+    } catch (IOException e) {
+      throw new RuntimeIOException(
+          e, "Failed to create content cache directory under %s", rootDirectory);
+    }
+
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxTotalBytes)
+            .weigher(
+                (Weigher<String, MappedContent>)
+                    (key, value) -> (int) Math.min(value.length, Integer.MAX_VALUE))
+            .removalListener(
+                (location, content, cause) -> {
+                  LOG.debug("Evicted {} from ContentCache disk tier ({})", location, cause);
+                  if (content != null) {
+                    content.delete();
+                  }
+                })
+            .recordStats()
+            .build();
+
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(this::deleteDirectory, "iceberg-content-cache-cleanup"));
+  }
+
+  Path directory() {
+    return directory;
+  }
+
+  long maxTotalBytes() {
+    return maxTotalBytes;
+  }
+
+  CacheStats stats() {
+    return cache.stats();
+  }
+
+  long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  /** Returns the number of stored entries with keys that start with a prefix. */
+  long estimatedSize(String prefix) {
+    return cache.asMap().keySet().stream().filter(key -> key.startsWith(prefix)).count();
+  }
+
+  /**
+   * Returns the mapped buffers for a location, or null if the location is not stored on disk.
+   *
+   * <p>This records a hit or a miss in the disk tier stats.
+   */
+  List<ByteBuffer> getIfPresent(String location) {
+    MappedContent content = cache.getIfPresent(location);
+    return content != null ? content.buffers : null;
+  }
+
+  /**
+   * Returns the content length for a location, or -1 if it is not stored.
+   *
+   * <p>This does not record a hit or a miss in the disk tier stats.
+   */
+  long length(String location) {
+    MappedContent content = cache.asMap().get(location);
+    return content != null ? content.length : -1L;
+  }
+
+  /**
+   * Writes content to a new local file and maps it into memory.
+   *
+   * <p>Failures are logged and ignored because the content can always be read from the source.
+   */
+  void put(String location, long length, List<ByteBuffer> buffers) {
+    if (length > maxTotalBytes) {
+      return;
+    }
+
+    Path path = directory.resolve(UUID.randomUUID().toString());
+    try (FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.READ)) {
+      for (ByteBuffer buffer : buffers) {
+        ByteBuffer toWrite = buffer.duplicate();
+        while (toWrite.hasRemaining()) {
+          channel.write(toWrite);
+        }
+      }
+
+      List<ByteBuffer> mapped = Lists.newArrayList();
+      long position = 0;
+      while (position < length) {
+        long size = Math.min(Integer.MAX_VALUE, length - position);
+        mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, position, size));
+        position += size;
+      }
+
+      if (mapped.isEmpty()) {
+        mapped.add(ByteBuffer.allocate(0));
+      }
+
+      cache.put(location, new MappedContent(path, length, mapped));
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to write {} to ContentCache disk tier at {}", location, path, e);
+      deleteQuietly(path);
+    }
+  }
+
+  void invalidate(String location) {
+    cache.invalidate(location);
+  }
+
+  void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /** Removes all entries with keys that start with a prefix. */
+  void invalidateAll(String prefix) {
+    cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+  }
+
+  void cleanUp() {
+    cache.cleanUp();
+  }
+
+  private void deleteDirectory() {
+    // removal listeners may not run during shutdown, so files are deleted directly
+    cache.asMap().clear();
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(DiskContentCache::deleteQuietly);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete ContentCache directory {}", directory, e);
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete ContentCache file {}", path, e);
+    }
+  }
+
+  private static class MappedContent {
+    private final Path path;
+    private final long length;
+    private final List<ByteBuffer> buffers;
+
+    private MappedContent(Path path, long length, List<ByteBuffer> buffers) {
+      this.path = path;
+      this.length = length;
+      this.buffers = buffers;
+    }
+
+    /**
+     * Deletes the backing file. Streams that are still reading the mapped buffers are not
+     * affected because the mapping stays valid until the buffers are garbage collected.
+     */
+    private void delete() {
+      deleteQuietly(path);
+    }
+  }
+}
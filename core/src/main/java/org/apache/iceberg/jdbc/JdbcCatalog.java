@@ -135,7 +135,8 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
     if (null != clientPoolBuilder) {
       this.connections = clientPoolBuilder.apply(properties);
     } else {
-      this.connections = new JdbcClientPool(uri, properties);
+      this.connections =
+          new JdbcClientPool(uri, properties, CatalogUtil.loadMetricsContext(properties));
     }
 
     this.initializeCatalogTables =
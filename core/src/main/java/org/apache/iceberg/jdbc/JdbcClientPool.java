@@ -29,8 +29,10 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.ClientPoolImpl;
+import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.PropertyUtil;
 
 public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
 
@@ -56,17 +58,40 @@ public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
   private Set<String> retryableStatusCodes;
 
   public JdbcClientPool(String dbUrl, Map<String, String> props) {
+    this(dbUrl, props, MetricsContext.nullMetrics());
+  }
+
+  public JdbcClientPool(String dbUrl, Map<String, String> props, MetricsContext metricsContext) {
     this(
         Integer.parseInt(
             props.getOrDefault(
                 CatalogProperties.CLIENT_POOL_SIZE,
                 String.valueOf(CatalogProperties.CLIENT_POOL_SIZE_DEFAULT))),
         dbUrl,
-        props);
+        props,
+        metricsContext);
   }
 
   public JdbcClientPool(int poolSize, String dbUrl, Map<String, String> props) {
-    super(poolSize, SQLTransientException.class, true);
+    this(poolSize, dbUrl, props, MetricsContext.nullMetrics());
+  }
+
+  public JdbcClientPool(
+      int poolSize, String dbUrl, Map<String, String> props, MetricsContext metricsContext) {
+    super(
+        poolSize,
+        PropertyUtil.propertyAsInt(
+            props,
+            CatalogProperties.CLIENT_POOL_MIN_SIZE,
+            CatalogProperties.CLIENT_POOL_MIN_SIZE_DEFAULT),
+        PropertyUtil.propertyAsLong(
+            props,
+            CatalogProperties.CLIENT_POOL_IDLE_TIMEOUT_MS,
+            CatalogProperties.CLIENT_POOL_IDLE_TIMEOUT_MS_DEFAULT),
+        SQLTransientException.class,
+        true,
+        1,
+        metricsContext);
     properties = props;
     retryableStatusCodes = Sets.newHashSet();
     retryableStatusCodes.addAll(COMMON_RETRYABLE_CONNECTION_SQL_STATES);
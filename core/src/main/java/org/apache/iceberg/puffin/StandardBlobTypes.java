@@ -26,4 +26,12 @@ public final class StandardBlobTypes {
    * href="https://datasketches.apache.org/">Apache DataSketches</a> library
    */
   public static final String APACHE_DATASKETCHES_THETA_V1 = "apache-datasketches-theta-v1";
+
+  /**
+   * A deletion vector, the deleted positions of a single data file serialized as a 64-bit <a
+   * href="https://roaringbitmap.org/">Roaring</a> bitmap in the portable format, framed by its
+   * length, magic bytes and a CRC-32 checksum. The data file is set in the "referenced-data-file"
+   * blob property and the number of deleted positions in "cardinality".
+   */
+  public static final String DV_V1 = "deletion-vector-v1";
 }
@@ -23,11 +23,13 @@ import static org.apache.iceberg.TableProperties.COMMIT_MIN_RETRY_WAIT_MS_DEFAUL
 import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES_DEFAULT;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.apache.iceberg.BaseMetadataTable;
@@ -52,11 +54,15 @@ import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.NoSuchViewException;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.base.Splitter;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.hash.Hasher;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
+import org.apache.iceberg.rest.requests.LoadTablesRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.UpdateNamespacePropertiesRequest;
@@ -67,6 +73,7 @@ import org.apache.iceberg.rest.responses.ImmutableLoadViewResponse;
 import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.LoadTablesResponse;
 import org.apache.iceberg.rest.responses.LoadViewResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
 import org.apache.iceberg.util.Tasks;
@@ -321,6 +328,84 @@ public class CatalogHandlers {
     throw new IllegalStateException("Cannot wrap catalog that does not produce BaseTable");
   }
 
+  /**
+   * Loads several tables for a single request.
+   *
+   * <p>Tables that do not exist, including metadata tables that are loaded on the client side, are
+   * left out of the response. Like {@link #loadTable(Catalog, TableIdentifier)}, this returns all
+   * snapshots regardless of the requested snapshots mode, which clients must accept.
+   *
+   * <p>Servers that implement this route should advertise {@link Endpoint#V1_LOAD_TABLES} in their
+   * config response, otherwise clients load the tables one at a time.
+   */
+  public static LoadTablesResponse loadTables(Catalog catalog, LoadTablesRequest request) {
+    request.validate();
+
+    LoadTablesResponse.Builder response = LoadTablesResponse.builder();
+    for (TableIdentifier ident : request.identifiers()) {
+      try {
+        response.add(ident, loadTable(catalog, ident));
+      } catch (NoSuchTableException e) {
+        // missing tables are omitted so that the client can report them
+      }
+    }
+
+    return response.build();
+  }
+
+  /**
+   * Returns a version token for a load table response, to send in the {@link
+   * RESTUtil#ETAG_HEADER} response header.
+   *
+   * <p>The token is derived from the metadata file location, the snapshot loading mode, and the
+   * table config, so it changes whenever the response to the same request would change.
+   *
+   * @param response a load table response
+   * @param snapshots the requested snapshot loading mode, or null if the request did not set one
+   * @return a quoted entity tag, or null if the response has no metadata location
+   */
+  public static String loadTableETag(LoadTableResponse response, String snapshots) {
+    if (response.metadataLocation() == null) {
+      return null;
+    }
+
+    Hasher hasher =
+        Hashing.murmur3_128()
+            .newHasher()
+            .putString(response.metadataLocation(), StandardCharsets.UTF_8)
+            .putString(snapshots != null ? snapshots : "all", StandardCharsets.UTF_8);
+    new TreeMap<>(response.config())
+        .forEach(
+            (key, value) ->
+                hasher
+                    .putString(key, StandardCharsets.UTF_8)
+                    .putString(value, StandardCharsets.UTF_8));
+
+    return "\"" + hasher.hash() + "\"";
+  }
+
+  /**
+   * Returns whether a conditional request already has the current version of a resource.
+   *
+   * @param requestHeaders the request headers
+   * @param etag the current entity tag of the resource, or null if it has none
+   * @return true if the request's {@link RESTUtil#IF_NONE_MATCH_HEADER} matches the entity tag
+   */
+  public static boolean notModified(Map<String, String> requestHeaders, String etag) {
+    String ifNoneMatch = RESTUtil.header(requestHeaders, RESTUtil.IF_NONE_MATCH_HEADER);
+    if (etag == null || ifNoneMatch == null) {
+      return false;
+    }
+
+    for (String tag : Splitter.on(',').trimResults().split(ifNoneMatch)) {
+      if (tag.equals("*") || tag.equals(etag)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   public static LoadTableResponse updateTable(
       Catalog catalog, TableIdentifier ident, UpdateTableRequest request) {
     TableMetadata finalMetadata;
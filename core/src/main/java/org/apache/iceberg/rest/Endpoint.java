@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.base.Splitter;
+
+/**
+ * An HTTP method and resource path that a REST server advertises in its config response.
+ *
+ * <p>Clients only call optional routes, like {@link #V1_LOAD_TABLES}, when the server advertised
+ * them. Endpoints are written as the method, a space, and the path template, for example {@code
+ * POST /v1/{prefix}/tables/load}.
+ */
+public class Endpoint {
+  private static final Splitter ENDPOINT_SPLITTER = Splitter.on(" ");
+
+  public static final Endpoint V1_LOAD_TABLES = create("POST", "/v1/{prefix}/tables/load");
+
+  private final String httpMethod;
+  private final String path;
+
+  private Endpoint(String httpMethod, String path) {
+    this.httpMethod = httpMethod;
+    this.path = path;
+  }
+
+  public static Endpoint create(String httpMethod, String path) {
+    Preconditions.checkArgument(
+        httpMethod != null && !httpMethod.isEmpty(), "Invalid HTTP method: null or empty");
+    Preconditions.checkArgument(path != null && !path.isEmpty(), "Invalid path: null or empty");
+    return new Endpoint(httpMethod.toUpperCase(Locale.ROOT), path);
+  }
+
+  public static Endpoint fromString(String endpoint) {
+    List<String> parts = ENDPOINT_SPLITTER.splitToList(endpoint);
+    Preconditions.checkArgument(
+        parts.size() == 2, "Invalid endpoint (must consist of two elements): %s", endpoint);
+    return create(parts.get(0), parts.get(1));
+  }
+
+  public String httpMethod() {
+    return httpMethod;
+  }
+
+  public String path() {
+    return path;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    Endpoint that = (Endpoint) o;
+    return httpMethod.equals(that.httpMethod) && path.equals(that.path);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(httpMethod, path);
+  }
+
+  @Override
+  public String toString() {
+    return httpMethod + " " + path;
+  }
+}
@@ -154,6 +154,16 @@ public class HTTPClient implements RESTClient {
         || code == HttpStatus.SC_NO_CONTENT;
   }
 
+  /**
+   * A 304 Not Modified response is only expected for a conditional request, any other 304 response
+   * is handled as a failure.
+   */
+  private static boolean isNotModified(
+      HttpUriRequestBase request, CloseableHttpResponse response) {
+    return response.getCode() == HttpStatus.SC_NOT_MODIFIED
+        && request.containsHeader(RESTUtil.IF_NONE_MATCH_HEADER);
+  }
+
   private static ErrorResponse buildDefaultErrorResponse(CloseableHttpResponse response) {
     String responseReason = response.getReasonPhrase();
     String message =
@@ -311,8 +321,10 @@ public class HTTPClient implements RESTClient {
       responseHeaders.accept(respHeaders);
 
       // Skip parsing the response stream for any successful request not expecting a response body
+      // and for conditional requests when the resource was not modified
       if (response.getCode() == HttpStatus.SC_NO_CONTENT
-          || (responseType == null && isSuccessful(response))) {
+          || (responseType == null && isSuccessful(response))
+          || isNotModified(request, response)) {
         return null;
       }
 
@@ -358,6 +370,18 @@ public class HTTPClient implements RESTClient {
     return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
   }
 
+  @Override
+  public <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return execute(
+        Method.GET, path, queryParams, null, responseType, headers, errorHandler, responseHeaders);
+  }
+
   @Override
   public <T extends RESTResponse> T post(
       String path,
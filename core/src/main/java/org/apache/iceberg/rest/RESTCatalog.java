@@ -259,6 +259,16 @@ public class RESTCatalog
     sessionCatalog.close();
   }
 
+  /**
+   * Loads several tables, sending the requests concurrently.
+   *
+   * @param identifiers table identifiers
+   * @return the tables, in the same order as the identifiers
+   */
+  public List<Table> loadTables(List<TableIdentifier> identifiers) {
+    return sessionCatalog.loadTables(context, identifiers);
+  }
+
   public void commitTransaction(List<TableCommit> commits) {
     sessionCatalog.commitTransaction(context, commits);
   }
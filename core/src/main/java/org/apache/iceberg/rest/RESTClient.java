@@ -103,6 +103,34 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  default <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Supplier<Map<String, String>> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return get(path, queryParams, responseType, headers.get(), errorHandler, responseHeaders);
+  }
+
+  /**
+   * Sends a GET request and passes the response headers to a consumer.
+   *
+   * <p>A conditional request, for example one that sends an {@code If-None-Match} header, returns
+   * null when the server responds with 304 Not Modified. Clients that do not support response
+   * headers send the request without passing headers to the consumer, so callers never learn a
+   * version token and do not send conditional requests.
+   */
+  default <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return get(path, queryParams, responseType, headers, errorHandler);
+  }
+
   default <T extends RESTResponse> T post(
       String path,
       RESTRequest body,
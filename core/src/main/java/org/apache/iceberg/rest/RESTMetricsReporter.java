@@ -29,6 +29,9 @@ import org.slf4j.LoggerFactory;
 /**
  * A {@link MetricsReporter} implementation that reports the {@link MetricsReport} to a REST
  * endpoint. This is the default metrics reporter when using {@link RESTCatalog}.
+ *
+ * <p>Reports are sent on the caller's thread unless a {@link RESTMetricsSender} is passed, in which
+ * case they are queued and sent in the background.
  */
 class RESTMetricsReporter implements MetricsReporter {
   private static final Logger LOG = LoggerFactory.getLogger(RESTMetricsReporter.class);
@@ -36,12 +39,22 @@ class RESTMetricsReporter implements MetricsReporter {
   private final RESTClient client;
   private final String metricsEndpoint;
   private final Supplier<Map<String, String>> headers;
+  private final RESTMetricsSender sender;
 
   RESTMetricsReporter(
       RESTClient client, String metricsEndpoint, Supplier<Map<String, String>> headers) {
+    this(client, metricsEndpoint, headers, null);
+  }
+
+  RESTMetricsReporter(
+      RESTClient client,
+      String metricsEndpoint,
+      Supplier<Map<String, String>> headers,
+      RESTMetricsSender sender) {
     this.client = client;
     this.metricsEndpoint = metricsEndpoint;
     this.headers = headers;
+    this.sender = sender;
   }
 
   @Override
@@ -51,6 +64,11 @@ class RESTMetricsReporter implements MetricsReporter {
       return;
     }
 
+    if (sender != null) {
+      sender.send(metricsEndpoint, headers, report);
+      return;
+    }
+
     try {
       client.post(
           metricsEndpoint,
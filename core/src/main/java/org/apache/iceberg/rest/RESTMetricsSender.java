@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.rest.requests.ReportMetricsRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends metrics reports to REST endpoints from a background thread.
+ *
+ * <p>Reports are added to a bounded queue and the background thread takes up to {@link
+ * #BATCH_SIZE} reports from the queue at a time. The REST endpoint accepts one report per request,
+ * so the reports of a batch are sent one after another, each in its own request. When the queue is
+ * full, new reports are dropped and counted instead of blocking the caller. Closing the sender
+ * stops accepting reports and sends the reports that are still queued, waiting up to the close
+ * timeout.
+ *
+ * <p>The background thread is a daemon thread that waits for reports without polling, so an idle
+ * sender does not use CPU and does not delay JVM exit.
+ */
+class RESTMetricsSender implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(RESTMetricsSender.class);
+  static final int BATCH_SIZE = 100;
+  // queued by close after the accepted reports to stop the background thread
+  private static final PendingReport STOP = new PendingReport(null, null, null);
+
+  private final RESTClient client;
+  private final BlockingQueue<PendingReport> queue;
+  private final long closeTimeoutMs;
+  private final Thread thread;
+  private final AtomicLong sent = new AtomicLong(0);
+  private final AtomicLong failed = new AtomicLong(0);
+  private final AtomicLong dropped = new AtomicLong(0);
+  private volatile boolean closed = false;
+  private volatile boolean abandoned = false;
+
+  RESTMetricsSender(RESTClient client, String name, int queueSize, long closeTimeoutMs) {
+    Preconditions.checkArgument(queueSize > 0, "Invalid queue size: %s", queueSize);
+    Preconditions.checkArgument(closeTimeoutMs >= 0, "Invalid close timeout: %s", closeTimeoutMs);
+    this.client = client;
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+    this.closeTimeoutMs = closeTimeoutMs;
+    this.thread = new Thread(this::run, name + "-metrics-reporter");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Queues a report to send to an endpoint.
+   *
+   * @return true if the report was queued, false if it was dropped
+   */
+  boolean send(String endpoint, Supplier<Map<String, String>> headers, MetricsReport report) {
+    if (closed || !queue.offer(new PendingReport(endpoint, headers, report))) {
+      long numDropped = dropped.incrementAndGet();
+      LOG.debug("Dropped metrics report for {} ({} dropped in total)", endpoint, numDropped);
+      return false;
+    }
+
+    return true;
+  }
+
+  /** Returns the number of reports sent to their endpoint. */
+  long sentReports() {
+    return sent.get();
+  }
+
+  /** Returns the number of reports that were sent but rejected or could not be delivered. */
+  long failedReports() {
+    return failed.get();
+  }
+
+  /** Returns the number of reports that were dropped because the queue was full or closed. */
+  long droppedReports() {
+    return dropped.get();
+  }
+
+  @VisibleForTesting
+  boolean isRunning() {
+    return thread.isAlive();
+  }
+
+  private void run() {
+    List<PendingReport> batch = Lists.newArrayListWithCapacity(BATCH_SIZE);
+    try {
+      // a send interrupted by close may swallow the interrupt, so also check the flag
+      while (!abandoned) {
+        batch.add(queue.take());
+        queue.drainTo(batch, BATCH_SIZE - 1);
+        for (PendingReport pending : batch) {
+          if (pending == STOP || abandoned) {
+            return;
+          }
+
+          sendNow(pending);
+        }
+
+        batch.clear();
+      }
+    } catch (InterruptedException e) {
+      // close timed out while waiting
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void sendNow(PendingReport pending) {
+    try {
+      client.post(
+          pending.endpoint,
+          ReportMetricsRequest.of(pending.report),
+          null,
+          pending.headers,
+          ErrorHandlers.defaultErrorHandler());
+      sent.incrementAndGet();
+    } catch (Exception e) {
+      failed.incrementAndGet();
+      LOG.warn("Failed to report metrics to REST endpoint {}", pending.endpoint, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    this.closed = true;
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(closeTimeoutMs);
+    try {
+      // the thread sends the reports queued before the marker and then stops
+      if (queue.offer(STOP, closeTimeoutMs, TimeUnit.MILLISECONDS)) {
+        long remainingMs =
+            TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadlineNanos - System.nanoTime()));
+        thread.join(Math.max(1, remainingMs));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (thread.isAlive()) {
+      this.abandoned = true;
+      thread.interrupt();
+    }
+
+    // reports that could not be sent before the timeout are dropped
+    int remaining = (int) queue.stream().filter(pending -> pending != STOP).count();
+    queue.clear();
+    if (remaining > 0) {
+      dropped.addAndGet(remaining);
+      LOG.warn("Dropped {} queued metrics reports that were not sent before close", remaining);
+    }
+  }
+
+  private static class PendingReport {
+    private final String endpoint;
+    private final Supplier<Map<String, String>> headers;
+    private final MetricsReport report;
+
+    private PendingReport(
+        String endpoint, Supplier<Map<String, String>> headers, MetricsReport report) {
+      this.endpoint = endpoint;
+      this.headers = headers;
+      this.report = report;
+    }
+  }
+}
@@ -25,13 +25,16 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -68,6 +71,7 @@ import org.apache.iceberg.metrics.MetricsReporters;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.rest.auth.AuthConfig;
@@ -80,6 +84,7 @@ import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
 import org.apache.iceberg.rest.requests.ImmutableCreateViewRequest;
 import org.apache.iceberg.rest.requests.ImmutableRegisterTableRequest;
+import org.apache.iceberg.rest.requests.LoadTablesRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.UpdateNamespacePropertiesRequest;
@@ -90,12 +95,14 @@ import org.apache.iceberg.rest.responses.GetNamespaceResponse;
 import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.LoadTablesResponse;
 import org.apache.iceberg.rest.responses.LoadViewResponse;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
 import org.apache.iceberg.util.EnvironmentUtil;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
 import org.apache.iceberg.view.BaseView;
 import org.apache.iceberg.view.ImmutableSQLViewRepresentation;
@@ -114,8 +121,18 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   private static final Logger LOG = LoggerFactory.getLogger(RESTSessionCatalog.class);
   private static final String DEFAULT_FILE_IO_IMPL = "org.apache.iceberg.io.ResolvingFileIO";
   private static final String REST_METRICS_REPORTING_ENABLED = "rest-metrics-reporting-enabled";
+  private static final String REST_METRICS_REPORTING_ASYNC = "rest-metrics-reporting-async";
+  private static final String REST_METRICS_REPORTING_QUEUE_SIZE =
+      "rest-metrics-reporting-queue-size";
+  private static final int REST_METRICS_REPORTING_QUEUE_SIZE_DEFAULT = 1000;
+  private static final String REST_METRICS_REPORTING_CLOSE_TIMEOUT_MS =
+      "rest-metrics-reporting-close-timeout-ms";
+  private static final long REST_METRICS_REPORTING_CLOSE_TIMEOUT_MS_DEFAULT = 5000L;
   private static final String REST_SNAPSHOT_LOADING_MODE = "snapshot-loading-mode";
   public static final String REST_PAGE_SIZE = "rest-page-size";
+  private static final String REST_TABLE_VERSION_CACHE_SIZE = "rest-table-version-cache-size";
+  private static final int REST_TABLE_VERSION_CACHE_SIZE_DEFAULT = 1000;
+  private static final int TABLE_LOAD_THREADS = 16;
   private static final List<String> TOKEN_PREFERENCE_ORDER =
       ImmutableList.of(
           OAuth2Properties.ID_TOKEN_TYPE,
@@ -129,6 +146,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   private Cache<String, AuthSession> sessions = null;
   private Cache<String, AuthSession> tableSessions = null;
   private Cache<TableOperations, FileIO> fileIOCloser;
+  private Cache<String, VersionedResponse> tableVersions = null;
   private AuthSession catalogAuth = null;
   private boolean keepTokenRefreshed = true;
   private RESTClient client = null;
@@ -138,7 +156,9 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   private FileIO io = null;
   private MetricsReporter reporter = null;
   private boolean reportingViaRestEnabled;
+  private RESTMetricsSender metricsSender = null;
   private Integer pageSize = null;
+  private Set<Endpoint> endpoints = ImmutableSet.of();
   private CloseableGroup closeables = null;
 
   // a lazy thread pool for token refresh
@@ -257,10 +277,30 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
                     mergedProps, REST_SNAPSHOT_LOADING_MODE, SnapshotMode.ALL.name())
                 .toUpperCase(Locale.US));
 
+    this.tableVersions = newTableVersionCache(mergedProps);
+
+    this.endpoints = ImmutableSet.copyOf(config.endpoints());
+
     this.reporter = CatalogUtil.loadMetricsReporter(mergedProps);
 
     this.reportingViaRestEnabled =
         PropertyUtil.propertyAsBoolean(mergedProps, REST_METRICS_REPORTING_ENABLED, true);
+    if (reportingViaRestEnabled
+        && PropertyUtil.propertyAsBoolean(mergedProps, REST_METRICS_REPORTING_ASYNC, false)) {
+      this.metricsSender =
+          new RESTMetricsSender(
+              client,
+              name,
+              PropertyUtil.propertyAsInt(
+                  mergedProps,
+                  REST_METRICS_REPORTING_QUEUE_SIZE,
+                  REST_METRICS_REPORTING_QUEUE_SIZE_DEFAULT),
+              PropertyUtil.propertyAsLong(
+                  mergedProps,
+                  REST_METRICS_REPORTING_CLOSE_TIMEOUT_MS,
+                  REST_METRICS_REPORTING_CLOSE_TIMEOUT_MS_DEFAULT));
+    }
+
     super.initialize(name, mergedProps);
   }
 
@@ -358,14 +398,46 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
     client.post(paths.rename(), request, null, headers(context), ErrorHandlers.tableErrorHandler());
   }
 
-  private LoadTableResponse loadInternal(
+  private VersionedResponse loadInternal(
       SessionContext context, TableIdentifier identifier, SnapshotMode mode) {
-    return client.get(
-        paths.table(identifier),
-        mode.params(),
-        LoadTableResponse.class,
-        headers(context),
-        ErrorHandlers.tableErrorHandler());
+    String path = paths.table(identifier);
+
+    // responses are cached per session because access to the table may depend on the credentials
+    String cacheKey = context.sessionId() + ":" + mode + ":" + path;
+    VersionedResponse cached = tableVersions != null ? tableVersions.getIfPresent(cacheKey) : null;
+    Map<String, String> headers = headers(context).get();
+    if (cached != null) {
+      headers =
+          RESTUtil.merge(headers, ImmutableMap.of(RESTUtil.IF_NONE_MATCH_HEADER, cached.etag()));
+    }
+
+    AtomicReference<String> etag = new AtomicReference<>();
+    LoadTableResponse response =
+        client.get(
+            path,
+            mode.params(),
+            LoadTableResponse.class,
+            headers,
+            ErrorHandlers.tableErrorHandler(),
+            responseHeaders -> etag.set(RESTUtil.header(responseHeaders, RESTUtil.ETAG_HEADER)));
+
+    if (response == null) {
+      // the server responded with 304 Not Modified, reuse the cached response
+      Preconditions.checkState(cached != null, "Invalid load table response: null");
+      return cached;
+    }
+
+    VersionedResponse loaded = new VersionedResponse(etag.get(), response);
+    if (tableVersions != null) {
+      // table config may hold vended credentials that expire, so it is always loaded again
+      if (etag.get() != null && response.config().isEmpty()) {
+        tableVersions.put(cacheKey, loaded);
+      } else {
+        tableVersions.invalidate(cacheKey);
+      }
+    }
+
+    return loaded;
   }
 
   @Override
@@ -373,7 +445,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
     checkIdentifierIsValid(identifier);
 
     MetadataTableType metadataType;
-    LoadTableResponse response;
+    VersionedResponse response;
     TableIdentifier loadedIdent;
     try {
       response = loadInternal(context, identifier, snapshotMode);
@@ -398,11 +470,89 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
       }
     }
 
-    TableIdentifier finalIdentifier = loadedIdent;
+    return tableFromResponse(
+        context, loadedIdent, metadataType, response.response(), response.etag(), snapshotMode);
+  }
+
+  /**
+   * Loads several tables, sending the requests concurrently.
+   *
+   * <p>When the server advertises {@link Endpoint#V1_LOAD_TABLES}, the tables are requested from
+   * the server in a single call and only the tables missing from its response are loaded one at a
+   * time.
+   *
+   * @param context session context
+   * @param identifiers table identifiers
+   * @return the tables, in the same order as the identifiers
+   * @throws NoSuchTableException if any of the tables does not exist
+   */
+  public List<Table> loadTables(SessionContext context, List<TableIdentifier> identifiers) {
+    Preconditions.checkArgument(identifiers != null, "Invalid identifiers: null");
+    identifiers.forEach(this::checkIdentifierIsValid);
+
+    Map<TableIdentifier, LoadTableResponse> loaded =
+        endpoints.contains(Endpoint.V1_LOAD_TABLES) && identifiers.size() > 1
+            ? loadTablesInternal(context, identifiers)
+            : ImmutableMap.of();
+
+    Table[] tables = new Table[identifiers.size()];
+    Tasks.range(identifiers.size())
+        .executeWith(identifiers.size() > 1 ? TableLoadPool.POOL : null)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .run(
+            pos -> {
+              TableIdentifier identifier = identifiers.get(pos);
+              LoadTableResponse response = loaded.get(identifier);
+              if (response != null) {
+                tables[pos] =
+                    tableFromResponse(context, identifier, null, response, null, snapshotMode);
+              } else {
+                tables[pos] = loadTable(context, identifier);
+              }
+            });
+
+    return Arrays.asList(tables);
+  }
+
+  private Map<TableIdentifier, LoadTableResponse> loadTablesInternal(
+      SessionContext context, List<TableIdentifier> identifiers) {
+    LoadTablesResponse response =
+        client.post(
+            paths.loadTables(),
+            LoadTablesRequest.builder()
+                .addAll(identifiers)
+                .withSnapshots(snapshotMode.name().toLowerCase(Locale.US))
+                .build(),
+            LoadTablesResponse.class,
+            headers(context),
+            ErrorHandlers.defaultErrorHandler());
+
+    Map<TableIdentifier, LoadTableResponse> loaded = Maps.newHashMap();
+    for (int pos = 0; pos < response.identifiers().size(); pos += 1) {
+      loaded.put(response.identifiers().get(pos), response.tables().get(pos));
+    }
+
+    return loaded;
+  }
+
+  /** Holder for the pool that is shared by all catalogs to load tables concurrently. */
+  private static class TableLoadPool {
+    private static final ExecutorService POOL =
+        ThreadPools.newWorkerPool("iceberg-rest-table-load", TABLE_LOAD_THREADS);
+  }
+
+  private Table tableFromResponse(
+      SessionContext context,
+      TableIdentifier finalIdentifier,
+      MetadataTableType metadataType,
+      LoadTableResponse response,
+      String etag,
+      SnapshotMode mode) {
     AuthSession session = tableSession(response.config(), session(context));
     TableMetadata tableMetadata;
 
-    if (snapshotMode == SnapshotMode.REFS) {
+    if (mode == SnapshotMode.REFS) {
       tableMetadata =
           TableMetadata.buildFrom(response.tableMetadata())
               .withMetadataLocation(response.metadataLocation())
@@ -410,6 +560,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
               .setSnapshotsSupplier(
                   () ->
                       loadInternal(context, finalIdentifier, SnapshotMode.ALL)
+                          .response()
                           .tableMetadata()
                           .snapshots())
               .discardChanges()
@@ -424,7 +575,9 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
             paths.table(finalIdentifier),
             session::headers,
             tableFileIO(context, response.config()),
-            tableMetadata);
+            tableMetadata,
+            // refreshes load all snapshots, so only the tag of a full load can be reused
+            mode == SnapshotMode.ALL ? etag : null);
 
     trackFileIO(ops);
 
@@ -450,7 +603,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
       String metricsEndpoint, Supplier<Map<String, String>> headers) {
     if (reportingViaRestEnabled) {
       RESTMetricsReporter restMetricsReporter =
-          new RESTMetricsReporter(client, metricsEndpoint, headers);
+          new RESTMetricsReporter(client, metricsEndpoint, headers, metricsSender);
       return MetricsReporters.combine(reporter, restMetricsReporter);
     } else {
       return this.reporter;
@@ -615,6 +768,11 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   public void close() throws IOException {
     shutdownRefreshExecutor();
 
+    // send queued metrics reports before the client is closed
+    if (metricsSender != null) {
+      metricsSender.close();
+    }
+
     if (closeables != null) {
       closeables.close();
     }
@@ -770,7 +928,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
         LOG.debug("Failed to check whether view {} exists", ident, e);
       }
 
-      LoadTableResponse response = loadInternal(context, ident, snapshotMode);
+      LoadTableResponse response = loadInternal(context, ident, snapshotMode).response();
       String fullName = fullTableName(ident);
 
       AuthSession session = tableSession(response.config(), session(context));
@@ -1053,6 +1211,22 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
         .build();
   }
 
+  private static Cache<String, VersionedResponse> newTableVersionCache(
+      Map<String, String> properties) {
+    int maxEntries =
+        PropertyUtil.propertyAsInt(
+            properties, REST_TABLE_VERSION_CACHE_SIZE, REST_TABLE_VERSION_CACHE_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        maxEntries >= 0,
+        "Invalid value for %s, must be a non-negative integer",
+        REST_TABLE_VERSION_CACHE_SIZE);
+    if (maxEntries == 0) {
+      return null;
+    }
+
+    return Caffeine.newBuilder().maximumSize(maxEntries).softValues().build();
+  }
+
   private Cache<TableOperations, FileIO> newFileIOCloser() {
     return Caffeine.newBuilder()
         .weakKeys()
@@ -1343,4 +1517,23 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
       return new BaseView(ops, ViewUtil.fullViewName(name(), identifier));
     }
   }
+
+  /** A load table response and the entity tag the server sent with it, if any. */
+  private static class VersionedResponse {
+    private final String etag;
+    private final LoadTableResponse response;
+
+    private VersionedResponse(String etag, LoadTableResponse response) {
+      this.etag = etag;
+      this.response = response;
+    }
+
+    String etag() {
+      return etag;
+    }
+
+    LoadTableResponse response() {
+      return response;
+    }
+  }
 }
@@ -21,6 +21,7 @@ package org.apache.iceberg.rest;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.iceberg.LocationProviders;
@@ -35,6 +36,7 @@ import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.LocationProvider;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.ErrorResponse;
@@ -58,6 +60,7 @@ class RESTTableOperations implements TableOperations {
   private final TableMetadata replaceBase;
   private UpdateType updateType;
   private TableMetadata current;
+  private String etag = null;
 
   RESTTableOperations(
       RESTClient client,
@@ -65,7 +68,24 @@ class RESTTableOperations implements TableOperations {
       Supplier<Map<String, String>> headers,
       FileIO io,
       TableMetadata current) {
+    this(client, path, headers, io, current, null);
+  }
+
+  /**
+   * Creates operations for a loaded table.
+   *
+   * @param etag the entity tag of the load response, used to make the first refresh conditional,
+   *     or null
+   */
+  RESTTableOperations(
+      RESTClient client,
+      String path,
+      Supplier<Map<String, String>> headers,
+      FileIO io,
+      TableMetadata current,
+      String etag) {
     this(client, path, headers, io, UpdateType.SIMPLE, Lists.newArrayList(), current);
+    this.etag = etag;
   }
 
   RESTTableOperations(
@@ -97,8 +117,33 @@ class RESTTableOperations implements TableOperations {
 
   @Override
   public TableMetadata refresh() {
-    return updateCurrentMetadata(
-        client.get(path, LoadTableResponse.class, headers, ErrorHandlers.tableErrorHandler()));
+    Map<String, String> requestHeaders = headers.get();
+    if (etag != null && current != null) {
+      requestHeaders =
+          RESTUtil.merge(requestHeaders, ImmutableMap.of(RESTUtil.IF_NONE_MATCH_HEADER, etag));
+    }
+
+    AtomicReference<String> responseETag = new AtomicReference<>();
+    LoadTableResponse response =
+        client.get(
+            path,
+            ImmutableMap.of(),
+            LoadTableResponse.class,
+            requestHeaders,
+            ErrorHandlers.tableErrorHandler(),
+            responseHeaders ->
+                responseETag.set(RESTUtil.header(responseHeaders, RESTUtil.ETAG_HEADER)));
+
+    if (response == null) {
+      // the server responded with 304 Not Modified, the current metadata is up to date
+      Preconditions.checkState(current != null, "Invalid load table response: null");
+      return current;
+    }
+
+    updateCurrentMetadata(response);
+    this.etag = responseETag.get();
+
+    return current;
   }
 
   @Override
@@ -155,6 +200,9 @@ class RESTTableOperations implements TableOperations {
     this.updateType = UpdateType.SIMPLE;
 
     updateCurrentMetadata(response);
+
+    // the commit response does not carry a version token for the new metadata
+    this.etag = null;
   }
 
   @Override
@@ -41,6 +41,12 @@ public class RESTUtil {
   private static final Splitter NAMESPACE_ESCAPED_SPLITTER =
       Splitter.on(NAMESPACE_ESCAPED_SEPARATOR);
 
+  /** Response header that carries the version token of a resource. */
+  public static final String ETAG_HEADER = "ETag";
+
+  /** Request header that makes a request conditional on a resource's version token. */
+  public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
   private RESTUtil() {}
 
   public static String stripTrailingSlash(String path) {
@@ -77,6 +83,32 @@ public class RESTUtil {
     return builder.build();
   }
 
+  /**
+   * Returns the value of an HTTP header from a map of headers, ignoring the case of header names.
+   *
+   * @param headers a map of HTTP headers
+   * @param name a header name
+   * @return the header value, or null if the header is not present
+   */
+  public static String header(Map<String, String> headers, String name) {
+    if (headers == null) {
+      return null;
+    }
+
+    String value = headers.get(name);
+    if (value != null) {
+      return value;
+    }
+
+    for (Map.Entry<String, String> entry : headers.entrySet()) {
+      if (name.equalsIgnoreCase(entry.getKey())) {
+        return entry.getValue();
+      }
+    }
+
+    return null;
+  }
+
   /**
    * Takes in a map, and returns a copy filtered on the entries with keys beginning with the
    * designated prefix. The keys are returned with the prefix removed.
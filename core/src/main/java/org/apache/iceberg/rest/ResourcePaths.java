@@ -79,6 +79,10 @@ public class ResourcePaths {
     return SLASH.join("v1", prefix, "tables", "rename");
   }
 
+  public String loadTables() {
+    return SLASH.join("v1", prefix, "tables", "load");
+  }
+
   public String metrics(TableIdentifier identifier) {
     return SLASH.join(
         "v1",
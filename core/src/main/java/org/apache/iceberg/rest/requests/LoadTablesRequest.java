@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.requests;
+
+import java.util.Collection;
+import java.util.List;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.rest.RESTRequest;
+
+/**
+ * A REST request to load several tables at once.
+ *
+ * <p>The optional snapshots mode has the same values as the {@code snapshots} parameter of a single
+ * table load, {@code all} or {@code refs}.
+ */
+public class LoadTablesRequest implements RESTRequest {
+
+  private List<TableIdentifier> identifiers;
+  private String snapshots;
+
+  @SuppressWarnings("unused")
+  public LoadTablesRequest() {
+    // Needed for Jackson Deserialization.
+  }
+
+  private LoadTablesRequest(List<TableIdentifier> identifiers, String snapshots) {
+    this.identifiers = identifiers;
+    this.snapshots = snapshots;
+    validate();
+  }
+
+  @Override
+  public void validate() {
+    Preconditions.checkArgument(identifiers != null, "Invalid identifier list: null");
+  }
+
+  public List<TableIdentifier> identifiers() {
+    return identifiers != null ? identifiers : ImmutableList.of();
+  }
+
+  /** Returns the snapshots to load, or null if the server should use its default. */
+  public String snapshots() {
+    return snapshots;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("identifiers", identifiers)
+        .add("snapshots", snapshots)
+        .toString();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private final ImmutableList.Builder<TableIdentifier> identifiers = ImmutableList.builder();
+    private String snapshots = null;
+
+    private Builder() {}
+
+    public Builder add(TableIdentifier toAdd) {
+      Preconditions.checkNotNull(toAdd, "Invalid table identifier: null");
+      identifiers.add(toAdd);
+      return this;
+    }
+
+    public Builder addAll(Collection<TableIdentifier> toAdd) {
+      Preconditions.checkNotNull(toAdd, "Invalid table identifier list: null");
+      Preconditions.checkArgument(!toAdd.contains(null), "Invalid table identifier: null");
+      identifiers.addAll(toAdd);
+      return this;
+    }
+
+    public Builder withSnapshots(String snapshotsToLoad) {
+      this.snapshots = snapshotsToLoad;
+      return this;
+    }
+
+    public LoadTablesRequest build() {
+      return new LoadTablesRequest(identifiers.build(), snapshots);
+    }
+  }
+}
@@ -18,12 +18,16 @@
  */
 package org.apache.iceberg.rest.responses;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.rest.Endpoint;
 import org.apache.iceberg.rest.RESTResponse;
 
 /**
@@ -40,19 +44,24 @@ import org.apache.iceberg.rest.RESTResponse;
  *   <li>defaults - properties that should be used as default configuration
  *   <li>overrides - properties that should be used to override client configuration
  * </ul>
+ *
+ * <p>The server may also advertise the optional {@link Endpoint endpoints} it supports.
  */
 public class ConfigResponse implements RESTResponse {
 
   private Map<String, String> defaults;
   private Map<String, String> overrides;
+  private List<Endpoint> endpoints;
 
   public ConfigResponse() {
     // Required for Jackson deserialization
   }
 
-  private ConfigResponse(Map<String, String> defaults, Map<String, String> overrides) {
+  private ConfigResponse(
+      Map<String, String> defaults, Map<String, String> overrides, List<Endpoint> endpoints) {
     this.defaults = defaults;
     this.overrides = overrides;
+    this.endpoints = endpoints;
     validate();
   }
 
@@ -80,6 +89,16 @@ public class ConfigResponse implements RESTResponse {
     return overrides != null ? overrides : ImmutableMap.of();
   }
 
+  /**
+   * Optional endpoints that the server supports.
+   *
+   * @return endpoints advertised by the server, or an empty list if the server did not advertise
+   *     any
+   */
+  public List<Endpoint> endpoints() {
+    return endpoints != null ? endpoints : ImmutableList.of();
+  }
+
   /**
    * Merge client-provided config with server side provided configuration to return a single
    * properties map which will be used for instantiating and configuring the REST catalog.
@@ -107,6 +126,7 @@ public class ConfigResponse implements RESTResponse {
     return MoreObjects.toStringHelper(this)
         .add("defaults", defaults)
         .add("overrides", overrides)
+        .add("endpoints", endpoints)
         .toString();
   }
 
@@ -117,10 +137,12 @@ public class ConfigResponse implements RESTResponse {
   public static class Builder {
     private final Map<String, String> defaults;
     private final Map<String, String> overrides;
+    private final List<Endpoint> endpoints;
 
     private Builder() {
       this.defaults = Maps.newHashMap();
       this.overrides = Maps.newHashMap();
+      this.endpoints = Lists.newArrayList();
     }
 
     public Builder withDefault(String key, String value) {
@@ -153,8 +175,16 @@ public class ConfigResponse implements RESTResponse {
       return this;
     }
 
+    /** Adds the passed in endpoints to the existing `endpoints` of this Builder. */
+    public Builder withEndpoints(List<Endpoint> endpointsToAdd) {
+      Preconditions.checkNotNull(endpointsToAdd, "Invalid endpoints: null");
+      Preconditions.checkArgument(!endpointsToAdd.contains(null), "Invalid endpoint: null");
+      endpoints.addAll(endpointsToAdd);
+      return this;
+    }
+
     public ConfigResponse build() {
-      return new ConfigResponse(defaults, overrides);
+      return new ConfigResponse(defaults, overrides, ImmutableList.copyOf(endpoints));
     }
   }
 }
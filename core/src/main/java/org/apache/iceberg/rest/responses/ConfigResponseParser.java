@@ -22,12 +22,15 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.rest.Endpoint;
 import org.apache.iceberg.util.JsonUtil;
 
 public class ConfigResponseParser {
 
   private static final String DEFAULTS = "defaults";
   private static final String OVERRIDES = "overrides";
+  private static final String ENDPOINTS = "endpoints";
 
   private ConfigResponseParser() {}
 
@@ -47,6 +50,11 @@ public class ConfigResponseParser {
     JsonUtil.writeStringMap(DEFAULTS, response.defaults(), gen);
     JsonUtil.writeStringMap(OVERRIDES, response.overrides(), gen);
 
+    if (!response.endpoints().isEmpty()) {
+      JsonUtil.writeStringArray(
+          ENDPOINTS, Lists.transform(response.endpoints(), Endpoint::toString), gen);
+    }
+
     gen.writeEndObject();
   }
 
@@ -67,6 +75,11 @@ public class ConfigResponseParser {
       builder.withOverrides(JsonUtil.getStringMapNullableValues(OVERRIDES, json));
     }
 
+    if (json.hasNonNull(ENDPOINTS)) {
+      builder.withEndpoints(
+          Lists.transform(JsonUtil.getStringList(ENDPOINTS, json), Endpoint::fromString));
+    }
+
     return builder.build();
   }
 }
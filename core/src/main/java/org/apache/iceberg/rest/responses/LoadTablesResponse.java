@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.responses;
+
+import java.util.List;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.rest.RESTResponse;
+
+/**
+ * A REST response to a {@link org.apache.iceberg.rest.requests.LoadTablesRequest}.
+ *
+ * <p>Each loaded table is returned as a {@link LoadTableResponse} at the same position as its
+ * identifier. Requested tables that do not exist are left out of the response.
+ */
+public class LoadTablesResponse implements RESTResponse {
+
+  private List<TableIdentifier> identifiers;
+  private List<LoadTableResponse> tables;
+
+  public LoadTablesResponse() {
+    // Required for Jackson deserialization
+  }
+
+  private LoadTablesResponse(List<TableIdentifier> identifiers, List<LoadTableResponse> tables) {
+    this.identifiers = identifiers;
+    this.tables = tables;
+    validate();
+  }
+
+  @Override
+  public void validate() {
+    Preconditions.checkArgument(identifiers != null, "Invalid identifier list: null");
+    Preconditions.checkArgument(tables != null, "Invalid table list: null");
+    Preconditions.checkArgument(
+        identifiers.size() == tables.size(),
+        "Invalid table list: %s tables for %s identifiers",
+        tables.size(),
+        identifiers.size());
+  }
+
+  public List<TableIdentifier> identifiers() {
+    return identifiers != null ? identifiers : ImmutableList.of();
+  }
+
+  public List<LoadTableResponse> tables() {
+    return tables != null ? tables : ImmutableList.of();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("identifiers", identifiers)
+        .add("tables", tables)
+        .toString();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private final ImmutableList.Builder<TableIdentifier> identifiers = ImmutableList.builder();
+    private final ImmutableList.Builder<LoadTableResponse> tables = ImmutableList.builder();
+
+    private Builder() {}
+
+    public Builder add(TableIdentifier identifier, LoadTableResponse table) {
+      Preconditions.checkNotNull(identifier, "Invalid table identifier: null");
+      Preconditions.checkNotNull(table, "Invalid load table response: null");
+      identifiers.add(identifier);
+      tables.add(table);
+      return this;
+    }
+
+    public LoadTablesResponse build() {
+      return new LoadTablesResponse(identifiers.build(), tables.build());
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+/**
+ * A set of structs with a single int or long field that keeps values in an open-addressing hash
+ * table of primitive longs with linear probing.
+ *
+ * <p>Slots that hold 0 are empty, so whether 0 is in the set is tracked separately.
+ */
+class LongStructLikeSet extends SingleFieldStructLikeSet {
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final long EMPTY = 0L;
+
+  private final boolean isInt;
+  private long[] slots = new long[MIN_CAPACITY];
+  private int count = 0;
+  private boolean containsZero = false;
+
+  LongStructLikeSet(Types.StructType type) {
+    super(type);
+    this.isInt = type.fields().get(0).type().typeId() == Type.TypeID.INTEGER;
+  }
+
+  static boolean supports(Type type) {
+    return type.typeId() == Type.TypeID.INTEGER || type.typeId() == Type.TypeID.LONG;
+  }
+
+  @Override
+  protected int valueCount() {
+    return containsZero ? count + 1 : count;
+  }
+
+  @Override
+  protected boolean containsValue(Object value) {
+    long key = ((Number) value).longValue();
+    if (key == EMPTY) {
+      return containsZero;
+    }
+
+    return findSlot(slots, key) >= 0;
+  }
+
+  @Override
+  protected boolean addValue(Object value) {
+    long key = ((Number) value).longValue();
+    if (key == EMPTY) {
+      boolean added = !containsZero;
+      this.containsZero = true;
+      return added;
+    }
+
+    int slot = findSlot(slots, key);
+    if (slot >= 0) {
+      return false;
+    }
+
+    // keep the load factor at or below 0.75
+    if (4L * (count + 1) > 3L * slots.length) {
+      resize();
+      slot = findSlot(slots, key);
+    }
+
+    slots[-(slot + 1)] = key;
+    count += 1;
+    return true;
+  }
+
+  @Override
+  protected boolean removeValue(Object value) {
+    long key = ((Number) value).longValue();
+    if (key == EMPTY) {
+      boolean removed = containsZero;
+      this.containsZero = false;
+      return removed;
+    }
+
+    int slot = findSlot(slots, key);
+    if (slot < 0) {
+      return false;
+    }
+
+    shiftBack(slot);
+    count -= 1;
+    return true;
+  }
+
+  @Override
+  protected Iterator<Object> values() {
+    Iterator<Object> values =
+        IntStream.range(0, slots.length)
+            .filter(slot -> slots[slot] != EMPTY)
+            .mapToObj(slot -> box(slots[slot]))
+            .iterator();
+    return containsZero ? Iterators.concat(values, Iterators.singletonIterator(box(0L))) : values;
+  }
+
+  @Override
+  protected void clearValues() {
+    this.slots = new long[MIN_CAPACITY];
+    this.count = 0;
+    this.containsZero = false;
+  }
+
+  private Object box(long key) {
+    return isInt ? (Object) (int) key : (Object) key;
+  }
+
+  private void resize() {
+    if (slots.length >= MAX_CAPACITY) {
+      throw new IllegalStateException("Cannot add more than " + count + " values to the set");
+    }
+
+    long[] newSlots = new long[slots.length * 2];
+    for (long key : slots) {
+      if (key != EMPTY) {
+        newSlots[-(findSlot(newSlots, key) + 1)] = key;
+      }
+    }
+
+    this.slots = newSlots;
+  }
+
+  // fills the gap left by a removed key by moving back later keys of the same probe sequence
+  private void shiftBack(int removedSlot) {
+    int mask = slots.length - 1;
+    int gap = removedSlot;
+    int slot = removedSlot;
+    while (true) {
+      slot = (slot + 1) & mask;
+      long key = slots[slot];
+      if (key == EMPTY) {
+        break;
+      }
+
+      // the key can fill the gap if its home slot is not after the gap in the probe sequence
+      int home = hash(key) & mask;
+      if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+        slots[gap] = key;
+        gap = slot;
+      }
+    }
+
+    slots[gap] = EMPTY;
+  }
+
+  /**
+   * Finds the slot of a key.
+   *
+   * @return the slot of the key, or -(slot + 1) for the empty slot where it would be inserted
+   */
+  private static int findSlot(long[] slots, long key) {
+    int mask = slots.length - 1;
+    int slot = hash(key) & mask;
+    while (true) {
+      long current = slots[slot];
+      if (current == key) {
+        return slot;
+      } else if (current == EMPTY) {
+        return -(slot + 1);
+      }
+
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  // mixes all bits because keys like sequential ids only differ in their low bits
+  private static int hash(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    hash ^= hash >>> 32;
+    hash ^= hash >>> 16;
+    return (int) hash;
+  }
+}
@@ -20,78 +20,166 @@ package org.apache.iceberg.util;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.Histogram;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 
+/**
+ * A {@link CloseableIterable} that reads a group of iterables in parallel using a worker pool.
+ *
+ * <p>Records produced by the workers are handed to the consumer through a queue. When the queue
+ * holds more than the configured max queue size, workers pause by yielding their task back to the
+ * consumer instead of blocking a pool thread. Paused tasks are resumed once the consumer has
+ * drained the queue below half of the limit.
+ *
+ * <p>Iterators returned by this iterable are meant to be used by a single consumer thread.
+ */
 public class ParallelIterable<T> extends CloseableGroup implements CloseableIterable<T> {
+  public static final String QUEUE_DEPTH = "parallel-iterable.queue-depth";
+  public static final String CONSUMER_WAIT_DURATION = "parallel-iterable.consumer-wait-duration";
+  public static final String PRODUCER_PAUSE_DURATION = "parallel-iterable.producer-pause-duration";
+  public static final String PRODUCER_PAUSES = "parallel-iterable.producer-pauses";
+
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 10_000;
+
   private final Iterable<? extends Iterable<T>> iterables;
   private final ExecutorService workerPool;
+  private final int maxQueueSize;
+  private final Metrics metrics;
 
   public ParallelIterable(Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool) {
+    this(iterables, workerPool, DEFAULT_MAX_QUEUE_SIZE);
+  }
+
+  /**
+   * Creates a parallel iterable that pauses workers once the queue holds {@code maxQueueSize}
+   * records. Use {@link Integer#MAX_VALUE} for an unbounded queue.
+   */
+  public ParallelIterable(
+      Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool, int maxQueueSize) {
+    this(iterables, workerPool, maxQueueSize, MetricsContext.nullMetrics());
+  }
+
+  public ParallelIterable(
+      Iterable<? extends Iterable<T>> iterables,
+      ExecutorService workerPool,
+      int maxQueueSize,
+      MetricsContext metricsContext) {
+    Preconditions.checkArgument(
+        maxQueueSize > 0, "Invalid max queue size: %s (must be positive)", maxQueueSize);
+    Preconditions.checkArgument(null != metricsContext, "Invalid metrics context: null");
     this.iterables = iterables;
     this.workerPool = workerPool;
+    this.maxQueueSize = maxQueueSize;
+    this.metrics = new Metrics(metricsContext);
   }
 
   @Override
   public CloseableIterator<T> iterator() {
-    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool);
+    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool, maxQueueSize, metrics);
     addCloseable(iter);
     return iter;
   }
 
+  private static class Metrics {
+    private final Histogram queueDepth;
+    private final Timer consumerWaitDuration;
+    private final Timer producerPauseDuration;
+    private final Counter producerPauses;
+
+    private Metrics(MetricsContext context) {
+      this.queueDepth = context.histogram(QUEUE_DEPTH);
+      this.consumerWaitDuration = context.timer(CONSUMER_WAIT_DURATION, TimeUnit.NANOSECONDS);
+      this.producerPauseDuration = context.timer(PRODUCER_PAUSE_DURATION, TimeUnit.NANOSECONDS);
+      this.producerPauses = context.counter(PRODUCER_PAUSES);
+    }
+  }
+
   private static class ParallelIterator<T> implements CloseableIterator<T> {
-    private final Iterator<Runnable> tasks;
+    // upper bound for a single park of the consumer, workers unpark it as soon as there is data
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Iterator<Task<T>> tasks;
+    private final Deque<Task<T>> pausedTasks = new ArrayDeque<>();
     private final ExecutorService workerPool;
-    private final Future<?>[] taskFutures;
+    private final CompletableFuture<Optional<Task<T>>>[] taskFutures;
     private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue#size is O(n), so the number of queued records is tracked separately
+    private final AtomicInteger queueSize = new AtomicInteger(0);
+    // number of tasks that paused and were not yet collected by the consumer
+    private final AtomicInteger pendingPauses = new AtomicInteger(0);
+    private final int maxQueueSize;
+    private final int resumeQueueSize;
+    private final Metrics metrics;
+    private volatile Thread waitingConsumer = null;
     private volatile boolean closed = false;
 
+    @SuppressWarnings("unchecked")
     private ParallelIterator(
-        Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool) {
+        Iterable<? extends Iterable<T>> iterables,
+        ExecutorService workerPool,
+        int maxQueueSize,
+        Metrics metrics) {
       this.tasks =
-          Iterables.transform(
-                  iterables,
-                  iterable ->
-                      (Runnable)
-                          () -> {
-                            try (Closeable ignored =
-                                (iterable instanceof Closeable) ? (Closeable) iterable : () -> {}) {
-                              for (T item : iterable) {
-                                queue.add(item);
-                              }
-                            } catch (IOException e) {
-                              throw new RuntimeIOException(e, "Failed to close iterable");
-                            }
-                          })
-              .iterator();
+          Iterables.transform(iterables, iterable -> new Task<>(iterable, this)).iterator();
       this.workerPool = workerPool;
+      this.maxQueueSize = maxQueueSize;
+      this.resumeQueueSize = maxQueueSize / 2;
+      this.metrics = metrics;
       // submit 2 tasks per worker at a time
-      this.taskFutures = new Future[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
+      this.taskFutures = new CompletableFuture[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
     }
 
     @Override
     public void close() {
-      // close first, avoid new task submit
+      // close first, avoid new task submit and stop running tasks at the next record
       this.closed = true;
 
-      // cancel background tasks
-      for (Future<?> taskFuture : taskFutures) {
-        if (taskFuture != null && !taskFuture.isDone()) {
-          taskFuture.cancel(true);
+      // running tasks close their iterables when they notice the closed flag, but tasks that
+      // paused still hold an open iterable and must be closed here
+      for (CompletableFuture<Optional<Task<T>>> taskFuture : taskFutures) {
+        if (taskFuture != null) {
+          taskFuture.whenComplete(
+              (paused, error) -> {
+                if (paused != null) {
+                  paused.ifPresent(Task::closeQuietly);
+                }
+              });
         }
       }
+
+      while (!pausedTasks.isEmpty()) {
+        pausedTasks.removeFirst().closeQuietly();
+      }
+
       // clean queue
-      this.queue.clear();
+      clearQueue();
+    }
+
+    /** Removes all queued records and resets the queue size used for back-pressure. */
+    private void clearQueue() {
+      queue.clear();
+      queueSize.set(0);
     }
 
     /**
@@ -109,7 +197,11 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
           if (taskFutures[i] != null) {
             // check for task failure and re-throw any exception
             try {
-              taskFutures[i].get();
+              Optional<Task<T>> paused = taskFutures[i].get();
+              if (paused.isPresent()) {
+                pendingPauses.decrementAndGet();
+                pausedTasks.addLast(paused.get());
+              }
             } catch (ExecutionException e) {
               if (e.getCause() instanceof RuntimeException) {
                 // rethrow a runtime exception
@@ -130,30 +222,92 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
         }
       }
 
-      return !closed && (tasks.hasNext() || hasRunningTask);
+      return !closed && (tasks.hasNext() || !pausedTasks.isEmpty() || hasRunningTask);
+    }
+
+    private CompletableFuture<Optional<Task<T>>> submitNextTask() {
+      if (closed) {
+        return null;
+      }
+
+      Task<T> task;
+      if (!pausedTasks.isEmpty() && queueSize.get() < maxQueueSize) {
+        task = pausedTasks.removeFirst();
+      } else if (pausedTasks.isEmpty() && tasks.hasNext()) {
+        task = tasks.next();
+      } else {
+        return null;
+      }
+
+      CompletableFuture<Optional<Task<T>>> future = CompletableFuture.supplyAsync(task, workerPool);
+      // the consumer may be waiting for this task to finish, so wake it up once the future is done
+      future.whenComplete((paused, error) -> signalConsumer());
+      return future;
+    }
+
+    private void enqueue(T item) {
+      queue.add(item);
+      queueSize.incrementAndGet();
+
+      if (closed) {
+        // the iterator was closed concurrently, drop anything added after close cleared the queue
+        clearQueue();
+        return;
+      }
+
+      signalConsumer();
     }
 
-    private Future<?> submitNextTask() {
-      if (!closed && tasks.hasNext()) {
-        return workerPool.submit(tasks.next());
+    private void signalConsumer() {
+      Thread consumer = waitingConsumer;
+      if (consumer != null) {
+        LockSupport.unpark(consumer);
       }
-      return null;
+    }
+
+    private void awaitRecords() {
+      long start = System.nanoTime();
+      this.waitingConsumer = Thread.currentThread();
+      try {
+        // re-check after publishing the waiting thread so that a concurrent add cannot be missed
+        if (queue.isEmpty()) {
+          LockSupport.parkNanos(this, MAX_WAIT_NANOS);
+        }
+      } finally {
+        this.waitingConsumer = null;
+      }
+
+      if (Thread.interrupted()) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(
+            new InterruptedException("Interrupted while waiting for parallel tasks"));
+      }
+
+      metrics.consumerWaitDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
     }
 
     @Override
-    public synchronized boolean hasNext() {
+    public boolean hasNext() {
       Preconditions.checkState(!closed, "Already closed");
 
       // if the consumer is processing records more slowly than the producers, then this check will
-      // prevent tasks from being submitted. while the producers are running, this will always
+      // prevent new tasks from being submitted. while the producers are running, this will always
       // return here before running checkTasks. when enough of the tasks are finished that the
       // consumer catches up, then lots of new tasks will be submitted at once. this behavior is
       // okay because it ensures that records are not stacking up waiting to be consumed and taking
       // up memory.
       //
+      // tasks that paused because the queue was full are resumed once the consumer has drained
+      // half of the queue, so that the workers do not sit idle until the queue is empty.
+      //
       // consumers that process results quickly will periodically exhaust the queue and submit new
       // tasks when checkTasks runs. fast consumers should not be delayed.
-      if (!queue.isEmpty()) {
+      int size = queueSize.get();
+      if (size > 0) {
+        if (size <= resumeQueueSize && (pendingPauses.get() > 0 || !pausedTasks.isEmpty())) {
+          checkTasks();
+        }
+
         return true;
       }
 
@@ -164,13 +318,7 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
           return true;
         }
 
-        try {
-          Thread.sleep(10);
-
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          throw new RuntimeException(e);
-        }
+        awaitRecords();
       }
 
       // when tasks are no longer running, return whether the queue has items
@@ -178,12 +326,90 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
     }
 
     @Override
-    public synchronized T next() {
+    public T next() {
       // use hasNext to block until there is an available record
       if (!hasNext()) {
         throw new NoSuchElementException();
       }
-      return queue.poll();
+
+      T item = queue.poll();
+      metrics.queueDepth.update(queueSize.getAndDecrement());
+      return item;
+    }
+  }
+
+  /**
+   * A unit of work that reads one iterable into the queue of a {@link ParallelIterator}.
+   *
+   * <p>When the queue is full, the task stops reading and returns itself so that the consumer can
+   * resubmit it later to continue where it left off.
+   */
+  private static class Task<T> implements Supplier<Optional<Task<T>>>, Closeable {
+    private final Iterable<T> input;
+    private final ParallelIterator<T> parent;
+    private Iterator<T> iterator = null;
+    private long pausedAtNanos = -1L;
+
+    private Task(Iterable<T> input, ParallelIterator<T> parent) {
+      this.input = input;
+      this.parent = parent;
+    }
+
+    @Override
+    public Optional<Task<T>> get() {
+      if (pausedAtNanos >= 0) {
+        parent.metrics.producerPauseDuration.record(
+            System.nanoTime() - pausedAtNanos, TimeUnit.NANOSECONDS);
+        this.pausedAtNanos = -1L;
+      }
+
+      try {
+        if (iterator == null && !parent.closed) {
+          this.iterator = input.iterator();
+        }
+
+        while (!parent.closed && iterator.hasNext()) {
+          if (parent.queueSize.get() >= parent.maxQueueSize) {
+            return pause();
+          }
+
+          parent.enqueue(iterator.next());
+        }
+      } catch (RuntimeException e) {
+        closeQuietly();
+        throw e;
+      }
+
+      try {
+        close();
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to close iterable");
+      }
+
+      return Optional.empty();
+    }
+
+    private Optional<Task<T>> pause() {
+      this.pausedAtNanos = System.nanoTime();
+      parent.metrics.producerPauses.increment();
+      parent.pendingPauses.incrementAndGet();
+      return Optional.of(this);
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.iterator = null;
+      if (input instanceof Closeable) {
+        ((Closeable) input).close();
+      }
+    }
+
+    private void closeQuietly() {
+      try {
+        close();
+      } catch (IOException | RuntimeException e) {
+        // ignore, the iterator is being closed or has already failed
+      }
     }
   }
 }
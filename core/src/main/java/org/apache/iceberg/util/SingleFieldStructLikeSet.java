@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
+import org.apache.iceberg.types.Types;
+
+/**
+ * A {@link StructLikeSet} for structs with a single field that stores field values instead of
+ * wrapped copies of the structs.
+ *
+ * <p>Null field values are tracked separately, so implementations only handle non-null values.
+ * Iterating returns new structs that hold the stored values.
+ */
+abstract class SingleFieldStructLikeSet extends StructLikeSet {
+  private final Types.StructType type;
+  private final Class<?> javaClass;
+  private boolean containsNull = false;
+
+  SingleFieldStructLikeSet(Types.StructType type) {
+    super(type);
+    Preconditions.checkArgument(
+        type.fields().size() == 1, "Invalid struct type, expected a single field: %s", type);
+    this.type = type;
+    this.javaClass = type.fields().get(0).type().typeId().javaClass();
+  }
+
+  /** Returns the number of non-null values in the set. */
+  protected abstract int valueCount();
+
+  protected abstract boolean containsValue(Object value);
+
+  protected abstract boolean addValue(Object value);
+
+  protected abstract boolean removeValue(Object value);
+
+  protected abstract Iterator<Object> values();
+
+  protected abstract void clearValues();
+
+  @Override
+  public int size() {
+    return containsNull ? valueCount() + 1 : valueCount();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean contains(Object obj) {
+    if (obj instanceof StructLike) {
+      Object value = ((StructLike) obj).get(0, javaClass);
+      return value != null ? containsValue(value) : containsNull;
+    }
+
+    return false;
+  }
+
+  @Override
+  public Iterator<StructLike> iterator() {
+    Iterator<Object> values =
+        containsNull ? Iterators.concat(values(), Iterators.singletonIterator(null)) : values();
+    return Iterators.transform(values, SingleValueStruct::new);
+  }
+
+  @Override
+  public boolean add(StructLike struct) {
+    Preconditions.checkNotNull(struct, "Cannot add a null struct to %s", getClass().getName());
+    Object value = struct.get(0, javaClass);
+    if (value == null) {
+      boolean added = !containsNull;
+      this.containsNull = true;
+      return added;
+    }
+
+    return addValue(value);
+  }
+
+  @Override
+  public boolean remove(Object obj) {
+    if (obj instanceof StructLike) {
+      Object value = ((StructLike) obj).get(0, javaClass);
+      if (value == null) {
+        boolean removed = containsNull;
+        this.containsNull = false;
+        return removed;
+      }
+
+      return removeValue(value);
+    }
+
+    return false;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends StructLike> structs) {
+    boolean changed = false;
+    if (structs != null) {
+      for (StructLike struct : structs) {
+        changed |= add(struct);
+      }
+    }
+    return changed;
+  }
+
+  @Override
+  public void clear() {
+    this.containsNull = false;
+    clearValues();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    SingleFieldStructLikeSet that = (SingleFieldStructLikeSet) o;
+    if (!type.equals(that.type)) {
+      return false;
+    }
+
+    if (size() != that.size()) {
+      return false;
+    }
+
+    return containsAll(that);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = Objects.hashCode(type);
+    for (Iterator<Object> iter = values(); iter.hasNext(); ) {
+      hashCode += iter.next().hashCode();
+    }
+    return hashCode;
+  }
+
+  private static class SingleValueStruct implements StructLike {
+    private final Object value;
+
+    private SingleValueStruct(Object value) {
+      this.value = value;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      Preconditions.checkElementIndex(pos, 1);
+      return javaClass.cast(value);
+    }
+
+    @Override
+    public <T> void set(int pos, T newValue) {
+      throw new UnsupportedOperationException("Cannot modify a struct returned by a set");
+    }
+  }
+}
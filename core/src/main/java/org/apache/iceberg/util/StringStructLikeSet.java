@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+/**
+ * A set of structs with a single string field that keeps values in a byte dictionary.
+ *
+ * <p>Each value is encoded to UTF-8 once and appended to a shared byte array, and identified by its
+ * position in the dictionary. An open-addressing hash table with linear probing maps values to
+ * dictionary ids. Lookups compare the stored bytes with the characters of the probed value, so they
+ * do not need to encode or copy it.
+ *
+ * <p>Unpaired surrogates are encoded as 3-byte sequences so that decoding returns the exact
+ * original characters. Bytes of removed values stay in the dictionary until the set is cleared.
+ */
+class StringStructLikeSet extends SingleFieldStructLikeSet {
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final int MAX_BYTES = Integer.MAX_VALUE - 8;
+  private static final int INITIAL_BYTES = 1024;
+  private static final int EMPTY = 0;
+
+  // the dictionary, the bytes of id are from offsets[id] to offsets[id + 1]
+  private byte[] bytes = new byte[INITIAL_BYTES];
+  private int[] offsets = new int[MIN_CAPACITY + 1];
+  private int[] hashes = new int[MIN_CAPACITY];
+  private int dictionarySize = 0;
+
+  // the hash table that holds dictionary ids + 1, so that 0 marks empty slots
+  private int[] slots = new int[MIN_CAPACITY];
+  private int count = 0;
+
+  StringStructLikeSet(Types.StructType type) {
+    super(type);
+  }
+
+  static boolean supports(Type type) {
+    return type.typeId() == Type.TypeID.STRING;
+  }
+
+  @Override
+  protected int valueCount() {
+    return count;
+  }
+
+  @Override
+  protected boolean containsValue(Object value) {
+    CharSequence chars = (CharSequence) value;
+    return findSlot(chars, hash(chars)) >= 0;
+  }
+
+  @Override
+  protected boolean addValue(Object value) {
+    CharSequence chars = (CharSequence) value;
+    int hash = hash(chars);
+    int slot = findSlot(chars, hash);
+    if (slot >= 0) {
+      return false;
+    }
+
+    // keep the load factor at or below 0.75
+    if (4L * (count + 1) > 3L * slots.length) {
+      resize();
+      slot = findSlot(chars, hash);
+    }
+
+    int id = append(chars, hash);
+    slots[-(slot + 1)] = id + 1;
+    count += 1;
+    return true;
+  }
+
+  @Override
+  protected boolean removeValue(Object value) {
+    CharSequence chars = (CharSequence) value;
+    int slot = findSlot(chars, hash(chars));
+    if (slot < 0) {
+      return false;
+    }
+
+    shiftBack(slot);
+    count -= 1;
+    return true;
+  }
+
+  @Override
+  protected Iterator<Object> values() {
+    return IntStream.range(0, slots.length)
+        .filter(slot -> slots[slot] != EMPTY)
+        .mapToObj(slot -> (Object) decode(slots[slot] - 1))
+        .iterator();
+  }
+
+  @Override
+  protected void clearValues() {
+    this.bytes = new byte[INITIAL_BYTES];
+    this.offsets = new int[MIN_CAPACITY + 1];
+    this.hashes = new int[MIN_CAPACITY];
+    this.dictionarySize = 0;
+    this.slots = new int[MIN_CAPACITY];
+    this.count = 0;
+  }
+
+  private void resize() {
+    if (slots.length >= MAX_CAPACITY) {
+      throw new IllegalStateException("Cannot add more than " + count + " values to the set");
+    }
+
+    int[] newSlots = new int[slots.length * 2];
+    int mask = newSlots.length - 1;
+    for (int entry : slots) {
+      if (entry != EMPTY) {
+        int slot = hashes[entry - 1] & mask;
+        while (newSlots[slot] != EMPTY) {
+          slot = (slot + 1) & mask;
+        }
+
+        newSlots[slot] = entry;
+      }
+    }
+
+    this.slots = newSlots;
+  }
+
+  // fills the gap left by a removed value by moving back later values of the same probe sequence
+  private void shiftBack(int removedSlot) {
+    int mask = slots.length - 1;
+    int gap = removedSlot;
+    int slot = removedSlot;
+    while (true) {
+      slot = (slot + 1) & mask;
+      int entry = slots[slot];
+      if (entry == EMPTY) {
+        break;
+      }
+
+      // the value can fill the gap if its home slot is not after the gap in the probe sequence
+      int home = hashes[entry - 1] & mask;
+      if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+        slots[gap] = entry;
+        gap = slot;
+      }
+    }
+
+    slots[gap] = EMPTY;
+  }
+
+  /**
+   * Finds the slot of a value.
+   *
+   * @return the slot of the value, or -(slot + 1) for the empty slot where it would be inserted
+   */
+  private int findSlot(CharSequence value, int hash) {
+    int mask = slots.length - 1;
+    int slot = hash & mask;
+    while (true) {
+      int entry = slots[slot];
+      if (entry == EMPTY) {
+        return -(slot + 1);
+      } else if (hashes[entry - 1] == hash && matches(value, entry - 1)) {
+        return slot;
+      }
+
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  // adds the encoded value to the dictionary and returns its id
+  private int append(CharSequence value, int hash) {
+    int id = dictionarySize;
+    if (id + 1 >= offsets.length) {
+      this.offsets = Arrays.copyOf(offsets, offsets.length * 2);
+      this.hashes = Arrays.copyOf(hashes, offsets.length - 1);
+    }
+
+    // each char is encoded to at most 3 bytes, surrogate pairs use 4 bytes for 2 chars
+    int start = offsets[id];
+    ensureBytes(start + 3L * value.length());
+
+    int pos = start;
+    int length = value.length();
+    int index = 0;
+    while (index < length) {
+      char ch = value.charAt(index);
+      if (ch < 0x80) {
+        bytes[pos++] = (byte) ch;
+        index += 1;
+      } else if (ch < 0x800) {
+        bytes[pos++] = (byte) (0xC0 | (ch >> 6));
+        bytes[pos++] = (byte) (0x80 | (ch & 0x3F));
+        index += 1;
+      } else if (Character.isHighSurrogate(ch)
+          && index + 1 < length
+          && Character.isLowSurrogate(value.charAt(index + 1))) {
+        int codePoint = Character.toCodePoint(ch, value.charAt(index + 1));
+        bytes[pos++] = (byte) (0xF0 | (codePoint >> 18));
+        bytes[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        bytes[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        bytes[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+        index += 2;
+      } else {
+        bytes[pos++] = (byte) (0xE0 | (ch >> 12));
+        bytes[pos++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+        bytes[pos++] = (byte) (0x80 | (ch & 0x3F));
+        index += 1;
+      }
+    }
+
+    offsets[id + 1] = pos;
+    hashes[id] = hash;
+    this.dictionarySize = id + 1;
+    return id;
+  }
+
+  private void ensureBytes(long minLength) {
+    if (minLength > bytes.length) {
+      if (minLength > MAX_BYTES) {
+        throw new IllegalStateException("Cannot add more than " + MAX_BYTES + " bytes to the set");
+      }
+
+      long newLength = Math.max(minLength, Math.min(2L * bytes.length, MAX_BYTES));
+      this.bytes = Arrays.copyOf(bytes, (int) newLength);
+    }
+  }
+
+  // compares the characters of a value with the decoded characters of a dictionary entry
+  private boolean matches(CharSequence value, int id) {
+    int length = value.length();
+    int index = 0;
+    int pos = offsets[id];
+    int end = offsets[id + 1];
+    while (pos < end) {
+      int codePoint = decodeAt(pos);
+      pos += encodedLength(codePoint);
+
+      if (Character.isBmpCodePoint(codePoint)) {
+        if (index >= length || value.charAt(index) != codePoint) {
+          return false;
+        }
+
+        index += 1;
+      } else {
+        if (index + 1 >= length
+            || value.charAt(index) != Character.highSurrogate(codePoint)
+            || value.charAt(index + 1) != Character.lowSurrogate(codePoint)) {
+          return false;
+        }
+
+        index += 2;
+      }
+    }
+
+    return index == length;
+  }
+
+  private String decode(int id) {
+    int pos = offsets[id];
+    int end = offsets[id + 1];
+    StringBuilder builder = new StringBuilder(end - pos);
+    while (pos < end) {
+      int codePoint = decodeAt(pos);
+      pos += encodedLength(codePoint);
+      // appendCodePoint is not used because it would not keep unpaired surrogates as chars
+      if (Character.isBmpCodePoint(codePoint)) {
+        builder.append((char) codePoint);
+      } else {
+        builder.append(Character.highSurrogate(codePoint));
+        builder.append(Character.lowSurrogate(codePoint));
+      }
+    }
+
+    return builder.toString();
+  }
+
+  // decodes the code point, or unpaired surrogate, that is encoded at a position
+  private int decodeAt(int pos) {
+    int b0 = bytes[pos] & 0xFF;
+    if (b0 < 0x80) {
+      return b0;
+    } else if (b0 < 0xE0) {
+      return ((b0 & 0x1F) << 6) | (bytes[pos + 1] & 0x3F);
+    } else if (b0 < 0xF0) {
+      return ((b0 & 0x0F) << 12) | ((bytes[pos + 1] & 0x3F) << 6) | (bytes[pos + 2] & 0x3F);
+    } else {
+      return ((b0 & 0x07) << 18)
+          | ((bytes[pos + 1] & 0x3F) << 12)
+          | ((bytes[pos + 2] & 0x3F) << 6)
+          | (bytes[pos + 3] & 0x3F);
+    }
+  }
+
+  private static int encodedLength(int codePoint) {
+    if (codePoint < 0x80) {
+      return 1;
+    } else if (codePoint < 0x800) {
+      return 2;
+    } else if (codePoint < 0x10000) {
+      return 3;
+    } else {
+      return 4;
+    }
+  }
+
+  // hashes chars rather than bytes, so that lookups don't need to encode values
+  private static int hash(CharSequence value) {
+    int hash = 0;
+    for (int index = 0; index < value.length(); index += 1) {
+      hash = 31 * hash + value.charAt(index);
+    }
+
+    hash *= 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+}
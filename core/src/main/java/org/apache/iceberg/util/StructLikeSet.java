@@ -27,6 +27,7 @@ import org.apache.iceberg.StructLike;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
 
 public class StructLikeSet extends AbstractSet<StructLike> implements Set<StructLike> {
@@ -34,11 +35,35 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
     return new StructLikeSet(type);
   }
 
+  /**
+   * Creates a set that stores the values of structs with a single int, long, or string field
+   * directly, without wrapping and copying each struct.
+   *
+   * <p>Such sets use several times less memory and are faster to probe, which matters for large
+   * sets like equality deletes. Null structs are not supported. For other struct types, this
+   * returns a set created by {@link #create(Types.StructType)}.
+   *
+   * @param type a struct type
+   * @return a set of structs of the given type
+   */
+  public static StructLikeSet createCompact(Types.StructType type) {
+    if (type.fields().size() == 1) {
+      Type fieldType = type.fields().get(0).type();
+      if (LongStructLikeSet.supports(fieldType)) {
+        return new LongStructLikeSet(type);
+      } else if (StringStructLikeSet.supports(fieldType)) {
+        return new StringStructLikeSet(type);
+      }
+    }
+
+    return create(type);
+  }
+
   private final Types.StructType type;
   private final Set<StructLikeWrapper> wrapperSet;
   private final ThreadLocal<StructLikeWrapper> wrappers;
 
-  private StructLikeSet(Types.StructType type) {
+  StructLikeSet(Types.StructType type) {
     this.type = type;
     this.wrapperSet = Sets.newHashSet();
     this.wrappers = ThreadLocal.withInitial(() -> StructLikeWrapper.forType(type));
@@ -78,7 +103,7 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
   @Override
   @SuppressWarnings("unchecked")
   public <T> T[] toArray(T[] destArray) {
-    int size = wrapperSet.size();
+    int size = size();
     if (destArray.length < size) {
       return (T[]) toArray();
     }
@@ -50,6 +50,12 @@ public class ThreadPools {
   private static final ExecutorService DELETE_WORKER_POOL =
       newWorkerPool("iceberg-delete-worker-pool", DELETE_WORKER_THREAD_POOL_SIZE);
 
+  public static final int VECTORED_READ_THREAD_POOL_SIZE =
+      SystemConfigs.VECTORED_READ_THREAD_POOL_SIZE.value();
+
+  private static final ExecutorService VECTORED_READ_POOL =
+      newWorkerPool("iceberg-vectored-read-pool", VECTORED_READ_THREAD_POOL_SIZE);
+
   /**
    * Return an {@link ExecutorService} that uses the "worker" thread-pool.
    *
@@ -81,6 +87,22 @@ public class ThreadPools {
     return DELETE_WORKER_POOL;
   }
 
+  /**
+   * Return an {@link ExecutorService} that uses the "vectored read" thread-pool.
+   *
+   * <p>Input streams use this pool to read the ranges of a vectored read concurrently. It is
+   * separate from the worker pool so that tasks running in the worker pool can wait for vectored
+   * reads without starving them.
+   *
+   * <p>The size of this thread-pool is controlled by the Java system property {@code
+   * iceberg.worker.vectored-read-num-threads}.
+   *
+   * @return an {@link ExecutorService} that uses the vectored read pool
+   */
+  public static ExecutorService getVectoredReadPool() {
+    return VECTORED_READ_POOL;
+  }
+
   public static ExecutorService newWorkerPool(String namePrefix) {
     return newWorkerPool(namePrefix, WORKER_THREAD_POOL_SIZE);
   }
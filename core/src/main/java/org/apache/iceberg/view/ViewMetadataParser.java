@@ -181,7 +181,10 @@ public class ViewMetadataParser {
 
   private static void internalWrite(
       ViewMetadata metadata, OutputFile outputFile, boolean overwrite) {
-    boolean isGzip = Codec.fromFileName(outputFile.location()) == Codec.GZIP;
+    Codec codec = Codec.fromFileName(outputFile.location());
+    Preconditions.checkArgument(
+        codec != Codec.BINARY, "Invalid view metadata codec: %s", codec);
+    boolean isGzip = codec == Codec.GZIP;
     OutputStream stream = overwrite ? outputFile.createOrOverwrite() : outputFile.create();
     try (OutputStreamWriter writer =
         new OutputStreamWriter(
@@ -35,6 +35,8 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.CharSequenceSet;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -616,4 +618,73 @@ public abstract class DeleteFileIndexTestBase<
     // it should not be possible to add more elements upon indexing
     assertThatThrownBy(() -> group.add(SPEC, file1)).isInstanceOf(IllegalStateException.class);
   }
+
+  @TestTemplate
+  public void testEqualityDeletesGroupWithRangeIndex() {
+    EqualityDeletes group = new EqualityDeletes();
+    List<DeleteFile> rangeDeletes = Lists.newArrayList();
+    for (int index = 0; index < 40; index += 1) {
+      DeleteFile file =
+          withDataSequenceNumber(index + 1, eqDeletesWithIdRange(index * 10, index * 10 + 9));
+      rangeDeletes.add(file);
+      group.add(SPEC, file);
+    }
+
+    // a delete file without bounds must be checked for all data files
+    DeleteFile unboundedDeletes =
+        withDataSequenceNumber(41, partitionedEqDeletes(SPEC, FILE_A.partition()));
+    group.add(SPEC, unboundedDeletes);
+
+    assertThat(group.filter(0, dataFileWithIdRange(95, 125)))
+        .isEqualTo(
+            new DeleteFile[] {
+              rangeDeletes.get(9),
+              rangeDeletes.get(10),
+              rangeDeletes.get(11),
+              rangeDeletes.get(12),
+              unboundedDeletes
+            });
+
+    // sequence numbers must be applied to files found using ranges
+    assertThat(group.filter(11, dataFileWithIdRange(95, 125)))
+        .isEqualTo(
+            new DeleteFile[] {rangeDeletes.get(11), rangeDeletes.get(12), unboundedDeletes});
+
+    assertThat(group.filter(0, dataFileWithIdRange(1000, 2000)))
+        .isEqualTo(new DeleteFile[] {unboundedDeletes});
+
+    // data files without bounds must be checked against all delete files
+    assertThat(group.filter(39, FILE_A))
+        .isEqualTo(new DeleteFile[] {rangeDeletes.get(39), unboundedDeletes});
+  }
+
+  private static DeleteFile eqDeletesWithIdRange(int lower, int upper) {
+    return FileMetadata.deleteFileBuilder(SPEC)
+        .ofEqualityDeletes(3)
+        .withPartition(FILE_A.partition())
+        .withPath(UUID.randomUUID() + "/path/to/data-partitioned-eq-deletes.parquet")
+        .withFileSizeInBytes(10)
+        .withMetrics(idRangeMetrics(lower, upper))
+        .build();
+  }
+
+  private static DataFile dataFileWithIdRange(int lower, int upper) {
+    return DataFiles.builder(SPEC)
+        .withPartition(FILE_A.partition())
+        .withPath(UUID.randomUUID() + "/path/to/data.parquet")
+        .withFileSizeInBytes(10)
+        .withMetrics(idRangeMetrics(lower, upper))
+        .build();
+  }
+
+  private static Metrics idRangeMetrics(int lower, int upper) {
+    return new Metrics(
+        1L,
+        null,
+        ImmutableMap.of(3, 1L),
+        ImmutableMap.of(3, 0L),
+        null,
+        ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), lower)),
+        ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), upper)));
+  }
 }
@@ -21,7 +21,14 @@ package org.apache.iceberg;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airlift.compress.zstd.ZstdDecompressor;
+import io.airlift.compress.zstd.ZstdOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import org.apache.iceberg.TableMetadataParser.Codec;
+import org.apache.iceberg.util.JsonUtil;
 import org.junit.jupiter.api.Test;
 
 public class TableMetadataParserCodecTest {
@@ -37,6 +44,49 @@ public class TableMetadataParserCodecTest {
     assertThat(Codec.fromName("nOnE")).isEqualTo(Codec.NONE);
     assertThat(Codec.fromFileName("v3.metadata.json")).isEqualTo(Codec.NONE);
     assertThat(Codec.fromFileName("v3-f326-4b66-a541-7b1c.metadata.json")).isEqualTo(Codec.NONE);
+    assertThat(Codec.fromName("binary")).isEqualTo(Codec.BINARY);
+    assertThat(Codec.fromFileName("v3.metadata.bin")).isEqualTo(Codec.BINARY);
+    assertThat(Codec.fromFileName("v3.bin.metadata.json")).isEqualTo(Codec.NONE);
+    assertThat(TableMetadataParser.getFileExtension(Codec.BINARY)).isEqualTo(".metadata.bin");
+  }
+
+  @Test
+  public void testBinaryEncoding() throws IOException {
+    String json =
+        "{\"a\":1,\"b\":[1234567890123,-1.5,true,false,null,\"a\"],"
+            + "\"c\":{\"a\":\"\",\"d\":12345678901234567890123}}";
+    JsonNode node = JsonUtil.mapper().readTree(json);
+
+    byte[] encoded = BinaryJsonCodec.encode(node);
+    JsonNode decoded = BinaryJsonCodec.decode(encoded);
+    assertThat(decoded).isEqualTo(node);
+    assertThat(JsonUtil.mapper().writeValueAsString(decoded)).isEqualTo(json);
+
+    assertThatThrownBy(() -> BinaryJsonCodec.decode(json.getBytes(StandardCharsets.UTF_8)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid binary JSON: missing magic number");
+  }
+
+  @Test
+  public void testBinaryEncodingWithoutContentSize() throws IOException {
+    JsonNode node = JsonUtil.mapper().readTree("{\"a\":[1,2,3],\"b\":\"c\"}");
+    byte[] encoded = BinaryJsonCodec.encode(node);
+
+    // re-compress the encoded tree as a stream, which does not know the content size up front
+    int magicLength = 4;
+    int compressedLength = encoded.length - magicLength;
+    long treeSize = ZstdDecompressor.getDecompressedSize(encoded, magicLength, compressedLength);
+    byte[] tree = new byte[Math.toIntExact(treeSize)];
+    new ZstdDecompressor()
+        .decompress(encoded, magicLength, compressedLength, tree, 0, tree.length);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(encoded, 0, magicLength);
+    try (ZstdOutputStream zstd = new ZstdOutputStream(out)) {
+      zstd.write(tree);
+    }
+
+    assertThat(BinaryJsonCodec.decode(out.toByteArray())).isEqualTo(node);
   }
 
   @Test
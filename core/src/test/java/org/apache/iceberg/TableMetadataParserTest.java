@@ -51,7 +51,7 @@ public class TableMetadataParserTest {
 
   @Parameters(name = "codecName = {0}")
   private static List<Object> parameters() {
-    return Arrays.asList("none", "gzip");
+    return Arrays.asList("none", "gzip", "binary");
   }
 
   @Parameter private String codecName;
@@ -73,6 +73,24 @@ public class TableMetadataParserTest {
     verifyMetadata(metadata, actualMetadata);
   }
 
+  @TestTemplate
+  public void testJsonParity() {
+    Codec codec = Codec.fromName(codecName);
+    String fileName = "v3" + getFileExtension(codec);
+    Map<String, String> properties = Maps.newHashMap();
+    properties.put(TableProperties.METADATA_COMPRESSION, codecName);
+    properties.put("key", "value");
+    TableMetadata metadata =
+        newTableMetadata(SCHEMA, unpartitioned(), "file://tmp/db/table", properties);
+    TableMetadataParser.write(metadata, Files.localOutput(fileName));
+
+    TableMetadata actualMetadata =
+        TableMetadataParser.read((FileIO) null, Files.localInput(new File(fileName)));
+    assertThat(actualMetadata.metadataFileLocation()).endsWith(fileName);
+    assertThat(TableMetadataParser.toJson(actualMetadata))
+        .isEqualTo(TableMetadataParser.toJson(metadata));
+  }
+
   @AfterEach
   public void cleanup() throws IOException {
     Codec codec = Codec.fromName(codecName);
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.events.CreateSnapshotEvent;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.Uninterruptibles;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ParameterizedTestExtension.class)
+public class TestAppendCoalescer extends TestBase {
+  private static final long WINDOW_MS = 60_000L;
+  private static final Snapshot BUSY_SNAPSHOT = mock(Snapshot.class);
+
+  @Parameters(name = "formatVersion = {0}")
+  protected static List<Object> parameters() {
+    return Arrays.asList(1, 2);
+  }
+
+  private ExecutorService executor = null;
+  private CountDownLatch release = null;
+
+  @BeforeEach
+  public void enableCoalescing() {
+    table
+        .updateProperties()
+        .set(TableProperties.COMMIT_COALESCE_APPENDS_ENABLED, "true")
+        .set(TableProperties.COMMIT_COALESCE_APPENDS_WINDOW_MS, String.valueOf(WINDOW_MS))
+        .commit();
+
+    this.executor = Executors.newCachedThreadPool();
+    this.release = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  public void stopExecutor() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @TestTemplate
+  public void testCoalescedFastAppends() throws Exception {
+    List<Object> key = key(FastAppend.class);
+    Future<Snapshot> busy = startBusyBatch(key);
+
+    AppendFiles appendA = table.newFastAppend().appendFile(FILE_A);
+    AppendFiles appendB = table.newFastAppend().appendFile(FILE_B);
+    Future<?> commitA = executor.submit(appendA::commit);
+    Future<?> commitB = executor.submit(appendB::commit);
+    awaitOpenAppends(key, 2);
+
+    release.countDown();
+    assertThat(busy.get()).isSameAs(BUSY_SNAPSHOT);
+    commitA.get();
+    commitB.get();
+
+    assertThat(table.snapshots()).as("Appends should be committed together").hasSize(1);
+    validateSnapshot(null, table.currentSnapshot(), FILE_A, FILE_B);
+    validateEvent(appendA);
+    validateEvent(appendB);
+  }
+
+  @TestTemplate
+  public void testCoalescedMergeAppends() throws Exception {
+    List<Object> key = key(MergeAppend.class);
+    Future<Snapshot> busy = startBusyBatch(key);
+
+    AppendFiles appendA = table.newAppend().appendFile(FILE_A);
+    AppendFiles appendB = table.newAppend().appendFile(FILE_B);
+    Future<?> commitA = executor.submit(appendA::commit);
+    Future<?> commitB = executor.submit(appendB::commit);
+    awaitOpenAppends(key, 2);
+
+    release.countDown();
+    assertThat(busy.get()).isSameAs(BUSY_SNAPSHOT);
+    commitA.get();
+    commitB.get();
+
+    assertThat(table.snapshots()).as("Appends should be committed together").hasSize(1);
+    validateSnapshot(null, table.currentSnapshot(), FILE_A, FILE_B);
+    validateEvent(appendA);
+    validateEvent(appendB);
+  }
+
+  @TestTemplate
+  public void testAppendWithoutOtherBatchesIsNotDelayed() {
+    long startNanos = System.nanoTime();
+    table.newAppend().appendFile(FILE_A).commit();
+    long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    assertThat(durationMs).as("Should not wait for the coalescing window").isLessThan(WINDOW_MS);
+    validateSnapshot(null, table.currentSnapshot(), FILE_A);
+  }
+
+  @TestTemplate
+  public void testFailedBatchFallsBackToSeparateCommits() throws Exception {
+    table.updateProperties().set(TableProperties.COMMIT_NUM_RETRIES, "0").commit();
+
+    List<Object> key = key(FastAppend.class);
+    Future<Snapshot> busy = startBusyBatch(key);
+
+    Future<?> commitA = executor.submit(table.newFastAppend().appendFile(FILE_A)::commit);
+    Future<?> commitB = executor.submit(table.newFastAppend().appendFile(FILE_B)::commit);
+    awaitOpenAppends(key, 2);
+
+    // the batch commit fails and each append is committed on its own
+    table.ops().failCommits(1);
+    release.countDown();
+    assertThat(busy.get()).isSameAs(BUSY_SNAPSHOT);
+    commitA.get();
+    commitB.get();
+
+    assertThat(table.snapshots()).as("Appends should be committed separately").hasSize(2);
+    assertThat(table.currentSnapshot().addedDataFiles(table.io())).hasSize(1);
+  }
+
+  @TestTemplate
+  public void testBatchErrorFailsWaitingAppends() throws Exception {
+    List<Object> key = ImmutableList.of("error");
+    Future<Snapshot> busy = startBusyBatch(key);
+
+    List<Future<Snapshot>> commits = Lists.newArrayList();
+    for (int i = 0; i < 2; i += 1) {
+      commits.add(
+          executor.submit(
+              () ->
+                  AppendCoalescer.commit(
+                      key,
+                      ImmutableList.of(FILE_A),
+                      WINDOW_MS,
+                      files -> {
+                        throw new Error("Injected error");
+                      })));
+    }
+
+    awaitOpenAppends(key, 2);
+    release.countDown();
+    assertThat(busy.get()).isSameAs(BUSY_SNAPSHOT);
+
+    List<Class<?>> failures = Lists.newArrayList();
+    for (Future<Snapshot> commit : commits) {
+      try {
+        commit.get();
+      } catch (ExecutionException e) {
+        failures.add(e.getCause().getClass());
+      }
+    }
+
+    assertThat(failures)
+        .as("Leader should fail with the error and the other append with unknown state")
+        .containsExactlyInAnyOrder(Error.class, CommitStateUnknownException.class);
+  }
+
+  @TestTemplate
+  public void testKeyIncludesTableOperations() {
+    TableOperations otherOps = new TestTables.TestTableOperations("test", tableDir);
+    List<Object> otherKey =
+        AppendCoalescer.key(
+            FastAppend.class, otherOps, SnapshotRef.MAIN_BRANCH, ImmutableMap.of());
+
+    assertThat(key(FastAppend.class))
+        .isEqualTo(key(FastAppend.class))
+        .isNotEqualTo(otherKey)
+        .isNotEqualTo(key(MergeAppend.class));
+  }
+
+  @TestTemplate
+  public void testTransactionAppendsAreNotCoalesced() {
+    BaseTransaction txn = (BaseTransaction) table.newTransaction();
+    assertThat(AppendCoalescer.windowMs(table.ops())).isEqualTo(WINDOW_MS);
+    assertThat(AppendCoalescer.windowMs(txn.new TransactionTableOperations())).isZero();
+  }
+
+  private List<Object> key(Class<?> operationClass) {
+    return AppendCoalescer.key(
+        operationClass, table.ops(), SnapshotRef.MAIN_BRANCH, ImmutableMap.of());
+  }
+
+  // starts committing a batch for the key that finishes when the release latch is counted down
+  private Future<Snapshot> startBusyBatch(List<Object> key) throws InterruptedException {
+    CountDownLatch committing = new CountDownLatch(1);
+    Future<Snapshot> busy =
+        executor.submit(
+            () ->
+                AppendCoalescer.commit(
+                    key,
+                    ImmutableList.of(),
+                    WINDOW_MS,
+                    files -> {
+                      committing.countDown();
+                      Uninterruptibles.awaitUninterruptibly(release);
+                      return BUSY_SNAPSHOT;
+                    }));
+    committing.await();
+    return busy;
+  }
+
+  // appends committed in a batch report the batch snapshot
+  private void validateEvent(AppendFiles append) {
+    Snapshot committed = table.currentSnapshot();
+    CreateSnapshotEvent event = (CreateSnapshotEvent) append.updateEvent();
+    assertThat(event.snapshotId()).isEqualTo(committed.snapshotId());
+    assertThat(event.sequenceNumber()).isEqualTo(committed.sequenceNumber());
+    assertThat(event.summary()).isEqualTo(committed.summary());
+  }
+
+  private void awaitOpenAppends(List<Object> key, int count) {
+    Awaitility.await("Appends join the open batch")
+        .atMost(30, TimeUnit.SECONDS)
+        .until(() -> AppendCoalescer.openAppends(key) == count);
+  }
+}
@@ -21,6 +21,17 @@ package org.apache.iceberg;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.Histogram;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.junit.jupiter.api.Test;
 
 public class TestClientPoolImpl {
@@ -77,6 +88,121 @@ public class TestClientPoolImpl {
     }
   }
 
+  @Test
+  public void testWaitingThreadGetsReleasedClient() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (MockClientPoolImpl mockClientPool =
+        new MockClientPoolImpl(1, RetryableException.class, true, 1)) {
+      CountDownLatch borrowed = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      Future<Integer> holder =
+          executor.submit(
+              () ->
+                  mockClientPool.run(
+                      client -> {
+                        borrowed.countDown();
+                        release.await();
+                        return client.successfulAction();
+                      }));
+      borrowed.await();
+
+      Thread releaser = new Thread(release::countDown);
+      long startNanos = System.nanoTime();
+      releaser.start();
+      int actions = mockClientPool.run(MockClient::successfulAction);
+      long waitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+      assertThat(holder.get()).isEqualTo(1);
+      assertThat(actions).as("Should reuse the released client").isEqualTo(2);
+      assertThat(waitMillis).as("Should not wait for a polling interval").isLessThan(500);
+      assertThat(mockClientPool.currentSize()).isEqualTo(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testIdleClientsAreEvicted() throws Exception {
+    RecordingMetricsContext metricsContext = new RecordingMetricsContext();
+    try (MockClientPoolImpl mockClientPool =
+        new MockClientPoolImpl(2, 0, 1L, RetryableException.class, metricsContext)) {
+      MockClient first = mockClientPool.run(client -> client);
+      assertThat(mockClientPool.currentSize()).isEqualTo(1);
+
+      Thread.sleep(10);
+      MockClient second = mockClientPool.run(client -> client);
+
+      assertThat(second).isNotSameAs(first);
+      assertThat(first.closed).as("Idle client should be closed").isTrue();
+      assertThat(metricsContext.counter(ClientPoolImpl.CREATED_CLIENTS).value()).isEqualTo(2);
+      assertThat(metricsContext.counter(ClientPoolImpl.EVICTED_CLIENTS).value()).isEqualTo(1);
+      assertThat(metricsContext.timer(ClientPoolImpl.WAIT_DURATION, TimeUnit.NANOSECONDS).count())
+          .isEqualTo(2);
+      assertThat(metricsContext.histogram(ClientPoolImpl.IN_USE_CLIENTS).statistics().max())
+          .isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void testMinSizeIsKeptOpen() throws Exception {
+    try (MockClientPoolImpl mockClientPool =
+        new MockClientPoolImpl(
+            2, 1, 1L, RetryableException.class, new RecordingMetricsContext())) {
+      MockClient first = mockClientPool.run(client -> client);
+
+      Thread.sleep(10);
+      MockClient second = mockClientPool.run(client -> client);
+
+      assertThat(second).isSameAs(first);
+      assertThat(first.closed).isFalse();
+    }
+  }
+
+  @Test
+  public void testInvalidMinSize() {
+    assertThatThrownBy(
+            () ->
+                new MockClientPoolImpl(
+                    2, 3, 1L, RetryableException.class, new DefaultMetricsContext()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid min pool size: 3 (must be between 0 and pool size 2)");
+  }
+
+  @Test
+  public void testCloseClosesIdleClients() throws Exception {
+    MockClientPoolImpl mockClientPool =
+        new MockClientPoolImpl(2, RetryableException.class, true, 1);
+    MockClient client = mockClientPool.run(c -> c);
+    mockClientPool.close();
+
+    assertThat(client.closed).isTrue();
+    assertThat(mockClientPool.currentSize()).isEqualTo(0);
+    assertThatThrownBy(() -> mockClientPool.run(MockClient::successfulAction))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot get a client from a closed pool");
+  }
+
+  /** A metrics context that returns the same metric for each name. */
+  static class RecordingMetricsContext extends DefaultMetricsContext {
+    private final Map<String, Object> metrics = Maps.newConcurrentMap();
+
+    @Override
+    public Timer timer(String name, TimeUnit unit) {
+      return (Timer) metrics.computeIfAbsent(name, n -> super.timer(n, unit));
+    }
+
+    @Override
+    public org.apache.iceberg.metrics.Counter counter(String name, Unit unit) {
+      return (org.apache.iceberg.metrics.Counter)
+          metrics.computeIfAbsent(name, n -> super.counter(n, unit));
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+      return (Histogram) metrics.computeIfAbsent(name, super::histogram);
+    }
+  }
+
   static class RetryableException extends RuntimeException {}
 
   static class NonRetryableException extends RuntimeException {}
@@ -127,6 +253,15 @@ public class TestClientPoolImpl {
       super(poolSize, reconnectExc, retryByDefault, numRetries);
     }
 
+    MockClientPoolImpl(
+        int poolSize,
+        int minSize,
+        long idleTimeoutMs,
+        Class<? extends Exception> reconnectExc,
+        MetricsContext metricsContext) {
+      super(poolSize, minSize, idleTimeoutMs, reconnectExc, true, 1, metricsContext);
+    }
+
     @Override
     protected MockClient newClient() {
       return new MockClient();
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.testing.GcFinalization;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ParameterizedTestExtension.class)
+public class TestDeleteFileIndexCache extends TestBase {
+
+  @Parameters(name = "formatVersion = {0}")
+  protected static List<Object> parameters() {
+    return Arrays.asList(2);
+  }
+
+  private DeleteFileIndexCache cache;
+
+  @BeforeEach
+  public void createCache() {
+    this.cache = new DeleteFileIndexCache(1024 * 1024);
+  }
+
+  @TestTemplate
+  public void testReuseIndexForSameManifests() {
+    table.newAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).addDeletes(FILE_B_DELETES).commit();
+
+    DeleteFileIndex first = buildIndex();
+    DeleteFileIndex second = buildIndex();
+
+    assertThat(second).isSameAs(first);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+    assertThat(paths(first.forDataFile(1L, FILE_A)))
+        .containsExactly(FILE_A_DELETES.path().toString());
+  }
+
+  @TestTemplate
+  public void testCachedIndexIgnoresFilters() {
+    table.newAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).addDeletes(FILE_B_DELETES).commit();
+
+    DeleteFileIndex unfiltered = buildIndex();
+    DeleteFileIndex filtered =
+        DeleteFileIndex.builderFor(table.io(), table.currentSnapshot().deleteManifests(table.io()))
+            .specsById(table.specs())
+            .filterPartitions(Expressions.equal("data_bucket", 0))
+            .cacheWith(cache)
+            .build();
+
+    assertThat(filtered).isSameAs(unfiltered);
+    assertThat(Iterables.size(filtered.referencedDeleteFiles())).isEqualTo(2);
+  }
+
+  @TestTemplate
+  public void testIncrementalBuildFromCachedIndex() {
+    table.newAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+
+    DeleteFileIndex first = buildIndex();
+    assertThat(paths(first.forDataFile(1L, FILE_B))).isEmpty();
+
+    table.newRowDelta().addDeletes(FILE_B_DELETES).commit();
+
+    DeleteFileIndex second = buildIndex();
+    assertThat(second).isNotSameAs(first);
+    assertThat(cache.estimatedSize()).isEqualTo(2);
+    assertThat(paths(second.forDataFile(1L, FILE_A)))
+        .containsExactly(FILE_A_DELETES.path().toString());
+    assertThat(paths(second.forDataFile(1L, FILE_B)))
+        .containsExactly(FILE_B_DELETES.path().toString());
+  }
+
+  @TestTemplate
+  public void testCacheNotUsedWithMinSequenceNumber() {
+    table.newAppend().appendFile(FILE_A).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+
+    DeleteFileIndex.builderFor(table.io(), table.currentSnapshot().deleteManifests(table.io()))
+        .specsById(table.specs())
+        .afterSequenceNumber(1L)
+        .cacheWith(cache)
+        .build();
+
+    assertThat(cache.stats().requestCount()).isEqualTo(0);
+    assertThat(cache.estimatedSize()).isEqualTo(0);
+  }
+
+  @TestTemplate
+  public void testEvictionBySize() {
+    DeleteFileIndexCache smallCache = new DeleteFileIndexCache(1);
+    table.newAppend().appendFile(FILE_A).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+
+    DeleteFileIndex index =
+        DeleteFileIndex.builderFor(table.io(), table.currentSnapshot().deleteManifests(table.io()))
+            .specsById(table.specs())
+            .cacheWith(smallCache)
+            .build();
+    smallCache.cleanUp();
+
+    assertThat(paths(index.forDataFile(1L, FILE_A)))
+        .containsExactly(FILE_A_DELETES.path().toString());
+    assertThat(smallCache.estimatedSize()).isEqualTo(0);
+  }
+
+  @TestTemplate
+  public void testIndexIsNotSharedAcrossFileIOs() {
+    table.newAppend().appendFile(FILE_A).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+
+    DeleteFileIndex first = buildIndex();
+    DeleteFileIndex other = buildIndex(new TestTables.LocalFileIO());
+
+    assertThat(other).isNotSameAs(first);
+    assertThat(buildIndex()).isSameAs(first);
+    assertThat(cache.estimatedSize()).isEqualTo(2);
+  }
+
+  @TestTemplate
+  public void testIndexIsRemovedWithCollectedFileIO() {
+    table.newAppend().appendFile(FILE_A).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+
+    DeleteFileIndex first = buildIndex();
+    buildIndex(new TestTables.LocalFileIO());
+    assertThat(cache.estimatedSize()).isEqualTo(2);
+
+    GcFinalization.awaitDone(
+        () -> {
+          cache.cleanUp();
+          return cache.estimatedSize() == 1;
+        });
+
+    assertThat(buildIndex()).isSameAs(first);
+  }
+
+  @TestTemplate
+  public void testSharedCache() {
+    assertThat(DeleteFileIndexCache.shared()).isSameAs(DeleteFileIndexCache.shared());
+  }
+
+  @TestTemplate
+  public void testFailedLoadIsNotCached() {
+    table.newAppend().appendFile(FILE_A).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+    Set<ManifestFile> manifests =
+        Sets.newHashSet(table.currentSnapshot().deleteManifests(table.io()));
+
+    assertThatThrownBy(
+            () ->
+                cache.get(
+                    table.io(),
+                    manifests,
+                    table.specs(),
+                    ignored -> {
+                      throw new IllegalStateException("Failed to read manifests");
+                    },
+                    files -> null))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Failed to read manifests");
+
+    assertThat(cache.estimatedSize()).isEqualTo(0);
+    DeleteFileIndex index = buildIndex();
+    assertThat(paths(index.forDataFile(1L, FILE_A)))
+        .containsExactly(FILE_A_DELETES.path().toString());
+  }
+
+  private DeleteFileIndex buildIndex() {
+    return buildIndex(table.io());
+  }
+
+  private DeleteFileIndex buildIndex(FileIO io) {
+    return DeleteFileIndex.builderFor(io, table.currentSnapshot().deleteManifests(table.io()))
+        .specsById(table.specs())
+        .cacheWith(cache)
+        .build();
+  }
+
+  private static List<String> paths(DeleteFile[] deleteFiles) {
+    return Arrays.stream(deleteFiles)
+        .map(file -> file.path().toString())
+        .collect(Collectors.toList());
+  }
+}
@@ -324,6 +324,57 @@ public class TestFastAppend extends TestBase {
     assertThat(metadata.currentSnapshot().allManifests(FILE_IO)).contains(newManifest);
   }
 
+  @TestTemplate
+  public void testStreamingAppendRecovery() {
+    table
+        .updateProperties()
+        .set(TableProperties.MANIFEST_STREAMING_APPENDS_ENABLED, "true")
+        .commit();
+
+    // inject 3 failures, the last try will succeed
+    TestTables.TestTableOperations ops = table.ops();
+    ops.failCommits(3);
+
+    assertThat(listManifestFiles()).isEmpty();
+
+    AppendFiles append = table.newFastAppend().appendFile(FILE_A).appendFile(FILE_B);
+    Snapshot pending = append.apply();
+    ManifestFile newManifest = pending.allManifests(FILE_IO).get(0);
+    assertThat(new File(newManifest.path())).exists();
+
+    append.commit();
+
+    TableMetadata metadata = readMetadata();
+    validateSnapshot(null, metadata.currentSnapshot(), FILE_A, FILE_B);
+    assertThat(metadata.currentSnapshot().allManifests(FILE_IO)).containsExactly(newManifest);
+
+    // all attempts reused the manifest written for the added files
+    assertThat(listManifestFiles()).hasSize(1);
+  }
+
+  @TestTemplate
+  public void testStreamingAppendFailure() {
+    table
+        .updateProperties()
+        .set(TableProperties.MANIFEST_STREAMING_APPENDS_ENABLED, "true")
+        .commit();
+
+    // inject 5 failures
+    TestTables.TestTableOperations ops = table.ops();
+    ops.failCommits(5);
+
+    AppendFiles append = table.newFastAppend().appendFile(FILE_B);
+    Snapshot pending = append.apply();
+    ManifestFile newManifest = pending.allManifests(FILE_IO).get(0);
+    assertThat(new File(newManifest.path())).exists();
+
+    assertThatThrownBy(append::commit)
+        .isInstanceOf(CommitFailedException.class)
+        .hasMessage("Injected failure");
+
+    assertThat(new File(newManifest.path())).doesNotExist();
+  }
+
   @TestTemplate
   public void testAppendManifestWithSnapshotIdInheritance() throws IOException {
     table.updateProperties().set(TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED, "true").commit();
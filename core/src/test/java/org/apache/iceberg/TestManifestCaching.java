@@ -23,23 +23,30 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.google.common.testing.GcFinalization;
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.hadoop.HadoopCatalog;
 import org.apache.iceberg.hadoop.HadoopFileIO;
 import org.apache.iceberg.io.ContentCache;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.IOUtil;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -123,6 +130,182 @@ public class TestManifestCaching {
     ManifestFiles.dropCache(scan.table().io());
   }
 
+  @Test
+  public void testPlanWithDiskCache() throws Exception {
+    Path diskCacheDir = temp.resolve("disk-cache");
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CatalogProperties.FILE_IO_IMPL, HadoopFileIO.class.getName(),
+            CatalogProperties.IO_MANIFEST_CACHE_ENABLED, "true",
+            CatalogProperties.IO_MANIFEST_CACHE_MAX_TOTAL_BYTES, "1",
+            CatalogProperties.IO_MANIFEST_CACHE_DISK_DIRECTORY, diskCacheDir.toString());
+    Table table = createTable(properties);
+    ContentCache cache = ManifestFiles.contentCache(table.io());
+    assertThat(cache.maxDiskTotalBytes())
+        .isEqualTo(CatalogProperties.IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES_DEFAULT);
+
+    int numFiles = 4;
+    List<DataFile> files16Mb = newFiles(numFiles, 16 * 1024 * 1024);
+    appendFiles(files16Mb, table);
+
+    // every manifest is too large for the heap tier and is moved to the disk tier
+    TableScan scan1 = table.newScan();
+    assertThat(scan1.planFiles()).hasSize(numFiles);
+    Awaitility.await("Manifests are written to the disk tier")
+        .atMost(5, TimeUnit.SECONDS)
+        .untilAsserted(
+            () -> {
+              cache.cleanUp();
+              assertThat(cache.estimatedDiskCacheSize()).isEqualTo(numFiles);
+            });
+    assertThat(cache.estimatedCacheSize()).isEqualTo(0);
+    long loadCount = cache.stats().loadCount();
+
+    TableScan scan2 = table.newScan();
+    assertThat(scan2.planFiles()).hasSize(numFiles);
+    assertThat(cache.stats().loadCount())
+        .as("Manifest files should not be downloaded again")
+        .isEqualTo(loadCount);
+    assertThat(cache.diskStats().hitCount())
+        .as("All manifest file reads should hit the disk tier")
+        .isEqualTo(numFiles);
+
+    ManifestFiles.dropCache(table.io());
+    Awaitility.await("Disk tier files are removed")
+        .atMost(5, TimeUnit.SECONDS)
+        .untilAsserted(
+            () -> {
+              try (Stream<Path> cacheFiles = Files.walk(diskCacheDir)) {
+                assertThat(cacheFiles.filter(Files::isRegularFile)).isEmpty();
+              }
+            });
+  }
+
+  @Test
+  public void testSharedDiskCache() throws Exception {
+    Path diskCacheDir = temp.resolve("shared-disk-cache");
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CatalogProperties.FILE_IO_IMPL, HadoopFileIO.class.getName(),
+            CatalogProperties.IO_MANIFEST_CACHE_ENABLED, "true",
+            CatalogProperties.IO_MANIFEST_CACHE_MAX_TOTAL_BYTES, "1",
+            CatalogProperties.IO_MANIFEST_CACHE_DISK_DIRECTORY, diskCacheDir.toString());
+    Table table1 = createTable(properties);
+    Table table2 = createTable(properties);
+    ContentCache cache1 = ManifestFiles.contentCache(table1.io());
+    ContentCache cache2 = ManifestFiles.contentCache(table2.io());
+    assertThat(cache2).isNotSameAs(cache1);
+
+    int numFiles = 2;
+    appendFiles(newFiles(numFiles, 16 * 1024 * 1024), table1);
+    appendFiles(newFiles(numFiles, 16 * 1024 * 1024), table2);
+    assertThat(table1.newScan().planFiles()).hasSize(numFiles);
+    assertThat(table2.newScan().planFiles()).hasSize(numFiles);
+    Awaitility.await("Manifests are written to the disk tier")
+        .atMost(5, TimeUnit.SECONDS)
+        .untilAsserted(
+            () -> {
+              cache1.cleanUp();
+              cache2.cleanUp();
+              assertThat(cache1.estimatedDiskCacheSize()).isEqualTo(numFiles);
+              assertThat(cache2.estimatedDiskCacheSize()).isEqualTo(numFiles);
+            });
+
+    try (Stream<Path> directories = Files.list(diskCacheDir)) {
+      assertThat(directories).as("Caches should share one disk directory").hasSize(1);
+    }
+
+    // dropping one cache removes only its own entries from the shared disk tier
+    ManifestFiles.dropCache(table1.io());
+    assertThat(cache1.estimatedDiskCacheSize()).isEqualTo(0);
+    assertThat(cache2.estimatedDiskCacheSize()).isEqualTo(numFiles);
+
+    ManifestFiles.dropCache(table2.io());
+  }
+
+  @Test
+  public void testPlanWithOffHeapCache() throws Exception {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CatalogProperties.FILE_IO_IMPL, HadoopFileIO.class.getName(),
+            CatalogProperties.IO_MANIFEST_CACHE_ENABLED, "true",
+            CatalogProperties.IO_MANIFEST_CACHE_OFF_HEAP_ENABLED, "true");
+    Table table = createTable(properties);
+    ContentCache cache = ManifestFiles.contentCache(table.io());
+    assertThat(cache.isOffHeap()).isTrue();
+
+    int numFiles = 4;
+    List<DataFile> files16Mb = newFiles(numFiles, 16 * 1024 * 1024);
+    appendFiles(files16Mb, table);
+
+    TableScan scan1 = table.newScan();
+    assertThat(scan1.planFiles()).hasSize(numFiles);
+    assertThat(cache.estimatedCacheSize()).isEqualTo(numFiles);
+    long missCount = cache.stats().missCount();
+
+    TableScan scan2 = table.newScan();
+    assertThat(scan2.planFiles()).hasSize(numFiles);
+    assertThat(cache.stats().missCount())
+        .as("All manifest file reads should hit cache")
+        .isEqualTo(missCount);
+
+    ManifestFiles.dropCache(table.io());
+  }
+
+  @Test
+  public void testOffHeapContentOutlivesEviction() throws Exception {
+    byte[] data = new byte[100 * 1024];
+    for (int i = 0; i < data.length; i += 1) {
+      data[i] = (byte) i;
+    }
+
+    File file = temp.resolve("content.bin").toFile();
+    Files.write(file.toPath(), data);
+
+    ContentCache cache = new ContentCache(0, 1024 * 1024, 1024 * 1024, null, 0L, true);
+    InputFile cachingInput = cache.tryCache(org.apache.iceberg.Files.localInput(file));
+
+    byte[] read = new byte[data.length];
+    try (SeekableInputStream stream = cachingInput.newStream()) {
+      // evicting the content must not release the buffers of an open stream
+      cache.invalidateAll();
+      cache.cleanUp();
+      IOUtil.readFully(stream, read, 0, read.length);
+    }
+
+    assertThat(read).isEqualTo(data);
+    assertThat(cache.estimatedCacheSize()).isEqualTo(0);
+  }
+
+  @Test
+  public void testLengthFromDiskCache() throws Exception {
+    byte[] data = new byte[100 * 1024];
+    File file = temp.resolve("length.bin").toFile();
+    Files.write(file.toPath(), data);
+
+    ContentCache cache =
+        new ContentCache(0, 1, 1024 * 1024, temp.resolve("length-cache").toString(), 1024 * 1024);
+    InputFile cachingInput = cache.tryCache(org.apache.iceberg.Files.localInput(file));
+    try (SeekableInputStream stream = cachingInput.newStream()) {
+      IOUtil.readFully(stream, new byte[data.length], 0, data.length);
+    }
+
+    // the content is too large for the heap tier and is moved to the disk tier
+    Awaitility.await("Content is written to the disk tier")
+        .atMost(5, TimeUnit.SECONDS)
+        .untilAsserted(
+            () -> {
+              cache.cleanUp();
+              assertThat(cache.estimatedDiskCacheSize()).isEqualTo(1);
+            });
+
+    // the length is read from the disk tier without accessing the file
+    assertThat(file.delete()).isTrue();
+    assertThat(cachingInput.getLength()).isEqualTo(data.length);
+
+    cache.invalidateAll();
+  }
+
   @Test
   public void testUniqueCache() throws Exception {
     Map<String, String> properties1 =
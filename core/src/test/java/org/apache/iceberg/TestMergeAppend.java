@@ -1049,6 +1049,40 @@ public class TestMergeAppend extends TestBase {
         statuses(Status.ADDED, Status.EXISTING));
   }
 
+  @TestTemplate
+  public void testStreamingAppendRecovery() {
+    // merge all manifests for this test
+    table
+        .updateProperties()
+        .set(TableProperties.MANIFEST_MIN_MERGE_COUNT, "1")
+        .set(TableProperties.MANIFEST_STREAMING_APPENDS_ENABLED, "true")
+        .commit();
+
+    Snapshot current = commit(table, table.newAppend().appendFile(FILE_A), branch);
+    long baseId = current.snapshotId();
+
+    table.ops().failCommits(3);
+
+    AppendFiles append = table.newAppend().appendFile(FILE_B).appendFile(FILE_C);
+    Snapshot pending = apply(append, branch);
+    assertThat(pending.allManifests(table.io())).hasSize(1);
+
+    Snapshot snapshot = commit(table, append, branch);
+    long snapshotId = snapshot.snapshotId();
+
+    assertThat(snapshot.allManifests(table.io())).hasSize(1);
+    validateManifest(
+        snapshot.allManifests(table.io()).get(0),
+        null /* data sequence numbers are not checked */,
+        null /* file sequence numbers are not checked */,
+        ids(snapshotId, snapshotId, baseId),
+        files(FILE_B, FILE_C, FILE_A),
+        statuses(Status.ADDED, Status.ADDED, Status.EXISTING));
+
+    // the streamed manifest was merged, so it was removed after the commit
+    assertThat(listManifestFiles()).hasSize(2);
+  }
+
   @TestTemplate
   public void testAppendManifestWithSnapshotIdInheritance() throws IOException {
     table.updateProperties().set(TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED, "true").commit();
@@ -34,10 +34,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -213,6 +215,74 @@ public class TestTableMetadata {
     assertThat(metadata.refs()).isEqualTo(refs);
   }
 
+  @Test
+  public void testStreamingParserReadsSnapshotsLazily() throws Exception {
+    long firstSnapshotId = 1000L;
+    long secondSnapshotId = 2000L;
+    long currentSnapshotId = 3000L;
+    Snapshot firstSnapshot =
+        new BaseSnapshot(0, firstSnapshotId, null, 1000L, null, null, null, "file:/tmp/list1");
+    Snapshot secondSnapshot =
+        new BaseSnapshot(
+            0, secondSnapshotId, firstSnapshotId, 2000L, null, null, null, "file:/tmp/list2");
+    Snapshot currentSnapshot =
+        new BaseSnapshot(
+            0, currentSnapshotId, secondSnapshotId, 3000L, null, null, null, "file:/tmp/list3");
+
+    Map<String, SnapshotRef> refs =
+        ImmutableMap.of(
+            "main", SnapshotRef.branchBuilder(currentSnapshotId).build(),
+            "first", SnapshotRef.tagBuilder(firstSnapshotId).build());
+
+    TableMetadata expected =
+        new TableMetadata(
+            null,
+            2,
+            UUID.randomUUID().toString(),
+            TEST_LOCATION,
+            SEQ_NO,
+            System.currentTimeMillis(),
+            3,
+            7,
+            ImmutableList.of(new Schema(7, TEST_SCHEMA.columns())),
+            5,
+            ImmutableList.of(SPEC_5),
+            SPEC_5.lastAssignedFieldId(),
+            3,
+            ImmutableList.of(SORT_ORDER_3),
+            ImmutableMap.of(),
+            currentSnapshotId,
+            Arrays.asList(firstSnapshot, secondSnapshot, currentSnapshot),
+            null,
+            ImmutableList.of(),
+            ImmutableList.of(),
+            refs,
+            ImmutableList.of(),
+            ImmutableList.of(),
+            ImmutableList.of());
+
+    String asJson = TableMetadataParser.toJson(expected);
+    TableMetadata metadata =
+        TableMetadataParser.fromJson(null, asJson.getBytes(StandardCharsets.UTF_8));
+    assertThat(metadata.currentSnapshot().snapshotId()).isEqualTo(currentSnapshotId);
+    assertThat(metadata.snapshot(secondSnapshotId).timestampMillis()).isEqualTo(2000L);
+    assertThat(metadata.snapshots())
+        .extracting(Snapshot::snapshotId)
+        .containsExactly(firstSnapshotId, secondSnapshotId, currentSnapshotId);
+    assertThat(metadata.refs()).isEqualTo(refs);
+
+    // break the snapshot that is not referenced to show it is not parsed until it is accessed
+    ObjectNode node = (ObjectNode) JsonUtil.mapper().readTree(asJson);
+    ((ObjectNode) node.get(SNAPSHOTS).get(1)).remove("timestamp-ms");
+    TableMetadata lazyMetadata =
+        TableMetadataParser.fromJson(null, JsonUtil.mapper().writeValueAsBytes(node));
+    assertThat(lazyMetadata.currentSnapshot().snapshotId()).isEqualTo(currentSnapshotId);
+    assertThat(lazyMetadata.ref("first").snapshotId()).isEqualTo(firstSnapshotId);
+    assertThatThrownBy(lazyMetadata::snapshots)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse missing long: timestamp-ms");
+  }
+
   @Test
   public void testBackwardCompat() throws Exception {
     PartitionSpec spec = PartitionSpec.builderFor(TEST_SCHEMA).identity("x").withSpecId(6).build();
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.testing.GcFinalization;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestTableMetadataCache {
+  private static final Schema SCHEMA = new Schema(required(1, "id", Types.LongType.get()));
+  private static final long MAX_TOTAL_BYTES = 1024L * 1024;
+
+  @TempDir private File tempDir;
+
+  private final FileIO io = new TestTables.LocalFileIO();
+  private File metadataFile;
+  private String metadataLocation;
+  private AtomicInteger loads;
+  private Function<String, TableMetadataCache.CachedMetadata> loader;
+
+  @BeforeEach
+  public void writeMetadata() {
+    TableMetadata metadata =
+        TableMetadata.newTableMetadata(
+            SCHEMA, PartitionSpec.unpartitioned(), tempDir.toURI().toString(), ImmutableMap.of());
+    this.metadataFile = new File(tempDir, "v1.metadata.json");
+    TableMetadataParser.write(metadata, Files.localOutput(metadataFile));
+
+    this.metadataLocation = metadataFile.getAbsolutePath();
+    this.loads = new AtomicInteger();
+    this.loader =
+        location -> {
+          loads.incrementAndGet();
+          return new TableMetadataCache.CachedMetadata(
+              TableMetadataParser.read(io, io.newInputFile(location)), 100L);
+        };
+  }
+
+  @Test
+  public void testSharedParse() {
+    TableMetadataCache cache = new TableMetadataCache(MAX_TOTAL_BYTES);
+
+    TableMetadata first = cache.get(io, metadataLocation);
+    TableMetadata second = cache.get(io, metadataLocation);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.metadataFileLocation()).isEqualTo(metadataLocation);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+    assertThat(cache.estimatedSize()).isEqualTo(1);
+  }
+
+  @Test
+  public void testFileVersions() {
+    TableMetadataCache cache = new TableMetadataCache(MAX_TOTAL_BYTES);
+
+    TableMetadata first = cache.get(io, metadataLocation, 1L, loader);
+    TableMetadata replaced = cache.get(io, metadataLocation, 2L, loader);
+
+    assertThat(replaced).isNotSameAs(first);
+    assertThat(cache.get(io, metadataLocation, 1L, loader)).isSameAs(first);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  public void testMetadataIsNotSharedAcrossFileIOs() {
+    TableMetadataCache cache = new TableMetadataCache(MAX_TOTAL_BYTES);
+    FileIO otherIO = new TestTables.LocalFileIO();
+
+    TableMetadata first = cache.get(io, metadataLocation);
+    TableMetadata other = cache.get(otherIO, metadataLocation);
+
+    assertThat(other).isNotSameAs(first);
+    assertThat(cache.get(io, metadataLocation)).isSameAs(first);
+    assertThat(cache.get(otherIO, metadataLocation)).isSameAs(other);
+  }
+
+  @Test
+  public void testMetadataIsRemovedWithCollectedFileIO() {
+    TableMetadataCache cache = new TableMetadataCache(MAX_TOTAL_BYTES);
+    cache.get(io, metadataLocation);
+    cache.get(new TestTables.LocalFileIO(), metadataLocation);
+    assertThat(cache.estimatedSize()).isEqualTo(2);
+
+    GcFinalization.awaitDone(
+        () -> {
+          cache.cleanUp();
+          return cache.estimatedSize() == 1;
+        });
+
+    assertThat(cache.get(io, metadataLocation).metadataFileLocation()).isEqualTo(metadataLocation);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testSizeIsBoundedByFileSize() {
+    long fileSize = metadataFile.length();
+    TableMetadataCache cache = new TableMetadataCache(fileSize + fileSize / 2);
+
+    cache.get(io, metadataLocation, 1L);
+    assertThat(cache.estimatedSize()).isEqualTo(1);
+
+    cache.get(io, metadataLocation, 2L);
+    assertThat(cache.estimatedSize())
+        .as("Should only keep metadata files that fit in the cache")
+        .isEqualTo(1);
+
+    TableMetadataCache tooSmall = new TableMetadataCache(fileSize - 1);
+    tooSmall.get(io, metadataLocation);
+    assertThat(tooSmall.estimatedSize())
+        .as("Should not keep metadata files that are larger than the cache")
+        .isEqualTo(0);
+  }
+
+  @Test
+  public void testFailedLoadIsNotCached() {
+    TableMetadataCache cache = new TableMetadataCache(MAX_TOTAL_BYTES);
+    String missingLocation = new File(tempDir, "v2.metadata.json").getAbsolutePath();
+
+    assertThatThrownBy(() -> cache.get(io, missingLocation, 0L, loader))
+        .isInstanceOf(NotFoundException.class);
+    assertThatThrownBy(() -> cache.get(io, missingLocation, 0L, loader))
+        .isInstanceOf(NotFoundException.class);
+
+    assertThat(loads).hasValue(2);
+    assertThat(cache.estimatedSize()).isEqualTo(0);
+  }
+
+  @Test
+  public void testInvalidMaxTotalBytes() {
+    assertThatThrownBy(() -> new TableMetadataCache(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max total bytes: 0");
+  }
+}
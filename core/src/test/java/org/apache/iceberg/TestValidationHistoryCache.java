@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.util.PartitionSet;
+import org.apache.iceberg.util.ThreadPools;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ParameterizedTestExtension.class)
+public class TestValidationHistoryCache extends TestBase {
+  @Parameters(name = "formatVersion = {0}")
+  protected static List<Object> parameters() {
+    return Arrays.asList(2);
+  }
+
+  @TestTemplate
+  public void testMatchingDataEntriesAreCachedWithoutStats() {
+    table.newFastAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    Snapshot append = table.currentSnapshot();
+    table.newDelete().deleteFile(FILE_A).commit();
+    Snapshot delete = table.currentSnapshot();
+
+    ValidationHistoryCache cache =
+        new ValidationHistoryCache(table.io(), ThreadPools::getWorkerPool);
+
+    List<ManifestFile> manifests = Lists.newArrayList();
+    manifests.addAll(cache.newDataManifests(append));
+    manifests.addAll(cache.newDataManifests(delete));
+    assertThat(manifests).hasSize(2);
+
+    ValidationHistoryCache.FilterKey key = ValidationHistoryCache.FilterKey.of("changed");
+    List<ManifestEntry<DataFile>> entries =
+        cache.matchingDataEntries(key, manifests, this::changedEntries, entry -> true);
+    assertThat(entries)
+        .as("Should return added and deleted entries, but not existing entries")
+        .extracting(ManifestEntry::status)
+        .containsExactlyInAnyOrder(
+            ManifestEntry.Status.ADDED, ManifestEntry.Status.ADDED, ManifestEntry.Status.DELETED);
+    assertThat(entries).allMatch(entry -> entry.file().valueCounts() == null);
+
+    for (ManifestFile manifest : manifests) {
+      table.io().deleteFile(manifest.path());
+    }
+
+    assertThat(cache.matchingDataEntries(key, manifests, this::changedEntries, entry -> true))
+        .as("Should not read cached manifests again")
+        .hasSize(3);
+    assertThat(
+            cache.matchingDataEntries(
+                key,
+                manifests,
+                this::changedEntries,
+                entry -> entry.status() == ManifestEntry.Status.DELETED))
+        .as("Should filter cached entries")
+        .hasSize(1);
+    assertThat(cache.newDataManifests(delete)).isEqualTo(manifests.subList(1, 2));
+
+    ValidationHistoryCache.FilterKey pruned =
+        ValidationHistoryCache.FilterKey.of("pruned", Expressions.alwaysFalse());
+    assertThat(
+            cache.matchingDataEntries(
+                pruned,
+                manifests,
+                group -> changedEntries(group).filterData(Expressions.alwaysFalse()),
+                entry -> true))
+        .as("Should not read manifests that cannot match the filter")
+        .isEmpty();
+
+    ValidationHistoryCache.FilterKey other = ValidationHistoryCache.FilterKey.of("other");
+    assertThatThrownBy(
+            () -> cache.matchingDataEntries(other, manifests, this::changedEntries, entry -> true))
+        .as("Should not reuse entries cached for other filters")
+        .isInstanceOf(NotFoundException.class);
+  }
+
+  @TestTemplate
+  public void testStopReadingDataManifestsOnMatch() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    Snapshot first = table.currentSnapshot();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    Snapshot second = table.currentSnapshot();
+
+    // read manifests one at a time
+    ValidationHistoryCache cache =
+        new ValidationHistoryCache(table.io(), MoreExecutors::newDirectExecutorService);
+
+    List<ManifestFile> manifests = Lists.newArrayList();
+    manifests.addAll(cache.newDataManifests(first));
+    manifests.addAll(cache.newDataManifests(second));
+
+    ValidationHistoryCache.FilterKey key = ValidationHistoryCache.FilterKey.of("added");
+    assertThat(cache.matchingDataEntries(key, manifests, this::changedEntries, entry -> true))
+        .extracting(entry -> entry.file().path().toString())
+        .containsExactly(FILE_A.path().toString());
+  }
+
+  @TestTemplate
+  public void testMatchingDeleteFiles() {
+    table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+
+    ValidationHistoryCache cache =
+        new ValidationHistoryCache(table.io(), ThreadPools::getWorkerPool);
+
+    List<ManifestFile> manifests = cache.newDeleteManifests(table.currentSnapshot());
+    assertThat(cache.newDataManifests(table.currentSnapshot())).isEmpty();
+
+    assertThat(
+            cache.matchingDeleteFiles(
+                ValidationHistoryCache.FilterKey.of("all"),
+                manifests,
+                deleteManifests ->
+                    DeleteFileIndex.builderFor(table.io(), deleteManifests)
+                        .specsById(table.specs())
+                        .build()))
+        .extracting(file -> file.path().toString())
+        .containsExactly(FILE_A_DELETES.path().toString());
+
+    PartitionSet partitionSet = PartitionSet.create(table.specs());
+    partitionSet.add(FILE_B.specId(), FILE_B.partition());
+    assertThat(
+            cache.matchingDeleteFiles(
+                ValidationHistoryCache.FilterKey.of("partitions", partitionSet),
+                manifests,
+                deleteManifests ->
+                    DeleteFileIndex.builderFor(table.io(), deleteManifests)
+                        .specsById(table.specs())
+                        .filterPartitions(partitionSet)
+                        .build()))
+        .isEmpty();
+  }
+
+  @TestTemplate
+  public void testFilterKeysCompareFiltersByIdentity() {
+    Expression filter = Expressions.equal("id", 1);
+
+    assertThat(ValidationHistoryCache.FilterKey.of("added", filter, null, true))
+        .isEqualTo(ValidationHistoryCache.FilterKey.of("added", filter, null, true))
+        .hasSameHashCodeAs(ValidationHistoryCache.FilterKey.of("added", filter, null, true))
+        .isNotEqualTo(ValidationHistoryCache.FilterKey.of("deleted", filter, null, true))
+        .isNotEqualTo(ValidationHistoryCache.FilterKey.of("added", filter, null, false))
+        .isNotEqualTo(
+            ValidationHistoryCache.FilterKey.of("added", Expressions.equal("id", 1), null, true));
+  }
+
+  private ManifestGroup changedEntries(List<ManifestFile> manifests) {
+    return new ManifestGroup(table.io(), manifests, ImmutableList.of())
+        .specsById(table.specs())
+        .ignoreExisting();
+  }
+}
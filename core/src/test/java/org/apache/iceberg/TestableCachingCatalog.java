@@ -37,6 +37,22 @@ public class TestableCachingCatalog extends CachingCatalog {
         catalog, true /* caseSensitive */, expirationInterval, ticker);
   }
 
+  /** Wraps a catalog with a cache that reloads tables on the calling thread. */
+  public static TestableCachingCatalog wrap(
+      Catalog catalog,
+      Duration expirationInterval,
+      Duration refreshInterval,
+      boolean refreshProbeEnabled,
+      Ticker ticker) {
+    return new TestableCachingCatalog(
+        catalog,
+        true /* caseSensitive */,
+        expirationInterval,
+        refreshInterval,
+        refreshProbeEnabled,
+        ticker);
+  }
+
   private final Duration cacheExpirationInterval;
 
   TestableCachingCatalog(
@@ -45,6 +61,24 @@ public class TestableCachingCatalog extends CachingCatalog {
     this.cacheExpirationInterval = expirationInterval;
   }
 
+  TestableCachingCatalog(
+      Catalog catalog,
+      boolean caseSensitive,
+      Duration expirationInterval,
+      Duration refreshInterval,
+      boolean refreshProbeEnabled,
+      Ticker ticker) {
+    super(
+        catalog,
+        caseSensitive,
+        expirationInterval.toMillis(),
+        refreshInterval.toMillis(),
+        refreshProbeEnabled,
+        Runnable::run,
+        ticker);
+    this.cacheExpirationInterval = expirationInterval;
+  }
+
   public Cache<TableIdentifier, Table> cache() {
     // cleanUp must be called as tests apply assertions directly on the underlying map, but metadata
     // table
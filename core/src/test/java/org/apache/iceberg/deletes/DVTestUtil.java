@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.encryption.EncryptedOutputFile;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.puffin.Puffin;
+import org.apache.iceberg.puffin.PuffinWriter;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+
+public class DVTestUtil {
+
+  private DVTestUtil() {}
+
+  /**
+   * Writes a Puffin delete file with a deletion vector for each data file.
+   *
+   * @param fileFactory a factory for delete files, which should use {@link FileFormat#PUFFIN}
+   * @param spec a partition spec
+   * @param partition a partition or null if the spec is unpartitioned
+   * @param positionsByPath deleted positions by data file location
+   * @return the delete file
+   */
+  public static DeleteFile writeDVs(
+      OutputFileFactory fileFactory,
+      PartitionSpec spec,
+      StructLike partition,
+      Map<String, long[]> positionsByPath)
+      throws IOException {
+    List<String> paths = Lists.newArrayList(positionsByPath.keySet());
+    paths.sort(String::compareTo);
+
+    EncryptedOutputFile outputFile = fileFactory.newOutputFile(spec, partition);
+    PuffinWriter writer = Puffin.write(outputFile.encryptingOutputFile()).build();
+    long deletedPositions = 0L;
+    try {
+      for (String path : paths) {
+        BitmapPositionDeleteIndex positions = new BitmapPositionDeleteIndex();
+        for (long pos : positionsByPath.get(path)) {
+          positions.delete(pos);
+        }
+
+        writer.add(DeletionVectors.toBlob(path, positions));
+        deletedPositions += positions.cardinality();
+      }
+    } finally {
+      writer.close();
+    }
+
+    return FileMetadata.deleteFileBuilder(spec)
+        .ofPositionDeletes()
+        .withFormat(FileFormat.PUFFIN)
+        .withPath(outputFile.encryptingOutputFile().location())
+        .withPartition(partition)
+        .withEncryptionKeyMetadata(outputFile.keyMetadata())
+        .withFileSizeInBytes(writer.fileSize())
+        .withRecordCount(deletedPositions)
+        .build();
+  }
+}
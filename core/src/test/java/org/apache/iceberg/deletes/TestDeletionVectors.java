@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.zip.CRC32;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.ParameterizedTestExtension;
+import org.apache.iceberg.Parameters;
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.TestBase;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.util.CharSequenceMap;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ParameterizedTestExtension.class)
+public class TestDeletionVectors extends TestBase {
+  private static final String FILE_1 = "/path/to/data-1.parquet";
+  private static final String FILE_2 = "/path/to/data-2.parquet";
+  private static final String FILE_3 = "/path/to/data-3.parquet";
+
+  @Parameters(name = "formatVersion = {0}")
+  protected static List<Object> parameters() {
+    return Arrays.asList(2);
+  }
+
+  @TestTemplate
+  public void testReadDVs() throws IOException {
+    DeleteFile deleteFile = writeDVs(partitionKey());
+
+    assertThat(deleteFile.content()).isEqualTo(FileContent.POSITION_DELETES);
+    assertThat(deleteFile.format()).isEqualTo(FileFormat.PUFFIN);
+    assertThat(deleteFile.recordCount()).isEqualTo(1003L);
+    assertThat(DeletionVectors.isDV(deleteFile)).isTrue();
+
+    InputFile inputFile = table.io().newInputFile(deleteFile.path().toString());
+
+    PositionDeleteIndex index1 = DeletionVectors.read(deleteFile, inputFile, FILE_1);
+    assertThat(index1.isDeleted(0L)).isTrue();
+    assertThat(index1.isDeleted(1L)).isFalse();
+    assertThat(index1.isDeleted(5_000_000_000L)).isTrue();
+
+    PositionDeleteIndex index2 = DeletionVectors.read(deleteFile, inputFile, FILE_2);
+    assertThat(index2.isDeleted(99L)).isFalse();
+    for (long pos = 100L; pos < 1100L; pos += 1) {
+      assertThat(index2.isDeleted(pos)).isTrue();
+    }
+    assertThat(index2.isDeleted(1100L)).isFalse();
+
+    PositionDeleteIndex index3 = DeletionVectors.read(deleteFile, inputFile, FILE_3);
+    assertThat(index3.isEmpty()).isTrue();
+
+    CharSequenceMap<PositionDeleteIndex> indexes = DeletionVectors.readAll(deleteFile, inputFile);
+    assertThat(indexes).hasSize(2);
+    assertThat(indexes.get(FILE_1).isDeleted(5_000_000_000L)).isTrue();
+    assertThat(indexes.get(FILE_2).isDeleted(500L)).isTrue();
+  }
+
+  @TestTemplate
+  public void testBlobLayout() {
+    BitmapPositionDeleteIndex positions = new BitmapPositionDeleteIndex();
+    positions.delete(10L, 20L);
+    positions.delete(5_000_000_000L);
+
+    ByteBuffer blob = DeletionVectors.toBlob(FILE_1, positions).blobData();
+    assertThat(blob.order()).isEqualTo(ByteOrder.BIG_ENDIAN);
+
+    // the length covers the magic bytes and the bitmap, but not itself or the checksum
+    int length = blob.getInt(0);
+    assertThat(length).isEqualTo(blob.remaining() - 8);
+    assertThat(new byte[] {blob.get(4), blob.get(5), blob.get(6), blob.get(7)})
+        .isEqualTo(new byte[] {(byte) 0xD1, (byte) 0xD3, 0x39, 0x64});
+
+    // the bitmap is in the portable format: two 32-bit bitmaps, for keys 0 and 1
+    ByteBuffer bitmap = blob.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    assertThat(bitmap.getLong(8)).isEqualTo(2L);
+    assertThat(bitmap.getInt(16)).isEqualTo(0);
+
+    CRC32 crc = new CRC32();
+    crc.update(blob.array(), blob.arrayOffset() + 4, length);
+    assertThat(blob.getInt(4 + length)).isEqualTo((int) crc.getValue());
+
+    BitmapPositionDeleteIndex deserialized = BitmapPositionDeleteIndex.deserialize(blob);
+    assertThat(deserialized.cardinality()).isEqualTo(11L);
+    assertThat(deserialized.isDeleted(9L)).isFalse();
+    assertThat(deserialized.isDeleted(10L)).isTrue();
+    assertThat(deserialized.isDeleted(19L)).isTrue();
+    assertThat(deserialized.isDeleted(20L)).isFalse();
+    assertThat(deserialized.isDeleted(5_000_000_000L)).isTrue();
+  }
+
+  @TestTemplate
+  public void testInvalidChecksum() {
+    BitmapPositionDeleteIndex positions = new BitmapPositionDeleteIndex();
+    positions.delete(3L);
+
+    ByteBuffer blob = DeletionVectors.toBlob(FILE_1, positions).blobData();
+    int checksumPos = blob.limit() - 4;
+    blob.putInt(checksumPos, blob.getInt(checksumPos) + 1);
+
+    assertThatThrownBy(() -> BitmapPositionDeleteIndex.deserialize(blob))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid deletion vector checksum");
+  }
+
+  @TestTemplate
+  public void testCannotCommitDVsBeforeV3() throws IOException {
+    DeleteFile deleteFile = writeDVs(partitionKey());
+
+    assertThatThrownBy(() -> table.newRowDelta().addDeletes(deleteFile))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Cannot add deletion vectors to a v2 table");
+  }
+
+  private DeleteFile writeDVs(PartitionKey partition) throws IOException {
+    OutputFileFactory fileFactory =
+        OutputFileFactory.builderFor(table, 1, 1).format(FileFormat.PUFFIN).build();
+    return DVTestUtil.writeDVs(
+        fileFactory,
+        table.spec(),
+        partition,
+        ImmutableMap.of(
+            FILE_1,
+            new long[] {5_000_000_000L, 0L, 7L, 0L},
+            FILE_2,
+            LongStream.range(100L, 1100L).toArray()));
+  }
+
+  private PartitionKey partitionKey() {
+    Record record = GenericRecord.create(table.schema()).copy(ImmutableMap.of("data", "aaa"));
+    PartitionKey partitionKey = new PartitionKey(table.spec(), table.schema());
+    partitionKey.partition(record);
+    return partitionKey;
+  }
+}
@@ -21,6 +21,7 @@ package org.apache.iceberg.deletes;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -287,6 +288,48 @@ public class TestPositionFilter {
         .containsExactlyElementsOf(Lists.newArrayList(1L, 2L, 5L, 6L, 8L));
   }
 
+  @Test
+  public void testPositionIndexSelect() {
+    CloseableIterable<Long> deletes =
+        CloseableIterable.withNoopClose(Lists.newArrayList(0L, 3L, 4L, 7L, 9L, 12L));
+    PositionDeleteIndex index = Deletes.toPositionIndex(deletes);
+
+    int[] selection = new int[10];
+    int numLiveRows = index.select(0L, 10, selection);
+    assertThat(Arrays.copyOf(selection, numLiveRows))
+        .as("Selection should contain offsets of live rows")
+        .containsExactly(1, 2, 5, 6, 8);
+
+    // a range that starts after deleted positions and ends before others
+    numLiveRows = index.select(5L, 6, selection);
+    assertThat(Arrays.copyOf(selection, numLiveRows)).containsExactly(0, 1, 3, 5);
+
+    // the default implementation should produce the same selection
+    PositionDeleteIndex rowByRow =
+        new PositionDeleteIndex() {
+          @Override
+          public void delete(long position) {}
+
+          @Override
+          public void delete(long posStart, long posEnd) {}
+
+          @Override
+          public boolean isDeleted(long position) {
+            return index.isDeleted(position);
+          }
+
+          @Override
+          public boolean isEmpty() {
+            return index.isEmpty();
+          }
+        };
+    numLiveRows = rowByRow.select(5L, 6, selection);
+    assertThat(Arrays.copyOf(selection, numLiveRows)).containsExactly(0, 1, 3, 5);
+
+    numLiveRows = PositionDeleteIndex.empty().select(100L, 3, selection);
+    assertThat(Arrays.copyOf(selection, numLiveRows)).containsExactly(0, 1, 2);
+  }
+
   static Stream<ExecutorService> executorServiceProvider() {
     return Stream.of(
         null,
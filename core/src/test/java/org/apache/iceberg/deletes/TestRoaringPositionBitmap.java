@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.jupiter.api.Test;
+
+public class TestRoaringPositionBitmap {
+  private static final long KEY_1 = 1L << 32;
+
+  @Test
+  public void testSetAndContains() {
+    RoaringPositionBitmap bitmap = new RoaringPositionBitmap();
+    bitmap.set(0L);
+    bitmap.set(KEY_1 + 5L);
+    bitmap.setRange(KEY_1 - 2L, KEY_1 + 2L);
+
+    assertThat(bitmap.cardinality()).isEqualTo(6L);
+    assertThat(bitmap.contains(0L)).isTrue();
+    assertThat(bitmap.contains(1L)).isFalse();
+    assertThat(bitmap.contains(KEY_1 - 3L)).isFalse();
+    assertThat(bitmap.contains(KEY_1 - 1L)).isTrue();
+    assertThat(bitmap.contains(KEY_1 + 1L)).isTrue();
+    assertThat(bitmap.contains(KEY_1 + 2L)).isFalse();
+    assertThat(bitmap.contains(KEY_1 + 5L)).isTrue();
+    assertThat(bitmap.contains(-1L)).isFalse();
+  }
+
+  @Test
+  public void testInvalidPosition() {
+    RoaringPositionBitmap bitmap = new RoaringPositionBitmap();
+    assertThatThrownBy(() -> bitmap.set(-1L))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid position: -1");
+  }
+
+  @Test
+  public void testPositionsAcrossKeys() {
+    RoaringPositionBitmap bitmap = new RoaringPositionBitmap();
+    bitmap.set(3L);
+    bitmap.set(KEY_1 - 1L);
+    bitmap.set(3 * KEY_1);
+
+    RoaringPositionBitmap.PositionIterator positions = bitmap.positions(4L);
+    assertThat(positions.next()).isEqualTo(KEY_1 - 1L);
+    assertThat(positions.peekNext()).isEqualTo(3 * KEY_1);
+    assertThat(positions.next()).isEqualTo(3 * KEY_1);
+    assertThat(positions.hasNext()).isFalse();
+
+    assertThat(bitmap.positions(3 * KEY_1 + 1L).hasNext()).isFalse();
+  }
+
+  @Test
+  public void testSerializationRoundTrip() {
+    RoaringPositionBitmap bitmap = new RoaringPositionBitmap();
+    bitmap.setRange(100L, 200L);
+    bitmap.set(2 * KEY_1 + 7L);
+    bitmap.runLengthEncode();
+
+    ByteBuffer buffer = ByteBuffer.allocate((int) bitmap.serializedSizeInBytes() + 4);
+    buffer.putInt(42);
+    bitmap.serialize(buffer);
+    assertThat(buffer.hasRemaining()).isFalse();
+
+    // empty bitmaps between keys are not serialized
+    ByteBuffer header = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    assertThat(header.getLong(4)).isEqualTo(2L);
+    assertThat(header.getInt(12)).isEqualTo(0);
+
+    buffer.flip();
+    buffer.position(4);
+    RoaringPositionBitmap deserialized = RoaringPositionBitmap.deserialize(buffer);
+    assertThat(buffer.hasRemaining()).isFalse();
+    assertThat(deserialized.cardinality()).isEqualTo(101L);
+    assertThat(deserialized.contains(99L)).isFalse();
+    assertThat(deserialized.contains(150L)).isTrue();
+    assertThat(deserialized.contains(KEY_1 + 7L)).isFalse();
+    assertThat(deserialized.contains(2 * KEY_1 + 7L)).isTrue();
+  }
+
+  @Test
+  public void testSelectAcrossKeys() {
+    BitmapPositionDeleteIndex index = new BitmapPositionDeleteIndex();
+    index.delete(KEY_1 - 1L);
+    index.delete(KEY_1 + 1L);
+
+    int[] selection = new int[4];
+    int numLiveRows = index.select(KEY_1 - 2L, 4, selection);
+
+    assertThat(numLiveRows).isEqualTo(2);
+    assertThat(selection[0]).isEqualTo(0);
+    assertThat(selection[1]).isEqualTo(2);
+  }
+}
@@ -369,6 +369,86 @@ public class TestCachingCatalog extends HadoopTableTestBase {
     assertThat(wrappedCatalog.cache().asMap()).doesNotContainKey(tableIdent);
   }
 
+  @Test
+  public void testRefreshAfterWriteKeepsUnchangedTable() throws IOException {
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(
+            hadoopCatalog(), EXPIRATION_TTL, HALF_OF_EXPIRATION, true /* probe */, ticker);
+    TableIdentifier tableIdent = TableIdentifier.of("db", "ns1", "ns2", "tbl");
+    Table table = catalog.createTable(tableIdent, SCHEMA, SPEC, ImmutableMap.of("key", "value"));
+
+    ticker.advance(HALF_OF_EXPIRATION.plus(Duration.ofSeconds(10)));
+    catalog.loadTable(tableIdent);
+    assertThat(catalog.loadTable(tableIdent))
+        .as("Should keep the cached table when its metadata location did not change")
+        .isSameAs(table);
+  }
+
+  @Test
+  public void testRefreshAfterWriteReplacesChangedTable() throws IOException {
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(
+            hadoopCatalog(), EXPIRATION_TTL, HALF_OF_EXPIRATION, true /* probe */, ticker);
+    TableIdentifier tableIdent = TableIdentifier.of("db", "ns1", "ns2", "tbl");
+    Table table = catalog.createTable(tableIdent, SCHEMA, SPEC, ImmutableMap.of("key", "value"));
+    catalog.loadTable(TableIdentifier.parse(tableIdent + ".files"));
+    assertThat(catalog.cache().asMap()).containsKey(TableIdentifier.parse(tableIdent + ".files"));
+
+    // commit through another catalog so that the cached table is not refreshed by the commit
+    hadoopCatalog().loadTable(tableIdent).newAppend().appendFile(FILE_A).commit();
+
+    ticker.advance(HALF_OF_EXPIRATION.plus(Duration.ofSeconds(10)));
+    catalog.loadTable(tableIdent);
+
+    Table reloaded = catalog.loadTable(tableIdent);
+    assertThat(reloaded).isNotSameAs(table);
+    assertThat(reloaded.currentSnapshot()).isNotNull();
+    assertThat(table.currentSnapshot())
+        .as("Should not refresh the cached table that callers may hold")
+        .isNull();
+    assertThat(catalog.cache().asMap())
+        .as("Should invalidate metadata tables sharing the replaced table's operations")
+        .doesNotContainKey(TableIdentifier.parse(tableIdent + ".files"));
+  }
+
+  @Test
+  public void testRefreshAfterWriteLoadsNewTable() throws IOException {
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(
+            hadoopCatalog(), EXPIRATION_TTL, HALF_OF_EXPIRATION, false /* probe */, ticker);
+    TableIdentifier tableIdent = TableIdentifier.of("db", "ns1", "ns2", "tbl");
+    Table table = catalog.createTable(tableIdent, SCHEMA, SPEC, ImmutableMap.of("key", "value"));
+
+    hadoopCatalog().loadTable(tableIdent).newAppend().appendFile(FILE_A).commit();
+    assertThat(catalog.loadTable(tableIdent))
+        .as("Should serve the cached table before the refresh interval")
+        .isSameAs(table);
+
+    ticker.advance(HALF_OF_EXPIRATION.plus(Duration.ofSeconds(10)));
+    catalog.loadTable(tableIdent);
+
+    Table reloaded = catalog.loadTable(tableIdent);
+    assertThat(reloaded).isNotSameAs(table);
+    assertThat(reloaded.currentSnapshot()).isNotNull();
+    assertThat(table.currentSnapshot()).isNull();
+  }
+
+  @Test
+  public void testRefreshAfterWriteRemovesDroppedTable() throws IOException {
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(
+            hadoopCatalog(), EXPIRATION_TTL, HALF_OF_EXPIRATION, false /* probe */, ticker);
+    TableIdentifier tableIdent = TableIdentifier.of("db", "ns1", "ns2", "tbl");
+    catalog.createTable(tableIdent, SCHEMA, SPEC, ImmutableMap.of("key", "value"));
+
+    hadoopCatalog().dropTable(tableIdent);
+    assertThat(catalog.cache().asMap()).containsKey(tableIdent);
+
+    ticker.advance(HALF_OF_EXPIRATION.plus(Duration.ofSeconds(10)));
+    catalog.cache().getIfPresent(tableIdent);
+    assertThat(catalog.cache().asMap()).doesNotContainKey(tableIdent);
+  }
+
   public static TableIdentifier[] metadataTables(TableIdentifier tableIdent) {
     return Arrays.stream(MetadataTableType.values())
         .map(type -> TableIdentifier.parse(tableIdent + "." + type.name().toLowerCase(Locale.ROOT)))
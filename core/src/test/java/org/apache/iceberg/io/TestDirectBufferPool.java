@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+public class TestDirectBufferPool {
+  @Test
+  public void testDirectChunksAreLimited() {
+    DirectBufferPool pool = new DirectBufferPool(1024, 2);
+
+    ByteBuffer first = pool.acquire();
+    ByteBuffer second = pool.acquire();
+    ByteBuffer third = pool.acquire();
+    assertThat(first.isDirect()).isTrue();
+    assertThat(second.isDirect()).isTrue();
+    assertThat(third.isDirect()).as("Chunks over the limit should use the heap").isFalse();
+    assertThat(third.capacity()).isEqualTo(1024);
+    assertThat(pool.directChunks()).isEqualTo(2);
+
+    // heap chunks are not pooled
+    pool.release(third);
+    assertThat(pool.pooledChunks()).isEqualTo(0);
+
+    // pooled chunks still count against the limit
+    pool.release(first);
+    assertThat(pool.pooledChunks()).isEqualTo(1);
+    assertThat(pool.directChunks()).isEqualTo(2);
+    assertThat(pool.acquire()).isSameAs(first);
+    assertThat(pool.acquire().isDirect()).isFalse();
+  }
+}
@@ -39,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -48,6 +49,7 @@ import org.apache.hadoop.fs.Path;
 import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.CatalogUtil;
+import org.apache.iceberg.ClientPoolImpl;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.FileFormat;
@@ -69,8 +71,11 @@ import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.hadoop.Util;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.apache.iceberg.metrics.MetricsReporter;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -1078,6 +1083,23 @@ public class TestJdbcCatalog extends CatalogTests<JdbcCatalog> {
     assertThat(CustomMetricsReporter.COUNTER.get()).isEqualTo(2);
   }
 
+  @Test
+  public void testCatalogWithCustomMetricsContext() {
+    JdbcCatalog catalogWithMetrics =
+        initCatalog(
+            "test_jdbc_catalog_with_metrics_context",
+            ImmutableMap.of(
+                CatalogProperties.METRICS_CONTEXT_IMPL, CustomMetricsContext.class.getName()));
+    catalogWithMetrics.buildTable(TABLE, SCHEMA).create();
+    assertThat(catalogWithMetrics.tableExists(TABLE)).isTrue();
+
+    // the connection pool reports to the catalog's metrics context
+    assertThat(CustomMetricsContext.COUNTERS.get(ClientPoolImpl.CREATED_CLIENTS).value())
+        .isGreaterThan(0);
+    assertThat(CustomMetricsContext.TIMERS.get(ClientPoolImpl.WAIT_DURATION).count())
+        .isGreaterThan(0);
+  }
+
   @Test
   public void testCommitExceptionWithoutMessage() {
     TableIdentifier tableIdent = TableIdentifier.of("db", "tbl");
@@ -1127,6 +1149,21 @@ public class TestJdbcCatalog extends CatalogTests<JdbcCatalog> {
     }
   }
 
+  public static class CustomMetricsContext extends DefaultMetricsContext {
+    static final Map<String, Counter> COUNTERS = Maps.newConcurrentMap();
+    static final Map<String, Timer> TIMERS = Maps.newConcurrentMap();
+
+    @Override
+    public Counter counter(String name, Unit unit) {
+      return COUNTERS.computeIfAbsent(name, ignored -> super.counter(name, unit));
+    }
+
+    @Override
+    public Timer timer(String name, TimeUnit unit) {
+      return TIMERS.computeIfAbsent(name, ignored -> super.timer(name, unit));
+    }
+  }
+
   private String createMetadataLocationViaJdbcCatalog(TableIdentifier identifier)
       throws SQLException {
     // temporary connection just to actually create a concrete metadata location
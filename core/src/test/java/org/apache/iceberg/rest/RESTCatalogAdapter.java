@@ -46,12 +46,14 @@ import org.apache.iceberg.exceptions.RESTException;
 import org.apache.iceberg.exceptions.UnprocessableEntityException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.relocated.com.google.common.base.Splitter;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
+import org.apache.iceberg.rest.requests.LoadTablesRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
@@ -64,6 +66,7 @@ import org.apache.iceberg.rest.responses.GetNamespaceResponse;
 import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.LoadTablesResponse;
 import org.apache.iceberg.rest.responses.LoadViewResponse;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
@@ -148,6 +151,8 @@ public class RESTCatalogAdapter implements RESTClient {
         LoadTableResponse.class),
     DROP_TABLE(HTTPMethod.DELETE, "v1/namespaces/{namespace}/tables/{name}"),
     RENAME_TABLE(HTTPMethod.POST, "v1/tables/rename", RenameTableRequest.class, null),
+    LOAD_TABLES(
+        HTTPMethod.POST, "v1/tables/load", LoadTablesRequest.class, LoadTablesResponse.class),
     REPORT_METRICS(
         HTTPMethod.POST,
         "v1/namespaces/{namespace}/tables/{name}/metrics",
@@ -283,7 +288,11 @@ public class RESTCatalogAdapter implements RESTClient {
         return castResponse(responseType, handleOAuthRequest(body));
 
       case CONFIG:
-        return castResponse(responseType, ConfigResponse.builder().build());
+        return castResponse(
+            responseType,
+            ConfigResponse.builder()
+                .withEndpoints(ImmutableList.of(Endpoint.V1_LOAD_TABLES))
+                .build());
 
       case LIST_NAMESPACES:
         if (asNamespaceCatalog != null) {
@@ -404,6 +413,12 @@ public class RESTCatalogAdapter implements RESTClient {
           return castResponse(responseType, CatalogHandlers.updateTable(catalog, ident, request));
         }
 
+      case LOAD_TABLES:
+        {
+          LoadTablesRequest request = castRequest(LoadTablesRequest.class, body);
+          return castResponse(responseType, CatalogHandlers.loadTables(catalog, request));
+        }
+
       case RENAME_TABLE:
         {
           RenameTableRequest request = castRequest(RenameTableRequest.class, body);
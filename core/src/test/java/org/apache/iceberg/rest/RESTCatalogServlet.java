@@ -41,6 +41,7 @@ import org.apache.iceberg.relocated.com.google.common.io.CharStreams;
 import org.apache.iceberg.rest.RESTCatalogAdapter.HTTPMethod;
 import org.apache.iceberg.rest.RESTCatalogAdapter.Route;
 import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.util.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -106,6 +107,19 @@ public class RESTCatalogServlet extends HttpServlet {
               context.headers(),
               handle(response));
 
+      if (context.route() == Route.LOAD_TABLE && responseBody instanceof LoadTableResponse) {
+        String etag =
+            CatalogHandlers.loadTableETag(
+                (LoadTableResponse) responseBody, context.queryParams().get("snapshots"));
+        if (etag != null) {
+          response.setHeader(RESTUtil.ETAG_HEADER, etag);
+          if (CatalogHandlers.notModified(context.headers(), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+          }
+        }
+      }
+
       if (responseBody != null) {
         RESTObjectMapper.mapper().writeValue(response.getWriter(), responseBody);
       }
@@ -49,6 +49,7 @@ import org.apache.hc.core5.http.HttpRequestInterceptor;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.iceberg.IcebergBuild;
+import org.apache.iceberg.exceptions.RESTException;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.rest.responses.ErrorResponse;
 import org.apache.iceberg.rest.responses.ErrorResponseParser;
@@ -277,6 +278,36 @@ public class TestHTTPClient {
     }
   }
 
+  @Test
+  public void testNotModified() {
+    String path = "not/modified/path";
+    HttpRequest mockRequest =
+        request().withPath("/" + path).withMethod(HttpMethod.GET.name().toUpperCase(Locale.ROOT));
+    mockServer.when(mockRequest).respond(response().withStatusCode(HttpStatus.SC_NOT_MODIFIED));
+
+    Item item =
+        restClient.get(
+            path,
+            ImmutableMap.of(),
+            Item.class,
+            ImmutableMap.of(RESTUtil.IF_NONE_MATCH_HEADER, "\"etag\""),
+            ErrorHandlers.defaultErrorHandler(),
+            headers -> {});
+    assertThat(item).as("Conditional request should return null when not modified").isNull();
+
+    assertThatThrownBy(
+            () ->
+                restClient.get(
+                    path,
+                    ImmutableMap.of(),
+                    Item.class,
+                    ImmutableMap.of(),
+                    ErrorHandlers.defaultErrorHandler(),
+                    headers -> {}))
+        .isInstanceOf(RESTException.class)
+        .hasMessageStartingWith("Unable to process");
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {HTTPClient.REST_CONNECTION_TIMEOUT_MS, HTTPClient.REST_SOCKET_TIMEOUT_MS})
   public void testInvalidTimeout(String timeoutMsType) {
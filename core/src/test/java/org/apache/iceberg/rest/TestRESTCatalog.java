@@ -32,13 +32,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import javax.servlet.http.HttpServletResponse;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.BaseTransaction;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.DataFile;
@@ -59,6 +62,7 @@ import org.apache.iceberg.catalog.SessionCatalog;
 import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.NotAuthorizedException;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.ServiceFailureException;
@@ -67,14 +71,17 @@ import org.apache.iceberg.inmemory.InMemoryCatalog;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.apache.iceberg.metrics.MetricsReporter;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.rest.RESTCatalogAdapter.HTTPMethod;
+import org.apache.iceberg.rest.RESTCatalogAdapter.Route;
 import org.apache.iceberg.rest.RESTSessionCatalog.SnapshotMode;
 import org.apache.iceberg.rest.auth.AuthSessionUtil;
 import org.apache.iceberg.rest.auth.OAuth2Properties;
 import org.apache.iceberg.rest.auth.OAuth2Util;
+import org.apache.iceberg.rest.requests.LoadTablesRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.ConfigResponse;
 import org.apache.iceberg.rest.responses.CreateNamespaceResponse;
@@ -82,6 +89,7 @@ import org.apache.iceberg.rest.responses.ErrorResponse;
 import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.LoadTablesResponse;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
 import org.apache.iceberg.types.Types;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -110,6 +118,8 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
   private RESTCatalog restCatalog;
   private InMemoryCatalog backendCatalog;
   private Server httpServer;
+  private final List<Integer> loadTableStatuses = Lists.newCopyOnWriteArrayList();
+  private final Map<String, String> loadTableConfig = Maps.newConcurrentMap();
 
   @BeforeEach
   public void createCatalog() throws Exception {
@@ -150,12 +160,31 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
             T response =
                 super.execute(
                     method, path, queryParams, request, responseType, headers, errorHandler);
+            if (response instanceof LoadTableResponse && !loadTableConfig.isEmpty()) {
+              response =
+                  responseType.cast(
+                      LoadTableResponse.builder()
+                          .withTableMetadata(((LoadTableResponse) response).tableMetadata())
+                          .addAllConfig(loadTableConfig)
+                          .build());
+            }
+
             T responseAfterSerialization = roundTripSerialize(response, "response");
             return responseAfterSerialization;
           }
         };
 
-    RESTCatalogServlet servlet = new RESTCatalogServlet(adaptor);
+    RESTCatalogServlet servlet =
+        new RESTCatalogServlet(adaptor) {
+          @Override
+          protected void execute(ServletRequestContext context, HttpServletResponse response)
+              throws IOException {
+            super.execute(context, response);
+            if (context.route() == Route.LOAD_TABLE) {
+              loadTableStatuses.add(response.getStatus());
+            }
+          }
+        };
     ServletContextHandler servletContext =
         new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
     servletContext.setContextPath("/");
@@ -1626,6 +1655,213 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
             });
   }
 
+  @Test
+  public void testConditionalLoadTable() {
+    if (requiresNamespaceCreate()) {
+      restCatalog.createNamespace(TABLE.namespace());
+    }
+
+    restCatalog.buildTable(TABLE, SCHEMA).create();
+
+    loadTableStatuses.clear();
+    Table table = restCatalog.loadTable(TABLE);
+    Table unchanged = restCatalog.loadTable(TABLE);
+    assertThat(loadTableStatuses)
+        .containsExactly(HttpServletResponse.SC_OK, HttpServletResponse.SC_NOT_MODIFIED);
+    assertThat(((BaseTable) unchanged).operations().current().metadataFileLocation())
+        .isEqualTo(((BaseTable) table).operations().current().metadataFileLocation());
+
+    // refresh uses the version token of the load response
+    loadTableStatuses.clear();
+    TableMetadata current = ((BaseTable) table).operations().current();
+    assertThat(((BaseTable) table).operations().refresh()).isSameAs(current);
+    assertThat(((BaseTable) table).operations().refresh()).isSameAs(current);
+    assertThat(loadTableStatuses)
+        .containsExactly(
+            HttpServletResponse.SC_NOT_MODIFIED, HttpServletResponse.SC_NOT_MODIFIED);
+
+    // a change made by another client is returned in full
+    backendCatalog.loadTable(TABLE).updateProperties().set("key", "value").commit();
+
+    loadTableStatuses.clear();
+    table.refresh();
+    assertThat(restCatalog.loadTable(TABLE).properties()).containsEntry("key", "value");
+    assertThat(table.properties()).containsEntry("key", "value");
+    assertThat(loadTableStatuses)
+        .containsExactly(HttpServletResponse.SC_OK, HttpServletResponse.SC_OK);
+  }
+
+  @Test
+  public void testConditionalLoadTableWithConfig() {
+    if (requiresNamespaceCreate()) {
+      restCatalog.createNamespace(TABLE.namespace());
+    }
+
+    restCatalog.buildTable(TABLE, SCHEMA).create();
+    loadTableConfig.put("s3.session-token", "vended-token");
+
+    // table config may hold vended credentials that expire, so it is not reused
+    loadTableStatuses.clear();
+    restCatalog.loadTable(TABLE);
+    restCatalog.loadTable(TABLE);
+    assertThat(loadTableStatuses)
+        .containsExactly(HttpServletResponse.SC_OK, HttpServletResponse.SC_OK);
+  }
+
+  @Test
+  public void testLoadTables() {
+    Namespace namespace = Namespace.of("ns");
+    restCatalog.createNamespace(namespace);
+    List<TableIdentifier> identifiers = Lists.newArrayList();
+    for (int i = 0; i < 5; i += 1) {
+      TableIdentifier identifier = TableIdentifier.of(namespace, "table_" + i);
+      restCatalog.createTable(identifier, SCHEMA);
+      identifiers.add(identifier);
+    }
+
+    List<TableIdentifier> requested = Lists.reverse(identifiers);
+    assertThat(restCatalog.loadTables(requested))
+        .extracting(Table::name)
+        .containsExactlyElementsOf(Lists.transform(requested, ident -> "prod." + ident));
+
+    TableIdentifier missing = TableIdentifier.of(namespace, "missing");
+    assertThatThrownBy(() -> restCatalog.loadTables(ImmutableList.of(identifiers.get(0), missing)))
+        .isInstanceOf(NoSuchTableException.class)
+        .hasMessageContaining("missing");
+  }
+
+  @Test
+  public void testBulkLoadTables() throws IOException {
+    Namespace namespace = Namespace.of("ns");
+    restCatalog.createNamespace(namespace);
+    TableIdentifier first = TableIdentifier.of(namespace, "first");
+    TableIdentifier second = TableIdentifier.of(namespace, "second");
+    restCatalog.createTable(first, SCHEMA);
+    restCatalog.createTable(second, SCHEMA);
+    TableIdentifier snapshots = TableIdentifier.of("ns", "first", "snapshots");
+
+    try (RESTCatalog bulkCatalog =
+        new RESTCatalog(
+            new SessionCatalog.SessionContext(
+                UUID.randomUUID().toString(),
+                "user",
+                ImmutableMap.of("credential", "user:12345"),
+                ImmutableMap.of()),
+            (config) ->
+                HTTPClient.builder(config).uri(config.get(CatalogProperties.URI)).build())) {
+      bulkCatalog.setConf(new Configuration());
+      bulkCatalog.initialize(
+          "prod",
+          ImmutableMap.of(
+              CatalogProperties.URI,
+              httpServer.getURI().toString(),
+              "credential",
+              "catalog:12345"));
+
+      loadTableStatuses.clear();
+      List<Table> tables = bulkCatalog.loadTables(ImmutableList.of(second, snapshots, first));
+
+      assertThat(tables)
+          .extracting(Table::name)
+          .containsExactly("prod.ns.second", "prod.ns.first.snapshots", "prod.ns.first");
+      assertThat(tables.get(0).schema().asStruct()).isEqualTo(SCHEMA.asStruct());
+      // only the metadata table, which is not part of the bulk response, is loaded on its own
+      assertThat(loadTableStatuses)
+          .containsExactly(HttpServletResponse.SC_NOT_FOUND, HttpServletResponse.SC_OK);
+    }
+  }
+
+  @Test
+  public void testBulkLoadTablesWithSnapshotMode() {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog));
+    RESTCatalog catalog =
+        new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), (config) -> adapter);
+    catalog.initialize(
+        "prod",
+        ImmutableMap.of(CatalogProperties.URI, "ignored", "snapshot-loading-mode", "refs"));
+
+    Namespace namespace = Namespace.of("ns");
+    catalog.createNamespace(namespace);
+    TableIdentifier first = TableIdentifier.of(namespace, "first");
+    TableIdentifier second = TableIdentifier.of(namespace, "second");
+    catalog.createTable(first, SCHEMA);
+    catalog.createTable(second, SCHEMA);
+
+    assertThat(catalog.loadTables(ImmutableList.of(first, second)))
+        .extracting(Table::name)
+        .containsExactly("prod.ns.first", "prod.ns.second");
+
+    ArgumentCaptor<Object> request = ArgumentCaptor.forClass(Object.class);
+    Mockito.verify(adapter)
+        .execute(
+            eq(HTTPMethod.POST),
+            eq("v1/tables/load"),
+            any(),
+            request.capture(),
+            eq(LoadTablesResponse.class),
+            any(),
+            any());
+    assertThat(((LoadTablesRequest) request.getValue()).snapshots()).isEqualTo("refs");
+    Mockito.verify(adapter, Mockito.never())
+        .execute(
+            eq(HTTPMethod.GET),
+            eq("v1/namespaces/ns/tables/first"),
+            any(),
+            any(),
+            eq(LoadTableResponse.class),
+            any(),
+            any());
+  }
+
+  @Test
+  public void testBulkLoadTablesRequiresAdvertisedEndpoint() {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog));
+    Mockito.doReturn(ConfigResponse.builder().build())
+        .when(adapter)
+        .execute(
+            eq(HTTPMethod.GET),
+            eq("v1/config"),
+            any(),
+            any(),
+            eq(ConfigResponse.class),
+            any(),
+            any());
+    RESTCatalog catalog =
+        new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), (config) -> adapter);
+    catalog.initialize("prod", ImmutableMap.of(CatalogProperties.URI, "ignored"));
+
+    Namespace namespace = Namespace.of("ns");
+    catalog.createNamespace(namespace);
+    TableIdentifier first = TableIdentifier.of(namespace, "first");
+    TableIdentifier second = TableIdentifier.of(namespace, "second");
+    catalog.createTable(first, SCHEMA);
+    catalog.createTable(second, SCHEMA);
+
+    assertThat(catalog.loadTables(ImmutableList.of(first, second)))
+        .extracting(Table::name)
+        .containsExactly("prod.ns.first", "prod.ns.second");
+
+    // the server did not advertise the bulk endpoint, so each table is loaded on its own
+    Mockito.verify(adapter, Mockito.never())
+        .execute(
+            eq(HTTPMethod.POST),
+            eq("v1/tables/load"),
+            any(),
+            any(),
+            eq(LoadTablesResponse.class),
+            any(),
+            any());
+    Mockito.verify(adapter, times(2))
+        .execute(
+            eq(HTTPMethod.GET),
+            Mockito.startsWith("v1/namespaces/ns/tables/"),
+            any(),
+            any(),
+            eq(LoadTableResponse.class),
+            any(),
+            any());
+  }
+
   @Test
   public void testCatalogWithCustomMetricsReporter() throws IOException {
     this.restCatalog =
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.rest.requests.ReportMetricsRequest;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestRESTMetricsSender {
+  private static final String ENDPOINT = "v1/namespaces/ns/tables/table/metrics";
+  private static final Supplier<Map<String, String>> HEADERS = ImmutableMap::of;
+
+  @Test
+  public void testReportsAreSentInBackground() {
+    RESTClient client = Mockito.mock(RESTClient.class);
+    RESTMetricsSender sender = new RESTMetricsSender(client, "test", 10, 10_000L);
+    RESTMetricsReporter reporter = new RESTMetricsReporter(client, ENDPOINT, HEADERS, sender);
+
+    for (int i = 0; i < 5; i += 1) {
+      reporter.report(new MetricsReport() {});
+    }
+
+    sender.close();
+
+    verify(client, times(5))
+        .post(eq(ENDPOINT), any(ReportMetricsRequest.class), isNull(), eq(HEADERS), any());
+    assertThat(sender.sentReports()).isEqualTo(5);
+    assertThat(sender.droppedReports()).isEqualTo(0);
+  }
+
+  @Test
+  public void testDropReportsWhenQueueIsFull() throws InterruptedException {
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    RESTClient client = Mockito.mock(RESTClient.class);
+    Mockito.doAnswer(
+            invocation -> {
+              sending.countDown();
+              release.await();
+              return null;
+            })
+        .when(client)
+        .post(any(), any(), any(), any(Supplier.class), any());
+
+    RESTMetricsSender sender = new RESTMetricsSender(client, "test", 2, 10_000L);
+    assertThat(sender.send(ENDPOINT, HEADERS, new MetricsReport() {})).isTrue();
+    assertThat(sending.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // the first report is being sent, so two more fit in the queue
+    assertThat(sender.send(ENDPOINT, HEADERS, new MetricsReport() {})).isTrue();
+    assertThat(sender.send(ENDPOINT, HEADERS, new MetricsReport() {})).isTrue();
+    assertThat(sender.send(ENDPOINT, HEADERS, new MetricsReport() {})).isFalse();
+    assertThat(sender.droppedReports()).isEqualTo(1);
+
+    release.countDown();
+    sender.close();
+
+    assertThat(sender.sentReports()).isEqualTo(3);
+    assertThat(sender.send(ENDPOINT, HEADERS, new MetricsReport() {})).isFalse();
+    assertThat(sender.droppedReports()).isEqualTo(2);
+  }
+
+  @Test
+  public void testCloseIdleSender() {
+    RESTClient client = Mockito.mock(RESTClient.class);
+    RESTMetricsSender sender = new RESTMetricsSender(client, "test", 10, 10_000L);
+    assertThat(sender.isRunning()).isTrue();
+
+    long startNanos = System.nanoTime();
+    sender.close();
+
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(5_000L);
+    assertThat(sender.isRunning()).isFalse();
+    Mockito.verifyNoInteractions(client);
+  }
+
+  @Test
+  public void testCloseTimeoutStopsSender() throws InterruptedException {
+    CountDownLatch sending = new CountDownLatch(1);
+    RESTClient client = Mockito.mock(RESTClient.class);
+    Mockito.doAnswer(
+            invocation -> {
+              sending.countDown();
+              new CountDownLatch(1).await();
+              return null;
+            })
+        .when(client)
+        .post(any(), any(), any(), any(Supplier.class), any());
+
+    RESTMetricsSender sender = new RESTMetricsSender(client, "test", 10, 100L);
+    sender.send(ENDPOINT, HEADERS, new MetricsReport() {});
+    assertThat(sending.await(10, TimeUnit.SECONDS)).isTrue();
+    sender.send(ENDPOINT, HEADERS, new MetricsReport() {});
+    sender.close();
+
+    // the blocked send is interrupted and the queued report is dropped
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> !sender.isRunning());
+    assertThat(sender.sentReports()).isEqualTo(0);
+    assertThat(sender.failedReports()).isEqualTo(1);
+    assertThat(sender.droppedReports()).isEqualTo(1);
+  }
+
+  @Test
+  public void testFailedReportsAreCounted() {
+    RESTClient client = Mockito.mock(RESTClient.class);
+    Mockito.doThrow(new RuntimeException("unavailable"))
+        .when(client)
+        .post(any(), any(), any(), any(Supplier.class), any());
+
+    RESTMetricsSender sender = new RESTMetricsSender(client, "test", 10, 10_000L);
+    sender.send(ENDPOINT, HEADERS, new MetricsReport() {});
+    sender.close();
+
+    assertThat(sender.sentReports()).isEqualTo(0);
+    assertThat(sender.failedReports()).isEqualTo(1);
+  }
+}
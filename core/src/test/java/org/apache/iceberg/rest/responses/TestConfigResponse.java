@@ -23,8 +23,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.rest.Endpoint;
 import org.apache.iceberg.rest.RequestResponseTestBase;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -225,12 +227,16 @@ public class TestConfigResponse extends RequestResponseTestBase<ConfigResponse>
 
   @Override
   public String[] allFieldsFromSpec() {
-    return new String[] {"defaults", "overrides"};
+    return new String[] {"defaults", "overrides", "endpoints"};
   }
 
   @Override
   public ConfigResponse createExampleInstance() {
-    return ConfigResponse.builder().withDefaults(DEFAULTS).withOverrides(OVERRIDES).build();
+    return ConfigResponse.builder()
+        .withDefaults(DEFAULTS)
+        .withOverrides(OVERRIDES)
+        .withEndpoints(ImmutableList.of(Endpoint.V1_LOAD_TABLES))
+        .build();
   }
 
   @Override
@@ -241,6 +247,9 @@ public class TestConfigResponse extends RequestResponseTestBase<ConfigResponse>
     assertThat(actual.overrides())
         .as("Config properties to use as overrides should be equal")
         .isEqualTo(expected.overrides());
+    assertThat(actual.endpoints())
+        .as("Advertised endpoints should be equal")
+        .isEqualTo(expected.endpoints());
   }
 
   @Override
@@ -23,7 +23,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.rest.Endpoint;
 import org.junit.jupiter.api.Test;
 
 public class TestConfigResponseParser {
@@ -135,4 +137,30 @@ public class TestConfigResponseParser {
     assertThat(ConfigResponseParser.toJson(ConfigResponseParser.fromJson(json), true))
         .isEqualTo(expectedJson);
   }
+
+  @Test
+  public void endpoints() {
+    ConfigResponse response =
+        ConfigResponse.builder()
+            .withEndpoints(
+                ImmutableList.of(
+                    Endpoint.V1_LOAD_TABLES, Endpoint.create("get", "/v1/{prefix}/custom")))
+            .build();
+    String expectedJson =
+        "{\n"
+            + "  \"defaults\" : { },\n"
+            + "  \"overrides\" : { },\n"
+            + "  \"endpoints\" : "
+            + "[ \"POST /v1/{prefix}/tables/load\", \"GET /v1/{prefix}/custom\" ]\n"
+            + "}";
+
+    String json = ConfigResponseParser.toJson(response, true);
+    assertThat(json).isEqualTo(expectedJson);
+    assertThat(ConfigResponseParser.fromJson(json).endpoints())
+        .containsExactly(Endpoint.V1_LOAD_TABLES, Endpoint.create("GET", "/v1/{prefix}/custom"));
+
+    assertThatThrownBy(() -> ConfigResponseParser.fromJson("{\"endpoints\": [\"POST\"]}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid endpoint (must consist of two elements): POST");
+  }
 }
@@ -19,17 +19,25 @@
 package org.apache.iceberg.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.awaitility.Awaitility;
@@ -60,6 +68,7 @@ public class TestParallelIterable {
     Field queueField = iterator.getClass().getDeclaredField("queue");
     queueField.setAccessible(true);
     ConcurrentLinkedQueue<?> queue = (ConcurrentLinkedQueue<?>) queueField.get(iterator);
+    AtomicInteger queueSize = queueSize(iterator);
 
     assertThat(iterator.hasNext()).isTrue();
     assertThat(iterator.next()).isNotNull();
@@ -69,7 +78,78 @@ public class TestParallelIterable {
     iterator.close();
     Awaitility.await("Queue is cleared")
         .atMost(5, TimeUnit.SECONDS)
-        .untilAsserted(() -> assertThat(queue).isEmpty());
+        .untilAsserted(
+            () -> {
+              assertThat(queue).isEmpty();
+              assertThat(queueSize.get()).isZero();
+            });
+  }
+
+  @Test
+  public void limitQueueSize() {
+    int numIterables = 20;
+    int itemsPerIterable = 1_000;
+    int maxQueueSize = 100;
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    List<Iterable<Integer>> iterables =
+        IntStream.range(0, numIterables)
+            .mapToObj(
+                i ->
+                    (Iterable<Integer>)
+                        IntStream.range(0, itemsPerIterable).boxed().collect(Collectors.toList()))
+            .collect(Collectors.toList());
+
+    MetricsContext metricsContext = new DefaultMetricsContext();
+    ParallelIterable<Integer> parallelIterable =
+        new ParallelIterable<>(iterables, executor, maxQueueSize, metricsContext);
+    CloseableIterator<Integer> iterator = parallelIterable.iterator();
+    AtomicInteger queueSize = queueSize(iterator);
+
+    int count = 0;
+    while (iterator.hasNext()) {
+      // workers check the size before adding, so each running task may overshoot by one record
+      assertThat(queueSize.get())
+          .isLessThanOrEqualTo(maxQueueSize + 2 * ThreadPools.WORKER_THREAD_POOL_SIZE);
+      iterator.next();
+      count += 1;
+    }
+
+    assertThat(count).isEqualTo(numIterables * itemsPerIterable);
+    assertThat(queueSize.get()).isZero();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void unboundedQueue() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    List<Iterable<Integer>> iterables =
+        ImmutableList.of(ImmutableList.of(1, 2, 3), ImmutableList.of(4, 5), ImmutableList.of());
+
+    ParallelIterable<Integer> parallelIterable =
+        new ParallelIterable<>(iterables, executor, Integer.MAX_VALUE);
+
+    assertThat(Lists.newArrayList(parallelIterable)).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void invalidMaxQueueSize() {
+    assertThatThrownBy(
+            () ->
+                new ParallelIterable<>(ImmutableList.of(), Executors.newSingleThreadExecutor(), 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max queue size: 0 (must be positive)");
+  }
+
+  private AtomicInteger queueSize(CloseableIterator<Integer> iterator) {
+    try {
+      Field queueSizeField = iterator.getClass().getDeclaredField("queueSize");
+      queueSizeField.setAccessible(true);
+      return (AtomicInteger) queueSizeField.get(iterator);
+    } catch (NoSuchFieldException | IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   private void queueHasElements(CloseableIterator<Integer> iterator, Queue queue) {
@@ -20,10 +20,14 @@ package org.apache.iceberg.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.CharBuffer;
+import java.util.List;
 import java.util.Set;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
 import org.junit.jupiter.api.Test;
 
@@ -67,4 +71,109 @@ public class TestStructLikeSet {
     boolean removed = set.remove(record3);
     assertThat(removed).isTrue();
   }
+
+  @Test
+  public void testCompactSetTypes() {
+    Types.StructType longType =
+        Types.StructType.of(Types.NestedField.required(1, "id", Types.LongType.get()));
+    Types.StructType stringType =
+        Types.StructType.of(Types.NestedField.optional(2, "data", Types.StringType.get()));
+
+    assertThat(StructLikeSet.createCompact(longType)).isInstanceOf(LongStructLikeSet.class);
+    assertThat(StructLikeSet.createCompact(stringType)).isInstanceOf(StringStructLikeSet.class);
+    assertThat(StructLikeSet.createCompact(STRUCT_TYPE).getClass()).isEqualTo(StructLikeSet.class);
+  }
+
+  @Test
+  public void testCompactLongSet() {
+    Types.StructType type =
+        Types.StructType.of(Types.NestedField.optional(1, "id", Types.LongType.get()));
+    Record template = GenericRecord.create(type);
+    Set<StructLike> set = StructLikeSet.createCompact(type);
+
+    for (long id = -1000; id < 1000; id += 1) {
+      assertThat(set.add(template.copy("id", id * 31))).isTrue();
+    }
+
+    assertThat(set.add(template.copy("id", 0L))).isFalse();
+    assertThat(set.add(template.copy("id", null))).isTrue();
+    assertThat(set).hasSize(2001);
+
+    for (long id = -1000; id < 1000; id += 1) {
+      assertThat(set).contains(template.copy("id", id * 31));
+      assertThat(set).doesNotContain(template.copy("id", id * 31 + 1));
+    }
+
+    assertThat(set).contains(template.copy("id", null));
+
+    // removing values must keep the other values in the same probe sequences reachable
+    for (long id = -1000; id < 1000; id += 2) {
+      assertThat(set.remove(template.copy("id", id * 31))).isTrue();
+    }
+
+    assertThat(set.remove(template.copy("id", null))).isTrue();
+    assertThat(set).hasSize(1000);
+    for (long id = -999; id < 1000; id += 2) {
+      assertThat(set).contains(template.copy("id", id * 31));
+      assertThat(set).doesNotContain(template.copy("id", (id - 1) * 31));
+    }
+
+    assertThat(Iterables.transform(set, struct -> struct.get(0, Long.class)))
+        .hasSize(1000)
+        .allMatch(id -> id % 62 != 0);
+  }
+
+  @Test
+  public void testCompactIntSetReturnsInts() {
+    Types.StructType type =
+        Types.StructType.of(Types.NestedField.required(1, "id", Types.IntegerType.get()));
+    Record template = GenericRecord.create(type);
+    Set<StructLike> set = StructLikeSet.createCompact(type);
+    set.add(template.copy("id", 0));
+    set.add(template.copy("id", 5));
+
+    assertThat(Iterables.transform(set, struct -> struct.get(0, Integer.class)))
+        .containsExactlyInAnyOrder(0, 5);
+  }
+
+  @Test
+  public void testCompactStringSet() {
+    Types.StructType type =
+        Types.StructType.of(Types.NestedField.optional(1, "data", Types.StringType.get()));
+    Record template = GenericRecord.create(type);
+    Set<StructLike> set = StructLikeSet.createCompact(type);
+
+    List<String> values = Lists.newArrayList("", "a");
+    values.add("\u00e9t\u00e9"); // 2-byte chars
+    values.add("\u65e5\u672c"); // 3-byte chars
+    values.add("\ud83d\ude00"); // a surrogate pair
+    values.add("\ud800x"); // an unpaired high surrogate
+    values.add("x\udc00"); // an unpaired low surrogate
+    for (int index = 0; index < 1000; index += 1) {
+      values.add("value-" + index);
+    }
+
+    for (String value : values) {
+      assertThat(set.add(template.copy("data", value))).isTrue();
+    }
+
+    assertThat(set.add(template.copy("data", new StringBuilder("a")))).isFalse();
+    assertThat(set).hasSize(values.size());
+
+    for (String value : values) {
+      assertThat(set).contains(template.copy("data", value));
+      assertThat(set).doesNotContain(template.copy("data", value + "?"));
+    }
+
+    assertThat(set).contains(template.copy("data", CharBuffer.wrap("value-10")));
+    assertThat(set).doesNotContain(template.copy("data", null));
+
+    assertThat(set.remove(template.copy("data", "value-10"))).isTrue();
+    assertThat(set).doesNotContain(template.copy("data", "value-10"));
+    assertThat(set).contains(template.copy("data", "value-11"));
+
+    values.remove("value-10");
+    assertThat(Iterables.transform(set, struct -> struct.get(0, CharSequence.class).toString()))
+        .containsExactlyInAnyOrderElementsOf(values);
+  }
 }
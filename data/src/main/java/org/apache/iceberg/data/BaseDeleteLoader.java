@@ -20,6 +20,7 @@ package org.apache.iceberg.data;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
@@ -35,6 +36,7 @@ import org.apache.iceberg.data.avro.DataReader;
 import org.apache.iceberg.data.orc.GenericOrcReader;
 import org.apache.iceberg.data.parquet.GenericParquetReaders;
 import org.apache.iceberg.deletes.Deletes;
+import org.apache.iceberg.deletes.DeletionVectors;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.deletes.PositionDeleteIndexUtil;
 import org.apache.iceberg.expressions.Expression;
@@ -42,12 +44,15 @@ import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.DeleteSchemaUtil;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.mapping.NameMapping;
 import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.orc.OrcRowReader;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.parquet.ParquetValueReader;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.relocated.com.google.common.math.LongMath;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.util.CharSequenceMap;
@@ -106,11 +111,57 @@ public class BaseDeleteLoader implements DeleteLoader {
   public StructLikeSet loadEqualityDeletes(Iterable<DeleteFile> deleteFiles, Schema projection) {
     Iterable<Iterable<StructLike>> deletes =
         execute(deleteFiles, deleteFile -> getOrReadEqDeletes(deleteFile, projection));
-    StructLikeSet deleteSet = StructLikeSet.create(projection.asStruct());
+    StructLikeSet deleteSet = StructLikeSet.createCompact(projection.asStruct());
     Iterables.addAll(deleteSet, Iterables.concat(deletes));
     return deleteSet;
   }
 
+  /**
+   * Finds the positions of rows in a data file that match equality deletes, using local spill
+   * files instead of keeping all deletes in memory.
+   *
+   * <p>The data file is read once for all groups of deletes.
+   *
+   * @param deleteGroups equality delete files, grouped by their equality field IDs
+   * @param projection a projection of the data file that contains all equality fields
+   * @param dataFile the data file to find deleted rows in
+   * @param dataFormat the format of the data file
+   * @param nameMapping a name mapping to read data files without field IDs, or null
+   * @param numPartitions the number of partitions to split deletes into, each must fit in memory
+   * @param spillDirectory a local directory for spill files
+   * @return a position delete index for rows in the data file that match the deletes
+   */
+  PositionDeleteIndex loadEqualityDeletePositions(
+      Collection<? extends Iterable<DeleteFile>> deleteGroups,
+      Schema projection,
+      InputFile dataFile,
+      FileFormat dataFormat,
+      NameMapping nameMapping,
+      int numPartitions,
+      String spillDirectory) {
+    LOG.info(
+        "Spilling equality deletes for {} to {} partitions in {}",
+        dataFile.location(),
+        numPartitions,
+        spillDirectory);
+
+    EqualityDeleteSpill spill = new EqualityDeleteSpill(projection, numPartitions, spillDirectory);
+    for (Iterable<DeleteFile> deleteFiles : deleteGroups) {
+      DeleteFile first = Iterables.getFirst(deleteFiles, null);
+      Preconditions.checkArgument(first != null, "Invalid equality delete group: empty");
+      Schema deleteSchema = TypeUtil.select(projection, Sets.newHashSet(first.equalityFieldIds()));
+      Iterable<CloseableIterable<Record>> deletes =
+          Iterables.transform(deleteFiles, deleteFile -> openDeletes(deleteFile, deleteSchema));
+      spill.addDeletes(deleteSchema, CloseableIterable.concat(deletes));
+    }
+
+    // rows must be read without filters so that their positions can be counted
+    CloseableIterable<Record> rows =
+        openFile(dataFile, dataFormat, projection, null /* no filter */, nameMapping);
+
+    return spill.deletedPositions(rows);
+  }
+
   private Iterable<StructLike> getOrReadEqDeletes(DeleteFile deleteFile, Schema projection) {
     long estimatedSize = estimateEqDeletesSize(deleteFile, projection);
     if (canCache(estimatedSize)) {
@@ -165,11 +216,20 @@ public class BaseDeleteLoader implements DeleteLoader {
   }
 
   private CharSequenceMap<PositionDeleteIndex> readPosDeletes(DeleteFile deleteFile) {
+    if (DeletionVectors.isDV(deleteFile)) {
+      return DeletionVectors.readAll(deleteFile, loadInputFile.apply(deleteFile));
+    }
+
     CloseableIterable<Record> deletes = openDeletes(deleteFile, POS_DELETE_SCHEMA);
     return Deletes.toPositionIndexes(deletes);
   }
 
   private PositionDeleteIndex readPosDeletes(DeleteFile deleteFile, CharSequence filePath) {
+    if (DeletionVectors.isDV(deleteFile)) {
+      // deserializes the bitmap of the data file without decoding delete rows
+      return DeletionVectors.read(deleteFile, loadInputFile.apply(deleteFile), filePath);
+    }
+
     Expression filter = Expressions.equal(MetadataColumns.DELETE_FILE_PATH.name(), filePath);
     CloseableIterable<Record> deletes = openDeletes(deleteFile, POS_DELETE_SCHEMA, filter);
     return Deletes.toPositionIndex(filePath, ImmutableList.of(deletes));
@@ -181,15 +241,23 @@ public class BaseDeleteLoader implements DeleteLoader {
 
   private CloseableIterable<Record> openDeletes(
       DeleteFile deleteFile, Schema projection, Expression filter) {
-
-    FileFormat format = deleteFile.format();
     LOG.trace("Opening delete file {}", deleteFile.path());
     InputFile inputFile = loadInputFile.apply(deleteFile);
+    // delete files are written with field IDs
+    return openFile(inputFile, deleteFile.format(), projection, filter, null);
+  }
 
+  private CloseableIterable<Record> openFile(
+      InputFile inputFile,
+      FileFormat format,
+      Schema projection,
+      Expression filter,
+      NameMapping nameMapping) {
     switch (format) {
       case AVRO:
         return Avro.read(inputFile)
             .project(projection)
+            .withNameMapping(nameMapping)
             .reuseContainers()
             .createReaderFunc(DataReader::create)
             .build();
@@ -197,6 +265,7 @@ public class BaseDeleteLoader implements DeleteLoader {
       case PARQUET:
         return Parquet.read(inputFile)
             .project(projection)
+            .withNameMapping(nameMapping)
             .filter(filter)
             .reuseContainers()
             .createReaderFunc(newParquetReaderFunc(projection))
@@ -206,6 +275,7 @@ public class BaseDeleteLoader implements DeleteLoader {
         // reusing containers is automatic for ORC, no need to call 'reuseContainers'
         return ORC.read(inputFile)
             .project(projection)
+            .withNameMapping(nameMapping)
             .filter(filter)
             .createReaderFunc(newOrcReaderFunc(projection))
             .build();
@@ -246,7 +316,7 @@ public class BaseDeleteLoader implements DeleteLoader {
   }
 
   // estimates the memory required to cache equality deletes (in bytes)
-  private long estimateEqDeletesSize(DeleteFile deleteFile, Schema projection) {
+  static long estimateEqDeletesSize(DeleteFile deleteFile, Schema projection) {
     try {
       long recordCount = deleteFile.recordCount();
       int recordSize = estimateRecordSize(projection);
@@ -256,7 +326,7 @@ public class BaseDeleteLoader implements DeleteLoader {
     }
   }
 
-  private int estimateRecordSize(Schema schema) {
+  private static int estimateRecordSize(Schema schema) {
     return schema.columns().stream().mapToInt(TypeUtil::estimateSize).sum();
   }
 }
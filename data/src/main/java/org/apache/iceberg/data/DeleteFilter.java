@@ -18,21 +18,27 @@
  */
 package org.apache.iceberg.data;
 
+import java.math.RoundingMode;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.apache.iceberg.Accessor;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.SystemConfigs;
 import org.apache.iceberg.deletes.DeleteCounter;
 import org.apache.iceberg.deletes.Deletes;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -40,6 +46,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Multimap;
 import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.math.LongMath;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.StructLikeSet;
@@ -49,8 +56,10 @@ import org.slf4j.LoggerFactory;
 
 public abstract class DeleteFilter<T> {
   private static final Logger LOG = LoggerFactory.getLogger(DeleteFilter.class);
+  private static final int MAX_SPILL_PARTITIONS = 256;
 
   private final String filePath;
+  private final FileFormat fileFormat;
   private final List<DeleteFile> posDeletes;
   private final List<DeleteFile> eqDeletes;
   private final Schema requiredSchema;
@@ -58,19 +67,72 @@ public abstract class DeleteFilter<T> {
   private final boolean hasIsDeletedColumn;
   private final int isDeletedColumnPosition;
   private final DeleteCounter counter;
+  private final long spillThreshold;
+  private final boolean spillEqDeletes;
 
   private volatile DeleteLoader deleteLoader = null;
   private PositionDeleteIndex deleteRowPositions = null;
   private List<Predicate<T>> isInDeleteSets = null;
   private Predicate<T> eqDeleteRows = null;
 
+  protected DeleteFilter(
+      DataFile file,
+      List<DeleteFile> deletes,
+      Schema tableSchema,
+      Schema requestedSchema,
+      DeleteCounter counter) {
+    this(
+        file,
+        deletes,
+        tableSchema,
+        requestedSchema,
+        counter,
+        SystemConfigs.EQUALITY_DELETES_SPILL_THRESHOLD_BYTES.value());
+  }
+
+  protected DeleteFilter(
+      DataFile file, List<DeleteFile> deletes, Schema tableSchema, Schema requestedSchema) {
+    this(file, deletes, tableSchema, requestedSchema, new DeleteCounter());
+  }
+
   protected DeleteFilter(
       String filePath,
       List<DeleteFile> deletes,
       Schema tableSchema,
       Schema requestedSchema,
       DeleteCounter counter) {
+    // the data file format is unknown, so equality deletes can't be spilled
+    this(filePath, null, deletes, tableSchema, requestedSchema, counter, Long.MAX_VALUE);
+  }
+
+  @VisibleForTesting
+  DeleteFilter(
+      DataFile file,
+      List<DeleteFile> deletes,
+      Schema tableSchema,
+      Schema requestedSchema,
+      DeleteCounter counter,
+      long spillThreshold) {
+    this(
+        file.path().toString(),
+        file.format(),
+        deletes,
+        tableSchema,
+        requestedSchema,
+        counter,
+        spillThreshold);
+  }
+
+  private DeleteFilter(
+      String filePath,
+      FileFormat fileFormat,
+      List<DeleteFile> deletes,
+      Schema tableSchema,
+      Schema requestedSchema,
+      DeleteCounter counter,
+      long spillThreshold) {
     this.filePath = filePath;
+    this.fileFormat = fileFormat;
     this.counter = counter;
 
     ImmutableList.Builder<DeleteFile> posDeleteBuilder = ImmutableList.builder();
@@ -93,7 +155,13 @@ public abstract class DeleteFilter<T> {
 
     this.posDeletes = posDeleteBuilder.build();
     this.eqDeletes = eqDeleteBuilder.build();
-    this.requiredSchema = fileProjection(tableSchema, requestedSchema, posDeletes, eqDeletes);
+    this.spillThreshold = spillThreshold;
+    this.spillEqDeletes =
+        fileFormat != null
+            && !eqDeletes.isEmpty()
+            && estimateEqDeletesSize(tableSchema, eqDeletes) > spillThreshold;
+    this.requiredSchema =
+        fileProjection(tableSchema, requestedSchema, posDeletes, eqDeletes, spillEqDeletes);
     this.posAccessor = requiredSchema.accessorForField(MetadataColumns.ROW_POSITION.fieldId());
     this.hasIsDeletedColumn =
         requiredSchema.findField(MetadataColumns.IS_DELETED.fieldId()) != null;
@@ -125,6 +193,10 @@ public abstract class DeleteFilter<T> {
     counter.increment();
   }
 
+  public void incrementDeleteCount(long numDeletes) {
+    counter.increment(numDeletes);
+  }
+
   Accessor<StructLike> posAccessor() {
     return posAccessor;
   }
@@ -141,6 +213,18 @@ public abstract class DeleteFilter<T> {
     return (Long) posAccessor.get(asStructLike(record));
   }
 
+  /**
+   * Returns the name mapping used to read the data file if it was written without field IDs.
+   *
+   * <p>Readers that apply a name mapping to data files should return it here, so that data rows
+   * read to find rows deleted by spilled equality deletes are read the same way.
+   *
+   * @return a name mapping, or null if data files are read without one
+   */
+  protected NameMapping nameMapping() {
+    return null;
+  }
+
   protected DeleteLoader newDeleteLoader() {
     return new BaseDeleteLoader(this::loadInputFile);
   }
@@ -177,6 +261,13 @@ public abstract class DeleteFilter<T> {
       filesByDeleteIds.put(Sets.newHashSet(delete.equalityFieldIds()), delete);
     }
 
+    if (spillEqDeletes && deleteLoader() instanceof BaseDeleteLoader) {
+      // find deleted positions using spill files, rows have positions if deletes are spilled
+      PositionDeleteIndex deletedPositions = loadSpilledEqDeletes(filesByDeleteIds.asMap());
+      isInDeleteSets.add(record -> deletedPositions.isDeleted(pos(record)));
+      return isInDeleteSets;
+    }
+
     for (Map.Entry<Set<Integer>, Collection<DeleteFile>> entry :
         filesByDeleteIds.asMap().entrySet()) {
       Set<Integer> ids = entry.getKey();
@@ -196,6 +287,30 @@ public abstract class DeleteFilter<T> {
     return isInDeleteSets;
   }
 
+  // the data file is read once to find rows deleted by all groups of equality deletes
+  private PositionDeleteIndex loadSpilledEqDeletes(
+      Map<Set<Integer>, Collection<DeleteFile>> filesByDeleteIds) {
+    Set<Integer> eqIds = Sets.newHashSet();
+    filesByDeleteIds.keySet().forEach(eqIds::addAll);
+    Schema projection = TypeUtil.select(requiredSchema, eqIds);
+
+    long estimatedSize = estimateEqDeletesSize(requiredSchema, eqDeletes);
+    long numPartitions =
+        Math.min(
+            LongMath.divide(estimatedSize, spillThreshold, RoundingMode.CEILING),
+            MAX_SPILL_PARTITIONS);
+
+    return ((BaseDeleteLoader) deleteLoader())
+        .loadEqualityDeletePositions(
+            filesByDeleteIds.values(),
+            projection,
+            getInputFile(filePath),
+            fileFormat,
+            nameMapping(),
+            (int) Math.max(numPartitions, 1),
+            SystemConfigs.EQUALITY_DELETES_SPILL_DIRECTORY.value());
+  }
+
   public CloseableIterable<T> findEqualityDeleteRows(CloseableIterable<T> records) {
     // Predicate to test whether a row has been deleted by equality deletions.
     Predicate<T> deletedRows = applyEqDeletes().stream().reduce(Predicate::or).orElse(t -> false);
@@ -247,17 +362,30 @@ public abstract class DeleteFilter<T> {
         : Deletes.filterDeleted(records, isDeleted, counter);
   }
 
+  private static long estimateEqDeletesSize(Schema schema, Iterable<DeleteFile> eqDeletes) {
+    long size = 0L;
+    for (DeleteFile eqDelete : eqDeletes) {
+      Schema deleteSchema = TypeUtil.select(schema, Sets.newHashSet(eqDelete.equalityFieldIds()));
+      long deleteSize = BaseDeleteLoader.estimateEqDeletesSize(eqDelete, deleteSchema);
+      size = LongMath.saturatedAdd(size, deleteSize);
+    }
+
+    return size;
+  }
+
   private static Schema fileProjection(
       Schema tableSchema,
       Schema requestedSchema,
       List<DeleteFile> posDeletes,
-      List<DeleteFile> eqDeletes) {
+      List<DeleteFile> eqDeletes,
+      boolean spillEqDeletes) {
     if (posDeletes.isEmpty() && eqDeletes.isEmpty()) {
       return requestedSchema;
     }
 
     Set<Integer> requiredIds = Sets.newLinkedHashSet();
-    if (!posDeletes.isEmpty()) {
+    // spilled equality deletes are applied using the positions of deleted rows
+    if (!posDeletes.isEmpty() || spillEqDeletes) {
       requiredIds.add(MetadataColumns.ROW_POSITION.fieldId());
     }
 
@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.data.avro.DataReader;
+import org.apache.iceberg.data.avro.DataWriter;
+import org.apache.iceberg.deletes.Deletes;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ContiguousSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeSet;
+import org.apache.iceberg.util.StructLikeWrapper;
+import org.apache.iceberg.util.StructProjection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds rows of a data file that match equality deletes that are too large to be kept in memory.
+ *
+ * <p>This is a hash join that partitions both sides to local spill files. Delete keys and the keys
+ * of data rows, along with their positions, are written to the spill file of the partition that
+ * their hash belongs to. Then, one partition at a time, the delete keys are loaded into a set and
+ * the data rows of the same partition are probed. The result is an index of deleted positions,
+ * which is small compared to the deletes and is applied to rows in their original order.
+ *
+ * <p>Deletes may be added for several sets of equality fields. The data file is read only once and
+ * each row is spilled to the partitions of every set of equality fields.
+ *
+ * <p>Spill files are Avro files in a new directory that is removed once the positions are found.
+ */
+class EqualityDeleteSpill {
+  private static final Logger LOG = LoggerFactory.getLogger(EqualityDeleteSpill.class);
+
+  private final Schema dataSchema;
+  private final int numPartitions;
+  private final String spillDirectory;
+  private final List<DeleteGroup> groups = Lists.newArrayList();
+
+  /**
+   * @param dataSchema the schema of data rows, must contain the equality fields of all deletes
+   * @param numPartitions the number of partitions, each must fit in memory
+   * @param spillDirectory a local directory where a temporary directory for spill files is created
+   */
+  EqualityDeleteSpill(Schema dataSchema, int numPartitions, String spillDirectory) {
+    Preconditions.checkArgument(
+        numPartitions > 0, "Invalid number of partitions: %s", numPartitions);
+    Preconditions.checkArgument(spillDirectory != null, "Invalid spill directory: null");
+    this.dataSchema = dataSchema;
+    this.numPartitions = numPartitions;
+    this.spillDirectory = spillDirectory;
+  }
+
+  /**
+   * Adds equality deletes for a set of equality fields.
+   *
+   * @param deleteSchema the schema of delete keys, a projection of the data schema
+   * @param deletes delete keys projected to the delete schema
+   * @return this for method chaining
+   */
+  EqualityDeleteSpill addDeletes(Schema deleteSchema, CloseableIterable<Record> deletes) {
+    groups.add(new DeleteGroup(groups.size(), deleteSchema, deletes));
+    return this;
+  }
+
+  /**
+   * Finds the positions of data rows that match any of the delete keys.
+   *
+   * @param rows all rows of a data file in file order, projected to the data schema
+   * @return an index of the positions of deleted rows
+   */
+  PositionDeleteIndex deletedPositions(CloseableIterable<Record> rows) {
+    Path directory = createDirectory();
+    try {
+      for (DeleteGroup group : groups) {
+        group.spillDeletes(directory);
+      }
+
+      spillRows(directory, rows);
+
+      LOG.debug(
+          "Probing {} spilled equality delete partitions for {} sets of equality fields in {}",
+          numPartitions,
+          groups.size(),
+          directory);
+
+      // partitions are loaded lazily, once the positions of the previous partition are consumed
+      Iterable<CloseableIterable<Long>> positions =
+          Iterables.concat(Iterables.transform(groups, DeleteGroup::deletedPositions));
+
+      return Deletes.toPositionIndex(CloseableIterable.concat(positions));
+    } finally {
+      deleteDirectory(directory);
+    }
+  }
+
+  private void spillRows(Path directory, CloseableIterable<Record> rows) {
+    try (CloseableIterable<Record> closeable = rows) {
+      for (DeleteGroup group : groups) {
+        group.openRowFiles(directory);
+      }
+
+      long pos = 0L;
+      for (Record row : closeable) {
+        for (DeleteGroup group : groups) {
+          group.addRow(row, pos);
+        }
+
+        pos += 1;
+      }
+
+      // close to flush all spill files before they are read
+      for (DeleteGroup group : groups) {
+        group.rowFiles.close();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill data rows to " + directory, e);
+    } finally {
+      // only left open after a failure
+      for (DeleteGroup group : groups) {
+        if (group.rowFiles != null) {
+          group.rowFiles.closeQuietly();
+        }
+      }
+    }
+  }
+
+  private int partition(int hash) {
+    // spread the hash because struct hashes of small values only differ in low bits
+    int spread = hash * 0x9E3779B9;
+    return Math.floorMod(spread ^ (spread >>> 16), numPartitions);
+  }
+
+  private class DeleteGroup {
+    private final int id;
+    private final Schema deleteSchema;
+    private final Schema rowSchema;
+    private final CloseableIterable<Record> deletes;
+    private final StructProjection projectRow;
+    private final InternalRecordWrapper keyWrapper;
+    private final StructLikeWrapper hashWrapper;
+    private final Record spillRecord;
+    private final int posIndex;
+    private SpillFiles deleteFiles = null;
+    private SpillFiles rowFiles = null;
+
+    private DeleteGroup(int id, Schema deleteSchema, CloseableIterable<Record> deletes) {
+      this.id = id;
+      this.deleteSchema = deleteSchema;
+      this.deletes = deletes;
+
+      // data rows are spilled with their position as a field that can't conflict with key fields
+      List<Types.NestedField> rowFields = Lists.newArrayList(deleteSchema.columns());
+      rowFields.add(
+          Types.NestedField.required(
+              deleteSchema.highestFieldId() + 1, "_spill_pos", Types.LongType.get()));
+      this.rowSchema = new Schema(rowFields);
+
+      this.projectRow = StructProjection.create(dataSchema, deleteSchema);
+      this.keyWrapper = new InternalRecordWrapper(deleteSchema.asStruct());
+      this.hashWrapper = StructLikeWrapper.forType(deleteSchema.asStruct());
+      this.spillRecord = GenericRecord.create(rowSchema);
+      this.posIndex = rowSchema.columns().size() - 1;
+    }
+
+    private void spillDeletes(Path directory) {
+      try (CloseableIterable<Record> closeable = deletes) {
+        this.deleteFiles = new SpillFiles(directory, "deletes-" + id, deleteSchema);
+        for (Record delete : closeable) {
+          deleteFiles.add(hash(delete), delete);
+        }
+
+        deleteFiles.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to spill equality deletes to " + directory, e);
+      } finally {
+        if (deleteFiles != null) {
+          deleteFiles.closeQuietly();
+        }
+      }
+    }
+
+    private void openRowFiles(Path directory) {
+      this.rowFiles = new SpillFiles(directory, "rows-" + id, rowSchema);
+    }
+
+    private void addRow(Record row, long pos) {
+      StructLike key = projectRow.wrap(row);
+      for (int index = 0; index < posIndex; index += 1) {
+        Type type = rowSchema.columns().get(index).type();
+        spillRecord.set(index, copy(key.get(index, Object.class), type));
+      }
+
+      spillRecord.set(posIndex, pos);
+      rowFiles.add(hash(spillRecord), spillRecord);
+    }
+
+    private int hash(StructLike key) {
+      // the key wrapper only reads delete fields, so the position of spilled rows is ignored
+      return hashWrapper.set(keyWrapper.wrap(key)).hashCode();
+    }
+
+    private Iterable<CloseableIterable<Long>> deletedPositions() {
+      return Iterables.transform(
+          ContiguousSet.closedOpen(0, numPartitions),
+          partition -> deletedPositions(deleteFiles.get(partition), rowFiles.get(partition)));
+    }
+
+    private CloseableIterable<Long> deletedPositions(File deleteFile, File rowFile) {
+      StructLikeSet deleteSet = StructLikeSet.createCompact(deleteSchema.asStruct());
+      try (CloseableIterable<Record> spilledDeletes = read(deleteFile, deleteSchema)) {
+        InternalRecordWrapper wrapper = new InternalRecordWrapper(deleteSchema.asStruct());
+        for (Record delete : spilledDeletes) {
+          deleteSet.add(wrapper.copyFor(delete));
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to close spilled deletes: " + deleteFile, e);
+      }
+
+      if (deleteSet.isEmpty()) {
+        return CloseableIterable.empty();
+      }
+
+      InternalRecordWrapper rowWrapper = new InternalRecordWrapper(rowSchema.asStruct());
+      StructProjection projectKey = StructProjection.create(rowSchema, deleteSchema);
+
+      CloseableIterable<Record> rows = read(rowFile, rowSchema);
+      CloseableIterable<Record> deletedRows =
+          CloseableIterable.filter(
+              rows, row -> deleteSet.contains(projectKey.wrap(rowWrapper.wrap(row))));
+      return CloseableIterable.transform(deletedRows, row -> row.get(posIndex, Long.class));
+    }
+  }
+
+  /** Spill files for one side of the join, one per partition. */
+  private class SpillFiles {
+    private final List<File> files = Lists.newArrayList();
+    private final List<FileAppender<Record>> appenders = Lists.newArrayList();
+
+    private SpillFiles(Path directory, String prefix, Schema schema) {
+      for (int partition = 0; partition < numPartitions; partition += 1) {
+        File file = directory.resolve(prefix + "-" + partition + ".avro").toFile();
+        files.add(file);
+        appenders.add(
+            Avro.write(Files.localOutput(file))
+                .schema(schema)
+                .createWriterFunc(DataWriter::create)
+                .overwrite()
+                .build());
+      }
+    }
+
+    private void add(int hash, Record record) {
+      appenders.get(partition(hash)).add(record);
+    }
+
+    private File get(int partition) {
+      return files.get(partition);
+    }
+
+    private void close() throws IOException {
+      for (FileAppender<Record> appender : appenders) {
+        appender.close();
+      }
+
+      appenders.clear();
+    }
+
+    private void closeQuietly() {
+      appenders.forEach(EqualityDeleteSpill::closeQuietly);
+      appenders.clear();
+    }
+  }
+
+  // spilled keys are written as records, so nested structs from projections are copied
+  private static Object copy(Object value, Type type) {
+    if (value == null || !type.isStructType()) {
+      return value;
+    }
+
+    StructLike struct = (StructLike) value;
+    List<Types.NestedField> fields = type.asStructType().fields();
+    Record record = GenericRecord.create(type.asStructType());
+    for (int index = 0; index < fields.size(); index += 1) {
+      record.set(index, copy(struct.get(index, Object.class), fields.get(index).type()));
+    }
+
+    return record;
+  }
+
+  private static CloseableIterable<Record> read(File file, Schema schema) {
+    return Avro.read(Files.localInput(file))
+        .project(schema)
+        .createReaderFunc(DataReader::create)
+        .build();
+  }
+
+  private Path createDirectory() {
+    try {
+      Path root = Paths.get(spillDirectory);
+      java.nio.file.Files.createDirectories(root);
+      return java.nio.file.Files.createTempDirectory(root, "iceberg-eq-delete-spill-");
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create spill directory in " + spillDirectory, e);
+    }
+  }
+
+  private static void deleteDirectory(Path directory) {
+    try (Stream<Path> paths = java.nio.file.Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    } catch (IOException | UncheckedIOException e) {
+      LOG.warn("Failed to remove equality delete spill directory {}", directory, e);
+    }
+  }
+
+  private static void closeQuietly(FileAppender<Record> appender) {
+    try {
+      appender.close();
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to close equality delete spill file", e);
+    }
+  }
+}
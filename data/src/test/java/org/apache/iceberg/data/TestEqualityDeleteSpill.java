@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestEqualityDeleteSpill {
+  private static final Schema DELETE_SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.IntegerType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()));
+
+  @TempDir private Path temp;
+
+  @Test
+  public void testDeletedPositions() {
+    Record template = GenericRecord.create(DELETE_SCHEMA);
+    List<Record> rows = Lists.newArrayList();
+    for (int id = 0; id < 1000; id += 1) {
+      rows.add(template.copy("id", id, "data", id % 3 == 0 ? null : "d" + (id % 7)));
+    }
+
+    List<Record> deletes = Lists.newArrayList();
+    for (int id = 0; id < 1000; id += 10) {
+      deletes.add(rows.get(id).copy());
+    }
+
+    // a key that matches the id but not the data of a row
+    deletes.add(template.copy("id", 5, "data", "missing"));
+
+    EqualityDeleteSpill spill =
+        new EqualityDeleteSpill(DELETE_SCHEMA, 7, temp.toString())
+            .addDeletes(DELETE_SCHEMA, CloseableIterable.withNoopClose(deletes));
+    PositionDeleteIndex index = spill.deletedPositions(CloseableIterable.withNoopClose(rows));
+
+    for (long pos = 0; pos < rows.size(); pos += 1) {
+      assertThat(index.isDeleted(pos)).as("Position %s", pos).isEqualTo(pos % 10 == 0);
+    }
+
+    File[] remaining = temp.toFile().listFiles();
+    assertThat(remaining).as("Spill files should be removed").isEmpty();
+  }
+
+  @Test
+  public void testMultipleEqualityFieldSets() {
+    Record template = GenericRecord.create(DELETE_SCHEMA);
+    List<Record> rows = Lists.newArrayList();
+    for (int id = 0; id < 100; id += 1) {
+      rows.add(template.copy("id", id, "data", "d" + (id % 7)));
+    }
+
+    Schema idSchema = DELETE_SCHEMA.select("id");
+    Record idDelete = GenericRecord.create(idSchema);
+    List<Record> idDeletes = Lists.newArrayList(idDelete.copy("id", 3), idDelete.copy("id", 50));
+
+    Schema dataSchema = DELETE_SCHEMA.select("data");
+    Record dataDelete = GenericRecord.create(dataSchema);
+    List<Record> dataDeletes = Lists.newArrayList(dataDelete.copy("data", "d6"));
+
+    EqualityDeleteSpill spill =
+        new EqualityDeleteSpill(DELETE_SCHEMA, 3, temp.toString())
+            .addDeletes(idSchema, CloseableIterable.withNoopClose(idDeletes))
+            .addDeletes(dataSchema, CloseableIterable.withNoopClose(dataDeletes));
+
+    // rows are read once for all sets of equality fields
+    AtomicInteger scans = new AtomicInteger();
+    CloseableIterable<Record> rowIterable =
+        new CloseableIterable<Record>() {
+          @Override
+          public CloseableIterator<Record> iterator() {
+            scans.incrementAndGet();
+            return CloseableIterator.withClose(rows.iterator());
+          }
+
+          @Override
+          public void close() {}
+        };
+
+    PositionDeleteIndex index = spill.deletedPositions(rowIterable);
+
+    assertThat(scans).hasValue(1);
+    for (long pos = 0; pos < rows.size(); pos += 1) {
+      boolean deleted = pos == 3 || pos == 50 || pos % 7 == 6;
+      assertThat(index.isDeleted(pos)).as("Position %s", pos).isEqualTo(deleted);
+    }
+
+    assertThat(temp.toFile().listFiles()).as("Spill files should be removed").isEmpty();
+  }
+
+  @Test
+  public void testNoDeletes() {
+    Record row = GenericRecord.create(DELETE_SCHEMA).copy("id", 1, "data", "a");
+
+    EqualityDeleteSpill spill =
+        new EqualityDeleteSpill(DELETE_SCHEMA, 4, temp.toString())
+            .addDeletes(DELETE_SCHEMA, CloseableIterable.empty());
+    PositionDeleteIndex index =
+        spill.deletedPositions(CloseableIterable.withNoopClose(Lists.newArrayList(row)));
+
+    assertThat(index.isEmpty()).isTrue();
+    assertThat(temp.toFile().listFiles()).isEmpty();
+  }
+
+  @Test
+  public void testInvalidPartitions() {
+    assertThatThrownBy(() -> new EqualityDeleteSpill(DELETE_SCHEMA, 0, temp.toString()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid number of partitions: 0");
+  }
+}
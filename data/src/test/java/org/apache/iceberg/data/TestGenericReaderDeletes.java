@@ -23,14 +23,38 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Map;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.BaseFileScanTask;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.ParameterizedTestExtension;
 import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionSpecParser;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SchemaParser;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TestHelpers.Row;
 import org.apache.iceberg.TestTables;
+import org.apache.iceberg.deletes.DVTestUtil;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ResidualEvaluator;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.mapping.MappingUtil;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.StructLikeSet;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 @ExtendWith(ParameterizedTestExtension.class)
@@ -65,4 +89,129 @@ public class TestGenericReaderDeletes extends DeleteReadTests {
   protected boolean expectPruned() {
     return false;
   }
+
+  @TestTemplate
+  public void testSpilledEqualityDeletes() throws IOException {
+    Schema dataSchema = table.schema().select("data");
+    Record dataDelete = GenericRecord.create(dataSchema);
+    DeleteFile dataEqDeletes =
+        FileHelpers.writeDeleteFile(
+            table,
+            table.io().newOutputFile(temp.resolve("data-deletes.avro").toString()),
+            Row.of(0),
+            Lists.newArrayList(dataDelete.copy("data", "a"), dataDelete.copy("data", "g")),
+            dataSchema);
+
+    Schema idSchema = table.schema().select("id");
+    Record idDelete = GenericRecord.create(idSchema);
+    DeleteFile idEqDeletes =
+        FileHelpers.writeDeleteFile(
+            table,
+            table.io().newOutputFile(temp.resolve("id-deletes.avro").toString()),
+            Row.of(0),
+            Lists.newArrayList(idDelete.copy("id", 121), idDelete.copy("id", 29)),
+            idSchema);
+
+    table.newRowDelta().addDeletes(dataEqDeletes).addDeletes(idEqDeletes).commit();
+
+    StructLikeSet expected = rowSetWithoutIds(table, records, 29, 121, 122);
+    StructLikeSet inMemory = rowSet(tableName, table, "*");
+    assertThat(inMemory).as("Table should contain expected rows").isEqualTo(expected);
+
+    StructLikeSet spilled = StructLikeSet.create(table.schema().asStruct());
+    GenericReader reader = new GenericReader(table.newScan(), false /* reuse containers */);
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+      for (FileScanTask task : tasks) {
+        // a threshold of 1 byte spills all equality deletes
+        DeleteFilter<Record> deletes =
+            new GenericDeleteFilter(table.io(), task, table.schema(), table.schema(), 1L);
+        assertThat(deletes.requiredSchema().findField(MetadataColumns.ROW_POSITION.fieldId()))
+            .as("Spilled equality deletes should be applied by position")
+            .isNotNull();
+
+        try (CloseableIterable<Record> rows = reader.open(task, deletes)) {
+          InternalRecordWrapper wrapper = new InternalRecordWrapper(table.schema().asStruct());
+          rows.forEach(row -> spilled.add(wrapper.copyFor(row)));
+        }
+      }
+    }
+
+    assertThat(spilled).as("Spilled deletes should match in-memory deletes").isEqualTo(inMemory);
+  }
+
+  @TestTemplate
+  public void testSpilledEqualityDeletesWithNameMapping() throws IOException {
+    Schema idSchema = table.schema().select("id");
+    Record idDelete = GenericRecord.create(idSchema);
+    DeleteFile idEqDeletes =
+        FileHelpers.writeDeleteFile(
+            table,
+            table.io().newOutputFile(temp.resolve("id-deletes.avro").toString()),
+            Row.of(0),
+            Lists.newArrayList(idDelete.copy("id", 121), idDelete.copy("id", 29)),
+            idSchema);
+
+    // written without field IDs, with columns in a different order than the table schema
+    File dataFile = temp.resolve("data-without-ids.parquet").toFile();
+    org.apache.avro.Schema avroSchema =
+        SchemaBuilder.record("row").fields().requiredString("data").requiredInt("id").endRecord();
+    try (ParquetWriter<GenericData.Record> writer =
+        AvroParquetWriter.<GenericData.Record>builder(new Path(dataFile.toURI()))
+            .withDataModel(GenericData.get())
+            .withSchema(avroSchema)
+            .build()) {
+      for (int id : new int[] {29, 30, 121}) {
+        GenericData.Record row = new GenericData.Record(avroSchema);
+        row.put("data", "row-" + id);
+        row.put("id", id);
+        writer.write(row);
+      }
+    }
+
+    BaseDeleteLoader loader =
+        new BaseDeleteLoader(deleteFile -> table.io().newInputFile(deleteFile.path().toString()));
+    PositionDeleteIndex deleted =
+        loader.loadEqualityDeletePositions(
+            ImmutableList.of(ImmutableList.of(idEqDeletes)),
+            idSchema,
+            table.io().newInputFile(dataFile.getAbsolutePath()),
+            FileFormat.PARQUET,
+            MappingUtil.create(table.schema()),
+            1,
+            temp.resolve("spill").toString());
+
+    assertThat(deleted.isDeleted(0)).isTrue();
+    assertThat(deleted.isDeleted(1)).isFalse();
+    assertThat(deleted.isDeleted(2)).isTrue();
+  }
+
+  @TestTemplate
+  public void testDeletionVectors() throws IOException {
+    OutputFileFactory fileFactory =
+        OutputFileFactory.builderFor(table, 1, 1).format(FileFormat.PUFFIN).build();
+    // deletes the rows with ids 89, 29, and 122
+    Map<String, long[]> positions =
+        ImmutableMap.of(dataFile.path().toString(), new long[] {3, 0, 6});
+    DeleteFile deletionVectors =
+        DVTestUtil.writeDVs(fileFactory, table.spec(), Row.of(0), positions);
+
+    // deletion vectors can't be committed to tables before v3, so the task is created directly
+    FileScanTask task =
+        new BaseFileScanTask(
+            dataFile,
+            new DeleteFile[] {deletionVectors},
+            SchemaParser.toJson(table.schema()),
+            PartitionSpecParser.toJson(table.spec()),
+            ResidualEvaluator.unpartitioned(Expressions.alwaysTrue()));
+
+    StructLikeSet actual = StructLikeSet.create(table.schema().asStruct());
+    GenericReader reader = new GenericReader(table.newScan(), false /* reuse containers */);
+    try (CloseableIterable<Record> rows = reader.open(task)) {
+      InternalRecordWrapper wrapper = new InternalRecordWrapper(table.schema().asStruct());
+      rows.forEach(row -> actual.add(wrapper.copyFor(row)));
+    }
+
+    StructLikeSet expected = rowSetWithoutIds(table, records, 29, 89, 122);
+    assertThat(actual).as("Table should contain expected rows").isEqualTo(expected);
+  }
 }
@@ -43,6 +43,7 @@ import org.apache.iceberg.flink.data.RowDataUtil;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.mapping.NameMapping;
 import org.apache.iceberg.mapping.NameMappingParser;
 import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
@@ -92,7 +93,7 @@ public class RowDataFileScanTaskReader implements FileScanTaskReader<RowData> {
             : PartitionUtil.constantsMap(task, RowDataUtil::convertConstant);
 
     FlinkDeleteFilter deletes =
-        new FlinkDeleteFilter(task, tableSchema, projectedSchema, inputFilesDecryptor);
+        new FlinkDeleteFilter(task, tableSchema, projectedSchema, nameMapping, inputFilesDecryptor);
     CloseableIterable<RowData> iterable =
         deletes.filter(
             newIterable(task, deletes.requiredSchema(), idToConstant, inputFilesDecryptor));
@@ -214,13 +215,16 @@ public class RowDataFileScanTaskReader implements FileScanTaskReader<RowData> {
     private final RowType requiredRowType;
     private final RowDataWrapper asStructLike;
     private final InputFilesDecryptor inputFilesDecryptor;
+    private final String nameMapping;
 
     FlinkDeleteFilter(
         FileScanTask task,
         Schema tableSchema,
         Schema requestedSchema,
+        String nameMapping,
         InputFilesDecryptor inputFilesDecryptor) {
-      super(task.file().path().toString(), task.deletes(), tableSchema, requestedSchema);
+      super(task.file(), task.deletes(), tableSchema, requestedSchema);
+      this.nameMapping = nameMapping;
       this.requiredRowType = FlinkSchemaUtil.convert(requiredSchema());
       this.asStructLike = new RowDataWrapper(requiredRowType, requiredSchema().asStruct());
       this.inputFilesDecryptor = inputFilesDecryptor;
@@ -239,5 +243,10 @@ public class RowDataFileScanTaskReader implements FileScanTaskReader<RowData> {
     protected InputFile getInputFile(String location) {
       return inputFilesDecryptor.getInputFile(location);
     }
+
+    @Override
+    protected NameMapping nameMapping() {
+      return nameMapping != null ? NameMappingParser.fromJson(nameMapping) : null;
+    }
   }
 }
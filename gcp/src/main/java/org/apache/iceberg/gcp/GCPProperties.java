@@ -52,6 +52,35 @@ public class GCPProperties implements Serializable {
    */
   public static final int GCS_DELETE_BATCH_SIZE_DEFAULT = 50;
 
+  /**
+   * Enables parallel composite uploads. Objects are uploaded in parts as temporary objects in
+   * parallel, and the parts are composed into the object when the output stream is closed.
+   * https://cloud.google.com/storage/docs/parallel-composite-uploads
+   */
+  public static final String GCS_PARALLEL_UPLOAD_ENABLED = "gcs.parallel-upload.enabled";
+
+  public static final boolean GCS_PARALLEL_UPLOAD_ENABLED_DEFAULT = false;
+
+  /** Size of each part of a parallel composite upload in bytes (default: 32MB) */
+  public static final String GCS_PARALLEL_UPLOAD_PART_SIZE = "gcs.parallel-upload.part-size-bytes";
+
+  public static final int GCS_PARALLEL_UPLOAD_PART_SIZE_DEFAULT = 32 * 1024 * 1024;
+
+  /**
+   * Max number of parts of a stream that are uploaded at the same time (default: 4). Writes wait
+   * when this many parts are uploading, which limits the memory used by a stream.
+   */
+  public static final String GCS_PARALLEL_UPLOAD_MAX_CONCURRENT_PARTS =
+      "gcs.parallel-upload.max-concurrent-parts";
+
+  public static final int GCS_PARALLEL_UPLOAD_MAX_CONCURRENT_PARTS_DEFAULT = 4;
+
+  /**
+   * Number of threads used to upload parts, default to {@link Runtime#availableProcessors()}. The
+   * pool is shared across all output streams that use the same number of threads.
+   */
+  public static final String GCS_PARALLEL_UPLOAD_NUM_THREADS = "gcs.parallel-upload.num-threads";
+
   private String projectId;
   private String clientLibToken;
   private String serviceHost;
@@ -69,6 +98,12 @@ public class GCPProperties implements Serializable {
 
   private int gcsDeleteBatchSize = GCS_DELETE_BATCH_SIZE_DEFAULT;
 
+  private boolean gcsParallelUploadEnabled = GCS_PARALLEL_UPLOAD_ENABLED_DEFAULT;
+  private int gcsParallelUploadPartSize = GCS_PARALLEL_UPLOAD_PART_SIZE_DEFAULT;
+  private int gcsParallelUploadMaxConcurrentParts =
+      GCS_PARALLEL_UPLOAD_MAX_CONCURRENT_PARTS_DEFAULT;
+  private int gcsParallelUploadThreads = Runtime.getRuntime().availableProcessors();
+
   public GCPProperties() {}
 
   @SuppressWarnings("JavaUtilDate") // GCP API uses java.util.Date
@@ -104,6 +139,31 @@ public class GCPProperties implements Serializable {
     gcsDeleteBatchSize =
         PropertyUtil.propertyAsInt(
             properties, GCS_DELETE_BATCH_SIZE, GCS_DELETE_BATCH_SIZE_DEFAULT);
+
+    gcsParallelUploadEnabled =
+        PropertyUtil.propertyAsBoolean(
+            properties, GCS_PARALLEL_UPLOAD_ENABLED, GCS_PARALLEL_UPLOAD_ENABLED_DEFAULT);
+    gcsParallelUploadPartSize =
+        PropertyUtil.propertyAsInt(
+            properties, GCS_PARALLEL_UPLOAD_PART_SIZE, GCS_PARALLEL_UPLOAD_PART_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        gcsParallelUploadPartSize > 0,
+        "Invalid parallel upload part size: %s",
+        gcsParallelUploadPartSize);
+    gcsParallelUploadMaxConcurrentParts =
+        PropertyUtil.propertyAsInt(
+            properties,
+            GCS_PARALLEL_UPLOAD_MAX_CONCURRENT_PARTS,
+            GCS_PARALLEL_UPLOAD_MAX_CONCURRENT_PARTS_DEFAULT);
+    Preconditions.checkArgument(
+        gcsParallelUploadMaxConcurrentParts > 0,
+        "Invalid parallel upload max concurrent parts: %s",
+        gcsParallelUploadMaxConcurrentParts);
+    gcsParallelUploadThreads =
+        PropertyUtil.propertyAsInt(
+            properties,
+            GCS_PARALLEL_UPLOAD_NUM_THREADS,
+            Runtime.getRuntime().availableProcessors());
   }
 
   public Optional<Integer> channelReadChunkSize() {
@@ -153,4 +213,20 @@ public class GCPProperties implements Serializable {
   public int deleteBatchSize() {
     return gcsDeleteBatchSize;
   }
+
+  public boolean parallelUploadEnabled() {
+    return gcsParallelUploadEnabled;
+  }
+
+  public int parallelUploadPartSize() {
+    return gcsParallelUploadPartSize;
+  }
+
+  public int parallelUploadMaxConcurrentParts() {
+    return gcsParallelUploadMaxConcurrentParts;
+  }
+
+  public int parallelUploadThreads() {
+    return gcsParallelUploadThreads;
+  }
 }
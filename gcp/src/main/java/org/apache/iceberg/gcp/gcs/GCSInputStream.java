@@ -28,16 +28,20 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.apache.iceberg.gcp.GCPProperties;
+import org.apache.iceberg.io.ByteRange;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -170,6 +174,13 @@ class GCSInputStream extends SeekableInputStream implements RangeReadable {
     }
   }
 
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<ByteRange> ranges) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    // ranges are read with independent requests, so they can be read concurrently
+    return VectoredReads.read(ranges, this::readFully, ThreadPools.getVectoredReadPool());
+  }
+
   private int read(ReadChannel readChannel, ByteBuffer buffer, int off, int len)
       throws IOException {
     buffer.position(off);
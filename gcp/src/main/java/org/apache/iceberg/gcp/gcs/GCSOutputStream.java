@@ -42,6 +42,9 @@ import org.slf4j.LoggerFactory;
 /**
  * The GCSOutputStream leverages native streaming channels from the GCS API for streaming uploads.
  * See <a href="https://cloud.google.com/storage/docs/streaming">Streaming Transfers</a>
+ *
+ * <p>When {@link GCPProperties#GCS_PARALLEL_UPLOAD_ENABLED} is set, data is instead uploaded in
+ * parts in parallel and composed into the object on close by {@link ParallelCompositeUploadStream}.
  */
 class GCSOutputStream extends PositionOutputStream {
   private static final Logger LOG = LoggerFactory.getLogger(GCSOutputStream.class);
@@ -101,6 +104,11 @@ class GCSOutputStream extends PositionOutputStream {
   }
 
   private void openStream() {
+    if (gcpProperties.parallelUploadEnabled()) {
+      stream = new ParallelCompositeUploadStream(storage, blobId, gcpProperties);
+      return;
+    }
+
     List<BlobWriteOption> writeOptions = Lists.newArrayList();
 
     gcpProperties
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.gcp.gcs;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import com.google.cloud.storage.Storage.ComposeRequest;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import org.apache.iceberg.gcp.GCPProperties;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An output stream that uploads an object in fixed-size parts in parallel, as temporary objects,
+ * and composes the parts into the object when it is closed.
+ *
+ * <p>Each stream buffers at most {@link GCPProperties#parallelUploadMaxConcurrentParts()} parts
+ * that are uploading, plus the part that is being written. Objects that are smaller than one part
+ * are uploaded with a single request. Temporary objects are deleted when the stream is closed,
+ * whether or not the upload succeeded.
+ *
+ * <p>See <a href="https://cloud.google.com/storage/docs/parallel-composite-uploads">Parallel
+ * composite uploads</a>
+ */
+class ParallelCompositeUploadStream extends OutputStream {
+  private static final Logger LOG = LoggerFactory.getLogger(ParallelCompositeUploadStream.class);
+  // GCS compose accepts at most 32 source objects
+  private static final int MAX_COMPOSE_SOURCES = 32;
+  private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+  // upload pools shared by all streams, by number of threads
+  private static final Map<Integer, ExecutorService> EXECUTORS = Maps.newConcurrentMap();
+
+  private final Storage storage;
+  private final BlobId blobId;
+  private final GCPProperties gcpProperties;
+  private final int partSize;
+  private final String tempPrefix;
+  private final Semaphore uploadPermits;
+  private final ExecutorService executorService;
+  private final List<BlobId> tempObjects = Lists.newArrayList();
+  private final List<CompletableFuture<BlobId>> uploads = Lists.newArrayList();
+
+  private byte[] buffer = null;
+  private int bufferPos = 0;
+  private boolean closed = false;
+
+  ParallelCompositeUploadStream(Storage storage, BlobId blobId, GCPProperties gcpProperties) {
+    this.storage = storage;
+    this.blobId = blobId;
+    this.gcpProperties = gcpProperties;
+    this.partSize = gcpProperties.parallelUploadPartSize();
+    this.tempPrefix = blobId.getName() + ".parts-" + UUID.randomUUID() + "/";
+    this.uploadPermits = new Semaphore(gcpProperties.parallelUploadMaxConcurrentParts());
+    this.executorService =
+        EXECUTORS.computeIfAbsent(
+            gcpProperties.parallelUploadThreads(),
+            threads -> ThreadPools.newWorkerPool("iceberg-gcsfileio-upload-" + threads, threads));
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (bufferPos == partSize) {
+      uploadPart();
+    }
+
+    ensureCapacity(bufferPos + 1);
+    buffer[bufferPos] = (byte) b;
+    bufferPos += 1;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    int remaining = len;
+    int offset = off;
+    while (remaining > 0) {
+      if (bufferPos == partSize) {
+        uploadPart();
+      }
+
+      int writeSize = Math.min(remaining, partSize - bufferPos);
+      ensureCapacity(bufferPos + writeSize);
+      System.arraycopy(b, offset, buffer, bufferPos, writeSize);
+      bufferPos += writeSize;
+      offset += writeSize;
+      remaining -= writeSize;
+    }
+  }
+
+  private void ensureCapacity(int size) {
+    if (buffer == null) {
+      // parts after the first are always full
+      int initialSize = uploads.isEmpty() ? Math.max(size, INITIAL_BUFFER_SIZE) : partSize;
+      this.buffer = new byte[Math.min(initialSize, partSize)];
+    } else if (buffer.length < size) {
+      this.buffer = Arrays.copyOf(buffer, Math.min(Math.max(size, 2 * buffer.length), partSize));
+    }
+  }
+
+  private void uploadPart() throws IOException {
+    failIfUploadFailed();
+
+    try {
+      // wait for another part to finish uploading to limit the memory used by buffered parts
+      uploadPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to upload part of " + blobId);
+    }
+
+    byte[] data = buffer;
+    int length = bufferPos;
+    this.buffer = null;
+    this.bufferPos = 0;
+
+    BlobId part = BlobId.of(blobId.getBucket(), tempPrefix + tempObjects.size());
+    tempObjects.add(part);
+    LOG.debug("Uploading part {} of {} ({} bytes)", part.getName(), blobId, length);
+
+    uploads.add(
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                storage.create(BlobInfo.newBuilder(part).build(), data, 0, length, targetOptions());
+                return part;
+              } finally {
+                uploadPermits.release();
+              }
+            },
+            executorService));
+  }
+
+  private void failIfUploadFailed() throws IOException {
+    for (CompletableFuture<BlobId> upload : uploads) {
+      if (upload.isCompletedExceptionally()) {
+        join(upload);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+
+    try {
+      if (uploads.isEmpty()) {
+        // the object is smaller than a part and is uploaded with a single request
+        byte[] data = buffer != null ? buffer : new byte[0];
+        storage.create(BlobInfo.newBuilder(blobId).build(), data, 0, bufferPos, targetOptions());
+      } else {
+        if (bufferPos > 0) {
+          uploadPart();
+        }
+
+        List<BlobId> parts = Lists.newArrayListWithCapacity(uploads.size());
+        for (CompletableFuture<BlobId> upload : uploads) {
+          parts.add(join(upload));
+        }
+
+        compose(parts);
+      }
+    } finally {
+      this.buffer = null;
+      deleteTempObjects();
+    }
+  }
+
+  private void compose(List<BlobId> parts) {
+    List<BlobId> sources = parts;
+    int level = 0;
+    while (sources.size() > MAX_COMPOSE_SOURCES) {
+      // compose groups of parts into intermediate objects until there are few enough to compose
+      List<BlobId> composed = Lists.newArrayList();
+      for (List<BlobId> group : Lists.partition(sources, MAX_COMPOSE_SOURCES)) {
+        BlobId intermediate =
+            BlobId.of(blobId.getBucket(), tempPrefix + "composed-" + level + "-" + composed.size());
+        tempObjects.add(intermediate);
+        composeInto(group, intermediate);
+        composed.add(intermediate);
+      }
+
+      sources = composed;
+      level += 1;
+    }
+
+    composeInto(sources, blobId);
+  }
+
+  private void composeInto(List<BlobId> sources, BlobId target) {
+    storage.compose(
+        ComposeRequest.newBuilder()
+            .addSource(sources.stream().map(BlobId::getName).collect(Collectors.toList()))
+            .setTarget(BlobInfo.newBuilder(target).build())
+            .setTargetOptions(targetOptions())
+            .build());
+  }
+
+  private void deleteTempObjects() {
+    // wait for all uploads so that no part is created after temporary objects are deleted
+    for (CompletableFuture<BlobId> upload : uploads) {
+      try {
+        upload.join();
+      } catch (CompletionException e) {
+        // the failure is reported by close
+      }
+    }
+
+    for (List<BlobId> batch : Lists.partition(tempObjects, gcpProperties.deleteBatchSize())) {
+      try {
+        storage.delete(batch);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to delete temporary parts of {}: {}", blobId, batch, e);
+      }
+    }
+
+    tempObjects.clear();
+  }
+
+  private BlobTargetOption[] targetOptions() {
+    List<BlobTargetOption> options = Lists.newArrayList();
+    gcpProperties
+        .encryptionKey()
+        .ifPresent(key -> options.add(BlobTargetOption.encryptionKey(key)));
+    gcpProperties
+        .userProject()
+        .ifPresent(userProject -> options.add(BlobTargetOption.userProject(userProject)));
+    return options.toArray(new BlobTargetOption[0]);
+  }
+
+  private static BlobId join(CompletableFuture<BlobId> upload) throws IOException {
+    try {
+      return upload.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      } else if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      throw e;
+    }
+  }
+}
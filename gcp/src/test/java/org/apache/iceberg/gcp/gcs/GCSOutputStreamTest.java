@@ -19,17 +19,31 @@
 package org.apache.iceberg.gcp.gcs;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
 
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.iceberg.gcp.GCPProperties;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,9 +53,51 @@ public class GCSOutputStreamTest {
   private static final String BUCKET = "test-bucket";
 
   private final GCPProperties properties = new GCPProperties();
-  private final Storage storage = LocalStorageHelper.getOptions().getService();
+  private final Storage storage = spy(LocalStorageHelper.getOptions().getService());
   private final Random random = new Random(1);
 
+  // small parts so that uploads have more parts than a single compose request accepts
+  private final GCPProperties parallelProperties =
+      new GCPProperties(
+          ImmutableMap.of(
+              GCPProperties.GCS_PARALLEL_UPLOAD_ENABLED,
+              "true",
+              GCPProperties.GCS_PARALLEL_UPLOAD_PART_SIZE,
+              "1024",
+              GCPProperties.GCS_PARALLEL_UPLOAD_MAX_CONCURRENT_PARTS,
+              "2",
+              // LocalStorageHelper is not thread-safe
+              GCPProperties.GCS_PARALLEL_UPLOAD_NUM_THREADS,
+              "1"));
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  public void before() {
+    // LocalStorageHelper doesn't support batch operations or compose, so mock them here
+    doAnswer(
+            invoke -> {
+              Iterable<BlobId> iter = invoke.getArgument(0);
+              List<Boolean> answer = Lists.newArrayList();
+              iter.forEach(blobId -> answer.add(storage.delete(blobId)));
+              return answer;
+            })
+        .when(storage)
+        .delete(any(Iterable.class));
+
+    doAnswer(
+            invoke -> {
+              Storage.ComposeRequest request = invoke.getArgument(0);
+              ByteArrayOutputStream content = new ByteArrayOutputStream();
+              for (Storage.ComposeRequest.SourceBlob source : request.getSourceBlobs()) {
+                content.write(storage.get(BlobId.of(BUCKET, source.getName())).getContent());
+              }
+
+              return storage.create(request.getTarget(), content.toByteArray());
+            })
+        .when(storage)
+        .compose(any(Storage.ComposeRequest.class));
+  }
+
   @Test
   public void testWrite() {
     // Run tests for both byte and array write paths
@@ -64,9 +120,66 @@ public class GCSOutputStreamTest {
     stream.close();
   }
 
+  @Test
+  public void testParallelCompositeUpload() {
+    Stream.of(true, false)
+        .forEach(
+            arrayWrite -> {
+              // smaller than a part, uploaded with a single request
+              writeAndVerify(
+                  storage, randomBlobId(), randomData(100), arrayWrite, parallelProperties);
+
+              // composed from parts
+              writeAndVerify(
+                  storage, randomBlobId(), randomData(10 * 1024), arrayWrite, parallelProperties);
+
+              // composed from intermediate objects
+              writeAndVerify(
+                  storage,
+                  randomBlobId(),
+                  randomData(100 * 1024 + 10),
+                  arrayWrite,
+                  parallelProperties);
+            });
+
+    // temporary parts are removed
+    assertThat(listBlobs()).hasSize(6);
+  }
+
+  @Test
+  public void testParallelCompositeUploadEmpty() throws IOException {
+    BlobId blobId = randomBlobId();
+    new GCSOutputStream(storage, blobId, parallelProperties, MetricsContext.nullMetrics()).close();
+
+    assertThat(readGCSData(blobId)).isEmpty();
+  }
+
+  @Test
+  public void testParallelCompositeUploadFailure() throws IOException {
+    doThrow(new StorageException(503, "Service unavailable"))
+        .when(storage)
+        .compose(any(Storage.ComposeRequest.class));
+
+    BlobId blobId = randomBlobId();
+    GCSOutputStream stream =
+        new GCSOutputStream(storage, blobId, parallelProperties, MetricsContext.nullMetrics());
+    stream.write(randomData(10 * 1024));
+
+    assertThatThrownBy(stream::close)
+        .isInstanceOf(StorageException.class)
+        .hasMessage("Service unavailable");
+
+    assertThat(listBlobs()).isEmpty();
+  }
+
   private void writeAndVerify(Storage client, BlobId uri, byte[] data, boolean arrayWrite) {
+    writeAndVerify(client, uri, data, arrayWrite, properties);
+  }
+
+  private void writeAndVerify(
+      Storage client, BlobId uri, byte[] data, boolean arrayWrite, GCPProperties gcpProperties) {
     try (GCSOutputStream stream =
-        new GCSOutputStream(client, uri, properties, MetricsContext.nullMetrics())) {
+        new GCSOutputStream(client, uri, gcpProperties, MetricsContext.nullMetrics())) {
       if (arrayWrite) {
         stream.write(data);
         assertThat(stream.getPos()).isEqualTo(data.length);
@@ -88,6 +201,12 @@ public class GCSOutputStreamTest {
     return storage.get(blobId).getContent();
   }
 
+  private List<String> listBlobs() {
+    return StreamSupport.stream(storage.list(BUCKET).iterateAll().spliterator(), false)
+        .map(Blob::getName)
+        .collect(Collectors.toList());
+  }
+
   private byte[] randomData(int size) {
     byte[] result = new byte[size];
     random.nextBytes(result);
@@ -35,8 +35,10 @@ import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.hadoop.hive.metastore.IMetaStoreClient;
 import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.CatalogUtil;
 import org.apache.iceberg.ClientPool;
 import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -72,7 +74,10 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
 
   private final Configuration conf;
   private final int clientPoolSize;
+  private final int clientPoolMinSize;
+  private final long clientIdleTimeoutMs;
   private final long evictionInterval;
+  private final MetricsContext metricsContext;
   private final Key key;
 
   CachedClientPool(Configuration conf, Map<String, String> properties) {
@@ -82,18 +87,33 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
             properties,
             CatalogProperties.CLIENT_POOL_SIZE,
             CatalogProperties.CLIENT_POOL_SIZE_DEFAULT);
+    this.clientPoolMinSize =
+        PropertyUtil.propertyAsInt(
+            properties,
+            CatalogProperties.CLIENT_POOL_MIN_SIZE,
+            CatalogProperties.CLIENT_POOL_MIN_SIZE_DEFAULT);
+    this.clientIdleTimeoutMs =
+        PropertyUtil.propertyAsLong(
+            properties,
+            CatalogProperties.CLIENT_POOL_IDLE_TIMEOUT_MS,
+            CatalogProperties.CLIENT_POOL_IDLE_TIMEOUT_MS_DEFAULT);
     this.evictionInterval =
         PropertyUtil.propertyAsLong(
             properties,
             CatalogProperties.CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS,
             CatalogProperties.CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS_DEFAULT);
+    this.metricsContext = CatalogUtil.loadMetricsContext(properties);
     this.key = extractKey(properties.get(CatalogProperties.CLIENT_POOL_CACHE_KEYS), conf);
     init();
   }
 
   @VisibleForTesting
   HiveClientPool clientPool() {
-    return clientPoolCache.get(key, k -> new HiveClientPool(clientPoolSize, conf));
+    return clientPoolCache.get(
+        key,
+        k ->
+            new HiveClientPool(
+                clientPoolSize, clientPoolMinSize, clientIdleTimeoutMs, conf, metricsContext));
   }
 
   private synchronized void init() {
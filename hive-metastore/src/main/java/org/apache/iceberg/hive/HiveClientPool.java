@@ -27,6 +27,7 @@ import org.apache.hadoop.hive.metastore.RetryingMetaStoreClient;
 import org.apache.hadoop.hive.metastore.api.MetaException;
 import org.apache.iceberg.ClientPoolImpl;
 import org.apache.iceberg.common.DynMethods;
+import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.thrift.TException;
 import org.apache.thrift.transport.TTransportException;
@@ -50,8 +51,21 @@ public class HiveClientPool extends ClientPoolImpl<IMetaStoreClient, TException>
   private final HiveConf hiveConf;
 
   public HiveClientPool(int poolSize, Configuration conf) {
+    this(poolSize, 0, -1L, conf);
+  }
+
+  public HiveClientPool(int poolSize, int minSize, long idleTimeoutMs, Configuration conf) {
+    this(poolSize, minSize, idleTimeoutMs, conf, MetricsContext.nullMetrics());
+  }
+
+  public HiveClientPool(
+      int poolSize,
+      int minSize,
+      long idleTimeoutMs,
+      Configuration conf,
+      MetricsContext metricsContext) {
     // Do not allow retry by default as we rely on RetryingHiveClient
-    super(poolSize, TTransportException.class, false);
+    super(poolSize, minSize, idleTimeoutMs, TTransportException.class, false, 1, metricsContext);
     this.hiveConf = new HiveConf(conf, HiveClientPool.class);
     this.hiveConf.addResource(conf);
   }
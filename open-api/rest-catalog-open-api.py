@@ -54,6 +54,11 @@ class CatalogConfig(BaseModel):
         ...,
         description='Properties that should be used as default configuration; applied before client configuration.',
     )
+    endpoints: Optional[List[str]] = Field(
+        None,
+        description='Optional endpoints that the server supports, each written as an HTTP method and a path template separated by a space. Clients only call optional endpoints that are listed.',
+        example=['POST /v1/{prefix}/tables/load'],
+    )
 
 
 class UpdateNamespacePropertiesRequest(BaseModel):
@@ -822,6 +827,14 @@ class RenameTableRequest(BaseModel):
     destination: TableIdentifier
 
 
+class LoadTablesRequest(BaseModel):
+    identifiers: List[TableIdentifier]
+    snapshots: Optional[Literal['all', 'refs']] = Field(
+        None,
+        description='The snapshots to return in the metadata of each table, as in the `snapshots` parameter of loadTable.',
+    )
+
+
 class TransformTerm(BaseModel):
     type: Literal['transform']
     transform: Transform
@@ -1111,6 +1124,15 @@ class LoadTableResult(BaseModel):
     config: Optional[Dict[str, str]] = None
 
 
+class LoadTablesResult(BaseModel):
+    """
+    Result used when several tables are loaded. Each table is returned at the same position in `tables` as its identifier in `identifiers`.
+    """
+
+    identifiers: List[TableIdentifier]
+    tables: List[LoadTableResult]
+
+
 class CommitTableRequest(BaseModel):
     identifier: Optional[TableIdentifier] = Field(
         None,
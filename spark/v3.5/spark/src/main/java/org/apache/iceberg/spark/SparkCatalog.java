@@ -750,6 +750,18 @@ public class SparkCatalog extends BaseCatalog
       this.cacheEnabled = false;
     }
 
+    long cacheRefreshIntervalMs =
+        PropertyUtil.propertyAsLong(
+            options,
+            CatalogProperties.CACHE_REFRESH_INTERVAL_MS,
+            CatalogProperties.CACHE_REFRESH_INTERVAL_MS_OFF);
+
+    boolean cacheRefreshProbeEnabled =
+        PropertyUtil.propertyAsBoolean(
+            options,
+            CatalogProperties.CACHE_REFRESH_PROBE_ENABLED,
+            CatalogProperties.CACHE_REFRESH_PROBE_ENABLED_DEFAULT);
+
     Catalog catalog = buildIcebergCatalog(name, options);
 
     this.catalogName = name;
@@ -758,7 +770,13 @@ public class SparkCatalog extends BaseCatalog
         new HadoopTables(SparkUtil.hadoopConfCatalogOverrides(SparkSession.active(), name));
     this.icebergCatalog =
         cacheEnabled
-            ? CachingCatalog.wrap(catalog, cacheCaseSensitive, cacheExpirationIntervalMs)
+            ? CachingCatalog.wrap(
+                catalog,
+                cacheCaseSensitive,
+                cacheExpirationIntervalMs,
+                cacheRefreshIntervalMs,
+                cacheRefreshProbeEnabled,
+                null /* use the shared refresh pool */)
             : catalog;
     if (catalog instanceof SupportsNamespaces) {
       this.asNamespaceCatalog = (SupportsNamespaces) catalog;
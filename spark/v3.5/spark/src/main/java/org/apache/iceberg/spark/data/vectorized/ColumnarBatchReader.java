@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.spark.data.vectorized;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -174,29 +175,25 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
         return null;
       }
 
+      // the index finds the rows that are not deleted with one scan of the batch position range
       int[] posDelRowIdMapping = new int[numRowsToRead];
-      int originalRowId = 0;
-      int currentRowId = 0;
-      while (originalRowId < numRowsToRead) {
-        if (!deletedRowPositions.isDeleted(originalRowId + rowStartPosInBatch)) {
-          posDelRowIdMapping[currentRowId] = originalRowId;
-          currentRowId++;
-        } else {
-          if (hasIsDeletedColumn) {
-            isDeleted[originalRowId] = true;
-          }
+      int numRowsUndeleted =
+          deletedRowPositions.select(rowStartPosInBatch, numRowsToRead, posDelRowIdMapping);
 
-          deletes.incrementDeleteCount();
-        }
-        originalRowId++;
-      }
-
-      if (currentRowId == numRowsToRead) {
+      if (numRowsUndeleted == numRowsToRead) {
         // there is no delete in this batch
         return null;
-      } else {
-        return Pair.of(posDelRowIdMapping, currentRowId);
       }
+
+      if (hasIsDeletedColumn) {
+        Arrays.fill(isDeleted, true);
+        for (int i = 0; i < numRowsUndeleted; i++) {
+          isDeleted[posDelRowIdMapping[i]] = false;
+        }
+      }
+
+      deletes.incrementDeleteCount(numRowsToRead - numRowsUndeleted);
+      return Pair.of(posDelRowIdMapping, numRowsUndeleted);
     }
 
     int[] initEqDeleteRowIdMapping() {
@@ -33,6 +33,7 @@ import org.apache.avro.generic.GenericData;
 import org.apache.avro.util.Utf8;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.ContentScanTask;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Partitioning;
@@ -249,8 +250,8 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
   protected class SparkDeleteFilter extends DeleteFilter<InternalRow> {
     private final InternalRowWrapper asStructLike;
 
-    SparkDeleteFilter(String filePath, List<DeleteFile> deletes, DeleteCounter counter) {
-      super(filePath, deletes, tableSchema, expectedSchema, counter);
+    SparkDeleteFilter(DataFile file, List<DeleteFile> deletes, DeleteCounter counter) {
+      super(file, deletes, tableSchema, expectedSchema, counter);
       this.asStructLike =
           new InternalRowWrapper(
               SparkSchemaUtil.convert(requiredSchema()), requiredSchema().asStruct());
@@ -266,6 +267,11 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
       return BaseReader.this.getInputFile(location);
     }
 
+    @Override
+    protected NameMapping nameMapping() {
+      return BaseReader.this.nameMapping();
+    }
+
     @Override
     protected void markRowDeleted(InternalRow row) {
       if (!row.getBoolean(columnIsDeletedPosition())) {
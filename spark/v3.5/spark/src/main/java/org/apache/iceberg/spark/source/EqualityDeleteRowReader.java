@@ -40,8 +40,7 @@ public class EqualityDeleteRowReader extends RowDataReader {
 
   @Override
   protected CloseableIterator<InternalRow> open(FileScanTask task) {
-    SparkDeleteFilter matches =
-        new SparkDeleteFilter(task.file().path().toString(), task.deletes(), counter());
+    SparkDeleteFilter matches = new SparkDeleteFilter(task.file(), task.deletes(), counter());
 
     // schema or rows returned by readers
     Schema requiredSchema = matches.requiredSchema();
@@ -83,7 +83,7 @@ class RowDataReader extends BaseRowReader<FileScanTask> implements PartitionRead
   protected CloseableIterator<InternalRow> open(FileScanTask task) {
     String filePath = task.file().path().toString();
     LOG.debug("Opening data file {}", filePath);
-    SparkDeleteFilter deleteFilter = new SparkDeleteFilter(filePath, task.deletes(), counter());
+    SparkDeleteFilter deleteFilter = new SparkDeleteFilter(task.file(), task.deletes(), counter());
 
     // schema or rows returned by readers
     Schema requiredSchema = deleteFilter.requiredSchema();